@@ -0,0 +1,106 @@
+package com.server.benchmarks;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import com.server.Main;
+import com.server.profiles.PlayerProfile;
+import com.server.profiles.ProfileManager;
+import com.server.profiling.TickProfiler;
+
+import be.seeseemelk.mockbukkit.MockBukkit;
+import be.seeseemelk.mockbukkit.ServerMock;
+import be.seeseemelk.mockbukkit.entity.PlayerMock;
+
+/**
+ * Headless server for the benchmarks, backed by MockBukkit stand-ins for the server, worlds,
+ * players and item stacks.
+ *
+ * The plugin is loaded but never enabled: onEnable needs ModelEngine, Citizens and
+ * ProtocolLib. Instead the harness marks it enabled (so tasks can be scheduled) and sets the
+ * static instance the managers look up, then initializes only what the benchmarked code uses.
+ *
+ * Run all benchmarks with {@code mvn -P benchmarks test}; results go to
+ * {@code target/jmh-result.json}. Pick benchmarks with {@code -Djmh.include=<regex>}.
+ */
+public final class BenchmarkServer {
+
+    private static ServerMock server;
+    private static Main plugin;
+
+    private BenchmarkServer() {
+    }
+
+    /**
+     * Starts the stand-in server, or returns the running one.
+     */
+    public static synchronized Main start() {
+        if (plugin != null) {
+            return plugin;
+        }
+        server = MockBukkit.mock();
+
+        // No depend: entry, so MockBukkit doesn't look for ModelEngine
+        PluginDescriptionFile description = new PluginDescriptionFile("mmo", "0.0.1", Main.class.getName());
+        plugin = (Main) server.getPluginManager().loadPlugin(Main.class, description, new Object[0]);
+        setField(JavaPlugin.class, plugin, "isEnabled", true);
+        setField(Main.class, null, "instance", plugin);
+
+        TickProfiler.initialize(plugin);
+        return plugin;
+    }
+
+    public static synchronized void stop() {
+        if (plugin == null) {
+            return;
+        }
+        // Never enabled for real, so don't let MockBukkit run onDisable
+        setField(JavaPlugin.class, plugin, "isEnabled", false);
+        MockBukkit.unmock();
+        server = null;
+        plugin = null;
+    }
+
+    public static ServerMock getServer() {
+        return server;
+    }
+
+    /**
+     * Adds a player with an active, default profile in slot 0.
+     */
+    public static PlayerMock addPlayerWithProfile() {
+        PlayerMock player = server.addPlayer();
+        UUID playerId = player.getUniqueId();
+        ProfileManager.getInstance().getProfiles(playerId)[0] = new PlayerProfile(playerId, 0, "Benchmark");
+
+        @SuppressWarnings("unchecked")
+        Map<UUID, Integer> activeProfiles = (Map<UUID, Integer>) getField(ProfileManager.class,
+            ProfileManager.getInstance(), "activeProfiles");
+        activeProfiles.put(playerId, 0);
+        return player;
+    }
+
+    private static Object getField(Class<?> owner, Object target, String name) {
+        try {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            return field.get(target);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+
+    private static void setField(Class<?> owner, Object target, String name, Object value) {
+        try {
+            Field field = owner.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot write " + owner.getSimpleName() + "." + name, e);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.server.crafting.manager;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.server.benchmarks.BenchmarkServer;
+import com.server.crafting.furnace.FurnaceData;
+import com.server.crafting.furnace.FurnaceType;
+import com.server.crafting.recipes.FurnaceRecipe;
+import com.server.crafting.recipes.FurnaceRecipeRegistry;
+
+/**
+ * Crafting grid lookups, furnace recipe matching and the offline furnace simulation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CraftingBenchmark {
+
+    private CustomCraftingManager craftingManager;
+    private FurnaceRecipeRegistry furnaceRecipes;
+    private CustomFurnaceManager furnaceManager;
+
+    private ItemStack[] customRecipeGrid;
+    private ItemStack[] unmatchedGrid;
+    private List<ItemStack> smeltingInputs;
+    private List<ItemStack> unmatchedInputs;
+    private FurnaceData offlineFurnace;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkServer.start();
+        craftingManager = CustomCraftingManager.getInstance();
+        furnaceRecipes = FurnaceRecipeRegistry.getInstance();
+        furnaceManager = CustomFurnaceManager.getInstance();
+
+        // Copperhead Pickaxe pattern
+        customRecipeGrid = new ItemStack[] {
+            new ItemStack(Material.COPPER_INGOT, 16), new ItemStack(Material.COPPER_INGOT, 16), new ItemStack(Material.COPPER_INGOT, 16),
+            null, new ItemStack(Material.STICK), null,
+            null, new ItemStack(Material.STICK), null
+        };
+        unmatchedGrid = new ItemStack[] {
+            new ItemStack(Material.DIRT), null, new ItemStack(Material.DIRT),
+            null, new ItemStack(Material.FEATHER), null,
+            new ItemStack(Material.DIRT), null, new ItemStack(Material.DIRT)
+        };
+
+        smeltingInputs = Arrays.asList(new ItemStack(Material.RAW_IRON, 8));
+        unmatchedInputs = Arrays.asList(new ItemStack(Material.DIRT, 8), new ItemStack(Material.FEATHER, 2));
+
+        World world = BenchmarkServer.getServer().addSimpleWorld("furnaces");
+        offlineFurnace = new FurnaceData(new Location(world, 0, 64, 0), FurnaceType.STONE_FURNACE);
+        offlineFurnace.setInputSlot(0, new ItemStack(Material.RAW_IRON, 64));
+        offlineFurnace.setFuelSlot(0, new ItemStack(Material.COAL, 64));
+        offlineFurnace.setWasActiveWhenLeft(true);
+        offlineFurnace.setSavedFuelTime(1600);
+        offlineFurnace.setSavedCurrentTemp(800);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public ItemStack craftingCustomRecipe() {
+        return craftingManager.getRecipeResult(customRecipeGrid);
+    }
+
+    @Benchmark
+    public ItemStack craftingNoMatch() {
+        return craftingManager.getRecipeResult(unmatchedGrid);
+    }
+
+    @Benchmark
+    public FurnaceRecipe furnaceRecipeMatch() {
+        return furnaceRecipes.findRecipe(smeltingInputs);
+    }
+
+    @Benchmark
+    public FurnaceRecipe furnaceRecipeNoMatch() {
+        return furnaceRecipes.findRecipe(unmatchedInputs);
+    }
+
+    /**
+     * Ten minutes of offline smelting.
+     */
+    @Benchmark
+    public Object offlineFurnaceSimulation() {
+        return furnaceManager.calculateOfflineProgress(offlineFurnace, 10L * 60L * 20L);
+    }
+}
@@ -0,0 +1,69 @@
+package com.server.enchantments.utils;
+
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.entity.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.server.benchmarks.BenchmarkServer;
+import com.server.enchantments.elements.ElementType;
+import com.server.profiles.ProfileManager;
+
+/**
+ * PVP affinity modifiers, including the profile lookups done for both players on every hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AffinityBenchmark {
+
+    private Player attacker;
+    private Player defender;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkServer.start();
+        attacker = BenchmarkServer.addPlayerWithProfile();
+        defender = BenchmarkServer.addPlayerWithProfile();
+
+        ProfileManager profiles = ProfileManager.getInstance();
+        profiles.getActivePlayerProfile(attacker.getUniqueId()).getStats().getCategorizedAffinity()
+            .setOffensive(ElementType.FIRE, 60);
+        profiles.getActivePlayerProfile(defender.getUniqueId()).getStats().getCategorizedAffinity()
+            .setDefensive(ElementType.FIRE, 25);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public double damageModifier() {
+        return AffinityModifier.calculateDamageModifier(attacker, defender, ElementType.FIRE);
+    }
+
+    @Benchmark
+    public double effectModifier() {
+        return AffinityModifier.calculateEffectModifier(attacker, defender, ElementType.FIRE);
+    }
+
+    @Benchmark
+    public double procModifier() {
+        return AffinityModifier.calculateProcModifier(attacker, defender, ElementType.FIRE);
+    }
+}
@@ -0,0 +1,63 @@
+package com.server.items;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.ChatColor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lore handling: the one-time parse of a legacy item's stat lines, and rendering stat lines
+ * through a cached template.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LoreBenchmark {
+
+    private static final LoreTemplate STAT_LINE =
+        LoreTemplate.compile(ChatColor.GRAY + "Physical Damage: " + ChatColor.RED + "+{0}");
+
+    private List<String> lore;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lore = Arrays.asList(
+            "§7Rarity: §9Rare",
+            "§7Stats:",
+            "§cHealth: §c+15 (5)",
+            "§7Armor: §7+8",
+            "§cPhysical Damage: §c+12 (2)",
+            "§9Mining Speed: §9+0.4 (0.2)",
+            "§6Mining Fortune: §6+5",
+            "§bMana: §b+20",
+            "",
+            "§8A sturdy piece of equipment.");
+    }
+
+    @Benchmark
+    public ItemStatData.Stats parseLegacyLore() {
+        ItemStatData.Stats stats = new ItemStatData.Stats();
+        LegacyItemMigration.parseLore(lore, stats);
+        return stats;
+    }
+
+    @Benchmark
+    public String renderStatLine() {
+        return STAT_LINE.renderLine(7.0);
+    }
+}
@@ -0,0 +1,73 @@
+package com.server.profiles.skills.abilities.passive.mining;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.server.benchmarks.BenchmarkServer;
+
+/**
+ * Vein Miner's connected-ore search and distance ordering on a cube of ore.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VeinMinerBenchmark {
+
+    private static final int VEIN_SIZE = 5;
+
+    @Param({"10", "32", "64"})
+    public int maxBlocks;
+
+    private VeinMinerAbility ability;
+    private Block origin;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkServer.start();
+        ability = new VeinMinerAbility();
+
+        World world = BenchmarkServer.getServer().addSimpleWorld("veins");
+        for (int x = 0; x < VEIN_SIZE; x++) {
+            for (int y = 0; y < VEIN_SIZE; y++) {
+                for (int z = 0; z < VEIN_SIZE; z++) {
+                    world.getBlockAt(x, 40 + y, z).setType(Material.IRON_ORE);
+                }
+            }
+        }
+        origin = world.getBlockAt(VEIN_SIZE / 2, 40 + VEIN_SIZE / 2, VEIN_SIZE / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkServer.stop();
+    }
+
+    @Benchmark
+    public List<Block> findAndSortVein() {
+        Set<Block> vein = new HashSet<>();
+        ability.findConnectedOres(origin, Material.IRON_ORE, vein, maxBlocks);
+        return ability.sortBlocksByDistance(vein, origin);
+    }
+}
@@ -10,6 +10,7 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import com.server.abilities.AbilityManager;
+import com.server.abilities.projectiles.ProjectileEngine;
 import com.server.commands.AdminFurnaceCommand;
 import com.server.commands.AdminProfileCommand;
 import com.server.commands.AdminSkillsCommand;
@@ -23,6 +24,7 @@ import com.server.commands.CraftingCommand;
 import com.server.commands.CrystalCommand;
 import com.server.commands.CurrencyCommand;
 import com.server.commands.DebugCommand;
+import com.server.commands.DropSimCommand;
 import com.server.commands.EnchantCommand;
 import com.server.commands.FishingCommand;
 import com.server.commands.FlyCommand;
@@ -30,11 +32,14 @@ import com.server.commands.GemCarvingToolCommand;
 import com.server.commands.GiveHatCommand;
 import com.server.commands.GiveItemCommand;
 import com.server.commands.MenuCommand;
+import com.server.commands.MmoCommand;
 import com.server.commands.NPCCommand;
 import com.server.commands.ProfileCommand;
 import com.server.commands.SkillCommand;
 import com.server.commands.SpawnCustomMobCommand;
 import com.server.commands.StatsCommand;
+import com.server.cooldowns.CooldownListener;
+import com.server.cooldowns.CooldownManager;
 import com.server.cosmetics.CosmeticManager;
 import com.server.crafting.listeners.AdvancedCraftingListener;
 import com.server.crafting.listeners.AutoCraftingListener;
@@ -50,6 +55,7 @@ import com.server.display.ActionBarManager;
 import com.server.display.DamageIndicatorManager;
 import com.server.display.MobDisplayManager;
 import com.server.display.ScoreboardManager;
+import com.server.economy.CurrencyLedger;
 import com.server.enchantments.listeners.EnchantmentGUIListener;
 import com.server.enchantments.listeners.EnchantmentTableListener;
 import com.server.enchantments.listeners.EnchantmentTriggerListener;
@@ -68,6 +74,7 @@ import com.server.events.NPCDamageListener;
 import com.server.events.PlayerListener;
 import com.server.events.RangedCombatManager;
 import com.server.events.RangedDamageListener;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.ProfileManager;
 import com.server.profiles.gui.ProfileGUI;
 import com.server.profiles.skills.abilities.AbilityRegistry;
@@ -84,11 +91,14 @@ import com.server.profiles.skills.events.SkillEventListener;
 import com.server.profiles.skills.gui.SkillGUIListener;
 import com.server.profiles.skills.gui.SkillTreeGUIListener;
 import com.server.profiles.skills.minigames.GemCarvingManager;
+import com.server.profiles.skills.minigames.MinigameRuntime;
 import com.server.profiles.skills.skills.fishing.listeners.FishingListener;
 import com.server.profiles.skills.trees.SkillTreeRegistry;
 import com.server.profiles.stats.StatScanManager;
 import com.server.profiles.stats.health.HealthRegenerationListener;
 import com.server.profiles.stats.health.HealthRegenerationManager;
+import com.server.profiling.TickProfiler;
+import com.server.spatial.SpatialIndex;
 
 public class Main extends JavaPlugin {
     private static Main instance;
@@ -143,6 +153,9 @@ public class Main extends JavaPlugin {
             }
         }, 100L); // Wait 5 seconds (100 ticks) for ModelEngine to fully load
         
+        // Initialize the profiler before anything that registers profiled tasks
+        TickProfiler.initialize(this);
+
         // Initialize managers
         actionBarManager = new ActionBarManager(this);
         actionBarManager.startActionBarUpdates();
@@ -164,6 +177,25 @@ public class Main extends JavaPlugin {
         // Initialize custom entity manager
         customEntityManager = new CustomEntityManager(this);
 
+        // Initialize cooldown engine before anything that starts timers
+        CooldownManager.initialize(this);
+
+        // Initialize shared spatial index for area-of-effect queries
+        SpatialIndex.initialize(this);
+
+        // Initialize view-culled particle emitter and the shared projectile engine
+        ParticleEmitter.initialize(this);
+        ProjectileEngine.initialize(this);
+
+        // Initialize shared minigame loop (fishing, gem carving)
+        MinigameRuntime.initialize(this);
+
+        // Replay the currency ledger before any profile or island balances are loaded
+        CurrencyLedger.initialize(this);
+
+        // Load profile storage and start periodic profile autosaves
+        ProfileManager.getInstance().startAutosave();
+
         // Initialize CosmeticManager
         CosmeticManager.initialize(this);
         AbilityManager.initialize(this);
@@ -260,6 +292,15 @@ public class Main extends JavaPlugin {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
+
+        // Write out the profile saves queued by the kicks
+        try {
+            if (ProfileManager.isInitialized()) {
+                ProfileManager.getInstance().shutdown();
+            }
+        } catch (IllegalStateException e) {
+            // Manager not initialized, skip
+        }
         
         if (actionBarManager != null) {
             actionBarManager.stopActionBarUpdates();
@@ -269,6 +310,10 @@ public class Main extends JavaPlugin {
             scoreboardManager.cleanup();
         }
 
+        if (islandManager != null) {
+            islandManager.flushIslandTokens().join();
+        }
+
         // Close challenge database connection
         if (challengeManager != null) {
             try {
@@ -305,6 +350,30 @@ public class Main extends JavaPlugin {
         // Cleanup cosmetics
         CosmeticManager.getInstance().cleanup();
 
+        // Stop cooldown engine
+        try {
+            CooldownManager.getInstance().shutdown();
+        } catch (IllegalStateException e) {
+            // Not initialized (enable aborted early), skip
+        }
+
+        // Finish in-flight ability projectiles (returns thrown weapons)
+        try {
+            ProjectileEngine.getInstance().shutdown();
+        } catch (IllegalStateException e) {
+            // Not initialized (enable aborted early), skip
+        }
+
+        // End running minigames and stop the shared minigame loop
+        if (gemCarvingManager != null) {
+            gemCarvingManager.shutdown();
+        }
+        try {
+            MinigameRuntime.getInstance().shutdown();
+        } catch (IllegalStateException e) {
+            // Not initialized (enable aborted early), skip
+        }
+
         if (playtimeUpdateService != null) {
             playtimeUpdateService.shutdown();
         }
@@ -312,79 +381,99 @@ public class Main extends JavaPlugin {
         if (CustomFurnaceManager.getInstance() != null) {
             CustomFurnaceManager.getInstance().shutdown();
         }
+
+        // Flush the currency ledger after everything that can change a balance has stopped
+        try {
+            CurrencyLedger.getInstance().shutdown();
+        } catch (IllegalStateException e) {
+            // Not initialized (enable aborted early), skip
+        }
+
+        try {
+            TickProfiler.getInstance().shutdown();
+        } catch (IllegalStateException e) {
+            // Not initialized (enable aborted early), skip
+        }
+
+        // Write out queued debug output last so shutdown messages are kept
+        DebugManager.getInstance().shutdown();
         
         LOGGER.info("mmo disabled");
     }
 
     private void registerListeners() {
+        // Handlers are registered through the profiler so /mmo perf can time each one
+        TickProfiler profiler = TickProfiler.getInstance();
+
         // Register server reload listener to kick players before reload
-        this.getServer().getPluginManager().registerEvents(new com.server.listeners.ServerReloadListener(this), this);
+        profiler.registerEvents(new com.server.listeners.ServerReloadListener(this), this);
         
-        this.getServer().getPluginManager().registerEvents(new PlayerListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new AutoItemEnhancementListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new CombatListener(this), this);
-        this.getServer().getPluginManager().registerEvents(mobDisplayManager, this);
-        this.getServer().getPluginManager().registerEvents(damageIndicatorManager, this);
-        this.getServer().getPluginManager().registerEvents(new ItemListener(), this);
-        this.getServer().getPluginManager().registerEvents(new AbilityListener(), this);
-        this.getServer().getPluginManager().registerEvents(rangedCombatManager, this);
-        this.getServer().getPluginManager().registerEvents(new HealthRegenerationListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new AutoRespawnListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new CustomMobListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new NPCDamageListener(this), this);
+        profiler.registerEvents(new PlayerListener(this), this);
+        profiler.registerEvents(new AutoItemEnhancementListener(this), this);
+        profiler.registerEvents(new CombatListener(this), this);
+        profiler.registerEvents(mobDisplayManager, this);
+        profiler.registerEvents(damageIndicatorManager, this);
+        profiler.registerEvents(new ItemListener(), this);
+        profiler.registerEvents(new AbilityListener(), this);
+        profiler.registerEvents(new CooldownListener(), this);
+        profiler.registerEvents(rangedCombatManager, this);
+        profiler.registerEvents(new HealthRegenerationListener(this), this);
+        profiler.registerEvents(new AutoRespawnListener(this), this);
+        profiler.registerEvents(new CustomMobListener(this), this);
+        profiler.registerEvents(new NPCDamageListener(this), this);
         this.getCommand("animdebug").setExecutor(new AnimationDebugCommand(this));
         
         // Register skill listeners
-        this.getServer().getPluginManager().registerEvents(new SkillEventListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new SkillGUIListener(this), this);
+        profiler.registerEvents(new SkillEventListener(this), this);
+        profiler.registerEvents(new SkillGUIListener(this), this);
         
         // Register skill action bar listener
-        this.getServer().getPluginManager().registerEvents(new SkillActionBarListener(), this);
-        this.getServer().getPluginManager().registerEvents(new SkillTreeGUIListener(), this);
-        this.getServer().getPluginManager().registerEvents(new SkillLevelupListener(this), this);
-
-        this.getServer().getPluginManager().registerEvents(new MiningListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new FarmingListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new FishingListener(), this);
-        this.getServer().getPluginManager().registerEvents(new AbilityGUIListener(this), this);
+        profiler.registerEvents(new SkillActionBarListener(), this);
+        profiler.registerEvents(new SkillTreeGUIListener(), this);
+        profiler.registerEvents(new SkillLevelupListener(this), this);
+
+        profiler.registerEvents(new MiningListener(this), this);
+        profiler.registerEvents(new FarmingListener(this), this);
+        profiler.registerEvents(new FishingListener(), this);
+        profiler.registerEvents(new AbilityGUIListener(this), this);
         
         // Register nametag listener for custom player nametags
-        this.getServer().getPluginManager().registerEvents(new com.server.nametags.NametagListener(), this);
+        profiler.registerEvents(new com.server.nametags.NametagListener(), this);
         
         // Register Botany listener for custom crops
-        this.getServer().getPluginManager().registerEvents(
+        profiler.registerEvents(
             new com.server.profiles.skills.skills.farming.botany.BotanyListener(this), this);
         getLogger().info("[Botany] Botany listener registered successfully!");
         
         // Register Breeder GUI listener
-        this.getServer().getPluginManager().registerEvents(
+        profiler.registerEvents(
             com.server.profiles.skills.skills.farming.botany.BreederGUI.getListener(), this);
         
         // Register Breeder Block listener
-        this.getServer().getPluginManager().registerEvents(
+        profiler.registerEvents(
             new com.server.profiles.skills.skills.farming.botany.BreederBlockListener(), this);
         getLogger().info("[Botany] Breeder block listener registered successfully!");
 
         // Register Bedrock mining speed handler
-        this.getServer().getPluginManager().registerEvents(new com.server.profiles.stats.BedrockMiningSpeedHandler(this), this);
+        profiler.registerEvents(new com.server.profiles.stats.BedrockMiningSpeedHandler(this), this);
 
-        this.getServer().getPluginManager().registerEvents(new RangedDamageListener(this), this);
+        profiler.registerEvents(new RangedDamageListener(this), this);
 
-        this.getServer().getPluginManager().registerEvents(new CustomCraftingListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new AdvancedCraftingListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new AutoCraftingListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new VanillaCraftingReplacer(), this);
+        profiler.registerEvents(new CustomCraftingListener(this), this);
+        profiler.registerEvents(new AdvancedCraftingListener(this), this);
+        profiler.registerEvents(new AutoCraftingListener(this), this);
+        profiler.registerEvents(new VanillaCraftingReplacer(), this);
 
-        this.getServer().getPluginManager().registerEvents(new CustomFurnaceListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new CustomFurnaceGUIListener(this), this);
-        this.getServer().getPluginManager().registerEvents(new GUIListener(this), this);
+        profiler.registerEvents(new CustomFurnaceListener(this), this);
+        profiler.registerEvents(new CustomFurnaceGUIListener(this), this);
+        profiler.registerEvents(new GUIListener(this), this);
         
         // Register enchantment system listeners
-        this.getServer().getPluginManager().registerEvents(new EnchantmentTableListener(this, enchantmentTableStructure, enchantmentGUIListener), this);
-        this.getServer().getPluginManager().registerEvents(enchantmentGUIListener, this);
-        this.getServer().getPluginManager().registerEvents(new EnchantmentTriggerListener(), this);
+        profiler.registerEvents(new EnchantmentTableListener(this, enchantmentTableStructure, enchantmentGUIListener), this);
+        profiler.registerEvents(enchantmentGUIListener, this);
+        profiler.registerEvents(new EnchantmentTriggerListener(), this);
         anvilGUIListener = new com.server.enchantments.listeners.AnvilGUIListener(this);
-        this.getServer().getPluginManager().registerEvents(anvilGUIListener, this);
+        profiler.registerEvents(anvilGUIListener, this);
 
 
     }
@@ -627,6 +716,26 @@ public class Main extends JavaPlugin {
             LOGGER.warning("Command 'fishing' not registered in plugin.yml file!");
         }
 
+        // Register drop simulator command
+        org.bukkit.command.PluginCommand dropSimCommand = this.getCommand("dropsim");
+        if (dropSimCommand != null) {
+            DropSimCommand dropSimHandler = new DropSimCommand(this);
+            dropSimCommand.setExecutor(dropSimHandler);
+            dropSimCommand.setTabCompleter(dropSimHandler);
+        } else {
+            LOGGER.warning("Command 'dropsim' not registered in plugin.yml file!");
+        }
+
+        // Register diagnostics command
+        org.bukkit.command.PluginCommand mmoCommand = this.getCommand("mmo");
+        if (mmoCommand != null) {
+            MmoCommand mmoHandler = new MmoCommand(this);
+            mmoCommand.setExecutor(mmoHandler);
+            mmoCommand.setTabCompleter(mmoHandler);
+        } else {
+            LOGGER.warning("Command 'mmo' not registered in plugin.yml file!");
+        }
+
         // Register Admin World TP command
         org.bukkit.command.PluginCommand adminWorldTPCommand = this.getCommand("adminworldtp");
         if (adminWorldTPCommand != null) {
@@ -734,6 +843,9 @@ public class Main extends JavaPlugin {
             // Register island redstone listener
             getServer().getPluginManager().registerEvents(new com.server.islands.listeners.IslandRedstoneListener(islandManager), this);
             
+            // Register island prefetch listener
+            getServer().getPluginManager().registerEvents(new com.server.islands.listeners.IslandPrefetchListener(islandManager), this);
+            
             // Register island protection listener
             getServer().getPluginManager().registerEvents(new com.server.islands.listeners.IslandProtectionListener(islandManager), this);
         } catch (NoClassDefFoundError e) {
@@ -815,6 +927,30 @@ public class Main extends JavaPlugin {
         DebugManager.getInstance().debug(system, message);
     }
 
+    /**
+     * Check if debug messages of a system about a player would be logged, either because the
+     * system is enabled or because the player is being traced for it
+     * 
+     * @param system The system to check
+     * @param player The player the messages are about
+     * @return true if messages about the player would be logged
+     */
+    public boolean isDebugEnabled(DebugSystem system, Player player) {
+        return DebugManager.getInstance().isDebugEnabled(system, player);
+    }
+
+    /**
+     * Log a debug message about a player, also logged while the system is off if the player
+     * is being traced for it
+     * 
+     * @param system The system logging the message
+     * @param player The player the message is about
+     * @param message The message to log
+     */
+    public void debugLog(DebugSystem system, Player player, String message) {
+        DebugManager.getInstance().debug(system, player, message);
+    }
+
     /**
      * Get the DamageIndicatorManager instance
      *
@@ -1,6 +1,5 @@
 package com.server.abilities;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,12 +27,17 @@ import org.bukkit.util.EulerAngle;
 import org.bukkit.util.Vector;
 
 import com.server.Main;
+import com.server.abilities.projectiles.ProjectileEngine;
+import com.server.abilities.projectiles.ProjectileSpec;
+import com.server.abilities.projectiles.ProjectileSpec.FinishReason;
+import com.server.cooldowns.CooldownManager;
 import com.server.debug.DebugManager.DebugSystem;
 import com.server.display.DamageIndicatorManager;
 import com.server.entities.npc.NPCInteractionHandler;
 import com.server.entities.npc.NPCManager;
 import com.server.entities.npc.types.CombatNPC;
 import com.server.entities.npc.types.PassiveNPC;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -42,8 +46,11 @@ import net.citizensnpcs.api.npc.NPC;
 public class AbilityManager {
     private static AbilityManager instance;
     private final Main plugin;
-    private final Map<UUID, Map<String, Long>> playerCooldowns = new HashMap<>();
-    private final Map<UUID, Map<String, Long>> entityHitCooldowns = new HashMap<>();
+    private static final long ENTITY_HIT_COOLDOWN = 2000; // 2 seconds between hits from the same cast
+    
+    // Cooldown keys per ability id, resolved once instead of on every check
+    private final Map<String, Integer> itemCooldownKeys = new HashMap<>();
+    private final Map<String, Integer> hitCooldownKeys = new HashMap<>();
 
     private AbilityManager(Main plugin) {
         this.plugin = plugin;
@@ -128,66 +135,39 @@ public class AbilityManager {
         double finalDamagePerTick = (damagePerSecond / 20); // Convert to damage per tick with scaling
         
         // Create the particle beam
-        new BukkitRunnable() {
-            double distance = 0;
-            final double maxDistance = 10.0;
-            final double particleDistance = 0.5;
-            
-            @Override
-            public void run() {
-                // Cancel if max distance reached
-                if (distance > maxDistance) {
-                    this.cancel();
-                    return;
-                }
+        DustOptions beamDust = new DustOptions(Color.fromRGB(255, 80, 30), 1.0f);
+        ProjectileSpec beam = ProjectileSpec.ray(0.5, 10.0)
+            .hitRadius(0.8)
+            .trail(Particle.DUST, 5, 0.05, 0.01, beamDust)
+            .trail(Particle.FLAME, 1, 0.05, 0.01)
+            .targets(this::isValidAbilityTarget)
+            .onHit((projectile, target) -> {
+                // Apply fire
+                target.setFireTicks(60); // Set on fire for 3 seconds
                 
-                // Move forward
-                Location currentLoc = startLoc.clone().add(direction.clone().multiply(distance));
+                // Calculate damage
+                double initialDamage = finalDamagePerTick * 3;
                 
-                // Check for blocks
-                if (!currentLoc.getBlock().isPassable()) {
-                    // Hit a block, create impact particles
-                    DustOptions dustOptions = new DustOptions(Color.fromRGB(255, 150, 50), 1.0f);
-                    world.spawnParticle(Particle.DUST, currentLoc, 15, 0.1, 0.1, 0.1, 0.1, dustOptions);
-                    world.playSound(currentLoc, Sound.BLOCK_FIRE_EXTINGUISH, 0.5f, 1.0f);
-                    this.cancel();
-                    return;
-                }
-                
-                // Display particle beam
-                DustOptions dustOptions = new DustOptions(Color.fromRGB(255, 80, 30), 1.0f);
-                world.spawnParticle(Particle.DUST, currentLoc, 5, 0.05, 0.05, 0.05, 0.01, dustOptions);
-                world.spawnParticle(Particle.FLAME, currentLoc, 1, 0.05, 0.05, 0.05, 0.01);
-                
-                // Fire beam - update the entity damage section
-                for (Entity entity : world.getNearbyEntities(currentLoc, 0.8, 0.8, 0.8)) {
-                    if (entity instanceof LivingEntity && 
-                        entity != player && 
-                        isValidAbilityTarget(entity)) {  // Add this filter
-                        
-                        LivingEntity livingEntity = (LivingEntity) entity;
-                        
-                        // Apply fire
-                        livingEntity.setFireTicks(60); // Set on fire for 3 seconds
-                        
-                        // Calculate damage
-                        double initialDamage = finalDamagePerTick * 3;
-                        
-                        // Use our safe damage method
-                        applyAbilityDamageToTarget(livingEntity, player, "fire_beam", initialDamage);
+                // Use our safe damage method
+                applyAbilityDamageToTarget(target, player, "fire_beam", initialDamage);
 
-                        // Apply omnivamp from initial hit
-                        applyOmnivampHealing(player, initialDamage);
-                        
-                        // Apply DoT effect but don't hit the entity repeatedly
-                        applyBurnDamageOverTime(player, livingEntity, finalDamagePerTick, 3);
-                    }
-                }
+                // Apply omnivamp from initial hit
+                applyOmnivampHealing(player, initialDamage);
                 
-                // Increase distance for next tick
-                distance += particleDistance;
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+                // Apply DoT effect but don't hit the entity repeatedly
+                applyBurnDamageOverTime(player, target, finalDamagePerTick, 3);
+            })
+            .onFinish((projectile, reason) -> {
+                if (reason != FinishReason.BLOCK) return;
+                
+                // Hit a block, create impact particles
+                Location impactLoc = projectile.getLocation();
+                DustOptions impactDust = new DustOptions(Color.fromRGB(255, 150, 50), 1.0f);
+                ParticleEmitter.getInstance().spawnParticle(Particle.DUST, impactLoc, 15, 0.1, 0.1, 0.1, 0.1, impactDust);
+                world.playSound(impactLoc, Sound.BLOCK_FIRE_EXTINGUISH, 0.5f, 1.0f);
+            })
+            .build();
+        ProjectileEngine.getInstance().launch(beam, player, startLoc, direction);
         
         // Update action bar with mana
         player.sendMessage("§bMana: " + profile.getStats().getMana() + "/" + profile.getStats().getTotalMana());
@@ -209,7 +189,7 @@ public class AbilityManager {
                 }
                 
                 // Show burning particle effect
-                target.getWorld().spawnParticle(Particle.FLAME, target.getLocation().add(0, 1, 0), 2, 0.2, 0.2, 0.2, 0.01);
+                ParticleEmitter.getInstance().spawnParticle(Particle.FLAME, target.getLocation().add(0, 1, 0), 2, 0.2, 0.2, 0.2, 0.01);
                 
                 // Apply damage (1 time per second)
                 if (ticks % 20 == 0) {
@@ -312,27 +292,15 @@ public class AbilityManager {
         }
         
         // For regular entities (non-NPCs), use cooldown tracking and apply damage
-        UUID entityId = target.getUniqueId();
-        String uniqueAbilityId = abilityId + "-" + player.getUniqueId().toString();
+        // Hits are tracked per (target, caster) pair so different players don't block each other
+        HitKey hitId = new HitKey(target.getUniqueId(), player.getUniqueId());
         
-        // Create a cooldown map for entities to track recent hits
-        if (!entityHitCooldowns.containsKey(entityId)) {
-            entityHitCooldowns.put(entityId, new HashMap<>());
-        }
-        
-        // Check if this entity was hit recently by this ability from this player
-        Map<String, Long> cooldowns = entityHitCooldowns.get(entityId);
-        if (cooldowns.containsKey(uniqueAbilityId)) {
-            long cooldownEndTime = cooldowns.get(uniqueAbilityId);
-            if (System.currentTimeMillis() < cooldownEndTime) {
-                // Entity was hit too recently, don't apply damage again
-                return;
-            }
+        // Skip if this entity was hit recently by this ability from this player, otherwise
+        // set cooldown (2 seconds) to prevent multiple hits
+        if (!CooldownManager.getInstance().tryStart(hitId, hitCooldownKey(abilityId), ENTITY_HIT_COOLDOWN)) {
+            return;
         }
         
-        // Set cooldown (2 seconds) to prevent multiple hits
-        cooldowns.put(uniqueAbilityId, System.currentTimeMillis() + 2000);
-        
         // Apply regular damage with caps to prevent one-shots
         double currentHealth = target.getHealth();
         double maxHealth = target.getAttribute(org.bukkit.attribute.Attribute.GENERIC_MAX_HEALTH).getValue();
@@ -369,31 +337,23 @@ public class AbilityManager {
     }
     
     public boolean isOnCooldown(Player player, String abilityId) {
-        Map<String, Long> cooldowns = playerCooldowns.getOrDefault(player.getUniqueId(), new HashMap<>());
-        long currentTime = System.currentTimeMillis();
-        
-        if (cooldowns.containsKey(abilityId)) {
-            return cooldowns.get(abilityId) > currentTime;
-        }
-        
-        return false;
+        return CooldownManager.getInstance().isActive(player.getUniqueId(), itemCooldownKey(abilityId));
     }
     
     public long getCooldownTimeRemaining(Player player, String abilityId) {
-        Map<String, Long> cooldowns = playerCooldowns.getOrDefault(player.getUniqueId(), new HashMap<>());
-        long currentTime = System.currentTimeMillis();
-        
-        if (cooldowns.containsKey(abilityId)) {
-            long remaining = cooldowns.get(abilityId) - currentTime;
-            return remaining > 0 ? remaining : 0;
-        }
-        
-        return 0;
+        return CooldownManager.getInstance().getRemaining(player.getUniqueId(), itemCooldownKey(abilityId));
     }
     
     public void setCooldown(Player player, String abilityId, long cooldownMs) {
-        Map<String, Long> cooldowns = playerCooldowns.computeIfAbsent(player.getUniqueId(), k -> new HashMap<>());
-        cooldowns.put(abilityId, System.currentTimeMillis() + cooldownMs);
+        CooldownManager.getInstance().start(player.getUniqueId(), itemCooldownKey(abilityId), cooldownMs);
+    }
+    
+    private int itemCooldownKey(String abilityId) {
+        return itemCooldownKeys.computeIfAbsent(abilityId, id -> CooldownManager.key("ability_item." + id));
+    }
+    
+    private int hitCooldownKey(String abilityId) {
+        return hitCooldownKeys.computeIfAbsent(abilityId, id -> CooldownManager.key("ability_hit." + id));
     }
 
     private boolean castLightningThrow(Player player, ItemStack item) {
@@ -453,40 +413,14 @@ public class AbilityManager {
         // Launch the trident
         Vector direction = player.getEyeLocation().getDirection();
         
-        new BukkitRunnable() {
-            double distance = 0;
-            final double maxDistance = 30.0; // Maximum throw distance
-            final double particleDistance = 0.5;
-            final List<Entity> hitEntities = new ArrayList<>(); // Track entities hit
-            Location currentLoc;
-            
-            @Override
-            public void run() {
-                // Cancel if max distance reached
-                if (distance > maxDistance) {
-                    returnTrident();
-                    this.cancel();
-                    return;
-                }
-                
-                // Move forward
-                currentLoc = startLoc.clone().add(direction.clone().multiply(distance));
-                
-                // Check for blocks
-                if (!currentLoc.getBlock().isPassable()) {
-                    world.playSound(currentLoc, Sound.BLOCK_STONE_HIT, 1.0f, 1.0f);
-                    world.spawnParticle(Particle.CRIT, currentLoc, 15, 0.2, 0.2, 0.2, 0.1);
-                    returnTrident();
-                    this.cancel();
-                    return;
-                }
-                
-                // Display trident particles
-                DustOptions blueTrail = new DustOptions(Color.fromRGB(30, 144, 255), 1.0f);
-                world.spawnParticle(Particle.DUST, currentLoc, 3, 0.1, 0.1, 0.1, 0, blueTrail);
-                world.spawnParticle(Particle.ELECTRIC_SPARK, currentLoc, 1, 0.1, 0.1, 0.1, 0);
-                
-                ArmorStand weaponVisual = (ArmorStand) world.spawnEntity(currentLoc, EntityType.ARMOR_STAND);
+        DustOptions blueTrail = new DustOptions(Color.fromRGB(30, 144, 255), 1.0f);
+        ProjectileSpec trident = ProjectileSpec.ray(0.5, 30.0)
+            .hitRadius(1.0)
+            .trail(Particle.DUST, 3, 0.1, 0, blueTrail)
+            .trail(Particle.ELECTRIC_SPARK, 1, 0.1, 0)
+            .targets(this::isValidAbilityTarget)
+            .onStep(projectile -> {
+                ArmorStand weaponVisual = (ArmorStand) world.spawnEntity(projectile.getLocation(), EntityType.ARMOR_STAND);
                 weaponVisual.setVisible(false);
                 weaponVisual.setGravity(false);
                 weaponVisual.setSmall(true);
@@ -496,80 +430,71 @@ public class AbilityManager {
 
                 // Schedule removal of the visual
                 plugin.getServer().getScheduler().runTaskLater(plugin, weaponVisual::remove, 3L);
+            })
+            .onHit((projectile, target) -> {
+                // Use safe damage method
+                applyAbilityDamageToTarget(target, player, "lightning_throw", finalDamage);
                 
-                // Check for entities in the trident's path
-                for (Entity entity : world.getNearbyEntities(currentLoc, 1.0, 1.0, 1.0)) {
-                    if (entity instanceof LivingEntity && 
-                        entity != player && 
-                        !hitEntities.contains(entity) && 
-                        isValidAbilityTarget(entity)) {  // Add this filter
-                        
-                        LivingEntity target = (LivingEntity) entity;
-                        
-                        // Add to hit list so we don't hit multiple times
-                        hitEntities.add(target);
-                        
-                        // Use safe damage method
-                        applyAbilityDamageToTarget(target, player, "lightning_throw", finalDamage);
-                        
-                        // Apply the lightning visual effects
-                        target.getWorld().strikeLightningEffect(target.getLocation());
-                        target.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, 
-                            target.getLocation().add(0, 1, 0),
-                            20, 0.5, 0.5, 0.5, 0.2);
-                        
-                        // Play hit sound
-                        world.playSound(target.getLocation(), 
-                            Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 1.0f, 1.2f);
-                    }
+                // Apply the lightning visual effects
+                target.getWorld().strikeLightningEffect(target.getLocation());
+                ParticleEmitter.getInstance().spawnParticle(Particle.ELECTRIC_SPARK,
+                    target.getLocation().add(0, 1, 0), 20, 0.5, 0.5, 0.5, 0.2);
+                
+                // Play hit sound
+                world.playSound(target.getLocation(), 
+                    Sound.ENTITY_LIGHTNING_BOLT_IMPACT, 1.0f, 1.2f);
+            })
+            .onFinish((projectile, reason) -> {
+                if (reason == FinishReason.BLOCK) {
+                    Location impactLoc = projectile.getLocation();
+                    world.playSound(impactLoc, Sound.BLOCK_STONE_HIT, 1.0f, 1.0f);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.CRIT, impactLoc, 15, 0.2, 0.2, 0.2, 0.1);
+                }
+                
+                // Shutting down or caster gone, hand the weapon back right away
+                if (reason == FinishReason.CANCELLED) {
+                    returnTrident(player, weaponSlot, originalItem);
+                    return;
                 }
                 
-                // Increase distance for next tick
-                distance += particleDistance;
-            }
-            
-            private void returnTrident() {
                 // Schedule return of trident after 2 seconds
+                Location returnStart = projectile.getLocation();
                 plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
                     // Play return sound
                     world.playSound(player.getLocation(), Sound.ENTITY_ILLUSIONER_MIRROR_MOVE, 1.0f, 1.2f);
                     
                     // Visual effect of return
-                    if (currentLoc != null) {
-                        Location returnStart = currentLoc.clone();
-                        Vector returnVector = player.getLocation().add(0, 1, 0).toVector().subtract(returnStart.toVector());
-                        double returnDistance = returnStart.distance(player.getLocation());
-                        Vector returnDir = returnVector.normalize().multiply(0.5);
-                        
-                        new BukkitRunnable() {
-                            double traveled = 0;
-                            @Override
-                            public void run() {
-                                if (traveled >= returnDistance) {
-                                    this.cancel();
-                                    return;
-                                }
-                                
-                                returnStart.add(returnDir);
-                                traveled += 0.5;
-                                
-                                world.spawnParticle(Particle.ELECTRIC_SPARK, returnStart, 2, 0.1, 0.1, 0.1, 0);
-                            }
-                        }.runTaskTimer(plugin, 0L, 1L);
+                    Location returnEnd = player.getLocation().add(0, 1, 0);
+                    if (player.isOnline() && returnEnd.getWorld() == returnStart.getWorld()) {
+                        double returnDistance = returnStart.distance(returnEnd);
+                        if (returnDistance > 0.5) {
+                            ProjectileSpec spark = ProjectileSpec.ray(0.5, returnDistance)
+                                .maxHits(0)
+                                .stopOnBlocks(false)
+                                .trail(Particle.ELECTRIC_SPARK, 2, 0.1, 0)
+                                .build();
+                            ProjectileEngine.getInstance().launch(spark, player, returnStart,
+                                returnEnd.toVector().subtract(returnStart.toVector()));
+                        }
                     }
                     
-                    // Return item to player's inventory
-                    if (player.isOnline()) {
-                        player.getInventory().setItem(weaponSlot, originalItem);
-                        player.sendMessage("§aArcloom §7returns to your hand!");
-                    }
+                    returnTrident(player, weaponSlot, originalItem);
                 }, 40L); // 2 seconds (40 ticks)
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+            })
+            .build();
+        ProjectileEngine.getInstance().launch(trident, player, startLoc, direction);
         
         return true;
     }
 
+    // Return the thrown weapon to the slot it was thrown from
+    private void returnTrident(Player player, int weaponSlot, ItemStack originalItem) {
+        if (player.isOnline()) {
+            player.getInventory().setItem(weaponSlot, originalItem);
+            player.sendMessage("§aArcloom §7returns to your hand!");
+        }
+    }
+
     /**
      * Applies omnivamp healing based on magic damage dealt
      * @param player The player who dealt the damage
@@ -667,84 +592,30 @@ public class AbilityManager {
         world.playSound(playerLoc, Sound.ENTITY_WITHER_SHOOT, 0.7f, 1.5f);
         world.playSound(playerLoc, Sound.ITEM_TRIDENT_RIPTIDE_3, 0.5f, 0.8f);
         
-        // Create a list to track hit entities
-        List<LivingEntity> hitEntities = new ArrayList<>();
-        
         // Create cone-shaped attack
         double coneAngle = Math.PI / 3; // 60-degree cone
         double coneRange = 5.0; // 5 blocks range
+        int animTicks = 10; // Animation lasts 0.5 seconds
+        Vector right = playerDir.clone().crossProduct(new Vector(0, 1, 0)).normalize();
         
         // Animation and damage application
-        new BukkitRunnable() {
-            double animTime = 0;
-            final double animDuration = 0.5; // Animation lasts 0.5 seconds
-            final double step = 0.05;
-            
-            @Override
-            public void run() {
-                // Inside the castBloodHarvest method, update this section:
-                if (animTime >= animDuration) {
-                    // Animation complete, apply final effects
-                    
-                    // Determine if enhanced damage should be applied (3+ targets hit)
-                    boolean applyEnhancedDamage = hitEntities.size() >= 3;
-                    double finalDamage = applyEnhancedDamage ? enhancedDamage : baseDamage;
-
-                    // Apply damage to all hit entities
-                    for (LivingEntity target : hitEntities) {
-                        // Apply damage using our safe method
-                        applyAbilityDamageToTarget(target, player, "blood_harvest", finalDamage);
-                        
-                        // Play effects at the target
-                        Location targetLoc = target.getLocation().add(0, 1, 0);
-                        world.spawnParticle(Particle.SOUL, targetLoc, 10, 0.3, 0.3, 0.3, 0.05);
-                        
-                        // Healing from blood harvest - only apply if the target isn't an NPC
-                        if (!(net.citizensnpcs.api.CitizensAPI.getNPCRegistry().isNPC(target))) {
-                            double healthSteal = finalDamage * 0.3; // 30% lifesteal
-                            double currentPlayerHealth = player.getHealth();
-                            double maxPlayerHealth = player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue();
-                            double newPlayerHealth = Math.min(maxPlayerHealth, currentPlayerHealth + healthSteal);
-                            player.setHealth(newPlayerHealth);
-                            
-                            // Show healing effect
-                            player.getWorld().spawnParticle(
-                                Particle.HEART,
-                                player.getLocation().add(0, 1.2, 0),
-                                3, 0.3, 0.3, 0.3, 0.1
-                            );
-                        } else {
-                            // For NPCs, still apply some lifesteal but based on the NPC's custom health
-                           
-                        }
-                    }
-
-                    // Success message with damage value included
-                    if (applyEnhancedDamage) {
-                        player.sendMessage("§4Blood Harvest §cstrikes " + hitEntities.size() + 
-                                        " targets with §4enhanced damage §c(" + (int)finalDamage + ")!");
-                    } else if (hitEntities.size() > 0) {
-                        player.sendMessage("§4Blood Harvest §cstrikes " + hitEntities.size() + " target" + 
-                                        (hitEntities.size() > 1 ? "s" : "") + " §c(" + (int)finalDamage + ")!");
-                    } else {
-                        player.sendMessage("§4Blood Harvest §cfound no targets!");
-                    }
-                    
-                    this.cancel();
-                    return;
-                }
+        ProjectileSpec harvest = ProjectileSpec.cone(coneRange, coneAngle, animTicks)
+            .targets(this::isValidAbilityTarget)
+            .onStep(projectile -> {
+                ParticleEmitter emitter = ParticleEmitter.getInstance();
                 
                 // Calculate progress (0 to 1)
-                double progress = animTime / animDuration;
+                double progress = (double) projectile.getTicksAlive() / animTicks;
                 
                 // Create the cone visual with two sets of particles for a more dramatic effect
+                DustOptions bloodDust = new DustOptions(Color.fromRGB(128, 0, 0), 1.2f);
+                DustOptions darkDust = new DustOptions(Color.fromRGB(50, 0, 0), 1.0f);
                 for (double r = 0; r < coneRange; r += 0.5) {
                     double arcWidth = Math.tan(coneAngle) * r;
                     
                     for (double a = -arcWidth; a <= arcWidth; a += 0.3) {
                         // Calculate position in the arc
-                        Vector right = playerDir.clone().crossProduct(new Vector(0, 1, 0)).normalize();
-                        Vector arcPos = playerDir.clone().multiply(r).add(right.multiply(a));
+                        Vector arcPos = playerDir.clone().multiply(r).add(right.clone().multiply(a));
                         
                         // Add some vertical variation for a 3D effect
                         double yOffset = Math.sin(r + progress * Math.PI * 2) * 0.2;
@@ -753,50 +624,73 @@ public class AbilityManager {
                         Location particleLoc = playerLoc.clone().add(arcPos).add(0, 0.5 + yOffset, 0);
                         
                         // Blood particle effect (red dust)
-                        DustOptions bloodDust = new DustOptions(Color.fromRGB(128, 0, 0), 1.2f);
-                        world.spawnParticle(Particle.DUST, particleLoc, 1, 0.05, 0.05, 0.05, 0, bloodDust);
+                        emitter.spawnParticle(Particle.DUST, particleLoc, 1, 0.05, 0.05, 0.05, 0, bloodDust);
                         
                         // Trail effects that follow the arc shape
                         if (Math.random() < 0.3) {
-                            DustOptions darkDust = new DustOptions(Color.fromRGB(50, 0, 0), 1.0f);
                             Location trailLoc = particleLoc.clone().add(0, Math.sin(progress * Math.PI * 4) * 0.3, 0);
-                            world.spawnParticle(Particle.DUST, trailLoc, 1, 0.05, 0.05, 0.05, 0, darkDust);
+                            emitter.spawnParticle(Particle.DUST, trailLoc, 1, 0.05, 0.05, 0.05, 0, darkDust);
                         }
                         
                         // Soul fire effect for a supernatural touch
                         if (Math.random() < 0.1) {
-                            world.spawnParticle(Particle.SOUL_FIRE_FLAME, particleLoc, 1, 0.05, 0.05, 0.05, 0);
-                        }
-                        
-                        // Find entities in this part of the cone (in the sweep)
-                        for (Entity entity : world.getNearbyEntities(particleLoc, 0.8, 1.0, 0.8)) {
-                            if (entity instanceof LivingEntity && 
-                                entity != player && 
-                                !hitEntities.contains(entity) && 
-                                isValidAbilityTarget(entity)) {  // Add this filter
-                                
-                                // Calculate angle between player direction and entity direction
-                                Vector toEntity = entity.getLocation().toVector().subtract(playerLoc.toVector());
-                                double angle = playerDir.angle(toEntity);
-                                
-                                // Check if entity is within cone angle and range
-                                if (angle <= coneAngle && toEntity.length() <= coneRange) {
-                                    hitEntities.add((LivingEntity) entity);
-                                    
-                                    // Target acquired indicator
-                                    DustOptions targetDust = new DustOptions(Color.fromRGB(255, 0, 0), 1.5f);
-                                    world.spawnParticle(Particle.DUST, entity.getLocation().add(0, 1, 0), 
-                                                8, 0.3, 0.3, 0.3, 0, targetDust);
-                                }
-                            }
+                            emitter.spawnParticle(Particle.SOUL_FIRE_FLAME, particleLoc, 1, 0.05, 0.05, 0.05, 0);
                         }
                     }
                 }
+            })
+            .onHit((projectile, entity) -> {
+                // Target acquired indicator
+                DustOptions targetDust = new DustOptions(Color.fromRGB(255, 0, 0), 1.5f);
+                ParticleEmitter.getInstance().spawnParticle(Particle.DUST, entity.getLocation().add(0, 1, 0),
+                    8, 0.3, 0.3, 0.3, 0, targetDust);
+            })
+            .onFinish((projectile, reason) -> {
+                if (reason == FinishReason.CANCELLED) return;
                 
-                // Update animation time
-                animTime += step;
-            }
-        }.runTaskTimer(plugin, 0L, 1L);
+                // Animation complete, apply final effects
+                List<LivingEntity> hitEntities = projectile.getHits();
+                
+                // Determine if enhanced damage should be applied (3+ targets hit)
+                boolean applyEnhancedDamage = hitEntities.size() >= 3;
+                double finalDamage = applyEnhancedDamage ? enhancedDamage : baseDamage;
+
+                // Apply damage to all hit entities
+                for (LivingEntity target : hitEntities) {
+                    // Apply damage using our safe method
+                    applyAbilityDamageToTarget(target, player, "blood_harvest", finalDamage);
+                    
+                    // Play effects at the target
+                    Location targetLoc = target.getLocation().add(0, 1, 0);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.SOUL, targetLoc, 10, 0.3, 0.3, 0.3, 0.05);
+                    
+                    // Healing from blood harvest - only apply if the target isn't an NPC
+                    if (!(net.citizensnpcs.api.CitizensAPI.getNPCRegistry().isNPC(target))) {
+                        double healthSteal = finalDamage * 0.3; // 30% lifesteal
+                        double currentPlayerHealth = player.getHealth();
+                        double maxPlayerHealth = player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue();
+                        double newPlayerHealth = Math.min(maxPlayerHealth, currentPlayerHealth + healthSteal);
+                        player.setHealth(newPlayerHealth);
+                        
+                        // Show healing effect
+                        ParticleEmitter.getInstance().spawnParticle(Particle.HEART,
+                            player.getLocation().add(0, 1.2, 0), 3, 0.3, 0.3, 0.3, 0.1);
+                    }
+                }
+
+                // Success message with damage value included
+                if (applyEnhancedDamage) {
+                    player.sendMessage("§4Blood Harvest §cstrikes " + hitEntities.size() + 
+                                    " targets with §4enhanced damage §c(" + (int)finalDamage + ")!");
+                } else if (hitEntities.size() > 0) {
+                    player.sendMessage("§4Blood Harvest §cstrikes " + hitEntities.size() + " target" + 
+                                    (hitEntities.size() > 1 ? "s" : "") + " §c(" + (int)finalDamage + ")!");
+                } else {
+                    player.sendMessage("§4Blood Harvest §cfound no targets!");
+                }
+            })
+            .build();
+        ProjectileEngine.getInstance().launch(harvest, player, playerLoc, playerDir);
         
         return true;
     }
@@ -837,4 +731,34 @@ public class AbilityManager {
         
         return true;
     }    
+
+    /**
+     * Cooldown owner for hits of one caster on one target
+     */
+    private static final class HitKey {
+        private final UUID targetId;
+        private final UUID casterId;
+
+        HitKey(UUID targetId, UUID casterId) {
+            this.targetId = targetId;
+            this.casterId = casterId;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof HitKey)) {
+                return false;
+            }
+            HitKey key = (HitKey) other;
+            return targetId.equals(key.targetId) && casterId.equals(key.casterId);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * targetId.hashCode() + casterId.hashCode();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.server.abilities.projectiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.util.Vector;
+
+/**
+ * One live instance of a {@link ProjectileSpec}, advanced by the {@link ProjectileEngine}.
+ */
+public class Projectile {
+
+    private final ProjectileSpec spec;
+    private final Player caster;
+    private final World world;
+    private final Location origin;
+    private final Vector direction;
+
+    private double x, y, z;
+    private double travelled;
+    private int ticksAlive;
+    private boolean finished;
+    private boolean cancelled;
+    private double nextTrailAt;
+
+    private final Set<UUID> hitIds = new HashSet<>();
+    private final List<LivingEntity> hits = new ArrayList<>();
+
+    Projectile(ProjectileSpec spec, Player caster, Location origin, Vector direction) {
+        this.spec = spec;
+        this.caster = caster;
+        this.world = origin.getWorld();
+        this.origin = origin.clone();
+        this.direction = direction.clone().normalize();
+        this.x = origin.getX();
+        this.y = origin.getY();
+        this.z = origin.getZ();
+    }
+
+    public ProjectileSpec getSpec() {
+        return spec;
+    }
+
+    public Player getCaster() {
+        return caster;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Where the projectile was launched from (a copy)
+     */
+    public Location getOrigin() {
+        return origin.clone();
+    }
+
+    /**
+     * Normalized direction of travel (a copy)
+     */
+    public Vector getDirection() {
+        return direction.clone();
+    }
+
+    /**
+     * Current position (a new Location each call)
+     */
+    public Location getLocation() {
+        return new Location(world, x, y, z);
+    }
+
+    public double getTravelled() {
+        return travelled;
+    }
+
+    public int getTicksAlive() {
+        return ticksAlive;
+    }
+
+    /**
+     * Entities hit so far, in hit order
+     */
+    public List<LivingEntity> getHits() {
+        return Collections.unmodifiableList(hits);
+    }
+
+    public boolean hasHit(LivingEntity entity) {
+        return hitIds.contains(entity.getUniqueId());
+    }
+
+    public boolean isFinished() {
+        return finished;
+    }
+
+    /**
+     * Stops the projectile; its finish handler runs on the next engine tick.
+     */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    // ==================== Engine Access ====================
+
+    boolean isCancelled() {
+        return cancelled;
+    }
+
+    double getX() {
+        return x;
+    }
+
+    double getY() {
+        return y;
+    }
+
+    double getZ() {
+        return z;
+    }
+
+    Vector rawDirection() {
+        return direction;
+    }
+
+    void advance(double distance) {
+        x += direction.getX() * distance;
+        y += direction.getY() * distance;
+        z += direction.getZ() * distance;
+        travelled += distance;
+    }
+
+    double getNextTrailAt() {
+        return nextTrailAt;
+    }
+
+    void setNextTrailAt(double nextTrailAt) {
+        this.nextTrailAt = nextTrailAt;
+    }
+
+    void tickAlive() {
+        ticksAlive++;
+    }
+
+    boolean recordHit(LivingEntity entity) {
+        if (!hitIds.add(entity.getUniqueId())) {
+            return false;
+        }
+        hits.add(entity);
+        return true;
+    }
+
+    void markFinished() {
+        finished = true;
+    }
+}
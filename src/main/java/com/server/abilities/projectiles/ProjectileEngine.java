@@ -0,0 +1,256 @@
+package com.server.abilities.projectiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.FluidCollisionMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+import org.bukkit.util.RayTraceResult;
+import org.bukkit.util.Vector;
+
+import com.server.Main;
+import com.server.abilities.projectiles.ProjectileSpec.FinishReason;
+import com.server.abilities.projectiles.ProjectileSpec.TrailParticle;
+import com.server.particles.ParticleEmitter;
+import com.server.spatial.SpatialIndex;
+
+/**
+ * Advances every active ability projectile, beam and sweep from a single tick loop.
+ *
+ * Rays move {@code speed} blocks per tick. Each step is ray traced against blocks and swept
+ * against the {@link SpatialIndex} as a sphere of {@code hitRadius}, so fast projectiles can't
+ * tunnel through targets between ticks. Hits are reported in the order they occur along the
+ * ray and every entity is hit at most once per projectile. Trail particles go through the
+ * {@link ParticleEmitter}, so only players who can see the path receive them.
+ */
+public class ProjectileEngine {
+
+    private static ProjectileEngine instance;
+
+    private final Main plugin;
+    private final List<Projectile> active = new ArrayList<>();
+    private final List<LivingEntity> hitBuffer = new ArrayList<>();
+    private final Location scratch = new Location(null, 0, 0, 0);
+    private BukkitTask tickTask;
+
+    private ProjectileEngine(Main plugin) {
+        this.plugin = plugin;
+    }
+
+    public static void initialize(Main plugin) {
+        if (instance == null) {
+            instance = new ProjectileEngine(plugin);
+            instance.tickTask = Bukkit.getScheduler().runTaskTimer(plugin, instance::tick, 1L, 1L);
+        }
+    }
+
+    public static ProjectileEngine getInstance() {
+        if (instance == null) {
+            throw new IllegalStateException("ProjectileEngine has not been initialized!");
+        }
+        return instance;
+    }
+
+    /**
+     * Launches a projectile. It takes its first step on the next engine tick.
+     *
+     * @param spec What to simulate
+     * @param caster The player casting it (never hit by it)
+     * @param origin Start position
+     * @param direction Direction of travel (or the cone axis)
+     * @return The live projectile
+     */
+    public Projectile launch(ProjectileSpec spec, Player caster, Location origin, Vector direction) {
+        Projectile projectile = new Projectile(spec, caster, origin, direction);
+        active.add(projectile);
+        return projectile;
+    }
+
+    public int getActiveCount() {
+        return active.size();
+    }
+
+    /**
+     * Stops the tick loop and finishes every active projectile as cancelled.
+     */
+    public void shutdown() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        for (Projectile projectile : new ArrayList<>(active)) {
+            finish(projectile, FinishReason.CANCELLED);
+        }
+        active.clear();
+    }
+
+    // ==================== Simulation ====================
+
+    private void tick() {
+        if (active.isEmpty()) {
+            return;
+        }
+
+        // Handlers may launch new projectiles while we iterate; those start next tick
+        int count = active.size();
+        int write = 0;
+        for (int i = 0; i < count; i++) {
+            Projectile projectile = active.get(i);
+            try {
+                step(projectile);
+            } catch (Exception e) {
+                plugin.getLogger().warning("Projectile step failed: " + e.getMessage());
+                projectile.markFinished();
+            }
+            if (!projectile.isFinished()) {
+                active.set(write++, projectile);
+            }
+        }
+        for (int i = count; i < active.size(); i++) {
+            active.set(write++, active.get(i));
+        }
+        active.subList(write, active.size()).clear();
+    }
+
+    private void step(Projectile projectile) {
+        ProjectileSpec spec = projectile.getSpec();
+
+        if (projectile.isCancelled() || !projectile.getCaster().isOnline()) {
+            finish(projectile, FinishReason.CANCELLED);
+            return;
+        }
+        if (projectile.getTicksAlive() >= spec.getDurationTicks()) {
+            finish(projectile, FinishReason.EXPIRED);
+            return;
+        }
+
+        FinishReason reason = spec.getShape() == ProjectileSpec.Shape.RAY
+            ? stepRay(projectile, spec)
+            : stepCone(projectile, spec);
+
+        projectile.tickAlive();
+        if (reason != null) {
+            finish(projectile, reason);
+        }
+    }
+
+    private FinishReason stepRay(Projectile projectile, ProjectileSpec spec) {
+        World world = projectile.getWorld();
+        Vector direction = projectile.rawDirection();
+        Location start = position(projectile);
+        double step = Math.max(0, Math.min(spec.getSpeed(), spec.getRange() - projectile.getTravelled()));
+        FinishReason reason = null;
+
+        // Blocks first, so the entity sweep never reaches through walls
+        if (spec.stopsOnBlocks() && step > 0) {
+            RayTraceResult blockHit = world.rayTraceBlocks(start, direction, step, FluidCollisionMode.NEVER, true);
+            if (blockHit != null) {
+                step = blockHit.getHitPosition().distance(start.toVector());
+                reason = FinishReason.BLOCK;
+            }
+        }
+
+        if (spec.getMaxHits() > 0) {
+            SpatialIndex.getInstance().querySweep(start, direction, step, spec.getHitRadius(),
+                targetFilter(projectile, spec), hitBuffer);
+            if (applyHits(projectile, spec)) {
+                reason = FinishReason.HIT_LIMIT;
+            }
+        }
+
+        emitTrail(projectile, spec, step);
+        projectile.advance(step);
+        spec.getStepHandler().onStep(projectile);
+
+        if (reason == null && projectile.getTravelled() >= spec.getRange()) {
+            reason = FinishReason.RANGE;
+        }
+        return reason;
+    }
+
+    private FinishReason stepCone(Projectile projectile, ProjectileSpec spec) {
+        FinishReason reason = null;
+        if (spec.getMaxHits() > 0) {
+            SpatialIndex.getInstance().queryCone(position(projectile), projectile.rawDirection(),
+                spec.getRange(), spec.getConeAngle(), targetFilter(projectile, spec), hitBuffer);
+            if (applyHits(projectile, spec)) {
+                reason = FinishReason.HIT_LIMIT;
+            }
+        }
+        spec.getStepHandler().onStep(projectile);
+        return reason;
+    }
+
+    /**
+     * Records and reports the entities in the hit buffer.
+     *
+     * @return True if the projectile reached its hit limit
+     */
+    private boolean applyHits(Projectile projectile, ProjectileSpec spec) {
+        for (LivingEntity target : hitBuffer) {
+            if (!projectile.recordHit(target)) {
+                continue;
+            }
+            spec.getHitHandler().onHit(projectile, target);
+            if (projectile.getHits().size() >= spec.getMaxHits()) {
+                hitBuffer.clear();
+                return true;
+            }
+        }
+        hitBuffer.clear();
+        return false;
+    }
+
+    private Predicate<LivingEntity> targetFilter(Projectile projectile, ProjectileSpec spec) {
+        return entity -> entity != projectile.getCaster()
+            && !projectile.hasHit(entity)
+            && spec.getTargetFilter().test(entity);
+    }
+
+    private void emitTrail(Projectile projectile, ProjectileSpec spec, double step) {
+        if (spec.getTrail().isEmpty() || spec.getTrailSpacing() <= 0) {
+            return;
+        }
+        ParticleEmitter emitter = ParticleEmitter.getInstance();
+        Vector direction = projectile.rawDirection();
+        double end = projectile.getTravelled() + step;
+        double at = projectile.getNextTrailAt();
+        double back = projectile.getTravelled();
+
+        while (at <= end) {
+            double offset = at - back;
+            Location point = new Location(projectile.getWorld(),
+                projectile.getX() + direction.getX() * offset,
+                projectile.getY() + direction.getY() * offset,
+                projectile.getZ() + direction.getZ() * offset);
+            for (TrailParticle trail : spec.getTrail()) {
+                emitter.spawnParticle(trail.getParticle(), point, trail.getCount(),
+                    trail.getSpread(), trail.getSpread(), trail.getSpread(), trail.getExtra(), trail.getData());
+            }
+            at += spec.getTrailSpacing();
+        }
+        projectile.setNextTrailAt(at);
+    }
+
+    private void finish(Projectile projectile, FinishReason reason) {
+        if (projectile.isFinished()) {
+            return;
+        }
+        projectile.markFinished();
+        projectile.getSpec().getFinishHandler().onFinish(projectile, reason);
+    }
+
+    private Location position(Projectile projectile) {
+        scratch.setWorld(projectile.getWorld());
+        scratch.setX(projectile.getX());
+        scratch.setY(projectile.getY());
+        scratch.setZ(projectile.getZ());
+        return scratch;
+    }
+}
@@ -0,0 +1,285 @@
+package com.server.abilities.projectiles;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.bukkit.Particle;
+import org.bukkit.entity.LivingEntity;
+
+/**
+ * Declarative description of a projectile, beam or sweep simulated by the
+ * {@link ProjectileEngine}. Specs are immutable and can be shared between casts.
+ */
+public class ProjectileSpec {
+
+    /**
+     * How the simulated shape moves and collides.
+     */
+    public enum Shape {
+        /** A point moving along a ray, colliding as a swept sphere */
+        RAY,
+        /** A stationary cone in front of the origin, re-checked every tick */
+        CONE
+    }
+
+    /**
+     * Why a projectile stopped.
+     */
+    public enum FinishReason {
+        RANGE, BLOCK, HIT_LIMIT, EXPIRED, CANCELLED
+    }
+
+    @FunctionalInterface
+    public interface HitHandler {
+        void onHit(Projectile projectile, LivingEntity target);
+    }
+
+    @FunctionalInterface
+    public interface StepHandler {
+        void onStep(Projectile projectile);
+    }
+
+    @FunctionalInterface
+    public interface FinishHandler {
+        void onFinish(Projectile projectile, FinishReason reason);
+    }
+
+    private final Shape shape;
+    private final double speed;
+    private final double range;
+    private final double hitRadius;
+    private final double coneAngle;
+    private final int durationTicks;
+    private final int maxHits;
+    private final boolean stopOnBlocks;
+    private final double trailSpacing;
+    private final List<TrailParticle> trail;
+    private final Predicate<LivingEntity> targetFilter;
+    private final HitHandler hitHandler;
+    private final StepHandler stepHandler;
+    private final FinishHandler finishHandler;
+
+    private ProjectileSpec(Builder builder) {
+        this.shape = builder.shape;
+        this.speed = builder.speed;
+        this.range = builder.range;
+        this.hitRadius = builder.hitRadius;
+        this.coneAngle = builder.coneAngle;
+        this.durationTicks = builder.durationTicks;
+        this.maxHits = builder.maxHits;
+        this.stopOnBlocks = builder.stopOnBlocks;
+        this.trailSpacing = builder.trailSpacing;
+        this.trail = Collections.unmodifiableList(new ArrayList<>(builder.trail));
+        this.targetFilter = builder.targetFilter;
+        this.hitHandler = builder.hitHandler;
+        this.stepHandler = builder.stepHandler;
+        this.finishHandler = builder.finishHandler;
+    }
+
+    public static Builder ray(double speed, double range) {
+        return new Builder(Shape.RAY).speed(speed).range(range);
+    }
+
+    public static Builder cone(double range, double coneAngle, int durationTicks) {
+        Builder builder = new Builder(Shape.CONE);
+        builder.range = range;
+        builder.coneAngle = coneAngle;
+        builder.durationTicks = durationTicks;
+        return builder;
+    }
+
+    public Shape getShape() {
+        return shape;
+    }
+
+    public double getSpeed() {
+        return speed;
+    }
+
+    public double getRange() {
+        return range;
+    }
+
+    public double getHitRadius() {
+        return hitRadius;
+    }
+
+    public double getConeAngle() {
+        return coneAngle;
+    }
+
+    public int getDurationTicks() {
+        return durationTicks;
+    }
+
+    public int getMaxHits() {
+        return maxHits;
+    }
+
+    public boolean stopsOnBlocks() {
+        return stopOnBlocks;
+    }
+
+    public double getTrailSpacing() {
+        return trailSpacing;
+    }
+
+    public List<TrailParticle> getTrail() {
+        return trail;
+    }
+
+    public Predicate<LivingEntity> getTargetFilter() {
+        return targetFilter;
+    }
+
+    public HitHandler getHitHandler() {
+        return hitHandler;
+    }
+
+    public StepHandler getStepHandler() {
+        return stepHandler;
+    }
+
+    public FinishHandler getFinishHandler() {
+        return finishHandler;
+    }
+
+    /**
+     * One particle effect emitted along the path of a ray.
+     */
+    public static class TrailParticle {
+        private final Particle particle;
+        private final int count;
+        private final double spread;
+        private final double extra;
+        private final Object data;
+
+        public TrailParticle(Particle particle, int count, double spread, double extra, Object data) {
+            this.particle = particle;
+            this.count = count;
+            this.spread = spread;
+            this.extra = extra;
+            this.data = data;
+        }
+
+        public Particle getParticle() {
+            return particle;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public double getSpread() {
+            return spread;
+        }
+
+        public double getExtra() {
+            return extra;
+        }
+
+        public Object getData() {
+            return data;
+        }
+    }
+
+    /**
+     * Builder for projectile specs
+     */
+    public static class Builder {
+        private final Shape shape;
+        private double speed = 0.5;
+        private double range = 10.0;
+        private double hitRadius = 0.5;
+        private double coneAngle = Math.PI / 4;
+        private int durationTicks = 200;
+        private int maxHits = Integer.MAX_VALUE;
+        private boolean stopOnBlocks = true;
+        private double trailSpacing = 0.5;
+        private final List<TrailParticle> trail = new ArrayList<>();
+        private Predicate<LivingEntity> targetFilter = entity -> true;
+        private HitHandler hitHandler = (projectile, target) -> {};
+        private StepHandler stepHandler = projectile -> {};
+        private FinishHandler finishHandler = (projectile, reason) -> {};
+
+        private Builder(Shape shape) {
+            this.shape = shape;
+        }
+
+        /** Blocks travelled per tick (rays only) */
+        public Builder speed(double speed) {
+            this.speed = speed;
+            return this;
+        }
+
+        public Builder range(double range) {
+            this.range = range;
+            return this;
+        }
+
+        /** Radius of the swept sphere used for entity collision (rays only) */
+        public Builder hitRadius(double hitRadius) {
+            this.hitRadius = hitRadius;
+            return this;
+        }
+
+        /** Maximum ticks the projectile may live */
+        public Builder duration(int ticks) {
+            this.durationTicks = ticks;
+            return this;
+        }
+
+        /** Stop after hitting this many entities; 0 disables entity collision */
+        public Builder maxHits(int maxHits) {
+            this.maxHits = maxHits;
+            return this;
+        }
+
+        public Builder stopOnBlocks(boolean stopOnBlocks) {
+            this.stopOnBlocks = stopOnBlocks;
+            return this;
+        }
+
+        /** Distance between trail particle emissions along a ray */
+        public Builder trailSpacing(double spacing) {
+            this.trailSpacing = spacing;
+            return this;
+        }
+
+        public Builder trail(Particle particle, int count, double spread, double extra) {
+            return trail(particle, count, spread, extra, null);
+        }
+
+        public Builder trail(Particle particle, int count, double spread, double extra, Object data) {
+            this.trail.add(new TrailParticle(particle, count, spread, extra, data));
+            return this;
+        }
+
+        /** Extra condition a target must pass (the caster is always excluded) */
+        public Builder targets(Predicate<LivingEntity> filter) {
+            this.targetFilter = filter;
+            return this;
+        }
+
+        public Builder onHit(HitHandler handler) {
+            this.hitHandler = handler;
+            return this;
+        }
+
+        public Builder onStep(StepHandler handler) {
+            this.stepHandler = handler;
+            return this;
+        }
+
+        public Builder onFinish(FinishHandler handler) {
+            this.finishHandler = handler;
+            return this;
+        }
+
+        public ProjectileSpec build() {
+            return new ProjectileSpec(this);
+        }
+    }
+}
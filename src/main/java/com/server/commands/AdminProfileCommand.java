@@ -1,12 +1,15 @@
 package com.server.commands;
 
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.OfflinePlayer;
 import org.bukkit.Sound;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandSender;
@@ -18,8 +21,9 @@ import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
 /**
- * Admin command to manage player profile levels and XP
+ * Admin command to manage player profile levels and XP, and to restore profile backups
  * Usage: /adminprofile <player> <level|xp|add> <value>
+ *        /adminprofile restore <player> <slot> <time>
  * Permission: mmo.admin.profile
  */
 public class AdminProfileCommand implements TabExecutor {
@@ -53,6 +57,18 @@ public class AdminProfileCommand implements TabExecutor {
             return handleInfo(sender, args[1]);
         }
         
+        if (args[0].equalsIgnoreCase("backups")) {
+            return handleBackups(sender, args[1], args[2]);
+        }
+        
+        if (args[0].equalsIgnoreCase("restore")) {
+            if (args.length != 4) {
+                sender.sendMessage(ChatColor.RED + "Usage: /adminprofile restore <player> <slot> <time>");
+                return true;
+            }
+            return handleRestore(sender, args[1], args[2], args[3]);
+        }
+        
         // Regular profile commands need exactly 3 arguments
         if (args.length != 3) {
             sender.sendMessage(ChatColor.RED + "Usage: /adminprofile <player> <level|xp|add> <value>");
@@ -316,6 +332,143 @@ public class AdminProfileCommand implements TabExecutor {
         return true;
     }
     
+    /**
+     * Handle the 'backups' command to list a profile slot's backups
+     * Usage: /adminprofile backups <player> <slot>
+     */
+    private boolean handleBackups(CommandSender sender, String playerName, String slotStr) {
+        OfflinePlayer target = findPlayer(playerName);
+        if (target == null) {
+            sender.sendMessage(ChatColor.RED + "Player not found: " + playerName);
+            return true;
+        }
+        int slot = parseSlot(sender, slotStr);
+        if (slot < 0) {
+            return true;
+        }
+        
+        ProfileManager.getInstance().getBackupTimes(target.getUniqueId(), slot).thenAccept(times ->
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (times.isEmpty()) {
+                    sender.sendMessage(ChatColor.YELLOW + "No backups of " + target.getName() + "'s slot " + (slot + 1) + ".");
+                    return;
+                }
+                
+                sender.sendMessage(ChatColor.GOLD + "===== Backups of " + target.getName() + "'s Slot " + (slot + 1) + 
+                                 " (" + times.size() + ") =====");
+                long now = System.currentTimeMillis();
+                for (long time : times.subList(0, Math.min(10, times.size()))) {
+                    sender.sendMessage(ChatColor.YELLOW + formatTime(time) + ChatColor.GRAY + " (" + 
+                                     PlayerProfile.formatPlaytime(now - time) + " ago) " + ChatColor.WHITE + time);
+                }
+                sender.sendMessage(ChatColor.GRAY + "Restore with /adminprofile restore " + target.getName() + 
+                                 " " + (slot + 1) + " <time|30m|2h|1d>");
+            }));
+        return true;
+    }
+    
+    /**
+     * Handle the 'restore' command to roll a profile slot back to a backup
+     * Usage: /adminprofile restore <player> <slot> <time>
+     */
+    private boolean handleRestore(CommandSender sender, String playerName, String slotStr, String timeStr) {
+        OfflinePlayer target = findPlayer(playerName);
+        if (target == null) {
+            sender.sendMessage(ChatColor.RED + "Player not found: " + playerName);
+            return true;
+        }
+        int slot = parseSlot(sender, slotStr);
+        if (slot < 0) {
+            return true;
+        }
+        long time = parseRestoreTime(timeStr);
+        if (time < 0) {
+            sender.sendMessage(ChatColor.RED + "Invalid time: " + timeStr + ". Use a timestamp or a duration ago like 30m, 2h or 1d.");
+            return true;
+        }
+        
+        sender.sendMessage(ChatColor.YELLOW + "Restoring " + target.getName() + "'s slot " + (slot + 1) + 
+                          " to " + formatTime(time) + "...");
+        ProfileManager.getInstance().restoreBackup(target.getUniqueId(), slot, time).whenComplete((backup, error) -> {
+            if (error != null) {
+                Throwable cause = error.getCause() != null ? error.getCause() : error;
+                sender.sendMessage(ChatColor.RED + "Failed to restore backup: " + cause.getMessage());
+                return;
+            }
+            if (backup == null) {
+                sender.sendMessage(ChatColor.RED + "No backup of " + target.getName() + "'s slot " + (slot + 1) + 
+                                  " from before " + formatTime(time) + ".");
+                return;
+            }
+            
+            sender.sendMessage(ChatColor.GREEN + "Restored " + target.getName() + "'s slot " + (slot + 1) + 
+                              " to the backup from " + formatTime(backup.getTakenAt()) + ".");
+            Player online = target.getPlayer();
+            if (online != null) {
+                online.sendMessage(ChatColor.YELLOW + "An admin restored your profile in slot #" + (slot + 1) + 
+                                  " to an earlier backup.");
+            }
+            
+            // Log the action
+            plugin.getLogger().info("Admin " + sender.getName() + " restored " + target.getName() + 
+                                  "'s profile slot " + (slot + 1) + " to backup " + backup.getTakenAt());
+        });
+        return true;
+    }
+    
+    /**
+     * Find an online player, or an offline player the server has seen before
+     */
+    private OfflinePlayer findPlayer(String playerName) {
+        Player online = Bukkit.getPlayer(playerName);
+        return online != null ? online : Bukkit.getOfflinePlayerIfCached(playerName);
+    }
+    
+    /**
+     * Parse a 1-based profile slot
+     * @return The 0-based slot, or -1 if invalid
+     */
+    private int parseSlot(CommandSender sender, String slotStr) {
+        try {
+            int slot = Integer.parseInt(slotStr);
+            if (slot >= 1 && slot <= 3) {
+                return slot - 1;
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        sender.sendMessage(ChatColor.RED + "Invalid slot: " + slotStr + ". Use 1, 2 or 3.");
+        return -1;
+    }
+    
+    /**
+     * Parse a restore time: a timestamp in milliseconds, or a duration ago such as 45s, 30m, 2h or 1d
+     * @return The time in milliseconds, or -1 if invalid
+     */
+    private long parseRestoreTime(String value) {
+        long unit;
+        switch (Character.toLowerCase(value.charAt(value.length() - 1))) {
+            case 's': unit = 1000L; break;
+            case 'm': unit = 60_000L; break;
+            case 'h': unit = 3_600_000L; break;
+            case 'd': unit = 86_400_000L; break;
+            default: unit = 0;
+        }
+        try {
+            if (unit == 0) {
+                return Long.parseLong(value);
+            }
+            long amount = Long.parseLong(value.substring(0, value.length() - 1));
+            return amount >= 0 ? System.currentTimeMillis() - amount * unit : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    private String formatTime(long time) {
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(time));
+    }
+    
     /**
      * Calculate what profile level corresponds to a given amount of total XP
      */
@@ -356,11 +509,16 @@ public class AdminProfileCommand implements TabExecutor {
                           ChatColor.WHITE + "- Show all profiles for a player");
         sender.sendMessage(ChatColor.YELLOW + "/adminprofile info <player> " + 
                           ChatColor.WHITE + "- Show detailed info for active profile");
+        sender.sendMessage(ChatColor.YELLOW + "/adminprofile backups <player> <slot> " + 
+                          ChatColor.WHITE + "- List a profile's backups");
+        sender.sendMessage(ChatColor.YELLOW + "/adminprofile restore <player> <slot> <time> " + 
+                          ChatColor.WHITE + "- Restore a profile to a backup");
         
         sender.sendMessage(ChatColor.GRAY + "Examples:");
         sender.sendMessage(ChatColor.WHITE + "  /adminprofile Steve level 50");
         sender.sendMessage(ChatColor.WHITE + "  /adminprofile Steve xp 25000");
         sender.sendMessage(ChatColor.WHITE + "  /adminprofile Steve add 5000");
+        sender.sendMessage(ChatColor.WHITE + "  /adminprofile restore Steve 1 2h");
     }
     
     @Override
@@ -373,7 +531,7 @@ public class AdminProfileCommand implements TabExecutor {
         
         if (args.length == 1) {
             // First argument: player name or special commands
-            List<String> specialCommands = Arrays.asList("list", "info");
+            List<String> specialCommands = Arrays.asList("list", "info", "backups", "restore");
             for (String special : specialCommands) {
                 if (special.startsWith(args[0].toLowerCase())) {
                     completions.add(special);
@@ -387,7 +545,8 @@ public class AdminProfileCommand implements TabExecutor {
                              .collect(Collectors.toList()));
         }
         else if (args.length == 2) {
-            if (args[0].equalsIgnoreCase("list") || args[0].equalsIgnoreCase("info")) {
+            if (args[0].equalsIgnoreCase("list") || args[0].equalsIgnoreCase("info")
+                    || args[0].equalsIgnoreCase("backups") || args[0].equalsIgnoreCase("restore")) {
                 // Second argument is player name for special commands
                 completions.addAll(Bukkit.getOnlinePlayers().stream()
                                  .map(Player::getName)
@@ -402,8 +561,13 @@ public class AdminProfileCommand implements TabExecutor {
             }
         }
         else if (args.length == 3) {
-            // Third argument is the value
-            if (args[1].equalsIgnoreCase("level")) {
+            // Third argument is the value, or the slot for backup commands
+            if (args[0].equalsIgnoreCase("backups") || args[0].equalsIgnoreCase("restore")) {
+                List<String> slots = Arrays.asList("1", "2", "3");
+                completions.addAll(slots.stream()
+                                 .filter(slot -> slot.startsWith(args[2]))
+                                 .collect(Collectors.toList()));
+            } else if (args[1].equalsIgnoreCase("level")) {
                 List<String> suggestions = Arrays.asList("1", "5", "10", "25", "50", "75", "100");
                 completions.addAll(suggestions.stream()
                                  .filter(suggestion -> suggestion.startsWith(args[2]))
@@ -415,6 +579,13 @@ public class AdminProfileCommand implements TabExecutor {
                                  .collect(Collectors.toList()));
             }
         }
+        else if (args.length == 4 && args[0].equalsIgnoreCase("restore")) {
+            // Fourth argument is the restore time
+            List<String> suggestions = Arrays.asList("30m", "1h", "6h", "1d", "7d");
+            completions.addAll(suggestions.stream()
+                             .filter(suggestion -> suggestion.startsWith(args[3].toLowerCase()))
+                             .collect(Collectors.toList()));
+        }
         
         return completions;
     }
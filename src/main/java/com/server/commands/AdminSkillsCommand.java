@@ -29,6 +29,8 @@ import com.server.profiles.skills.skills.mining.subskills.OreExtractionSubskill;
 import com.server.profiles.skills.tokens.SkillToken;
 import com.server.profiles.skills.trees.PlayerSkillTreeData;
 import com.server.profiles.stats.PlayerStats;
+import com.server.profiles.stats.StatLayer;
+import com.server.profiles.stats.StatType;
 
 /**
  * Command to manage player skill levels and XP for testing and administrative purposes
@@ -820,18 +822,16 @@ public class AdminSkillsCommand implements TabExecutor {
             OreExtractionSubskill oreSkill = (OreExtractionSubskill) skill;
             PlayerStats stats = profile.getStats();
             
-            // Reset mining fortune to default first to avoid stacking
-            stats.setMiningFortune(stats.getDefaultMiningFortune());
-            
-            // Add bonus from current level
+            // Replace the skill layer bonus with the one for the new level, so it never stacks
             double fortuneBonus = oreSkill.getMiningFortuneBonus(level);
-            stats.setMiningFortune(stats.getMiningFortune() + fortuneBonus);
+            stats.setLayer(StatLayer.SKILL, StatType.MINING_FORTUNE, fortuneBonus);
             
             // Apply mining speed bonuses too
             double speedMultiplier = oreSkill.getMiningSpeedMultiplier(level);
-            if (speedMultiplier > 1.0) {
-                stats.setMiningSpeed(stats.getDefaultMiningSpeed() * speedMultiplier);
-            }
+            double speedWithoutSkill = stats.getDefault(StatType.MINING_SPEED)
+                - stats.getLayer(StatLayer.SKILL, StatType.MINING_SPEED);
+            stats.setLayer(StatLayer.SKILL, StatType.MINING_SPEED,
+                speedMultiplier > 1.0 ? speedWithoutSkill * (speedMultiplier - 1.0) : 0.0);
             
             // Apply the changes to the player
             stats.applyToPlayer(player);
@@ -19,6 +19,8 @@ import com.server.debug.DebugManager.DebugSystem;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 import com.server.profiles.stats.PlayerStats;
+import com.server.profiles.stats.StatLayer;
+import com.server.profiles.stats.StatType;
 
 /**
  * Command to manage player stats for testing and administrative purposes
@@ -37,49 +39,49 @@ public class AdminStatsCommand implements TabExecutor {
     
     static {
         // Combat Stats
-        availableStats.put("health", new StatDefinition(Integer.class, "defaultHealth"));
-        availableStats.put("armor", new StatDefinition(Integer.class, "defaultArmor"));
-        availableStats.put("magicresist", new StatDefinition(Integer.class, "defaultMR"));
-        availableStats.put("physicaldamage", new StatDefinition(Integer.class, "defaultPhysicalDamage"));
-        availableStats.put("magicdamage", new StatDefinition(Integer.class, "defaultMagicDamage"));
-        availableStats.put("mana", new StatDefinition(Integer.class, "defaultMana"));
-        availableStats.put("speed", new StatDefinition(Double.class, "defaultSpeed"));
-        availableStats.put("criticaldamage", new StatDefinition(Double.class, "defaultCritDmg"));
-        availableStats.put("criticalchance", new StatDefinition(Double.class, "defaultCritChance"));
-        availableStats.put("burstdamage", new StatDefinition(Double.class, "defaultBurstDmg"));
-        availableStats.put("burstchance", new StatDefinition(Double.class, "defaultBurstChance"));
-        availableStats.put("cooldownreduction", new StatDefinition(Integer.class, "defaultCDR"));
-        availableStats.put("lifesteal", new StatDefinition(Double.class, "defaultLifeSteal"));
-        availableStats.put("rangeddamage", new StatDefinition(Integer.class, "defaultRangedDamage"));
-        availableStats.put("attackspeed", new StatDefinition(Double.class, "defaultAttackSpeed"));
-        availableStats.put("omnivamp", new StatDefinition(Double.class, "defaultOmnivamp"));
-        availableStats.put("healthregen", new StatDefinition(Double.class, "defaultHealthRegen"));
+        availableStats.put("health", new StatDefinition(Integer.class, StatType.HEALTH));
+        availableStats.put("armor", new StatDefinition(Integer.class, StatType.ARMOR));
+        availableStats.put("magicresist", new StatDefinition(Integer.class, StatType.MAGIC_RESIST));
+        availableStats.put("physicaldamage", new StatDefinition(Integer.class, StatType.PHYSICAL_DAMAGE));
+        availableStats.put("magicdamage", new StatDefinition(Integer.class, StatType.MAGIC_DAMAGE));
+        availableStats.put("mana", new StatDefinition(Integer.class, StatType.MANA));
+        availableStats.put("speed", new StatDefinition(Double.class, StatType.SPEED));
+        availableStats.put("criticaldamage", new StatDefinition(Double.class, StatType.CRITICAL_DAMAGE));
+        availableStats.put("criticalchance", new StatDefinition(Double.class, StatType.CRITICAL_CHANCE));
+        availableStats.put("burstdamage", new StatDefinition(Double.class, StatType.BURST_DAMAGE));
+        availableStats.put("burstchance", new StatDefinition(Double.class, StatType.BURST_CHANCE));
+        availableStats.put("cooldownreduction", new StatDefinition(Integer.class, StatType.COOLDOWN_REDUCTION));
+        availableStats.put("lifesteal", new StatDefinition(Double.class, StatType.LIFE_STEAL));
+        availableStats.put("rangeddamage", new StatDefinition(Integer.class, StatType.RANGED_DAMAGE));
+        availableStats.put("attackspeed", new StatDefinition(Double.class, StatType.ATTACK_SPEED));
+        availableStats.put("omnivamp", new StatDefinition(Double.class, StatType.OMNIVAMP));
+        availableStats.put("healthregen", new StatDefinition(Double.class, StatType.HEALTH_REGEN));
         
         // Fortune Stats
-        availableStats.put("miningfortune", new StatDefinition(Double.class, "defaultMiningFortune"));
-        availableStats.put("farmingfortune", new StatDefinition(Double.class, "defaultFarmingFortune"));
-        availableStats.put("lootingfortune", new StatDefinition(Double.class, "defaultLootingFortune"));
-        availableStats.put("fishingfortune", new StatDefinition(Double.class, "defaultFishingFortune"));
+        availableStats.put("miningfortune", new StatDefinition(Double.class, StatType.MINING_FORTUNE));
+        availableStats.put("farmingfortune", new StatDefinition(Double.class, StatType.FARMING_FORTUNE));
+        availableStats.put("lootingfortune", new StatDefinition(Double.class, StatType.LOOTING_FORTUNE));
+        availableStats.put("fishingfortune", new StatDefinition(Double.class, StatType.FISHING_FORTUNE));
         
         // Fishing Stats
-        availableStats.put("lurepotency", new StatDefinition(Integer.class, "defaultLurePotency"));
-        availableStats.put("fishingresilience", new StatDefinition(Double.class, "defaultFishingResilience"));
-        availableStats.put("fishingfocus", new StatDefinition(Double.class, "defaultFishingFocus"));
-        availableStats.put("fishingprecision", new StatDefinition(Double.class, "defaultFishingPrecision"));
-        availableStats.put("seamonsteraffinity", new StatDefinition(Double.class, "defaultSeaMonsterAffinity"));
-        availableStats.put("treasuresense", new StatDefinition(Double.class, "defaultTreasureSense"));
+        availableStats.put("lurepotency", new StatDefinition(Integer.class, StatType.LURE_POTENCY));
+        availableStats.put("fishingresilience", new StatDefinition(Double.class, StatType.FISHING_RESILIENCE));
+        availableStats.put("fishingfocus", new StatDefinition(Double.class, StatType.FISHING_FOCUS));
+        availableStats.put("fishingprecision", new StatDefinition(Double.class, StatType.FISHING_PRECISION));
+        availableStats.put("seamonsteraffinity", new StatDefinition(Double.class, StatType.SEA_MONSTER_AFFINITY));
+        availableStats.put("treasuresense", new StatDefinition(Double.class, StatType.TREASURE_SENSE));
         
         // Resource Stats
-        availableStats.put("manaregen", new StatDefinition(Integer.class, "defaultManaRegen"));
-        availableStats.put("luck", new StatDefinition(Integer.class, "defaultLuck"));
+        availableStats.put("manaregen", new StatDefinition(Integer.class, StatType.MANA_REGEN));
+        availableStats.put("luck", new StatDefinition(Integer.class, StatType.LUCK));
         
         // Size and Range
-        availableStats.put("attackrange", new StatDefinition(Double.class, "defaultAttackRange"));
-        availableStats.put("size", new StatDefinition(Double.class, "defaultSize"));
+        availableStats.put("attackrange", new StatDefinition(Double.class, StatType.ATTACK_RANGE));
+        availableStats.put("size", new StatDefinition(Double.class, StatType.SIZE));
 
         // Mining Stats
-        availableStats.put("miningspeed", new StatDefinition(Double.class, "defaultMiningSpeed"));
-        availableStats.put("buildrange", new StatDefinition(Double.class, "defaultBuildRange"));
+        availableStats.put("miningspeed", new StatDefinition(Double.class, StatType.MINING_SPEED));
+        availableStats.put("buildrange", new StatDefinition(Double.class, StatType.BUILD_RANGE));
     }
     
     public AdminStatsCommand(Main plugin) {
@@ -377,110 +379,12 @@ public class AdminStatsCommand implements TabExecutor {
             }
             
             // Reset to vanilla default value (not player's default)
-            switch (statName) {
-                case "health":
-                    setDefaultStatValue(stats, statName, 100);
-                    break;
-                case "armor":
-                    setDefaultStatValue(stats, statName, 0);
-                    break;
-                case "magicresist":
-                    setDefaultStatValue(stats, statName, 0);
-                    break;
-                case "physicaldamage":
-                    setDefaultStatValue(stats, statName, 5);
-                    break;
-                case "magicdamage":
-                    setDefaultStatValue(stats, statName, 5);
-                    break;
-                case "mana":
-                    setDefaultStatValue(stats, statName, 100);
-                    break;
-                case "speed":
-                    setDefaultStatValue(stats, statName, 0.1);
-                    break;
-                case "criticaldamage":
-                    setDefaultStatValue(stats, statName, 1.5);
-                    break;
-                case "criticalchance":
-                    setDefaultStatValue(stats, statName, 0.0);
-                    break;
-                case "burstdamage":
-                    setDefaultStatValue(stats, statName, 2.0);
-                    break;
-                case "burstchance":
-                    setDefaultStatValue(stats, statName, 0.01);
-                    break;
-                case "cooldownreduction":
-                    setDefaultStatValue(stats, statName, 0);
-                    break;
-                case "lifesteal":
-                    setDefaultStatValue(stats, statName, 0.0);
-                    break;
-                case "rangeddamage":
-                    setDefaultStatValue(stats, statName, 5);
-                    break;
-                case "attackspeed":
-                    setDefaultStatValue(stats, statName, 0.5);
-                    break;
-                case "omnivamp":
-                    setDefaultStatValue(stats, statName, 0.0);
-                    break;
-                case "healthregen":
-                    setDefaultStatValue(stats, statName, 0.3);
-                    break;
-                case "miningfortune":
-                    setDefaultStatValue(stats, statName, 1.0);
-                    break;
-                case "farmingfortune":
-                    setDefaultStatValue(stats, statName, 1.0);
-                    break;
-                case "lootingfortune":
-                    setDefaultStatValue(stats, statName, 1.0);
-                    break;
-                case "fishingfortune":
-                    setDefaultStatValue(stats, statName, 1.0);
-                    break;
-                case "lurepotency":
-                    setDefaultStatValue(stats, statName, 0);
-                    break;
-                case "fishingresilience":
-                    setDefaultStatValue(stats, statName, 0.0);
-                    break;
-                case "fishingfocus":
-                    setDefaultStatValue(stats, statName, 0.0);
-                    break;
-                case "fishingprecision":
-                    setDefaultStatValue(stats, statName, 0.0);
-                    break;
-                case "seamonsteraffinity":
-                    setDefaultStatValue(stats, statName, 0.0);
-                    break;
-                case "treasuresense":
-                    setDefaultStatValue(stats, statName, 0.0);
-                    break;
-                case "manaregen":
-                    setDefaultStatValue(stats, statName, 1);
-                    break;
-                case "luck":
-                    setDefaultStatValue(stats, statName, 0);
-                    break;
-                case "attackrange":
-                    setDefaultStatValue(stats, statName, 3.0);
-                    break;
-                case "size":
-                    setDefaultStatValue(stats, statName, 1.0);
-                    break;
-                case "miningspeed":
-                    setDefaultStatValue(stats, statName, 0.5);
-                    break;
-                case "buildrange":
-                    setDefaultStatValue(stats, statName, 5.0); 
-                    break;
-                default:
-                    sender.sendMessage(ChatColor.RED + "Unknown stat: " + statName);
-                    return;
+            StatDefinition statDef = availableStats.get(statName);
+            if (statDef == null) {
+                sender.sendMessage(ChatColor.RED + "Unknown stat: " + statName);
+                return;
             }
+            setDefaultStatValue(stats, statName, statDef.statType.getDefaultValue());
             
             // Force a scan and update
             plugin.getStatScanManager().scanAndUpdatePlayerStats(player);
@@ -500,175 +404,26 @@ public class AdminStatsCommand implements TabExecutor {
      */
     private Object getDefaultStatValue(PlayerStats stats, String statName) {
         StatDefinition statDef = availableStats.get(statName);
-        
-        // Using reflection to get the default field value
-        try {
-            java.lang.reflect.Field field = PlayerStats.class.getDeclaredField(statDef.fieldName);
-            field.setAccessible(true);
-            return field.get(stats);
-        } catch (Exception e) {
-            plugin.debugLog(DebugSystem.STATS,"Error accessing default stat field: " + e.getMessage());
-            
-            // Fallback to regular getters if reflection fails
-            switch (statName) {
-                case "health": return stats.getDefaultHealth();
-                case "armor": return stats.getDefaultArmor();
-                case "magicresist": return stats.getDefaultMagicResist();
-                case "physicaldamage": return stats.getDefaultPhysicalDamage();
-                case "magicdamage": return stats.getDefaultMagicDamage();
-                case "mana": return stats.getDefaultMana();
-                case "speed": return stats.getDefaultSpeed();
-                case "criticaldamage": return stats.getDefaultCriticalDamage();
-                case "criticalchance": return stats.getDefaultCriticalChance();
-                case "burstdamage": return stats.getDefaultBurstDamage();
-                case "burstchance": return stats.getDefaultBurstChance();
-                case "cooldownreduction": return stats.getDefaultCooldownReduction();
-                case "lifesteal": return stats.getDefaultLifeSteal();
-                case "rangeddamage": return stats.getDefaultRangedDamage();
-                case "attackspeed": return stats.getDefaultAttackSpeed();
-                case "omnivamp": return stats.getDefaultOmnivamp();
-                case "healthregen": return stats.getDefaultHealthRegen();
-                case "miningfortune": return stats.getDefaultMiningFortune();
-                case "farmingfortune": return stats.getDefaultFarmingFortune();
-                case "lootingfortune": return stats.getDefaultLootingFortune();
-                case "fishingfortune": return stats.getDefaultFishingFortune();
-                case "lurepotency": return stats.getDefaultLurePotency();
-                case "fishingresilience": return stats.getDefaultFishingResilience();
-                case "fishingfocus": return stats.getDefaultFishingFocus();
-                case "fishingprecision": return stats.getDefaultFishingPrecision();
-                case "seamonsteraffinity": return stats.getDefaultSeaMonsterAffinity();
-                case "treasuresense": return stats.getDefaultTreasureSense();
-                case "manaregen": return stats.getDefaultManaRegen();
-                case "luck": return stats.getDefaultLuck();
-                case "attackrange": return stats.getDefaultAttackRange();
-                case "size": return stats.getDefaultSize();
-                case "miningspeed": return stats.getDefaultMiningSpeed();
-                case "buildrange": return stats.getDefaultBuildRange();
-                default: return null;
-            }
+        double value = stats.getLayer(StatLayer.BASE, statDef.statType);
+        if (statDef.type == Integer.class) {
+            return (int) value;
         }
+        return value;
     }
     
     /**
      * Set the default value for a stat
+     * Admin defaults are the base stat layer, so skill and equipment bonuses still apply on top
      */
-    private void setDefaultStatValue(PlayerStats stats, String statName, Object value) {
+    private void setDefaultStatValue(PlayerStats stats, String statName, Number value) {
         StatDefinition statDef = availableStats.get(statName);
+        stats.setLayer(StatLayer.BASE, statDef.statType, value.doubleValue());
         
-        // Using reflection to set the default field value
-        try {
-            java.lang.reflect.Field field = PlayerStats.class.getDeclaredField(statDef.fieldName);
-            field.setAccessible(true);
-            field.set(stats, value);
-            
-            // We need to also update the current value to match the new default
-            // This ensures the stat is immediately updated
-            switch (statName) {
-                case "health":
-                    stats.setHealth((Integer)value);
-                    stats.setCurrentHealth(Math.min(stats.getCurrentHealth(), (Integer)value));
-                    break;
-                case "armor":
-                    stats.setArmor((Integer)value);
-                    break;
-                case "magicresist":
-                    stats.setMagicResist((Integer)value);
-                    break;
-                case "physicaldamage":
-                    stats.setPhysicalDamage((Integer)value);
-                    break;
-                case "magicdamage":
-                    stats.setMagicDamage((Integer)value);
-                    break;
-                case "mana":
-                    stats.setTotalMana((Integer)value);
-                    stats.setMana(Math.min(stats.getMana(), (Integer)value));
-                    break;
-                case "rangeddamage":
-                    stats.setRangedDamage((Integer)value);
-                    break;
-                case "speed":
-                    stats.setSpeed((Double)value);
-                    break;
-                case "criticaldamage":
-                    stats.setCriticalDamage((Double)value);
-                    break;
-                case "criticalchance":
-                    stats.setCriticalChance((Double)value);
-                    break;
-                case "burstdamage":
-                    stats.setBurstDamage((Double)value);
-                    break;
-                case "burstchance":
-                    stats.setBurstChance((Double)value);
-                    break;
-                case "cooldownreduction":
-                    stats.setCooldownReduction((Integer)value);
-                    break;
-                case "lifesteal":
-                    stats.setLifeSteal((Double)value);
-                    break;
-                case "attackspeed":
-                    stats.setAttackSpeed((Double)value);
-                    break;
-                case "omnivamp":
-                    stats.setOmnivamp((Double)value);
-                    break;
-                case "healthregen":
-                    stats.setHealthRegen((Double)value);
-                    break;
-                case "miningfortune":
-                    stats.setMiningFortune((Double)value);
-                    break;
-                case "farmingfortune":
-                    stats.setFarmingFortune((Double)value);
-                    break;
-                case "lootingfortune":
-                    stats.setLootingFortune((Double)value);
-                    break;
-                case "fishingfortune":
-                    stats.setFishingFortune((Double)value);
-                    break;
-                case "lurepotency":
-                    stats.setLurePotency((Integer)value);
-                    break;
-                case "fishingresilience":
-                    stats.setFishingResilience((Double)value);
-                    break;
-                case "fishingfocus":
-                    stats.setFishingFocus((Double)value);
-                    break;
-                case "fishingprecision":
-                    stats.setFishingPrecision((Double)value);
-                    break;
-                case "seamonsteraffinity":
-                    stats.setSeaMonsterAffinity((Double)value);
-                    break;
-                case "treasuresense":
-                    stats.setTreasureSense((Double)value);
-                    break;
-                case "manaregen":
-                    stats.setManaRegen((Integer)value);
-                    break;
-                case "luck":
-                    stats.setLuck((Integer)value);
-                    break;
-                case "attackrange":
-                    stats.setAttackRange((Double)value);
-                    break;
-                case "size":
-                    stats.setSize((Double)value);
-                    break;
-                case "miningspeed":
-                    stats.setMiningSpeed((Double)value);
-                    break;
-                case "buildrange":
-                    stats.setBuildRange((Double)value);
-                    break;
-            }
-        } catch (Exception e) {
-            plugin.debugLog(DebugSystem.STATS,"Error setting default stat field: " + e.getMessage());
-            e.printStackTrace();
+        // Keep current health and mana within the new totals
+        if (statDef.statType == StatType.HEALTH) {
+            stats.setCurrentHealth(stats.getCurrentHealth());
+        } else if (statDef.statType == StatType.MANA) {
+            stats.setMana(Math.min(stats.getMana(), stats.getTotalMana()));
         }
     }
     
@@ -803,11 +558,11 @@ public class AdminStatsCommand implements TabExecutor {
      */
     private static class StatDefinition {
         final Class<?> type;
-        final String fieldName;
+        final StatType statType;
         
-        StatDefinition(Class<?> type, String fieldName) {
+        StatDefinition(Class<?> type, StatType statType) {
             this.type = type;
-            this.fieldName = fieldName;
+            this.statType = statType;
         }
     }
 }
\ No newline at end of file
@@ -19,6 +19,10 @@ import org.bukkit.scheduler.BukkitRunnable;
 
 import com.server.Main;
 import com.server.debug.DebugManager.DebugSystem;
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
+import com.server.economy.Transfer;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 import com.server.utils.CurrencyFormatter;
@@ -369,9 +373,7 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
             }
             
             // Transfer units
-            senderProfile.removeUnits(amount);
-            recipientProfile.addUnits(amount);
-            success = true;
+            success = transfer(senderProfile, recipientProfile, Currency.UNITS, amount);
             formattedAmount = CurrencyFormatter.formatUnits(amount);
             currencyName = "Units";
         } else if (currencyType.equals("premium")) {
@@ -382,9 +384,7 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
             }
             
             // Transfer premium units
-            senderProfile.removePremiumUnits(amount);
-            recipientProfile.addPremiumUnits(amount);
-            success = true;
+            success = transfer(senderProfile, recipientProfile, Currency.PREMIUM_UNITS, amount);
             formattedAmount = CurrencyFormatter.formatPremiumUnits(amount);
             currencyName = "Premium Units";
         }
@@ -396,11 +396,22 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
             
             // Log the transaction
             plugin.debugLog(DebugSystem.PROFILE,"[Currency] " + sender.getName() + " sent " + amount + " " + currencyName + " to " + recipient.getName());
+        } else if (!currencyName.isEmpty()) {
+            // The balance changed between the check and the transfer
+            sender.sendMessage(ChatColor.RED + "You don't have enough " + currencyName + " to complete this transfer");
         }
         
         return true;
     }
     
+    /**
+     * Moves currency between two profiles as one ledger transaction.
+     */
+    private boolean transfer(PlayerProfile from, PlayerProfile to, Currency currency, int amount) {
+        Transfer transfer = new Transfer().debit(from, currency, amount).credit(to, currency, amount);
+        return CurrencyLedger.getInstance().commit(transfer, TransactionReason.TRANSFER);
+    }
+    
     // [Original handleBalanceCommand method continues below]
     private boolean handleBalanceCommand(CommandSender sender, String[] args) {
         Player target;
@@ -507,6 +518,7 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
         }
         
         // Process the command based on currency type
+        CurrencyLedger ledger = CurrencyLedger.getInstance();
         String currencyName;
         int newBalance;
         String formattedAmount;
@@ -518,11 +530,11 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
                 formattedAmount = CurrencyFormatter.formatUnits(amount);
                 
                 if ("give".equals(action)) {
-                    newBalance = profile.addUnits(amount);
+                    newBalance = ledger.deposit(profile, Currency.UNITS, amount, TransactionReason.ADMIN);
                     sender.sendMessage(ChatColor.GREEN + "Gave " + formattedAmount + ChatColor.GREEN + " to " + target.getName());
                     target.sendMessage(ChatColor.GREEN + "You received " + formattedAmount);
                 } else if ("take".equals(action)) {
-                    if (!profile.removeUnits(amount)) {
+                    if (!ledger.withdraw(profile, Currency.UNITS, amount, TransactionReason.ADMIN)) {
                         sender.sendMessage(ChatColor.RED + "Player doesn't have enough Units");
                         return true;
                     }
@@ -530,8 +542,8 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
                     sender.sendMessage(ChatColor.GREEN + "Took " + formattedAmount + ChatColor.GREEN + " from " + target.getName());
                     target.sendMessage(ChatColor.RED + "You lost " + formattedAmount);
                 } else if ("set".equals(action)) {
-                    profile.setUnits(amount);
-                    newBalance = amount;
+                    ledger.set(profile, Currency.UNITS, amount, TransactionReason.ADMIN);
+                    newBalance = profile.getUnits();
                     sender.sendMessage(ChatColor.GREEN + "Set " + target.getName() + "'s Units to " + formattedAmount);
                     target.sendMessage(ChatColor.YELLOW + "Your Units balance was set to " + formattedAmount);
                 } else {
@@ -546,11 +558,11 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
                 formattedAmount = CurrencyFormatter.formatPremiumUnits(amount);
                 
                 if ("give".equals(action)) {
-                    newBalance = profile.addPremiumUnits(amount);
+                    newBalance = ledger.deposit(profile, Currency.PREMIUM_UNITS, amount, TransactionReason.ADMIN);
                     sender.sendMessage(ChatColor.GREEN + "Gave " + formattedAmount + ChatColor.GREEN + " to " + target.getName());
                     target.sendMessage(ChatColor.GREEN + "You received " + formattedAmount);
                 } else if ("take".equals(action)) {
-                    if (!profile.removePremiumUnits(amount)) {
+                    if (!ledger.withdraw(profile, Currency.PREMIUM_UNITS, amount, TransactionReason.ADMIN)) {
                         sender.sendMessage(ChatColor.RED + "Player doesn't have enough Premium Units");
                         return true;
                     }
@@ -558,8 +570,8 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
                     sender.sendMessage(ChatColor.GREEN + "Took " + formattedAmount + ChatColor.GREEN + " from " + target.getName());
                     target.sendMessage(ChatColor.RED + "You lost " + formattedAmount);
                 } else if ("set".equals(action)) {
-                    profile.setPremiumUnits(amount);
-                    newBalance = amount;
+                    ledger.set(profile, Currency.PREMIUM_UNITS, amount, TransactionReason.ADMIN);
+                    newBalance = profile.getPremiumUnits();
                     sender.sendMessage(ChatColor.GREEN + "Set " + target.getName() + "'s Premium Units to " + formattedAmount);
                     target.sendMessage(ChatColor.YELLOW + "Your Premium Units balance was set to " + formattedAmount);
                 } else {
@@ -573,11 +585,11 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
                 formattedAmount = CurrencyFormatter.formatEssence(amount);
                 
                 if ("give".equals(action)) {
-                    newBalance = profile.addEssence(amount);
+                    newBalance = ledger.deposit(profile, Currency.ESSENCE, amount, TransactionReason.ADMIN);
                     sender.sendMessage(ChatColor.GREEN + "Gave " + formattedAmount + ChatColor.GREEN + " to " + target.getName());
                     target.sendMessage(ChatColor.GREEN + "You received " + formattedAmount);
                 } else if ("take".equals(action)) {
-                    if (!profile.removeEssence(amount)) {
+                    if (!ledger.withdraw(profile, Currency.ESSENCE, amount, TransactionReason.ADMIN)) {
                         sender.sendMessage(ChatColor.RED + "Player doesn't have enough Essence");
                         return true;
                     }
@@ -585,8 +597,8 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
                     sender.sendMessage(ChatColor.GREEN + "Took " + formattedAmount + ChatColor.GREEN + " from " + target.getName());
                     target.sendMessage(ChatColor.RED + "You lost " + formattedAmount);
                 } else if ("set".equals(action)) {
-                    profile.setEssence(amount);
-                    newBalance = amount;
+                    ledger.set(profile, Currency.ESSENCE, amount, TransactionReason.ADMIN);
+                    newBalance = profile.getEssence();
                     sender.sendMessage(ChatColor.GREEN + "Set " + target.getName() + "'s Essence to " + formattedAmount);
                     target.sendMessage(ChatColor.YELLOW + "Your Essence balance was set to " + formattedAmount);
                 } else {
@@ -601,11 +613,11 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
                 formattedAmount = CurrencyFormatter.formatBits(amount);
                 
                 if ("give".equals(action)) {
-                    newBalance = profile.addBits(amount);
+                    newBalance = ledger.deposit(profile, Currency.BITS, amount, TransactionReason.ADMIN);
                     sender.sendMessage(ChatColor.GREEN + "Gave " + formattedAmount + ChatColor.GREEN + " to " + target.getName());
                     target.sendMessage(ChatColor.GREEN + "You received " + formattedAmount);
                 } else if ("take".equals(action)) {
-                    if (!profile.removeBits(amount)) {
+                    if (!ledger.withdraw(profile, Currency.BITS, amount, TransactionReason.ADMIN)) {
                         sender.sendMessage(ChatColor.RED + "Player doesn't have enough Bits");
                         return true;
                     }
@@ -613,8 +625,8 @@ public class CurrencyCommand implements CommandExecutor, TabCompleter {
                     sender.sendMessage(ChatColor.GREEN + "Took " + formattedAmount + ChatColor.GREEN + " from " + target.getName());
                     target.sendMessage(ChatColor.RED + "You lost " + formattedAmount);
                 } else if ("set".equals(action)) {
-                    profile.setBits(amount);
-                    newBalance = amount;
+                    ledger.set(profile, Currency.BITS, amount, TransactionReason.ADMIN);
+                    newBalance = profile.getBits();
                     sender.sendMessage(ChatColor.GREEN + "Set " + target.getName() + "'s Bits to " + formattedAmount);
                     target.sendMessage(ChatColor.YELLOW + "Your Bits balance was set to " + formattedAmount);
                 } else {
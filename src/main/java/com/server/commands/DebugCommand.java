@@ -1,8 +1,10 @@
 package com.server.commands;
 
 import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -13,9 +15,13 @@ import org.bukkit.entity.Player;
 import com.server.Main;
 import com.server.debug.DebugManager;
 import com.server.debug.DebugManager.DebugSystem;
+import com.server.debug.DebugManager.TraceSession;
 
 public class DebugCommand implements CommandExecutor, TabCompleter {
     
+    private static final int DEFAULT_TRACE_MINUTES = 10;
+    private static final int MAX_TRACE_MINUTES = 120;
+    
     private final Main plugin;
     
     public DebugCommand(Main plugin) {
@@ -47,6 +53,20 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
             return true;
         }
         
+        // Per-player trace sessions
+        if (systemName.equals("trace")) {
+            handleTrace(sender, args);
+            return true;
+        }
+        if (systemName.equals("untrace")) {
+            handleUntrace(sender, args);
+            return true;
+        }
+        if (systemName.equals("traces")) {
+            listTraces(sender);
+            return true;
+        }
+        
         // Find the system to toggle
         DebugSystem system = DebugSystem.fromId(systemName);
         
@@ -109,8 +129,101 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
             }
         }
         
+        long dropped = debugManager.getDroppedLineCount();
+        if (dropped > 0) {
+            sender.sendMessage(ChatColor.YELLOW + "Debug lines dropped (output buffer full): " + ChatColor.RED + dropped);
+        }
+        
         sender.sendMessage(ChatColor.YELLOW + "Use '/debugmode list' to see all available systems.");
         sender.sendMessage(ChatColor.YELLOW + "Use '/debugmode <system>' to toggle a specific system.");
+        sender.sendMessage(ChatColor.YELLOW + "Use '/debugmode trace <player> [system] [minutes]' to trace one player.");
+    }
+    
+    private void handleTrace(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(ChatColor.RED + "Usage: /debugmode trace <player> [system] [minutes]");
+            return;
+        }
+        
+        Player target = Bukkit.getPlayer(args[1]);
+        if (target == null) {
+            sender.sendMessage(ChatColor.RED + "Player not found: " + args[1]);
+            return;
+        }
+        
+        DebugSystem system = DebugSystem.ALL;
+        if (args.length >= 3) {
+            system = DebugSystem.fromId(args[2]);
+            if (system == null) {
+                sender.sendMessage(ChatColor.RED + "Unknown debug system: " + args[2]);
+                return;
+            }
+            if (!system.isTraceable()) {
+                sender.sendMessage(ChatColor.RED + "The " + system.getId() + " system doesn't log anything per player, so it can't be traced.");
+                return;
+            }
+        }
+        
+        int minutes = DEFAULT_TRACE_MINUTES;
+        if (args.length >= 4) {
+            try {
+                minutes = Integer.parseInt(args[3]);
+            } catch (NumberFormatException e) {
+                sender.sendMessage(ChatColor.RED + "Invalid duration: " + args[3]);
+                return;
+            }
+            if (minutes <= 0 || minutes > MAX_TRACE_MINUTES) {
+                sender.sendMessage(ChatColor.RED + "Duration must be between 1 and " + MAX_TRACE_MINUTES + " minutes!");
+                return;
+            }
+        }
+        
+        DebugManager.getInstance().startTrace(target, EnumSet.of(system), minutes * 60_000L, sender.getName());
+        sender.sendMessage(ChatColor.GREEN + "Tracing " + ChatColor.GOLD + target.getName() + ChatColor.GREEN + 
+                          " (" + system.getId() + ") for " + minutes + " minutes. Output goes to the debug log.");
+        plugin.getLogger().info("Debug trace of " + target.getName() + " (" + system.getId() + ") started by " + sender.getName());
+    }
+    
+    private void handleUntrace(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(ChatColor.RED + "Usage: /debugmode untrace <player>");
+            return;
+        }
+        
+        // Match by name so traces of players who logged off can be stopped too
+        for (TraceSession trace : DebugManager.getInstance().getTraces()) {
+            if (trace.getPlayerName().equalsIgnoreCase(args[1])) {
+                DebugManager.getInstance().stopTrace(trace.getPlayerId());
+                sender.sendMessage(ChatColor.GREEN + "Stopped tracing " + ChatColor.GOLD + trace.getPlayerName() + ChatColor.GREEN + ".");
+                return;
+            }
+        }
+        sender.sendMessage(ChatColor.RED + args[1] + " is not being traced.");
+    }
+    
+    private void listTraces(CommandSender sender) {
+        List<TraceSession> traces = DebugManager.getInstance().getTraces();
+        if (traces.isEmpty()) {
+            sender.sendMessage(ChatColor.YELLOW + "No players are being traced.");
+            return;
+        }
+        
+        sender.sendMessage(ChatColor.GOLD + "===== Active Traces =====");
+        long now = System.currentTimeMillis();
+        for (TraceSession trace : traces) {
+            StringBuilder systems = new StringBuilder();
+            for (DebugSystem system : DebugSystem.values()) {
+                if (system != DebugSystem.ALL && trace.isTracing(system)) {
+                    if (systems.length() > 0) {
+                        systems.append(", ");
+                    }
+                    systems.append(system.getId());
+                }
+            }
+            sender.sendMessage(ChatColor.GREEN + trace.getPlayerName() + ChatColor.GRAY + " - " + 
+                              ChatColor.YELLOW + systems + ChatColor.GRAY + " (" + 
+                              ((trace.getExpiresAt() - now) / 1000) + "s left, by " + trace.getStartedBy() + ")");
+        }
     }
     
     private void listDebugSystems(CommandSender sender) {
@@ -133,9 +246,11 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
         List<String> completions = new ArrayList<>();
         
         if (args.length == 1) {
-            // Add "list" option
-            if ("list".startsWith(args[0].toLowerCase())) {
-                completions.add("list");
+            // Add "list" and trace options
+            for (String option : new String[] {"list", "trace", "untrace", "traces"}) {
+                if (option.startsWith(args[0].toLowerCase())) {
+                    completions.add(option);
+                }
             }
             
             // Add all system IDs that match the current input
@@ -145,8 +260,22 @@ public class DebugCommand implements CommandExecutor, TabCompleter {
                     completions.add(system.getId());
                 }
             }
+        } else if (args.length == 2 && (args[0].equalsIgnoreCase("trace") || args[0].equalsIgnoreCase("untrace"))) {
+            String input = args[1].toLowerCase();
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                if (player.getName().toLowerCase().startsWith(input)) {
+                    completions.add(player.getName());
+                }
+            }
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("trace")) {
+            String input = args[2].toLowerCase();
+            for (DebugSystem system : DebugSystem.values()) {
+                if (system.isTraceable() && system.getId().startsWith(input)) {
+                    completions.add(system.getId());
+                }
+            }
         }
         
         return completions;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,206 @@
+package com.server.commands;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+
+import com.server.Main;
+import com.server.enchantments.elements.FragmentTier;
+import com.server.profiles.skills.skills.fishing.types.FishingType;
+import com.server.simulation.DropScenario;
+import com.server.simulation.DropScenarios;
+import com.server.simulation.DropSimulator;
+import com.server.simulation.SimulationResult;
+
+/**
+ * Admin command that runs drop-rate simulations off the main thread and reports the
+ * outcome distribution and roll throughput.
+ */
+public class DropSimCommand implements CommandExecutor, TabCompleter {
+
+    private static final long DEFAULT_ROLLS = 1_000_000L;
+    private static final long MAX_ROLLS = 100_000_000L;
+    private static final int MAX_LINES = 20;
+
+    private final Main plugin;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DropSimCommand(Main plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!sender.hasPermission("mmo.admin")) {
+            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command!");
+            return true;
+        }
+
+        if (args.length < 2) {
+            sendHelpMessage(sender);
+            return true;
+        }
+
+        DropScenario scenario;
+        long rolls;
+        long seed;
+        try {
+            Map<String, String> options = parseOptions(args);
+            scenario = createScenario(args[0].toLowerCase(), args[1], options);
+            rolls = Long.parseLong(options.getOrDefault("rolls", String.valueOf(DEFAULT_ROLLS)));
+            seed = Long.parseLong(options.getOrDefault("seed", String.valueOf(System.nanoTime())));
+        } catch (IllegalArgumentException e) {
+            sender.sendMessage(ChatColor.RED + "Invalid arguments: " + e.getMessage());
+            return true;
+        }
+        if (scenario == null) {
+            sendHelpMessage(sender);
+            return true;
+        }
+        if (rolls <= 0 || rolls > MAX_ROLLS) {
+            sender.sendMessage(ChatColor.RED + "Rolls must be between 1 and " + MAX_ROLLS + "!");
+            return true;
+        }
+        if (!running.compareAndSet(false, true)) {
+            sender.sendMessage(ChatColor.RED + "A simulation is already running!");
+            return true;
+        }
+
+        sender.sendMessage(ChatColor.GRAY + "Simulating " + rolls + " rolls of " + scenario.getName() + "...");
+        final DropScenario finalScenario = scenario;
+        final long finalRolls = rolls;
+        final long finalSeed = seed;
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                SimulationResult result = DropSimulator.run(finalScenario, finalRolls, finalSeed);
+                Bukkit.getScheduler().runTask(plugin, () -> sendResult(sender, result));
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Drop simulation failed: " + e.getMessage());
+                Bukkit.getScheduler().runTask(plugin,
+                    () -> sender.sendMessage(ChatColor.RED + "Simulation failed: " + e.getMessage()));
+            } finally {
+                running.set(false);
+            }
+        });
+        return true;
+    }
+
+    private DropScenario createScenario(String type, String target, Map<String, String> options) {
+        switch (type) {
+            case "fishing":
+                return DropScenarios.fishing(
+                    FishingType.valueOf(target.toUpperCase()),
+                    getDouble(options, "luck", 0.0),
+                    getDouble(options, "treasure", 0.0),
+                    getDouble(options, "sense", 0.0),
+                    getDouble(options, "affinity", 0.0),
+                    getDouble(options, "accuracy", 100.0));
+            case "fishquality":
+                return DropScenarios.fishQuality(
+                    Double.parseDouble(target),
+                    (int) getDouble(options, "perfect", 0),
+                    getDouble(options, "boost", 0.0));
+            case "enchant":
+                return DropScenarios.enchantQuality(FragmentTier.valueOf(target.toUpperCase()));
+            default:
+                return null;
+        }
+    }
+
+    private void sendResult(CommandSender sender, SimulationResult result) {
+        sender.sendMessage(ChatColor.GOLD + "=== " + result.getScenario() + " ===");
+        sender.sendMessage(ChatColor.GRAY + String.format("%,d rolls in %.1f ms (%,.0f rolls/s), seed %d",
+            result.getRolls(), result.getElapsedNanos() / 1_000_000.0, result.getRollsPerSecond(), result.getSeed()));
+
+        List<String> outcomes = result.getOutcomesByFrequency();
+        for (int i = 0; i < outcomes.size() && i < MAX_LINES; i++) {
+            String outcome = outcomes.get(i);
+            sender.sendMessage(ChatColor.YELLOW + outcome + ChatColor.GRAY + String.format(": %,d (%.4f%%)",
+                result.getCount(outcome), result.getShare(outcome) * 100.0));
+        }
+        if (outcomes.size() > MAX_LINES) {
+            sender.sendMessage(ChatColor.GRAY + "... and " + (outcomes.size() - MAX_LINES)
+                + " rarer outcomes (full distribution in the server log)");
+        }
+
+        plugin.getLogger().info("[DropSim] " + result.getScenario() + ": " + result.getRolls() + " rolls, seed "
+            + result.getSeed() + String.format(", %.0f rolls/s", result.getRollsPerSecond()));
+        for (String outcome : outcomes) {
+            plugin.getLogger().info(String.format("[DropSim]   %s: %d (%.4f%%)",
+                outcome, result.getCount(outcome), result.getShare(outcome) * 100.0));
+        }
+    }
+
+    private void sendHelpMessage(CommandSender sender) {
+        sender.sendMessage(ChatColor.GOLD + "=== Drop Simulator ===");
+        sender.sendMessage(ChatColor.YELLOW + "/dropsim fishing <type> " + ChatColor.GRAY
+            + "[luck=] [treasure=] [sense=] [affinity=] [accuracy=]");
+        sender.sendMessage(ChatColor.YELLOW + "/dropsim fishquality <accuracy> " + ChatColor.GRAY + "[perfect=] [boost=]");
+        sender.sendMessage(ChatColor.YELLOW + "/dropsim enchant <basic|refined|pristine>");
+        sender.sendMessage(ChatColor.GRAY + "All accept rolls=<count> (default " + DEFAULT_ROLLS
+            + ") and seed=<seed> to repeat a run.");
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 2; i < args.length; i++) {
+            int split = args[i].indexOf('=');
+            if (split <= 0) {
+                throw new IllegalArgumentException("Expected key=value but got " + args[i]);
+            }
+            options.put(args[i].substring(0, split).toLowerCase(), args[i].substring(split + 1));
+        }
+        return options;
+    }
+
+    private static double getDouble(Map<String, String> options, String key, double defaultValue) {
+        String value = options.get(key);
+        return value != null ? Double.parseDouble(value) : defaultValue;
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> completions = new ArrayList<>();
+
+        if (args.length == 1) {
+            completions.add("fishing");
+            completions.add("fishquality");
+            completions.add("enchant");
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("fishing")) {
+            for (FishingType type : FishingType.values()) {
+                completions.add(type.name().toLowerCase());
+            }
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("enchant")) {
+            for (FragmentTier tier : FragmentTier.values()) {
+                completions.add(tier.name().toLowerCase());
+            }
+        } else if (args.length > 2) {
+            completions.add("rolls=");
+            completions.add("seed=");
+            if (args[0].equalsIgnoreCase("fishing")) {
+                completions.add("luck=");
+                completions.add("treasure=");
+                completions.add("sense=");
+                completions.add("affinity=");
+                completions.add("accuracy=");
+            } else if (args[0].equalsIgnoreCase("fishquality")) {
+                completions.add("perfect=");
+                completions.add("boost=");
+            }
+        }
+
+        String current = args[args.length - 1].toLowerCase();
+        completions.removeIf(s -> !s.toLowerCase().startsWith(current));
+
+        return completions;
+    }
+}
@@ -0,0 +1,176 @@
+package com.server.commands;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.TabCompleter;
+
+import com.server.Main;
+import com.server.profiling.ProfilerSection;
+import com.server.profiling.TickProfiler;
+
+/**
+ * Admin command for plugin diagnostics. Currently only {@code /mmo perf}, which controls and
+ * shows the built-in subsystem profiler.
+ */
+public class MmoCommand implements CommandExecutor, TabCompleter {
+
+    private static final int DEFAULT_LINES = 10;
+    private static final int MAX_LINES = 30;
+
+    private final Main plugin;
+
+    public MmoCommand(Main plugin) {
+        this.plugin = plugin;
+    }
+
+    @Override
+    public boolean onCommand(CommandSender sender, Command command, String label, String[] args) {
+        if (!sender.hasPermission("mmo.admin")) {
+            sender.sendMessage(ChatColor.RED + "You don't have permission to use this command!");
+            return true;
+        }
+
+        if (args.length == 0 || !args[0].equalsIgnoreCase("perf")) {
+            sendHelpMessage(sender);
+            return true;
+        }
+
+        TickProfiler profiler = TickProfiler.getInstance();
+        String action = args.length > 1 ? args[1].toLowerCase() : "top";
+        switch (action) {
+            case "on":
+                profiler.setEnabled(true);
+                sender.sendMessage(ChatColor.GREEN + "Profiler enabled.");
+                break;
+            case "off":
+                profiler.setEnabled(false);
+                sender.sendMessage(ChatColor.YELLOW + "Profiler disabled. Recorded stats are kept until reset.");
+                break;
+            case "reset":
+                profiler.reset();
+                sender.sendMessage(ChatColor.GREEN + "Profiler stats cleared.");
+                break;
+            case "dump":
+                dump(sender, profiler);
+                break;
+            case "top":
+                showSections(sender, profiler, null, parseLines(args, 2));
+                break;
+            case "show":
+                if (args.length < 3) {
+                    sender.sendMessage(ChatColor.RED + "Usage: /mmo perf show <filter>");
+                    return true;
+                }
+                showSections(sender, profiler, args[2].toLowerCase(), MAX_LINES);
+                break;
+            default:
+                sendHelpMessage(sender);
+                break;
+        }
+        return true;
+    }
+
+    private void showSections(CommandSender sender, TickProfiler profiler, String filter, int lines) {
+        long windowMillis = Math.max(1L, System.currentTimeMillis() - profiler.getWindowStart());
+        double ticks = Math.max(1.0, windowMillis / 50.0);
+
+        sender.sendMessage(ChatColor.GOLD + "=== Profiler " + (profiler.isEnabled()
+            ? ChatColor.GREEN + "(on)" : ChatColor.RED + "(off)") + ChatColor.GOLD + " ===");
+        sender.sendMessage(ChatColor.GRAY + String.format("Window: %.1fs%s", windowMillis / 1000.0,
+            profiler.isAllocationTracked() ? "" : ", allocation not tracked on this JVM"));
+
+        int shown = 0;
+        for (ProfilerSection section : profiler.getSections()) {
+            if (filter != null && !section.getName().toLowerCase().contains(filter)) {
+                continue;
+            }
+            if (shown++ >= lines) {
+                break;
+            }
+            double bytesPerCall = section.getAllocatedBytesPerCall();
+            // Background sections run off the main thread, so their time isn't tick time
+            String time = section.isBackground()
+                ? String.format("%.1f ms off-thread", section.getTotalNanos() / 1_000_000.0)
+                : String.format("%.3f ms/tick", section.getTotalNanos() / 1_000_000.0 / ticks);
+            sender.sendMessage(ChatColor.YELLOW + section.getName() + ChatColor.GRAY + String.format(
+                ": %,d calls, %s, mean %.1fus, p99 <%.1fus, max %.1fus%s",
+                section.getCalls(),
+                time,
+                section.getMeanNanos() / 1_000.0,
+                section.getPercentileNanos(0.99) / 1_000.0,
+                section.getMaxNanos() / 1_000.0,
+                bytesPerCall >= 0 ? String.format(", %,.0f B/call", bytesPerCall) : ""));
+        }
+        if (shown == 0) {
+            sender.sendMessage(ChatColor.GRAY + (profiler.isEnabled()
+                ? "Nothing recorded yet." : "Nothing recorded. Use /mmo perf on to start profiling."));
+        }
+    }
+
+    private void dump(CommandSender sender, TickProfiler profiler) {
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                File file = profiler.dump();
+                Bukkit.getScheduler().runTask(plugin,
+                    () -> sender.sendMessage(ChatColor.GREEN + "Profiler report written to perf/" + file.getName()));
+            } catch (IOException e) {
+                plugin.getLogger().warning("[Profiler] Failed to write report: " + e.getMessage());
+                Bukkit.getScheduler().runTask(plugin,
+                    () -> sender.sendMessage(ChatColor.RED + "Failed to write report: " + e.getMessage()));
+            }
+        });
+    }
+
+    private static int parseLines(String[] args, int index) {
+        if (args.length <= index) {
+            return DEFAULT_LINES;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_LINES, Integer.parseInt(args[index])));
+        } catch (NumberFormatException e) {
+            return DEFAULT_LINES;
+        }
+    }
+
+    private void sendHelpMessage(CommandSender sender) {
+        sender.sendMessage(ChatColor.GOLD + "=== MMO Diagnostics ===");
+        sender.sendMessage(ChatColor.YELLOW + "/mmo perf [top <lines>] " + ChatColor.GRAY + "- Slowest subsystems by total time");
+        sender.sendMessage(ChatColor.YELLOW + "/mmo perf show <filter> " + ChatColor.GRAY + "- Sections whose name contains the filter");
+        sender.sendMessage(ChatColor.YELLOW + "/mmo perf <on|off> " + ChatColor.GRAY + "- Start or stop recording");
+        sender.sendMessage(ChatColor.YELLOW + "/mmo perf reset " + ChatColor.GRAY + "- Clear recorded stats");
+        sender.sendMessage(ChatColor.YELLOW + "/mmo perf dump " + ChatColor.GRAY + "- Write a CSV and JSON report to perf/");
+    }
+
+    @Override
+    public List<String> onTabComplete(CommandSender sender, Command command, String alias, String[] args) {
+        List<String> completions = new ArrayList<>();
+
+        if (args.length == 1) {
+            completions.add("perf");
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("perf")) {
+            completions.add("top");
+            completions.add("show");
+            completions.add("on");
+            completions.add("off");
+            completions.add("reset");
+            completions.add("dump");
+        } else if (args.length == 3 && args[0].equalsIgnoreCase("perf") && args[1].equalsIgnoreCase("show")) {
+            for (ProfilerSection section : TickProfiler.getInstance().getSections()) {
+                completions.add(section.getName());
+            }
+        }
+
+        String current = args[args.length - 1].toLowerCase();
+        completions.removeIf(s -> !s.toLowerCase().startsWith(current));
+
+        return completions;
+    }
+}
@@ -0,0 +1,29 @@
+package com.server.cooldowns;
+
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.entity.EntityDeathEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Releases timer state for entities that are gone.
+ *
+ * Player cooldowns survive a logout so relogging cannot reset them; only their
+ * stacking effects are dropped. Other entities lose all timers when they die.
+ */
+public class CooldownListener implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onEntityDeath(EntityDeathEvent event) {
+        if (!(event.getEntity() instanceof Player)) {
+            CooldownManager.getInstance().clearAll(event.getEntity().getUniqueId());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        CooldownManager.getInstance().clearStacks(event.getPlayer().getUniqueId());
+    }
+}
@@ -0,0 +1,368 @@
+package com.server.cooldowns;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.bukkit.Bukkit;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.server.Main;
+
+/**
+ * Central store for cooldowns and timed stacking effects of any entity.
+ *
+ * Timers belong to an owner, normally an entity's UUID; any value with equals and hashCode
+ * works, such as a key pairing two entities. Each named timer is interned once to an int key
+ * ({@link #key(String)}), and every owner keeps its timers in flat primitive arrays indexed
+ * by that key, so checks are O(1) with no boxing. Expired timers are evicted by a
+ * hierarchical timing wheel advanced once per tick, which means entries never outlive their
+ * duration and memory stays bounded by the number of timers actually running.
+ *
+ * Timers must only be read and written from the main server thread.
+ */
+public class CooldownManager {
+
+    private static CooldownManager instance;
+
+    // Named timer registry: name -> key
+    private static final Map<String, Integer> KEYS = new ConcurrentHashMap<>();
+    private static final AtomicInteger NEXT_KEY = new AtomicInteger();
+
+    // Timing wheel: 256 x 1 tick, 64 x 256 ticks, 64 x 16384 ticks (~14.5 hours)
+    private static final int LEVEL0_BITS = 8;
+    private static final int LEVEL1_BITS = 6;
+    private static final int LEVEL2_BITS = 6;
+    private static final int LEVEL0_SIZE = 1 << LEVEL0_BITS;
+    private static final int LEVEL1_SIZE = 1 << LEVEL1_BITS;
+    private static final int LEVEL2_SIZE = 1 << LEVEL2_BITS;
+    private static final long LEVEL1_SPAN = (long) LEVEL0_SIZE * LEVEL1_SIZE;
+    private static final long LEVEL2_SPAN = LEVEL1_SPAN * LEVEL2_SIZE;
+    private static final long MILLIS_PER_TICK = 50;
+
+    private final Main plugin;
+    private final Map<Object, EntityTimers> timers = new ConcurrentHashMap<>();
+
+    private final WheelEntry[] level0 = new WheelEntry[LEVEL0_SIZE];
+    private final WheelEntry[] level1 = new WheelEntry[LEVEL1_SIZE];
+    private final WheelEntry[] level2 = new WheelEntry[LEVEL2_SIZE];
+    private long currentTick;
+    private int scheduledEntries;
+    private BukkitTask tickTask;
+
+    private CooldownManager(Main plugin) {
+        this.plugin = plugin;
+    }
+
+    public static void initialize(Main plugin) {
+        if (instance == null) {
+            instance = new CooldownManager(plugin);
+            instance.tickTask = Bukkit.getScheduler().runTaskTimer(plugin, instance::tick, 1L, 1L);
+        }
+    }
+
+    public static CooldownManager getInstance() {
+        if (instance == null) {
+            throw new IllegalStateException("CooldownManager has not been initialized!");
+        }
+        return instance;
+    }
+
+    /**
+     * Gets (registering on first use) the key for a named timer.
+     * Callers should resolve keys once and keep them in a static field.
+     */
+    public static int key(String name) {
+        return KEYS.computeIfAbsent(name, n -> NEXT_KEY.getAndIncrement());
+    }
+
+    // ==================== Cooldowns ====================
+
+    /**
+     * Checks if a timer is running for an entity.
+     */
+    public boolean isActive(Object owner, int key) {
+        return getRemaining(owner, key) > 0;
+    }
+
+    /**
+     * Gets the remaining time of a timer in milliseconds, or 0 if it is not running.
+     */
+    public long getRemaining(Object owner, int key) {
+        EntityTimers entity = timers.get(owner);
+        if (entity == null || key >= entity.expiresAt.length) {
+            return 0;
+        }
+        return Math.max(0, entity.expiresAt[key] - System.currentTimeMillis());
+    }
+
+    /**
+     * Starts (or restarts) a timer for an entity.
+     */
+    public void start(Object owner, int key, long durationMillis) {
+        if (durationMillis <= 0) {
+            clear(owner, key);
+            return;
+        }
+
+        EntityTimers entity = timers.computeIfAbsent(owner, id -> new EntityTimers());
+        entity.ensureCapacity(key);
+
+        long expiresAt = System.currentTimeMillis() + durationMillis;
+        if (entity.expiresAt[key] <= 0) {
+            entity.active++;
+        }
+        entity.expiresAt[key] = expiresAt;
+
+        schedule(new WheelEntry(owner, key, expiresAt, currentTick + ticksFor(durationMillis)));
+    }
+
+    /**
+     * Starts a timer only if it is not already running.
+     * @return true if the timer was started, false if it was still active
+     */
+    public boolean tryStart(Object owner, int key, long durationMillis) {
+        if (isActive(owner, key)) {
+            return false;
+        }
+        start(owner, key, durationMillis);
+        return true;
+    }
+
+    // ==================== Stacking Effects ====================
+
+    /**
+     * Gets the current stack count of a timed effect, or 0 if it is not running.
+     */
+    public int getStacks(Object owner, int key) {
+        EntityTimers entity = timers.get(owner);
+        if (entity == null || key >= entity.stacks.length || entity.expiresAt[key] <= System.currentTimeMillis()) {
+            return 0;
+        }
+        return entity.stacks[key];
+    }
+
+    /**
+     * Adds a stack to a timed effect and refreshes its duration. All stacks expire together.
+     * @return the new stack count
+     */
+    public int addStack(Object owner, int key, int maxStacks, long durationMillis) {
+        int stacks = Math.min(getStacks(owner, key) + 1, maxStacks);
+        setStacks(owner, key, stacks, durationMillis);
+        return stacks;
+    }
+
+    /**
+     * Starts (or restarts) a timed effect with an exact stack count, such as the amount left
+     * on a shield. A count or duration of 0 ends the effect.
+     */
+    public void setStacks(Object owner, int key, int stacks, long durationMillis) {
+        if (stacks <= 0 || durationMillis <= 0) {
+            clear(owner, key);
+            return;
+        }
+        start(owner, key, durationMillis);
+        timers.get(owner).stacks[key] = stacks;
+    }
+
+    // ==================== Cleanup ====================
+
+    /**
+     * Stops a single timer for an entity.
+     */
+    public void clear(Object owner, int key) {
+        EntityTimers entity = timers.get(owner);
+        if (entity == null || key >= entity.expiresAt.length || entity.expiresAt[key] <= 0) {
+            return;
+        }
+        entity.clear(key);
+        if (entity.active == 0) {
+            timers.remove(owner);
+        }
+    }
+
+    /**
+     * Drops every timer of an entity (e.g. when a mob dies). Stale wheel entries are skipped on expiry.
+     */
+    public void clearAll(Object owner) {
+        timers.remove(owner);
+    }
+
+    /**
+     * Drops the stacking effects of an entity but keeps its cooldowns,
+     * so relogging cannot be used to reset a cooldown.
+     */
+    public void clearStacks(Object owner) {
+        EntityTimers entity = timers.get(owner);
+        if (entity == null) {
+            return;
+        }
+        for (int key = 0; key < entity.stacks.length; key++) {
+            if (entity.stacks[key] > 0) {
+                entity.clear(key);
+            }
+        }
+        if (entity.active == 0) {
+            timers.remove(owner);
+        }
+    }
+
+    /**
+     * Gets the number of entities with at least one running timer.
+     */
+    public int getTrackedEntityCount() {
+        return timers.size();
+    }
+
+    /**
+     * Gets the number of entries waiting in the timing wheel (including superseded ones).
+     */
+    public int getScheduledEntryCount() {
+        return scheduledEntries;
+    }
+
+    public void shutdown() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        timers.clear();
+        Arrays.fill(level0, null);
+        Arrays.fill(level1, null);
+        Arrays.fill(level2, null);
+        scheduledEntries = 0;
+    }
+
+    // ==================== Timing Wheel ====================
+
+    private static long ticksFor(long millis) {
+        return Math.max(1, (millis + MILLIS_PER_TICK - 1) / MILLIS_PER_TICK);
+    }
+
+    private void schedule(WheelEntry entry) {
+        long delta = entry.dueTick - currentTick;
+        WheelEntry[] wheel;
+        int slot;
+
+        if (delta < LEVEL0_SIZE) {
+            wheel = level0;
+            slot = (int) (Math.max(entry.dueTick, currentTick + 1) & (LEVEL0_SIZE - 1));
+        } else if (delta < LEVEL1_SPAN) {
+            wheel = level1;
+            slot = (int) ((entry.dueTick >> LEVEL0_BITS) & (LEVEL1_SIZE - 1));
+        } else {
+            // Anything beyond the top level waits in the furthest slot and is re-filed on cascade
+            long due = Math.min(entry.dueTick, currentTick + LEVEL2_SPAN - 1);
+            wheel = level2;
+            slot = (int) ((due >> (LEVEL0_BITS + LEVEL1_BITS)) & (LEVEL2_SIZE - 1));
+        }
+
+        entry.next = wheel[slot];
+        wheel[slot] = entry;
+        scheduledEntries++;
+    }
+
+    /**
+     * Advances the wheel by one tick, cascading higher levels and expiring due entries.
+     */
+    private void tick() {
+        currentTick++;
+
+        if ((currentTick & (LEVEL0_SIZE - 1)) == 0) {
+            if ((currentTick & (LEVEL1_SPAN - 1)) == 0) {
+                cascade(level2, (int) ((currentTick >> (LEVEL0_BITS + LEVEL1_BITS)) & (LEVEL2_SIZE - 1)));
+            }
+            cascade(level1, (int) ((currentTick >> LEVEL0_BITS) & (LEVEL1_SIZE - 1)));
+        }
+
+        int slot = (int) (currentTick & (LEVEL0_SIZE - 1));
+        WheelEntry entry = level0[slot];
+        level0[slot] = null;
+
+        while (entry != null) {
+            WheelEntry next = entry.next;
+            scheduledEntries--;
+            if (entry.dueTick > currentTick) {
+                schedule(entry);
+            } else {
+                expire(entry);
+            }
+            entry = next;
+        }
+    }
+
+    private void cascade(WheelEntry[] wheel, int slot) {
+        WheelEntry entry = wheel[slot];
+        wheel[slot] = null;
+        while (entry != null) {
+            WheelEntry next = entry.next;
+            scheduledEntries--;
+            schedule(entry);
+            entry = next;
+        }
+    }
+
+    private void expire(WheelEntry entry) {
+        EntityTimers entity = timers.get(entry.owner);
+        if (entity == null || entry.key >= entity.expiresAt.length || entity.expiresAt[entry.key] != entry.expiresAt) {
+            return; // Cleared or restarted since this entry was scheduled
+        }
+
+        long remaining = entry.expiresAt - System.currentTimeMillis();
+        if (remaining > 0) {
+            // Ticks ran faster than wall time, check again later
+            entry.dueTick = currentTick + ticksFor(remaining);
+            schedule(entry);
+            return;
+        }
+
+        entity.clear(entry.key);
+        if (entity.active == 0) {
+            timers.remove(entry.owner);
+        }
+    }
+
+    /**
+     * Timer state of one entity, indexed by timer key.
+     */
+    private static class EntityTimers {
+        private long[] expiresAt = new long[Math.max(4, NEXT_KEY.get())];
+        private int[] stacks = new int[expiresAt.length];
+        private int active;
+
+        void ensureCapacity(int key) {
+            if (key >= expiresAt.length) {
+                int size = Math.max(key + 1, NEXT_KEY.get());
+                expiresAt = Arrays.copyOf(expiresAt, size);
+                stacks = Arrays.copyOf(stacks, size);
+            }
+        }
+
+        void clear(int key) {
+            if (expiresAt[key] > 0) {
+                active--;
+            }
+            expiresAt[key] = 0;
+            stacks[key] = 0;
+        }
+    }
+
+    /**
+     * A scheduled expiry check, chained per wheel slot.
+     */
+    private static class WheelEntry {
+        private final Object owner;
+        private final int key;
+        private final long expiresAt;
+        private long dueTick;
+        private WheelEntry next;
+
+        WheelEntry(Object owner, int key, long expiresAt, long dueTick) {
+            this.owner = owner;
+            this.key = key;
+            this.expiresAt = expiresAt;
+            this.dueTick = dueTick;
+        }
+    }
+}
@@ -8,12 +8,26 @@ import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
+import com.server.items.LoreTemplate;
+
 /**
  * Represents fuel data with temperature output
  * Step 1: Fuel system foundation
  */
 public class FuelData {
     
+    private static final LoreTemplate FUEL_LORE = LoreTemplate.compile(
+        "",
+        ChatColor.GOLD + "⚡ Fuel Properties:",
+        ChatColor.GRAY + "Fuel Temperature: {0}",
+        ChatColor.GRAY + "Burn Time: " + ChatColor.YELLOW + "{1}");
+    private static final LoreTemplate FUEL_LORE_WITH_EFFICIENCY = LoreTemplate.compile(
+        "",
+        ChatColor.GOLD + "⚡ Fuel Properties:",
+        ChatColor.GRAY + "Fuel Temperature: {0}",
+        ChatColor.GRAY + "Burn Time: " + ChatColor.YELLOW + "{1}",
+        ChatColor.GRAY + "Efficiency: {2}");
+    
     private final String fuelId;
     private final Material material;
     private final int burnTime;        // In ticks (20 ticks = 1 second)
@@ -120,18 +134,12 @@ public class FuelData {
                 }
             }
             
-            // Add fuel information at the appropriate location
-            lore.add(insertIndex, "");
-            lore.add(insertIndex + 1, ChatColor.GOLD + "⚡ Fuel Properties:");
-            lore.add(insertIndex + 2, ChatColor.GRAY + "Fuel Temperature: " + 
-                    com.server.crafting.temperature.TemperatureSystem.formatTemperature(fuelData.getTemperature()));
-            lore.add(insertIndex + 3, ChatColor.GRAY + "Burn Time: " + ChatColor.YELLOW + fuelData.getFormattedBurnTime());
-            
-            // Add fuel efficiency information based on temperature
+            // Add fuel information at the appropriate location, with efficiency based on temperature
+            String temperature = com.server.crafting.temperature.TemperatureSystem.formatTemperature(fuelData.getTemperature());
             String efficiencyInfo = getFuelEfficiencyDescription(fuelData.getTemperature());
-            if (!efficiencyInfo.isEmpty()) {
-                lore.add(insertIndex + 4, ChatColor.GRAY + "Efficiency: " + efficiencyInfo);
-            }
+            lore.addAll(insertIndex, efficiencyInfo.isEmpty()
+                ? FUEL_LORE.render(temperature, fuelData.getFormattedBurnTime())
+                : FUEL_LORE_WITH_EFFICIENCY.render(temperature, fuelData.getFormattedBurnTime(), efficiencyInfo));
             
             meta.setLore(lore);
             fuelItem.setItemMeta(meta);
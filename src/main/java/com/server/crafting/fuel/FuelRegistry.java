@@ -1,5 +1,6 @@
 package com.server.crafting.fuel;
 
+import java.util.BitSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -19,10 +20,13 @@ public class FuelRegistry {
     private static FuelRegistry instance;
     private final Map<String, FuelData> fuels;
     private final Map<Material, FuelData> vanillaFuels;
+    // Material ordinals any registered fuel (vanilla or custom) can have
+    private final BitSet fuelMaterials;
     
     private FuelRegistry() {
         this.fuels = new ConcurrentHashMap<>();
         this.vanillaFuels = new ConcurrentHashMap<>();
+        this.fuelMaterials = new BitSet(Material.values().length);
         initializeVanillaFuels();
         initializeCustomFuels();
     }
@@ -108,6 +112,7 @@ public class FuelRegistry {
         FuelData fuelData = new FuelData(id, material, burnTime, temperature);
         fuels.put(id, fuelData);
         vanillaFuels.put(material, fuelData);
+        fuelMaterials.set(material.ordinal());
     }
     
     /**
@@ -116,6 +121,7 @@ public class FuelRegistry {
     public void registerCustomFuel(String id, ItemStack customItem, int burnTime, int temperature) {
         FuelData fuelData = new FuelData(id, customItem, burnTime, temperature);
         fuels.put(id, fuelData);
+        fuelMaterials.set(customItem.getType().ordinal());
         
         if (Main.getInstance().isDebugEnabled(DebugSystem.GUI)) {
             Main.getInstance().debugLog(DebugSystem.GUI,
@@ -127,7 +133,7 @@ public class FuelRegistry {
      * Get fuel data for an ItemStack - FIXED with better debugging - REDUCED LOGGING
      */
     public FuelData getFuelData(ItemStack item) {
-        if (item == null || item.getType() == Material.AIR) {
+        if (item == null || !mayBeFuel(item.getType())) {
             return null;
         }
         
@@ -147,6 +153,14 @@ public class FuelRegistry {
         return null;
     }
 
+    /**
+     * Check if any registered fuel has this material, without looking at the item itself.
+     * A false result means no item of this material can be a fuel.
+     */
+    public boolean mayBeFuel(Material material) {
+        return material != null && fuelMaterials.get(material.ordinal());
+    }
+
     /**
      * Check if an item is a valid fuel - FIXED - REDUCED LOGGING
      */
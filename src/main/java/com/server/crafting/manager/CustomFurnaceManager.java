@@ -26,6 +26,8 @@ import com.server.crafting.furnace.FurnaceData;
 import com.server.crafting.furnace.FurnaceType;
 import com.server.crafting.temperature.TemperatureSystem;
 import com.server.debug.DebugManager.DebugSystem;
+import com.server.profiling.ProfilerSection;
+import com.server.profiling.TickProfiler;
 
 /**
  * Manager for custom furnace placement, state management, and processing
@@ -224,10 +226,15 @@ public class CustomFurnaceManager {
      */
     private void startFurnaceUpdateTask() {
         furnaceUpdateTask = new BukkitRunnable() {
+            private final ProfilerSection profile = TickProfiler.getInstance().section("furnace.update");
             private int tickCounter = 0;
             
             @Override
             public void run() {
+                profile.run(this::update);
+            }
+            
+            private void update() {
                 try {
                     tickCounter++;
                     
@@ -1491,7 +1498,7 @@ public class CustomFurnaceManager {
     /**
      * Calculate what would happen during offline time - ENHANCED: Temperature efficiency and proper consumption
      */
-    private OfflineProgressResult calculateOfflineProgress(FurnaceData furnaceData, long offlineTimeTicks) {
+    OfflineProgressResult calculateOfflineProgress(FurnaceData furnaceData, long offlineTimeTicks) {
         OfflineProgressResult result = new OfflineProgressResult();
         
         // Get current recipe if any
@@ -1820,7 +1827,7 @@ public class CustomFurnaceManager {
     /**
      * Data structure for offline progress calculation results
      */
-    private static class OfflineProgressResult {
+    static class OfflineProgressResult {
         public int finalCookTime = 0;
         public int finalFuelTime = 0;
         public int finalTemperature = TemperatureSystem.ROOM_TEMPERATURE;
@@ -0,0 +1,198 @@
+package com.server.debug;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Writes debug output from a background thread so logging never blocks the caller.
+ *
+ * Lines go into a bounded buffer; when it is full (e.g. every system enabled under load) new
+ * lines are dropped and counted instead of stalling the server thread. The writer thread
+ * appends them to {@code debug/debug.log}, rotating to {@code debug.1.log},
+ * {@code debug.2.log}, ... once the file exceeds the size limit, and optionally echoes them to
+ * the console.
+ */
+class DebugLog {
+
+    private static final int BATCH_SIZE = 256;
+
+    // Queued by close(); the writer stops once it reaches it, so it never has to be interrupted mid-write
+    private static final Entry POISON = new Entry(0L, null);
+
+    private final Logger logger;
+    private final File directory;
+    private final long maxFileBytes;
+    private final int maxFiles;
+    private final boolean console;
+    private final BlockingQueue<Entry> buffer;
+    private final AtomicLong dropped = new AtomicLong();
+    private final Thread writerThread;
+
+    private Writer writer;
+    private long fileBytes;
+
+    DebugLog(Logger logger, File directory, int bufferSize, long maxFileBytes, int maxFiles, boolean console) {
+        this.logger = logger;
+        this.directory = directory;
+        this.maxFileBytes = maxFileBytes;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.console = console;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(64, bufferSize));
+        this.writerThread = new Thread(this::drainLoop, "MMO-DebugLog");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Queues a line. Never blocks; the line is dropped if the buffer is full.
+     */
+    void log(String line) {
+        if (!buffer.offer(new Entry(System.currentTimeMillis(), line))) {
+            dropped.incrementAndGet();
+        }
+    }
+
+    long getDroppedCount() {
+        return dropped.get();
+    }
+
+    int getQueuedCount() {
+        return buffer.size();
+    }
+
+    /**
+     * Stops the writer thread after it has written everything queued so far.
+     */
+    void close() {
+        try {
+            // Waits for room if the buffer is full; the writer is always draining it
+            if (!buffer.offer(POISON, 2000L, TimeUnit.MILLISECONDS)) {
+                logger.warning("Debug log writer did not stop in time");
+                return;
+            }
+            writerThread.join(2000L);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== Writer Thread ====================
+
+    private void drainLoop() {
+        SimpleDateFormat timeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        List<Entry> batch = new ArrayList<>(BATCH_SIZE);
+        long reportedDropped = 0;
+
+        boolean closing = false;
+        while (!closing) {
+            try {
+                batch.add(buffer.take());
+            } catch (InterruptedException e) {
+                break;
+            }
+            buffer.drainTo(batch, BATCH_SIZE - batch.size());
+
+            // Everything queued before close() is ahead of the poison entry; anything after it is dropped
+            int poison = batch.indexOf(POISON);
+            if (poison >= 0) {
+                closing = true;
+                batch.subList(poison, batch.size()).clear();
+            }
+
+            long droppedNow = dropped.get();
+            if (droppedNow > reportedDropped) {
+                batch.add(new Entry(System.currentTimeMillis(),
+                    "[DEBUG] " + (droppedNow - reportedDropped) + " debug lines dropped (buffer full)"));
+                reportedDropped = droppedNow;
+            }
+
+            if (!batch.isEmpty()) {
+                write(batch, timeFormat);
+                batch.clear();
+            }
+        }
+        closeWriter();
+    }
+
+    private void write(List<Entry> batch, SimpleDateFormat timeFormat) {
+        try {
+            for (Entry entry : batch) {
+                if (console) {
+                    logger.info(entry.line);
+                }
+                String line = timeFormat.format(new Date(entry.time)) + " " + entry.line + System.lineSeparator();
+                if (writer == null || fileBytes >= maxFileBytes) {
+                    rotate();
+                }
+                writer.write(line);
+                fileBytes += line.getBytes(StandardCharsets.UTF_8).length;
+            }
+            writer.flush();
+        } catch (IOException e) {
+            logger.warning("Failed to write debug log: " + e.getMessage());
+            closeWriter();
+        }
+    }
+
+    private void rotate() throws IOException {
+        closeWriter();
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+
+        File current = new File(directory, "debug.log");
+        if (current.exists() && current.length() >= maxFileBytes) {
+            new File(directory, "debug." + (maxFiles - 1) + ".log").delete();
+            for (int i = maxFiles - 2; i >= 1; i--) {
+                File older = new File(directory, "debug." + i + ".log");
+                if (older.exists()) {
+                    older.renameTo(new File(directory, "debug." + (i + 1) + ".log"));
+                }
+            }
+            if (maxFiles > 1) {
+                current.renameTo(new File(directory, "debug.1.log"));
+            } else {
+                current.delete();
+            }
+        }
+
+        fileBytes = current.exists() ? current.length() : 0;
+        writer = new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(current.toPath(),
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND), StandardCharsets.UTF_8));
+    }
+
+    private void closeWriter() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException ignored) {
+            }
+            writer = null;
+        }
+    }
+
+    private static final class Entry {
+        private final long time;
+        private final String line;
+
+        private Entry(long time, String line) {
+            this.time = time;
+            this.line = line;
+        }
+    }
+}
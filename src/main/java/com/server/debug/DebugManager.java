@@ -1,37 +1,59 @@
 package com.server.debug;
 
-import java.util.HashMap;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.logging.Logger;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
 import org.bukkit.configuration.file.FileConfiguration;
+import org.bukkit.entity.Player;
 
 import com.server.Main;
 
 /**
  * Manages debug flags for different systems in the plugin
+ * 
+ * Flags are kept in a volatile bitmask so checking them costs a single field read, from any
+ * thread. Messages can be passed as suppliers so nothing is built while a system is off.
+ * Output is queued and written to a rotating file (and the console) from a background thread.
+ * 
+ * Trace sessions log everything about one player for chosen systems, even while those systems
+ * are otherwise off. They expire on their own so they are safe to leave running in production.
  */
 public class DebugManager {
     
     private static DebugManager instance;
+    private static final int ALL_BITS = (1 << DebugSystem.values().length) - 1;
+    
     private final Main plugin;
-    private final Logger logger;
-    private final Map<DebugSystem, Boolean> debugFlags = new HashMap<>();
+    private final DebugLog debugLog;
+    
+    // Bit per DebugSystem ordinal; ALL's bit means every system is on
+    private volatile int debugMask;
+    // Union of the systems of all trace sessions, so untraced systems skip the session lookup
+    private volatile int traceMask;
+    private final Map<UUID, TraceSession> traces = new ConcurrentHashMap<>();
     
     /**
      * Available debug systems that can be toggled independently
      */
     public enum DebugSystem {
-        ALL("all", "Toggle all debugging"),
-        STATS("stats", "Player stats system"),
+        ALL("all", "Toggle all debugging", true),
+        STATS("stats", "Player stats system", true),
         NPC("npc", "NPC system"),
         COMBAT("combat", "Combat system"),
-        SKILLS("skills", "Skills system"),
+        SKILLS("skills", "Skills system", true),
         ABILITIES("abilities", "Abilities system"),
         GUI("gui", "GUI system"),
         ITEMS("items", "Items system"),
-        MINING("mining", "Mining system"),
+        MINING("mining", "Mining system", true),
         FARMING("farming", "Farming system"),
         FISHING("fishing", "Fishing system"),
         ANIMATION("animation", "Animation system"),
@@ -44,10 +66,16 @@ public class DebugManager {
         
         private final String id;
         private final String description;
+        private final boolean traceable;
         
         DebugSystem(String id, String description) {
+            this(id, description, false);
+        }
+        
+        DebugSystem(String id, String description, boolean traceable) {
             this.id = id;
             this.description = description;
+            this.traceable = traceable;
         }
         
         public String getId() {
@@ -58,6 +86,14 @@ public class DebugManager {
             return description;
         }
         
+        /**
+         * Whether the system logs messages about specific players, so a trace session for it
+         * has something to show
+         */
+        public boolean isTraceable() {
+            return traceable;
+        }
+        
         public static DebugSystem fromId(String id) {
             for (DebugSystem system : values()) {
                 if (system.getId().equalsIgnoreCase(id)) {
@@ -70,7 +106,14 @@ public class DebugManager {
     
     private DebugManager(Main plugin) {
         this.plugin = plugin;
-        this.logger = plugin.getLogger();
+        FileConfiguration config = plugin.getConfig();
+        this.debugLog = new DebugLog(
+            plugin.getLogger(),
+            new File(plugin.getDataFolder(), "debug"),
+            config.getInt("debug-log.buffer-size", 8192),
+            config.getLong("debug-log.max-file-size-mb", 10) * 1024L * 1024L,
+            config.getInt("debug-log.max-files", 5),
+            config.getBoolean("debug-log.console", true));
         loadDebugSettings();
     }
     
@@ -94,14 +137,16 @@ public class DebugManager {
         boolean globalDebugMode = config.getBoolean("debug-mode", false);
         
         // Set default values for all systems based on global setting
+        int mask = 0;
         for (DebugSystem system : DebugSystem.values()) {
-            if (system == DebugSystem.ALL) {
-                debugFlags.put(system, globalDebugMode);
-            } else {
-                String configPath = "debug-systems." + system.getId();
-                debugFlags.put(system, config.getBoolean(configPath, globalDebugMode));
+            boolean enabled = system == DebugSystem.ALL
+                ? globalDebugMode
+                : config.getBoolean("debug-systems." + system.getId(), globalDebugMode);
+            if (enabled) {
+                mask |= bit(system);
             }
         }
+        debugMask = mask;
         
         // Ensure values are saved to config
         saveDebugSettings();
@@ -112,9 +157,10 @@ public class DebugManager {
      */
     private void saveDebugSettings() {
         FileConfiguration config = plugin.getConfig();
+        int mask = debugMask;
         
         // Save global debug mode
-        config.set("debug-mode", debugFlags.getOrDefault(DebugSystem.ALL, false));
+        config.set("debug-mode", (mask & bit(DebugSystem.ALL)) != 0);
         
         // Save each system's debug mode
         for (DebugSystem system : DebugSystem.values()) {
@@ -126,6 +172,12 @@ public class DebugManager {
         plugin.saveConfig();
     }
     
+    private static int bit(DebugSystem system) {
+        return 1 << system.ordinal();
+    }
+    
+    // ==================== Flags ====================
+    
     /**
      * Check if debugging is enabled for a specific system
      * 
@@ -133,16 +185,16 @@ public class DebugManager {
      * @return true if debugging is enabled
      */
     public boolean isDebugEnabled(DebugSystem system) {
-        // For the ALL system, just return its flag directly
-        if (system == DebugSystem.ALL) {
-            return debugFlags.getOrDefault(DebugSystem.ALL, false);
-        }
-        
-        // For individual systems, check if ALL is enabled OR the specific system is enabled
-        boolean allEnabled = debugFlags.getOrDefault(DebugSystem.ALL, false);
-        boolean systemEnabled = debugFlags.getOrDefault(system, false);
-        
-        return allEnabled || systemEnabled;
+        // Individual systems are also on while ALL is on
+        return (debugMask & (bit(DebugSystem.ALL) | bit(system))) != 0;
+    }
+    
+    /**
+     * Check if messages of a system about a player would be logged, either because the system
+     * is enabled or because the player is being traced
+     */
+    public boolean isDebugEnabled(DebugSystem system, Player player) {
+        return isDebugEnabled(system) || findTrace(system, player) != null;
     }
     
     /**
@@ -152,24 +204,14 @@ public class DebugManager {
      * @param enabled Whether debugging should be enabled
      */
     public void setDebugEnabled(DebugSystem system, boolean enabled) {
-        debugFlags.put(system, enabled);
-        
-        // Special handling for ALL
-        if (system == DebugSystem.ALL) {
-            if (enabled) {
-                // When ALL is enabled, enable all systems
-                for (DebugSystem sys : DebugSystem.values()) {
-                    if (sys != DebugSystem.ALL) {
-                        debugFlags.put(sys, true);
-                    }
-                }
+        synchronized (this) {
+            if (system == DebugSystem.ALL) {
+                // ALL switches every system along with it
+                debugMask = enabled ? ALL_BITS : 0;
+            } else if (enabled) {
+                debugMask |= bit(system);
             } else {
-                // When ALL is disabled, disable all systems
-                for (DebugSystem sys : DebugSystem.values()) {
-                    if (sys != DebugSystem.ALL) {
-                        debugFlags.put(sys, false);
-                    }
-                }
+                debugMask &= ~bit(system);
             }
         }
         
@@ -196,7 +238,7 @@ public class DebugManager {
      * @return Set of enabled debug systems
      */
     public Set<DebugSystem> getEnabledSystems() {
-        Set<DebugSystem> enabledSystems = new java.util.HashSet<>();
+        Set<DebugSystem> enabledSystems = EnumSet.noneOf(DebugSystem.class);
         
         for (DebugSystem system : DebugSystem.values()) {
             if (isDebugEnabled(system)) {
@@ -207,6 +249,8 @@ public class DebugManager {
         return enabledSystems;
     }
     
+    // ==================== Logging ====================
+    
     /**
      * Log a debug message for a specific system
      * 
@@ -215,7 +259,204 @@ public class DebugManager {
      */
     public void debug(DebugSystem system, String message) {
         if (isDebugEnabled(system)) {
-            logger.info("[DEBUG:" + system.getId().toUpperCase() + "] " + message);
+            write(system, null, message);
+        }
+    }
+    
+    /**
+     * Log a debug message for a specific system, only building it if the system is enabled
+     * 
+     * @param system The system logging the message
+     * @param message Supplies the message to log
+     */
+    public void debug(DebugSystem system, Supplier<String> message) {
+        if (isDebugEnabled(system)) {
+            write(system, null, message.get());
+        }
+    }
+    
+    /**
+     * Log a debug message about a player. It is also logged while the system is off if the
+     * player is being traced for it.
+     * 
+     * @param system The system logging the message
+     * @param player The player the message is about
+     * @param message The message to log
+     */
+    public void debug(DebugSystem system, Player player, String message) {
+        if (isDebugEnabled(system)) {
+            write(system, null, message);
+            return;
+        }
+        TraceSession trace = findTrace(system, player);
+        if (trace != null) {
+            write(system, trace.getPlayerName(), message);
+        }
+    }
+    
+    /**
+     * Log a debug message about a player, only building it if it would be logged. It is also
+     * logged while the system is off if the player is being traced for it.
+     * 
+     * @param system The system logging the message
+     * @param player The player the message is about
+     * @param message Supplies the message to log
+     */
+    public void debug(DebugSystem system, Player player, Supplier<String> message) {
+        if (isDebugEnabled(system)) {
+            write(system, null, message.get());
+            return;
+        }
+        TraceSession trace = findTrace(system, player);
+        if (trace != null) {
+            write(system, trace.getPlayerName(), message.get());
+        }
+    }
+    
+    private void write(DebugSystem system, String tracedPlayer, String message) {
+        String prefix = tracedPlayer != null
+            ? "[TRACE:" + tracedPlayer + ":" + system.getId().toUpperCase() + "] "
+            : "[DEBUG:" + system.getId().toUpperCase() + "] ";
+        debugLog.log(prefix + message);
+    }
+    
+    /**
+     * Get how many debug lines were dropped because the output buffer was full
+     */
+    public long getDroppedLineCount() {
+        return debugLog.getDroppedCount();
+    }
+    
+    /**
+     * Flush queued output and stop the writer thread
+     */
+    public void shutdown() {
+        debugLog.close();
+    }
+    
+    // ==================== Trace Sessions ====================
+    
+    /**
+     * Start logging the given systems for one player, whether or not they are enabled
+     * 
+     * @param player The player to trace
+     * @param systems The systems to trace; ALL traces every system
+     * @param durationMillis How long the session lasts
+     * @param startedBy Who started the session, for display
+     */
+    public TraceSession startTrace(Player player, Collection<DebugSystem> systems, long durationMillis, String startedBy) {
+        int mask = 0;
+        for (DebugSystem system : systems) {
+            mask |= system == DebugSystem.ALL ? ALL_BITS : bit(system);
+        }
+        TraceSession session = new TraceSession(player.getUniqueId(), player.getName(), mask,
+            System.currentTimeMillis() + durationMillis, startedBy);
+        traces.put(player.getUniqueId(), session);
+        updateTraceMask();
+        debugLog.log("[TRACE:" + player.getName() + "] Trace started by " + startedBy + " for "
+            + (durationMillis / 1000) + "s");
+        return session;
+    }
+    
+    /**
+     * Stop tracing a player
+     * 
+     * @return true if the player was being traced
+     */
+    public boolean stopTrace(UUID playerId) {
+        TraceSession session = traces.remove(playerId);
+        if (session == null) {
+            return false;
+        }
+        updateTraceMask();
+        debugLog.log("[TRACE:" + session.getPlayerName() + "] Trace stopped");
+        return true;
+    }
+    
+    /**
+     * Get the trace sessions that have not expired yet
+     */
+    public List<TraceSession> getTraces() {
+        removeExpiredTraces();
+        return new ArrayList<>(traces.values());
+    }
+    
+    private TraceSession findTrace(DebugSystem system, Player player) {
+        if ((traceMask & bit(system)) == 0 || player == null) {
+            return null;
+        }
+        TraceSession session = traces.get(player.getUniqueId());
+        if (session == null || (session.mask & bit(system)) == 0) {
+            return null;
+        }
+        if (session.isExpired()) {
+            stopTrace(session.getPlayerId());
+            return null;
+        }
+        return session;
+    }
+    
+    private void removeExpiredTraces() {
+        boolean removed = false;
+        for (Iterator<TraceSession> it = traces.values().iterator(); it.hasNext();) {
+            if (it.next().isExpired()) {
+                it.remove();
+                removed = true;
+            }
+        }
+        if (removed) {
+            updateTraceMask();
+        }
+    }
+    
+    private synchronized void updateTraceMask() {
+        int mask = 0;
+        for (TraceSession session : traces.values()) {
+            mask |= session.mask;
+        }
+        traceMask = mask;
+    }
+    
+    /**
+     * A running per-player trace
+     */
+    public static class TraceSession {
+        private final UUID playerId;
+        private final String playerName;
+        private final int mask;
+        private final long expiresAt;
+        private final String startedBy;
+        
+        private TraceSession(UUID playerId, String playerName, int mask, long expiresAt, String startedBy) {
+            this.playerId = playerId;
+            this.playerName = playerName;
+            this.mask = mask;
+            this.expiresAt = expiresAt;
+            this.startedBy = startedBy;
+        }
+        
+        public UUID getPlayerId() {
+            return playerId;
+        }
+        
+        public String getPlayerName() {
+            return playerName;
+        }
+        
+        public boolean isTracing(DebugSystem system) {
+            return (mask & bit(system)) != 0;
+        }
+        
+        public long getExpiresAt() {
+            return expiresAt;
+        }
+        
+        public String getStartedBy() {
+            return startedBy;
+        }
+        
+        public boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAt;
         }
     }
-}
\ No newline at end of file
+}
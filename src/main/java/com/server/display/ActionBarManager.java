@@ -12,12 +12,15 @@ import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 import com.server.profiles.skills.display.SkillActionBarManager;
 import com.server.profiles.stats.PlayerStats;
+import com.server.profiling.ProfilerSection;
+import com.server.profiling.TickProfiler;
 
 import net.md_5.bungee.api.ChatMessageType;
 import net.md_5.bungee.api.chat.TextComponent;
 
 public class ActionBarManager implements Listener {
     private final Main plugin;
+    private final ProfilerSection tickProfile = TickProfiler.getInstance().section("actionbar.tick");
     private BukkitRunnable actionBarTask;
     private int tickCounter = 0;
     private static final int TICKS_PER_SECOND = 20;
@@ -25,7 +28,7 @@ public class ActionBarManager implements Listener {
     public ActionBarManager(Main plugin) {
         this.plugin = plugin;
         // Register this class as a listener for gamemode change events
-        plugin.getServer().getPluginManager().registerEvents(this, plugin);
+        TickProfiler.getInstance().registerEvents(this, plugin);
     }
 
     /**
@@ -58,28 +61,7 @@ public class ActionBarManager implements Listener {
         actionBarTask = new BukkitRunnable() {
             @Override
             public void run() {
-                tickCounter++;
-                
-                // Process all online players
-                for (Player player : plugin.getServer().getOnlinePlayers()) {
-                    // Skip action bar and mana regeneration for spectators
-                    if (player.getGameMode() == GameMode.SPECTATOR) {
-                        continue;
-                    }
-                    
-                    // Update action bar every tick
-                    updateActionBar(player);
-                    
-                    // Regenerate mana once per second
-                    if (tickCounter >= TICKS_PER_SECOND) {
-                        regeneratePlayerMana(player);
-                    }
-                }
-                
-                // Reset counter each second
-                if (tickCounter >= TICKS_PER_SECOND) {
-                    tickCounter = 0;
-                }
+                tickProfile.run(ActionBarManager.this::tick);
             }
         };
         
@@ -87,6 +69,31 @@ public class ActionBarManager implements Listener {
         actionBarTask.runTaskTimer(plugin, 0L, 1L);
     }
 
+    private void tick() {
+        tickCounter++;
+        
+        // Process all online players
+        for (Player player : plugin.getServer().getOnlinePlayers()) {
+            // Skip action bar and mana regeneration for spectators
+            if (player.getGameMode() == GameMode.SPECTATOR) {
+                continue;
+            }
+            
+            // Update action bar every tick
+            updateActionBar(player);
+            
+            // Regenerate mana once per second
+            if (tickCounter >= TICKS_PER_SECOND) {
+                regeneratePlayerMana(player);
+            }
+        }
+        
+        // Reset counter each second
+        if (tickCounter >= TICKS_PER_SECOND) {
+            tickCounter = 0;
+        }
+    }
+
     public void stopActionBarUpdates() {
         if (actionBarTask != null) {
             actionBarTask.cancel();
@@ -1,8 +1,10 @@
 package com.server.display;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.bukkit.Location;
 import org.bukkit.Particle;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
@@ -18,11 +20,16 @@ import org.bukkit.util.Vector;
 import com.server.Main;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
+import com.server.spatial.SpatialIndex;
 
 import net.citizensnpcs.api.CitizensAPI;
 
 public class DamageIndicatorManager implements Listener {
     private final Main plugin;
+    
+    // Reused query buffers (damage events are handled on the main thread)
+    private final List<LivingEntity> spectatorBuffer = new ArrayList<>();
+    private final List<LivingEntity> playerCheckBuffer = new ArrayList<>();
 
     public DamageIndicatorManager(Main plugin) {
         this.plugin = plugin;
@@ -120,21 +127,18 @@ public class DamageIndicatorManager implements Listener {
         
         // 3. Create indicator for SPECTATORS (everyone else nearby)
         // Find nearby players who aren't the attacker or victim
-        for (Entity nearbyEntity : entity.getNearbyEntities(20, 20, 20)) {
-            if (nearbyEntity instanceof Player) {
-                Player spectator = (Player) nearbyEntity;
-                if (spectator != victimPlayer && spectator != attackerPlayer) {
-                    // Spectators see damage in grey
-                    spawnPersonalizedDamageIndicator(
-                        entity.getLocation(), 
-                        damage, 
-                        symbol,
-                        color, // Keep the damage type color for the symbol
-                        "§7%.1f", // Grey for damage numbers
-                        spectator // Only visible to this spectator
-                    );
-                }
-            }
+        final Player attacker = attackerPlayer;
+        for (LivingEntity nearbyEntity : SpatialIndex.getInstance().queryBox(entity.getLocation(), 20, 20, 20,
+                e -> e instanceof Player && e != entity && e != attacker, spectatorBuffer)) {
+            // Spectators see damage in grey
+            spawnPersonalizedDamageIndicator(
+                entity.getLocation(), 
+                damage, 
+                symbol,
+                color, // Keep the damage type color for the symbol
+                "§7%.1f", // Grey for damage numbers
+                (Player) nearbyEntity // Only visible to this spectator
+            );
         }
         
         // Special handling for players to show damage reduction
@@ -198,7 +202,7 @@ public class DamageIndicatorManager implements Listener {
         
         // For all cases, position the indicator above the target entity's head
         // This ensures consistent visibility for all viewers including the victim
-        if (loc.getWorld().getNearbyEntities(loc, 0.5, 1, 0.5).stream().anyMatch(e -> e instanceof Player)) {
+        if (!SpatialIndex.getInstance().queryBox(loc, 0.5, 1, 0.5, e -> e instanceof Player, playerCheckBuffer).isEmpty()) {
             // For player targets (including victim viewing self)
             loc = loc.add(
                 Math.random() * 0.8 - 0.4, // Wider x spread (-0.4 to 0.4)
@@ -19,6 +19,8 @@ import com.server.islands.data.PlayerIsland;
 import com.server.islands.managers.IslandManager;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
+import com.server.profiling.ProfilerSection;
+import com.server.profiling.TickProfiler;
 import com.server.utils.CurrencyFormatter;
 
 public class ScoreboardManager {
@@ -27,6 +29,8 @@ public class ScoreboardManager {
     private final IslandManager islandManager;
     private final Map<UUID, BukkitTask> playerScoreboardTasks = new HashMap<>();
     private static final int UPDATE_INTERVAL = 20; // Ticks (1 second)
+    private final ProfilerSection updateProfile = TickProfiler.getInstance().section("scoreboard.update");
+    private final ProfilerSection titleProfile = TickProfiler.getInstance().section("scoreboard.title");
     
     // For animated title
     private final String baseTitle = "MMO Server";
@@ -102,11 +106,13 @@ public class ScoreboardManager {
         titleAnimationTask = new BukkitRunnable() {
             @Override
             public void run() {
-                currentTitleFrame = (currentTitleFrame + 1) % titleFrames.size();
-                // Update all player scoreboards with new title
-                for (Player player : Bukkit.getOnlinePlayers()) {
-                    updatePlayerScoreboard(player);
-                }
+                titleProfile.run(() -> {
+                    currentTitleFrame = (currentTitleFrame + 1) % titleFrames.size();
+                    // Update all player scoreboards with new title
+                    for (Player player : Bukkit.getOnlinePlayers()) {
+                        updatePlayerScoreboard(player);
+                    }
+                });
             }
         }.runTaskTimer(plugin, 10, 10); // Change frame every half second
     }
@@ -135,7 +141,7 @@ public class ScoreboardManager {
             @Override
             public void run() {
                 if (player.isOnline()) {
-                    updatePlayerScoreboard(player);
+                    updateProfile.run(() -> updatePlayerScoreboard(player));
                 } else {
                     this.cancel();
                     playerScoreboardTasks.remove(player.getUniqueId());
@@ -0,0 +1,19 @@
+package com.server.economy;
+
+/**
+ * Every balance the {@link CurrencyLedger} keeps. The ordinal is written to the ledger, so
+ * new currencies go at the end.
+ */
+public enum Currency {
+    UNITS,
+    PREMIUM_UNITS,
+    ESSENCE,
+    BITS,
+    ISLAND_TOKENS;
+
+    private static final Currency[] VALUES = values();
+
+    static Currency byId(int id) {
+        return id >= 0 && id < VALUES.length ? VALUES[id] : null;
+    }
+}
@@ -0,0 +1,528 @@
+package com.server.economy;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import com.server.Main;
+import com.server.profiling.TickProfiler;
+
+/**
+ * Append-only log of every currency change, with each account's balances kept in memory.
+ *
+ * A change is written as a fixed-size record to a memory-mapped segment under
+ * {@code ledger/} before the account's balance is updated. A {@link Transfer} is written as
+ * consecutive records and only counts once its last record is in the log, so a crash never
+ * leaves half a transfer applied. Appending is a copy into the mapping; a background thread
+ * flushes the mapping to disk every {@code economy.ledger.commit-interval-ms}, so every change
+ * in that window shares one flush.
+ *
+ * On startup the log is replayed to rebuild each account's latest balances, and
+ * {@link #recover} brings an account loaded from older saved state up to date.
+ */
+public final class CurrencyLedger {
+
+    // Record: sequence, time, account msb, account lsb, slot, currency, reason,
+    // records left in the transaction, delta, balance after, transaction, crc, magic
+    private static final int RECORD_SIZE = 64;
+    private static final int CRC_OFFSET = 56;
+    private static final int MAGIC = 0x4C454447;
+    private static final int SEGMENT_SIZE = RECORD_SIZE * (1 << 18); // 16 MiB
+    private static final int MAX_LEGS = 1024;
+    private static final String EXTENSION = ".log";
+
+    private static CurrencyLedger instance;
+
+    private final File folder;
+    private final Logger logger;
+    private final ScheduledExecutorService commitThread;
+    private final Map<AccountKey, AccountState> states = new HashMap<>();
+
+    // Each record is encoded here and then copied into the mapping
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel channel;
+    private MappedByteBuffer segment;
+    private long nextSequence = 1;
+    private boolean uncommitted;
+
+    CurrencyLedger(File folder, Logger logger) {
+        this.folder = folder;
+        this.logger = logger;
+        this.commitThread = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "mmo-ledger-commit");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public static void initialize(Main plugin) {
+        if (instance == null) {
+            instance = new CurrencyLedger(new File(plugin.getDataFolder(), "ledger"), plugin.getLogger());
+            instance.open();
+            instance.startCommits(Math.max(1L, plugin.getConfig().getLong("economy.ledger.commit-interval-ms", 50L)));
+        }
+    }
+
+    public static CurrencyLedger getInstance() {
+        if (instance == null) {
+            throw new IllegalStateException("CurrencyLedger has not been initialized!");
+        }
+        return instance;
+    }
+
+    /**
+     * Replays the log and opens it for appending.
+     */
+    void open() {
+        try {
+            replay();
+        } catch (IOException e) {
+            // Balances still change, they just aren't logged until the next restart
+            logger.severe("Failed to open the currency ledger, currency changes will not be logged: "
+                + e.getMessage());
+            closeSegment();
+        }
+    }
+
+    private void startCommits(long interval) {
+        Runnable commit = TickProfiler.getInstance().backgroundSection("ledger.commit").wrap(this::commitPending);
+        commitThread.scheduleWithFixedDelay(commit, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    // ==================== Balance Changes ====================
+
+    /**
+     * Adds to a balance. Amounts of zero or less change nothing.
+     *
+     * @return The new balance
+     */
+    public synchronized int deposit(LedgerAccount account, Currency currency, int amount, TransactionReason reason) {
+        int balance = account.getBalance(currency);
+        if (amount <= 0) {
+            return balance;
+        }
+        int updated = (int) Math.min(Integer.MAX_VALUE, (long) balance + amount);
+        append(account, currency, reason, updated - balance, updated);
+        return updated;
+    }
+
+    /**
+     * Takes from a balance if it is high enough. Amounts of zero or less change nothing.
+     *
+     * @return True if the amount was taken
+     */
+    public synchronized boolean withdraw(LedgerAccount account, Currency currency, int amount, TransactionReason reason) {
+        if (amount <= 0) {
+            return true;
+        }
+        int balance = account.getBalance(currency);
+        if (balance < amount) {
+            return false;
+        }
+        append(account, currency, reason, -amount, balance - amount);
+        return true;
+    }
+
+    /**
+     * Sets a balance, treating negative amounts as zero.
+     */
+    public synchronized void set(LedgerAccount account, Currency currency, int amount, TransactionReason reason) {
+        int balance = account.getBalance(currency);
+        int updated = Math.max(0, amount);
+        if (updated != balance) {
+            append(account, currency, reason, updated - balance, updated);
+        }
+    }
+
+    /**
+     * Applies every change in a transfer, or none of them if any balance would go below zero
+     * or overflow.
+     *
+     * @return True if the transfer was applied
+     */
+    public synchronized boolean commit(Transfer transfer, TransactionReason reason) {
+        List<Transfer.Leg> legs = transfer.getLegs();
+        if (legs.isEmpty()) {
+            return true;
+        }
+        if (legs.size() > MAX_LEGS) {
+            throw new IllegalArgumentException("Transfers are limited to " + MAX_LEGS + " changes");
+        }
+
+        int[] balances = new int[legs.size()];
+        for (int i = 0; i < legs.size(); i++) {
+            Transfer.Leg leg = legs.get(i);
+            long balance = leg.account.getBalance(leg.currency);
+            // A transfer may change the same balance more than once
+            for (int j = i - 1; j >= 0; j--) {
+                if (legs.get(j).currency == leg.currency && sameAccount(legs.get(j).account, leg.account)) {
+                    balance = balances[j];
+                    break;
+                }
+            }
+            balance += leg.delta;
+            if (balance < 0 || balance > Integer.MAX_VALUE) {
+                return false;
+            }
+            balances[i] = (int) balance;
+        }
+
+        ensureCapacity(legs.size());
+        long transaction = nextSequence;
+        for (int i = 0; i < legs.size(); i++) {
+            Transfer.Leg leg = legs.get(i);
+            write(nextSequence++, transaction, legs.size() - 1 - i, leg.account, leg.currency, reason, leg.delta, balances[i]);
+        }
+        for (int i = 0; i < legs.size(); i++) {
+            Transfer.Leg leg = legs.get(i);
+            apply(leg.account, leg.currency, balances[i], transaction + i);
+        }
+        uncommitted = true;
+        return true;
+    }
+
+    // ==================== Accounts ====================
+
+    /**
+     * Brings an account loaded from saved state up to date with any later changes in the
+     * ledger. Call once when an existing account is loaded, before its balances are used.
+     */
+    public synchronized void recover(LedgerAccount account) {
+        AccountState state = states.get(new AccountKey(account.getLedgerId(), account.getLedgerSlot()));
+        long saved = account.getLedgerSequence();
+        if (state == null || state.sequence <= saved) {
+            return;
+        }
+        // Balances last changed before the saved state belong to it, or to an earlier account with this id
+        for (Currency currency : Currency.values()) {
+            if (state.sequences[currency.ordinal()] > saved) {
+                account.applyBalance(currency, state.balances[currency.ordinal()]);
+            }
+        }
+        account.setLedgerSequence(state.sequence);
+        logger.info("Recovered ledger balances for " + account.getLedgerId()
+            + (account.getLedgerSlot() >= 0 ? " slot " + account.getLedgerSlot() : "")
+            + " (saved state was older than the ledger)");
+    }
+
+    /**
+     * Marks a newly created account so that ledger entries left by an earlier account with
+     * the same id and slot, such as a deleted profile, are never recovered into it.
+     */
+    public synchronized void openAccount(LedgerAccount account) {
+        account.setLedgerSequence(nextSequence - 1);
+    }
+
+    /**
+     * Flushes everything appended so far, stops the commit thread and closes the log.
+     */
+    public void shutdown() {
+        commitThread.shutdown();
+        try {
+            commitThread.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            closeSegment();
+            uncommitted = false;
+        }
+    }
+
+    // ==================== Log ====================
+
+    private void append(LedgerAccount account, Currency currency, TransactionReason reason, int delta, int balance) {
+        ensureCapacity(1);
+        long sequence = nextSequence++;
+        write(sequence, sequence, 0, account, currency, reason, delta, balance);
+        apply(account, currency, balance, sequence);
+        uncommitted = true;
+    }
+
+    private void apply(LedgerAccount account, Currency currency, int balance, long sequence) {
+        account.applyBalance(currency, balance);
+        account.setLedgerSequence(sequence);
+        materialize(account.getLedgerId(), account.getLedgerSlot(), currency, balance, sequence);
+    }
+
+    private void materialize(UUID id, int slot, Currency currency, int balance, long sequence) {
+        AccountState state = states.computeIfAbsent(new AccountKey(id, slot), key -> new AccountState());
+        state.balances[currency.ordinal()] = balance;
+        state.sequences[currency.ordinal()] = sequence;
+        state.sequence = sequence;
+    }
+
+    private void write(long sequence, long transaction, int remaining, LedgerAccount account,
+                       Currency currency, TransactionReason reason, int delta, int balance) {
+        if (segment == null) {
+            return;
+        }
+        UUID id = account.getLedgerId();
+        record.clear();
+        record.putLong(sequence)
+            .putLong(System.currentTimeMillis())
+            .putLong(id.getMostSignificantBits())
+            .putLong(id.getLeastSignificantBits())
+            .putInt(account.getLedgerSlot())
+            .put((byte) currency.ordinal())
+            .put((byte) reason.ordinal())
+            .putShort((short) remaining)
+            .putInt(delta)
+            .putInt(balance)
+            .putLong(transaction);
+        crc.reset();
+        crc.update(record.array(), 0, CRC_OFFSET);
+        record.putInt((int) crc.getValue()).putInt(MAGIC);
+        record.flip();
+        segment.put(record);
+    }
+
+    /**
+     * Starts a new segment if the current one can't fit a whole transaction, so a
+     * transaction never spans two segments.
+     */
+    private void ensureCapacity(int records) {
+        if (segment == null || segment.remaining() >= records * RECORD_SIZE) {
+            return;
+        }
+        try {
+            openSegment(nextSequence);
+        } catch (IOException e) {
+            logger.severe("Failed to start a new ledger segment, currency changes will not be logged: "
+                + e.getMessage());
+            closeSegment();
+        }
+    }
+
+    private void openSegment(long firstSequence) throws IOException {
+        closeSegment();
+        folder.mkdirs();
+        File file = new File(folder, String.format("%020d", firstSequence) + EXTENSION);
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+        segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, SEGMENT_SIZE);
+    }
+
+    private void closeSegment() {
+        if (segment != null) {
+            segment.force();
+            segment = null;
+        }
+        if (channel != null) {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warning("Failed to close ledger segment: " + e.getMessage());
+            }
+            channel = null;
+        }
+    }
+
+    private void commitPending() {
+        MappedByteBuffer pending;
+        synchronized (this) {
+            if (!uncommitted || segment == null) {
+                return;
+            }
+            uncommitted = false;
+            pending = segment;
+        }
+        // Flushed outside the lock so appends never wait on the disk
+        pending.force();
+    }
+
+    // ==================== Replay ====================
+
+    /**
+     * Rebuilds balances from every segment and opens the last one for appending. Replay
+     * stops at the first record that is damaged or out of sequence; a transaction cut off
+     * there is discarded, and the rest of the log is moved aside.
+     */
+    private void replay() throws IOException {
+        folder.mkdirs();
+        File[] files = folder.listFiles((dir, name) -> name.endsWith(EXTENSION));
+        if (files == null) {
+            files = new File[0];
+        }
+        Arrays.sort(files); // Names are zero-padded first sequence numbers
+
+        List<Entry> transaction = new ArrayList<>();
+        int replayed = 0;
+        for (int i = 0; i < files.length; i++) {
+            openSegment(firstSequence(files[i]));
+            int position = 0;
+            int transactionStart = 0;
+            transaction.clear();
+
+            Entry entry;
+            while (position < SEGMENT_SIZE && (entry = decode(segment, position, nextSequence + transaction.size())) != null) {
+                if (transaction.isEmpty()) {
+                    transactionStart = position;
+                }
+                transaction.add(entry);
+                position += RECORD_SIZE;
+                if (entry.remaining == 0) {
+                    for (Entry applied : transaction) {
+                        materialize(applied.accountId, applied.slot, applied.currency, applied.balance, applied.sequence);
+                    }
+                    nextSequence += transaction.size();
+                    replayed += transaction.size();
+                    transaction.clear();
+                }
+            }
+            // A bad record followed only by empty space is a write cut off by a crash
+            int scanEnd = position;
+            boolean torn = !transaction.isEmpty() || (scanEnd < SEGMENT_SIZE && !isEmpty(segment, scanEnd));
+            boolean damaged = torn && scanEnd + RECORD_SIZE < SEGMENT_SIZE && !isEmptyFrom(segment, scanEnd + RECORD_SIZE);
+            if (!transaction.isEmpty()) {
+                position = transactionStart;
+            }
+            if (damaged) {
+                File copy = new File(folder, files[i].getName() + ".corrupt-" + System.currentTimeMillis());
+                Files.copy(files[i].toPath(), copy.toPath());
+                logger.severe("Currency ledger is damaged in " + files[i].getName() + " after entry "
+                    + (nextSequence - 1) + "; discarded the rest of the log (copy kept as " + copy.getName() + ")");
+                for (int offset = position; offset < SEGMENT_SIZE; offset += 8) {
+                    segment.putLong(offset, 0L);
+                }
+                segment.force();
+            } else if (torn) {
+                logger.warning("Discarded an incomplete currency ledger write after entry " + (nextSequence - 1));
+                for (int offset = position; offset < Math.min(SEGMENT_SIZE, scanEnd + RECORD_SIZE); offset += 8) {
+                    segment.putLong(offset, 0L);
+                }
+                segment.force();
+            }
+
+            if (torn || i == files.length - 1) {
+                segment.position(position);
+                for (int j = i + 1; j < files.length; j++) {
+                    File aside = new File(folder, files[j].getName() + ".orphaned-" + System.currentTimeMillis());
+                    files[j].renameTo(aside);
+                }
+                break;
+            }
+        }
+
+        if (segment == null) {
+            openSegment(nextSequence);
+        }
+        logger.info("Currency ledger replayed " + replayed + " entries for " + states.size() + " accounts");
+    }
+
+    private Entry decode(ByteBuffer buffer, int position, long expectedSequence) {
+        if (buffer.getInt(position + CRC_OFFSET + 4) != MAGIC || buffer.getLong(position) != expectedSequence) {
+            return null;
+        }
+        crc.reset();
+        for (int offset = 0; offset < CRC_OFFSET; offset++) {
+            crc.update(buffer.get(position + offset));
+        }
+        Currency currency = Currency.byId(buffer.get(position + 36));
+        if ((int) crc.getValue() != buffer.getInt(position + CRC_OFFSET) || currency == null) {
+            return null;
+        }
+        return new Entry(expectedSequence,
+            new UUID(buffer.getLong(position + 16), buffer.getLong(position + 24)),
+            buffer.getInt(position + 32),
+            currency,
+            buffer.getShort(position + 38),
+            buffer.getInt(position + 44));
+    }
+
+    private static boolean isEmpty(ByteBuffer buffer, int position) {
+        for (int offset = 0; offset < RECORD_SIZE; offset += 8) {
+            if (buffer.getLong(position + offset) != 0L) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isEmptyFrom(ByteBuffer buffer, int position) {
+        for (int offset = position; offset < SEGMENT_SIZE; offset += RECORD_SIZE) {
+            if (!isEmpty(buffer, offset)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long firstSequence(File file) {
+        String name = file.getName();
+        try {
+            return Long.parseLong(name.substring(0, name.length() - EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private static boolean sameAccount(LedgerAccount a, LedgerAccount b) {
+        return a == b || (a.getLedgerSlot() == b.getLedgerSlot() && a.getLedgerId().equals(b.getLedgerId()));
+    }
+
+    private static final class AccountKey {
+        private final UUID id;
+        private final int slot;
+
+        AccountKey(UUID id, int slot) {
+            this.id = id;
+            this.slot = slot;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof AccountKey)) {
+                return false;
+            }
+            AccountKey key = (AccountKey) other;
+            return slot == key.slot && id.equals(key.id);
+        }
+
+        @Override
+        public int hashCode() {
+            return id.hashCode() * 31 + slot;
+        }
+    }
+
+    private static final class AccountState {
+        private final int[] balances = new int[Currency.values().length];
+        private final long[] sequences = new long[Currency.values().length]; // 0 if the currency has no entries
+        private long sequence;
+    }
+
+    private static final class Entry {
+        private final long sequence;
+        private final UUID accountId;
+        private final int slot;
+        private final Currency currency;
+        private final int remaining;
+        private final int balance;
+
+        Entry(long sequence, UUID accountId, int slot, Currency currency, int remaining, int balance) {
+            this.sequence = sequence;
+            this.accountId = accountId;
+            this.slot = slot;
+            this.currency = currency;
+            this.remaining = remaining;
+            this.balance = balance;
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.server.economy;
+
+import java.util.UUID;
+
+/**
+ * Something that holds balances kept by the {@link CurrencyLedger}, such as a player profile
+ * or an island. The account's own fields are the in-memory balances; only the ledger
+ * changes them, through {@link #applyBalance}.
+ */
+public interface LedgerAccount {
+
+    UUID getLedgerId();
+
+    /**
+     * The profile slot of the account, or -1 for accounts that aren't profiles.
+     */
+    int getLedgerSlot();
+
+    int getBalance(Currency currency);
+
+    /**
+     * Sets a balance. Only called by the ledger, after the change has been logged.
+     */
+    void applyBalance(Currency currency, int balance);
+
+    /**
+     * The sequence number of the last ledger entry applied to this account's balances.
+     */
+    long getLedgerSequence();
+
+    void setLedgerSequence(long sequence);
+}
@@ -0,0 +1,20 @@
+package com.server.economy;
+
+/**
+ * Why a balance changed, recorded with every ledger entry. The ordinal is written to the
+ * ledger, so new reasons go at the end.
+ */
+public enum TransactionReason {
+    UNSPECIFIED,
+    ADMIN,
+    TRANSFER,
+    REWARD,
+    PURCHASE,
+    RESTORE;
+
+    private static final TransactionReason[] VALUES = values();
+
+    static TransactionReason byId(int id) {
+        return id >= 0 && id < VALUES.length ? VALUES[id] : UNSPECIFIED;
+    }
+}
@@ -0,0 +1,52 @@
+package com.server.economy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A set of balance changes across one or more accounts that the ledger applies all together
+ * or not at all. See {@link CurrencyLedger#commit}.
+ */
+public final class Transfer {
+
+    private final List<Leg> legs = new ArrayList<>(2);
+
+    /**
+     * Takes an amount from an account. The transfer fails if the balance is too low.
+     */
+    public Transfer debit(LedgerAccount account, Currency currency, int amount) {
+        return add(account, currency, -amount);
+    }
+
+    /**
+     * Gives an amount to an account.
+     */
+    public Transfer credit(LedgerAccount account, Currency currency, int amount) {
+        return add(account, currency, amount);
+    }
+
+    List<Leg> getLegs() {
+        return Collections.unmodifiableList(legs);
+    }
+
+    private Transfer add(LedgerAccount account, Currency currency, int delta) {
+        if (account == null || currency == null) {
+            throw new IllegalArgumentException("Transfer legs need an account and a currency");
+        }
+        legs.add(new Leg(account, currency, delta));
+        return this;
+    }
+
+    static final class Leg {
+        final LedgerAccount account;
+        final Currency currency;
+        final int delta;
+
+        Leg(LedgerAccount account, Currency currency, int delta) {
+            this.account = account;
+            this.currency = currency;
+            this.delta = delta;
+        }
+    }
+}
@@ -21,6 +21,7 @@ import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -116,7 +117,7 @@ public class Mistveil extends CustomEnchantment {
         Location loc = player.getLocation();
         if (loc != null && loc.getWorld() != null) {
             // Mist particles
-            loc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.CLOUD,
                 loc.add(0, 1, 0),
                 15,
@@ -125,7 +126,7 @@ public class Mistveil extends CustomEnchantment {
             );
             
             // Water droplets
-            loc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.DRIPPING_WATER,
                 loc,
                 10,
@@ -195,7 +196,7 @@ public class Mistveil extends CustomEnchantment {
         // Spawn deflection particles at projectile location
         Location projLoc = projectile.getLocation();
         if (projLoc != null && projLoc.getWorld() != null) {
-            projLoc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.SPLASH,
                 projLoc,
                 20,
@@ -20,6 +20,7 @@ import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -112,7 +113,7 @@ public class Terraheart extends CustomEnchantment {
         Location loc = player.getLocation();
         if (loc != null && loc.getWorld() != null) {
             // Stone barrier particles
-            loc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.BLOCK,
                 loc.add(0, 1, 0),
                 (int) (15 * reductionProgress),
@@ -123,7 +124,7 @@ public class Terraheart extends CustomEnchantment {
             
             // Crack particles on heavy hits
             if (damageBlocked > 5.0) {
-                loc.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.BLOCK,
                     loc,
                     20,
@@ -197,7 +198,7 @@ public class Terraheart extends CustomEnchantment {
                             if (ticks % 20 == 0 && ticks > 0) {
                                 Location loc = player.getLocation();
                                 if (loc.getWorld() != null) {
-                                    loc.getWorld().spawnParticle(
+                                    ParticleEmitter.getInstance().spawnParticle(
                                         Particle.BLOCK,
                                         loc,
                                         5,
@@ -214,7 +215,7 @@ public class Terraheart extends CustomEnchantment {
                                 Location loc = player.getLocation();
                                 if (loc.getWorld() != null) {
                                     loc.getWorld().playSound(loc, Sound.BLOCK_ROOTS_PLACE, 1.0f, 0.8f);
-                                    loc.getWorld().spawnParticle(
+                                    ParticleEmitter.getInstance().spawnParticle(
                                         Particle.BLOCK,
                                         loc.add(0, 0.5, 0),
                                         30,
@@ -18,6 +18,7 @@ import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -119,7 +120,7 @@ public class Whispers extends CustomEnchantment {
                 double z = Math.sin(angle) * 1.5;
                 
                 Location particleLoc = loc.clone().add(x, 1, z);
-                loc.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.CLOUD,
                     particleLoc,
                     2,
@@ -129,7 +130,7 @@ public class Whispers extends CustomEnchantment {
             }
             
             // Sweep attack visual
-            loc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.SWEEP_ATTACK,
                 loc.add(0, 1, 0),
                 5,
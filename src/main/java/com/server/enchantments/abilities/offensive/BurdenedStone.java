@@ -23,6 +23,7 @@ import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -136,7 +137,7 @@ public class BurdenedStone extends CustomEnchantment {
         Location loc = target.getLocation();
         if (loc != null && loc.getWorld() != null) {
             // Stone/dirt particles
-            loc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.BLOCK,
                 loc.add(0, 1, 0),
                 10 + (newStacks * 3),
@@ -1,7 +1,5 @@
 package com.server.enchantments.abilities.offensive;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 import org.bukkit.Location;
@@ -18,12 +16,14 @@ import org.bukkit.potion.PotionEffectType;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import com.server.Main;
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.elements.HybridElement;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -39,8 +39,8 @@ import com.server.profiles.ProfileManager;
  */
 public class CelestialSurge extends CustomEnchantment {
     
-    private static final Map<UUID, Long> surgeCooldowns = new HashMap<>();
     private static final long SURGE_COOLDOWN = 10000; // 10 seconds
+    private static final int SURGE_COOLDOWN_KEY = CooldownManager.key("celestial_surge.surge");
     
     public CelestialSurge() {
         super(
@@ -84,18 +84,14 @@ public class CelestialSurge extends CustomEnchantment {
         LivingEntity target = (LivingEntity) damageEvent.getEntity();
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (surgeCooldowns.containsKey(playerId)) {
-            long lastSurge = surgeCooldowns.get(playerId);
-            if (currentTime - lastSurge < SURGE_COOLDOWN) {
-                return;
-            }
+        if (CooldownManager.getInstance().isActive(playerId, SURGE_COOLDOWN_KEY)) {
+            return;
         }
         
         // Update cooldown
-        surgeCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, SURGE_COOLDOWN_KEY, SURGE_COOLDOWN);
         
         // Get scaled stats
         double[] stats = getScaledStats(quality);
@@ -175,12 +171,12 @@ public class CelestialSurge extends CustomEnchantment {
                     beamLoc.setY(y);
                     
                     // Golden light particles
-                    center.getWorld().spawnParticle(Particle.GLOW, beamLoc, 2, 0.1, 0, 0.1, 0);
-                    center.getWorld().spawnParticle(Particle.END_ROD, beamLoc, 1, 0.05, 0, 0.05, 0.02);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.GLOW, beamLoc, 2, 0.1, 0, 0.1, 0);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.END_ROD, beamLoc, 1, 0.05, 0, 0.05, 0.02);
                     
                     // Lightning particles
                     if (Math.random() < 0.5) {
-                        center.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, beamLoc, 1, 0.15, 0, 0.15, 0.05);
+                        ParticleEmitter.getInstance().spawnParticle(Particle.ELECTRIC_SPARK, beamLoc, 1, 0.15, 0, 0.15, 0.05);
                     }
                 }
                 
@@ -189,8 +185,8 @@ public class CelestialSurge extends CustomEnchantment {
         }.runTaskTimer(Main.getInstance(), 0L, 1L);
         
         // Ground impact burst
-        center.getWorld().spawnParticle(Particle.FIREWORK, center.clone().add(0, 0.5, 0), 20, 0.5, 0.5, 0.5, 0.15);
-        center.getWorld().spawnParticle(Particle.GLOW, center.clone().add(0, 0.5, 0), 30, 0.8, 0.8, 0.8, 0.1);
+        ParticleEmitter.getInstance().spawnParticle(Particle.FIREWORK, center.clone().add(0, 0.5, 0), 20, 0.5, 0.5, 0.5, 0.15);
+        ParticleEmitter.getInstance().spawnParticle(Particle.GLOW, center.clone().add(0, 0.5, 0), 30, 0.8, 0.8, 0.8, 0.1);
         
         // Radial burst
         for (int i = 0; i < 16; i++) {
@@ -200,7 +196,7 @@ public class CelestialSurge extends CustomEnchantment {
             double y = center.getY() + 0.5;
             
             Location burstLoc = new Location(center.getWorld(), x, y, z);
-            center.getWorld().spawnParticle(Particle.END_ROD, burstLoc, 1, 0, 0, 0, 0.1);
+            ParticleEmitter.getInstance().spawnParticle(Particle.END_ROD, burstLoc, 1, 0, 0, 0, 0.1);
         }
     }
     
@@ -1,14 +1,13 @@
 package com.server.enchantments.abilities.offensive;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
@@ -17,11 +16,14 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import com.server.Main;
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
+import com.server.spatial.SpatialIndex;
 
 /**
  * Fragment of Cinderwake
@@ -31,8 +33,8 @@ import com.server.enchantments.elements.ElementType;
  */
 public class Cinderwake extends CustomEnchantment {
     
-    private static final Map<UUID, Long> trailCooldowns = new HashMap<>();
     private static final long TRAIL_COOLDOWN = 5000; // 5 seconds between trail spawns
+    private static final int TRAIL_COOLDOWN_KEY = CooldownManager.key("cinderwake.trail");
     
     public Cinderwake() {
         super(
@@ -80,13 +82,9 @@ public class Cinderwake extends CustomEnchantment {
         
         // Check cooldown
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
-        if (trailCooldowns.containsKey(playerId)) {
-            long lastTrail = trailCooldowns.get(playerId);
-            if (currentTime - lastTrail < TRAIL_COOLDOWN) {
-                return; // Still on cooldown
-            }
+        if (CooldownManager.getInstance().isActive(playerId, TRAIL_COOLDOWN_KEY)) {
+            return; // Still on cooldown
         }
         
         // Get scaled stats (quality only)
@@ -95,7 +93,7 @@ public class Cinderwake extends CustomEnchantment {
         double damagePerTick = stats[1];
         
         // Update cooldown
-        trailCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, TRAIL_COOLDOWN_KEY, TRAIL_COOLDOWN);
         
         // Create burning trail
         Location targetLoc = target.getLocation();
@@ -126,6 +124,7 @@ public class Cinderwake extends CustomEnchantment {
         
         new BukkitRunnable() {
             int ticksRemaining = duration;
+            final List<LivingEntity> targets = new ArrayList<>();
             
             @Override
             public void run() {
@@ -139,7 +138,7 @@ public class Cinderwake extends CustomEnchantment {
                     Location segmentLoc = startLoc.clone().add(direction.clone().multiply(i));
                     
                     // Spawn fire particles
-                    segmentLoc.getWorld().spawnParticle(
+                    ParticleEmitter.getInstance().spawnParticle(
                         Particle.FLAME,
                         segmentLoc.add(0, 0.1, 0),
                         5,
@@ -148,7 +147,7 @@ public class Cinderwake extends CustomEnchantment {
                     );
                     
                     if (ticksRemaining % 10 == 0) { // Check every 0.5 seconds
-                        segmentLoc.getWorld().spawnParticle(
+                        ParticleEmitter.getInstance().spawnParticle(
                             Particle.LAVA,
                             segmentLoc,
                             2,
@@ -158,39 +157,36 @@ public class Cinderwake extends CustomEnchantment {
                     }
                     
                     // Check for entities in burning zone
-                    for (Entity entity : segmentLoc.getWorld().getNearbyEntities(segmentLoc, 1.0, 2.0, 1.0)) {
-                        if (entity instanceof LivingEntity && entity != player) {
-                            LivingEntity livingEntity = (LivingEntity) entity;
-                            
-                            // Apply burn damage through damage event system
-                            // This ensures proper affinity modifiers and effectiveness messages
-                            EntityDamageByEntityEvent burnEvent = new EntityDamageByEntityEvent(
-                                player, entity, org.bukkit.event.entity.EntityDamageEvent.DamageCause.FIRE,
-                                0.0); // Base damage handled by utility
-                            
-                            // Use EnchantmentDamageUtil for proper affinity integration
-                            com.server.enchantments.utils.EnchantmentDamageUtil.addBonusDamageToEvent(
-                                burnEvent, damagePerTick, ElementType.FIRE);
-                            
-                            // Apply the calculated damage
-                            double finalDamage = burnEvent.getFinalDamage();
-                            double newHealth = Math.max(0, livingEntity.getHealth() - finalDamage);
-                            livingEntity.setHealth(newHealth);
-                            
-                            // Set entity on fire briefly
-                            livingEntity.setFireTicks(20); // 1 second
-                            
-                            // Visual feedback
-                            Location targetLoc = livingEntity.getLocation();
-                            if (targetLoc != null && targetLoc.getWorld() != null) {
-                                targetLoc.getWorld().spawnParticle(
-                                    Particle.FLAME,
-                                    targetLoc.add(0, 1, 0),
-                                    10,
-                                    0.3, 0.5, 0.3,
-                                    0.05
-                                );
-                            }
+                    SpatialIndex.getInstance().queryBox(segmentLoc, 1.0, 2.0, 1.0, e -> e != player, targets);
+                    for (LivingEntity livingEntity : targets) {
+                        // Apply burn damage through damage event system
+                        // This ensures proper affinity modifiers and effectiveness messages
+                        EntityDamageByEntityEvent burnEvent = new EntityDamageByEntityEvent(
+                            player, livingEntity, org.bukkit.event.entity.EntityDamageEvent.DamageCause.FIRE,
+                            0.0); // Base damage handled by utility
+                        
+                        // Use EnchantmentDamageUtil for proper affinity integration
+                        com.server.enchantments.utils.EnchantmentDamageUtil.addBonusDamageToEvent(
+                            burnEvent, damagePerTick, ElementType.FIRE);
+                        
+                        // Apply the calculated damage
+                        double finalDamage = burnEvent.getFinalDamage();
+                        double newHealth = Math.max(0, livingEntity.getHealth() - finalDamage);
+                        livingEntity.setHealth(newHealth);
+                        
+                        // Set entity on fire briefly
+                        livingEntity.setFireTicks(20); // 1 second
+                        
+                        // Visual feedback
+                        Location targetLoc = livingEntity.getLocation();
+                        if (targetLoc != null && targetLoc.getWorld() != null) {
+                            ParticleEmitter.getInstance().spawnParticle(
+                                Particle.FLAME,
+                                targetLoc.add(0, 1, 0),
+                                10,
+                                0.3, 0.5, 0.3,
+                                0.05
+                            );
                         }
                     }
                 }
@@ -1,7 +1,5 @@
 package com.server.enchantments.abilities.offensive;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 import org.bukkit.Location;
@@ -16,11 +14,13 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -36,8 +36,8 @@ import com.server.profiles.ProfileManager;
  */
 public class Dawnstrike extends CustomEnchantment {
     
-    private static final Map<UUID, Long> blindCooldowns = new HashMap<>();
     private static final long BLIND_COOLDOWN = 3000; // 3 seconds between blind procs
+    private static final int BLIND_COOLDOWN_KEY = CooldownManager.key("dawnstrike.blind");
     
     public Dawnstrike() {
         super(
@@ -83,14 +83,10 @@ public class Dawnstrike extends CustomEnchantment {
         LivingEntity target = (LivingEntity) damageEvent.getEntity();
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (blindCooldowns.containsKey(playerId)) {
-            long lastBlind = blindCooldowns.get(playerId);
-            if (currentTime - lastBlind < BLIND_COOLDOWN) {
-                return; // Still on cooldown
-            }
+        if (CooldownManager.getInstance().isActive(playerId, BLIND_COOLDOWN_KEY)) {
+            return; // Still on cooldown
         }
         
         // Get scaled stats
@@ -129,7 +125,7 @@ public class Dawnstrike extends CustomEnchantment {
         }
         
         // Set cooldown
-        blindCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, BLIND_COOLDOWN_KEY, BLIND_COOLDOWN);
         
         // Feedback
         int durationSeconds = finalDuration / 20;
@@ -149,9 +145,9 @@ public class Dawnstrike extends CustomEnchantment {
         if (center == null || center.getWorld() == null) return;
         
         // Central explosion of light
-        center.getWorld().spawnParticle(Particle.GLOW, center.add(0, 1, 0), 50, 0.5, 0.5, 0.5, 0.1);
-        center.getWorld().spawnParticle(Particle.END_ROD, center, 30, 0.3, 0.5, 0.3, 0.15);
-        center.getWorld().spawnParticle(Particle.FIREWORK, center, 20, 0.4, 0.4, 0.4, 0.1);
+        ParticleEmitter.getInstance().spawnParticle(Particle.GLOW, center.add(0, 1, 0), 50, 0.5, 0.5, 0.5, 0.1);
+        ParticleEmitter.getInstance().spawnParticle(Particle.END_ROD, center, 30, 0.3, 0.5, 0.3, 0.15);
+        ParticleEmitter.getInstance().spawnParticle(Particle.FIREWORK, center, 20, 0.4, 0.4, 0.4, 0.1);
         
         // Radial burst
         for (int i = 0; i < 12; i++) {
@@ -161,7 +157,7 @@ public class Dawnstrike extends CustomEnchantment {
             double y = center.getY() + 0.5;
             
             Location particleLoc = new Location(center.getWorld(), x, y, z);
-            center.getWorld().spawnParticle(Particle.END_ROD, particleLoc, 3, 0.1, 0.1, 0.1, 0.05);
+            ParticleEmitter.getInstance().spawnParticle(Particle.END_ROD, particleLoc, 3, 0.1, 0.1, 0.1, 0.05);
         }
         
         // Upward spiral
@@ -173,7 +169,7 @@ public class Dawnstrike extends CustomEnchantment {
             double y = center.getY() + (i * 0.3);
             
             Location spiralLoc = new Location(center.getWorld(), x, y, z);
-            center.getWorld().spawnParticle(Particle.GLOW, spiralLoc, 2, 0.05, 0.05, 0.05, 0);
+            ParticleEmitter.getInstance().spawnParticle(Particle.GLOW, spiralLoc, 2, 0.05, 0.05, 0.05, 0);
         }
     }
     
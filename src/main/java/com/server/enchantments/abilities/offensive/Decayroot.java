@@ -1,7 +1,5 @@
 package com.server.enchantments.abilities.offensive;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 import org.bukkit.Location;
@@ -15,15 +13,15 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
-import com.server.Main;
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.elements.HybridElement;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -39,10 +37,10 @@ import com.server.profiles.ProfileManager;
  */
 public class Decayroot extends CustomEnchantment {
     
-    private static final Map<UUID, Long> rootCooldowns = new HashMap<>();
-    private static final Map<UUID, Integer> rootStacks = new HashMap<>();
     private static final long ROOT_COOLDOWN = 5000; // 5 seconds
+    private static final int ROOT_COOLDOWN_KEY = CooldownManager.key("decayroot.root");
     private static final int MAX_STACKS = 3;
+    private static final int ROOT_STACKS_KEY = CooldownManager.key("decayroot.stacks");
     
     public Decayroot() {
         super(
@@ -87,23 +85,14 @@ public class Decayroot extends CustomEnchantment {
         
         UUID playerId = player.getUniqueId();
         UUID targetId = target.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (rootCooldowns.containsKey(playerId)) {
-            long lastRoot = rootCooldowns.get(playerId);
-            if (currentTime - lastRoot < ROOT_COOLDOWN) {
-                return;
-            }
+        if (CooldownManager.getInstance().isActive(playerId, ROOT_COOLDOWN_KEY)) {
+            return;
         }
         
         // Update cooldown
-        rootCooldowns.put(playerId, currentTime);
-        
-        // Get or increment stacks
-        int currentStacks = rootStacks.getOrDefault(targetId, 0);
-        currentStacks = Math.min(currentStacks + 1, MAX_STACKS);
-        rootStacks.put(targetId, currentStacks);
+        CooldownManager.getInstance().start(playerId, ROOT_COOLDOWN_KEY, ROOT_COOLDOWN);
         
         // Get scaled stats
         double[] stats = getScaledStats(quality);
@@ -121,6 +110,10 @@ public class Decayroot extends CustomEnchantment {
         int finalWitherDuration = (int) (baseWitherDuration * (1.0 + shadowBonus * 0.6)); // +60% max from shadow
         int finalWeaknessAmplifier = baseWeaknessAmplifier + (int) (earthBonus * 2); // +2 max amplifier from earth
         
+        // Increment stacks, all stacks clear a second after the root ends
+        int currentStacks = CooldownManager.getInstance().addStack(targetId, ROOT_STACKS_KEY, MAX_STACKS, 
+                                                                   (finalRootDuration + 20L) * 50L);
+        
         // Apply root (slowness 10 = nearly immobile)
         target.addPotionEffect(new PotionEffect(PotionEffectType.SLOWNESS, finalRootDuration, 10, false, true, true));
         
@@ -145,14 +138,6 @@ public class Decayroot extends CustomEnchantment {
         // Feedback
         player.sendMessage("§8☠ Decayroot §7rooted §f" + target.getName() + 
                           " §7[§8" + currentStacks + "§7/§8" + MAX_STACKS + "§7]");
-        
-        // Clear stacks after duration
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                rootStacks.remove(targetId);
-            }
-        }.runTaskLater(Main.getInstance(), finalRootDuration + 20L);
     }
     
     @Override
@@ -177,12 +162,12 @@ public class Decayroot extends CustomEnchantment {
             Location particleLoc = new Location(center.getWorld(), x, y, z);
             
             // Root/earth particles
-            center.getWorld().spawnParticle(Particle.BLOCK, particleLoc, 1, 0, 0, 0, 0, 
+            ParticleEmitter.getInstance().spawnParticle(Particle.BLOCK, particleLoc, 1, 0, 0, 0, 0, 
                                            Material.ROOTED_DIRT.createBlockData());
             
             // Shadow corruption
             if (Math.random() < 0.4) {
-                center.getWorld().spawnParticle(Particle.SQUID_INK, particleLoc.add(0, 0.5, 0), 
+                ParticleEmitter.getInstance().spawnParticle(Particle.SQUID_INK, particleLoc.add(0, 0.5, 0), 
                                                1, 0.1, 0.2, 0.1, 0.01);
             }
         }
@@ -191,8 +176,8 @@ public class Decayroot extends CustomEnchantment {
         for (int i = 0; i < 5; i++) {
             double yOffset = i * 0.4;
             Location pillarLoc = center.clone().add(0, yOffset, 0);
-            center.getWorld().spawnParticle(Particle.SMOKE, pillarLoc, 2, 0.2, 0.1, 0.2, 0.01);
-            center.getWorld().spawnParticle(Particle.ASH, pillarLoc, 3, 0.3, 0.1, 0.3, 0.01);
+            ParticleEmitter.getInstance().spawnParticle(Particle.SMOKE, pillarLoc, 2, 0.2, 0.1, 0.2, 0.01);
+            ParticleEmitter.getInstance().spawnParticle(Particle.ASH, pillarLoc, 3, 0.3, 0.1, 0.3, 0.01);
         }
     }
     
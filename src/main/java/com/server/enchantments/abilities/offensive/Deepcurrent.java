@@ -1,14 +1,13 @@
 package com.server.enchantments.abilities.offensive;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
@@ -16,14 +15,17 @@ import org.bukkit.event.entity.EntityDamageByEntityEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.utils.AffinityModifier;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
+import com.server.spatial.SpatialIndex;
 
 /**
  * Deepcurrent - Water Offensive Enchantment
@@ -37,8 +39,8 @@ import com.server.profiles.ProfileManager;
  */
 public class Deepcurrent extends CustomEnchantment {
     
-    private static final Map<UUID, Long> tideCooldowns = new HashMap<>();
     private static final long TIDE_COOLDOWN = 8000; // 8 seconds between waves
+    private static final int TIDE_COOLDOWN_KEY = CooldownManager.key("deepcurrent.tide");
     
     public Deepcurrent() {
         super(
@@ -83,18 +85,14 @@ public class Deepcurrent extends CustomEnchantment {
         LivingEntity target = (LivingEntity) damageEvent.getEntity();
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (tideCooldowns.containsKey(playerId)) {
-            long lastTide = tideCooldowns.get(playerId);
-            if (currentTime - lastTide < TIDE_COOLDOWN) {
-                return; // Still on cooldown
-            }
+        if (CooldownManager.getInstance().isActive(playerId, TIDE_COOLDOWN_KEY)) {
+            return; // Still on cooldown
         }
         
         // Update cooldown
-        tideCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, TIDE_COOLDOWN_KEY, TIDE_COOLDOWN);
         
         // Get scaled stats (quality only)
         double[] stats = getScaledStats(quality);
@@ -144,7 +142,7 @@ public class Deepcurrent extends CustomEnchantment {
                 
                 Location particleLoc = playerLoc.clone().add(offset).add(0, 1, 0);
                 
-                playerLoc.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.SPLASH,
                     particleLoc,
                     3,
@@ -153,7 +151,7 @@ public class Deepcurrent extends CustomEnchantment {
                 );
                 
                 if (i % 3 == 0) {
-                    playerLoc.getWorld().spawnParticle(
+                    ParticleEmitter.getInstance().spawnParticle(
                         Particle.BUBBLE_POP,
                         particleLoc,
                         2,
@@ -165,16 +163,13 @@ public class Deepcurrent extends CustomEnchantment {
         }
         
         // Find and knockback entities in the cone
-        for (Entity entity : playerLoc.getWorld().getNearbyEntities(playerLoc, range, range, range)) {
-            if (!(entity instanceof LivingEntity) || entity.equals(player)) continue;
-            
-            LivingEntity livingEntity = (LivingEntity) entity;
+        // 60-degree cone in front of the player
+        List<LivingEntity> targets = SpatialIndex.getInstance().queryCone(
+            playerLoc, playerDirection, range, Math.PI / 3, e -> !e.equals(player), new ArrayList<>());
+        
+        for (LivingEntity livingEntity : targets) {
             Vector toEntity = livingEntity.getLocation().toVector().subtract(playerLoc.toVector());
             
-            // Check if entity is in front of player (cone check)
-            double angle = playerDirection.angle(toEntity);
-            if (angle > Math.PI / 3) continue; // 60-degree cone
-            
             // Calculate knockback direction (away from player)
             Vector knockbackVec = toEntity.normalize().multiply(knockback);
             knockbackVec.setY(0.4); // Add upward component
@@ -183,8 +178,8 @@ public class Deepcurrent extends CustomEnchantment {
             livingEntity.setVelocity(knockbackVec);
             
             // Apply damage with affinity modifier for PVP
-            if (entity instanceof Player) {
-                Player targetPlayer = (Player) entity;
+            if (livingEntity instanceof Player) {
+                Player targetPlayer = (Player) livingEntity;
                 double modifier = AffinityModifier.calculateDamageModifier(player, targetPlayer, ElementType.WATER);
                 double damage = 3.0 * modifier; // Base 3 damage
                 
@@ -204,7 +199,7 @@ public class Deepcurrent extends CustomEnchantment {
             // Particle effect on hit entity
             Location entityLoc = livingEntity.getLocation();
             if (entityLoc != null && entityLoc.getWorld() != null) {
-                entityLoc.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.SPLASH,
                     entityLoc.add(0, 1, 0),
                     15,
@@ -1,7 +1,5 @@
 package com.server.enchantments.abilities.offensive;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 import org.bukkit.Location;
@@ -18,12 +16,14 @@ import org.bukkit.potion.PotionEffectType;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import com.server.Main;
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.elements.HybridElement;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -39,8 +39,8 @@ import com.server.profiles.ProfileManager;
  */
 public class Embershade extends CustomEnchantment {
     
-    private static final Map<UUID, Long> embershadeCooldowns = new HashMap<>();
     private static final long EMBERSHADE_COOLDOWN = 7000; // 7 seconds
+    private static final int EMBERSHADE_COOLDOWN_KEY = CooldownManager.key("embershade.strike");
     
     public Embershade() {
         super(
@@ -87,18 +87,14 @@ public class Embershade extends CustomEnchantment {
         LivingEntity target = (LivingEntity) damageEvent.getEntity();
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (embershadeCooldowns.containsKey(playerId)) {
-            long lastEmbershade = embershadeCooldowns.get(playerId);
-            if (currentTime - lastEmbershade < EMBERSHADE_COOLDOWN) {
-                return;
-            }
+        if (CooldownManager.getInstance().isActive(playerId, EMBERSHADE_COOLDOWN_KEY)) {
+            return;
         }
         
         // Update cooldown
-        embershadeCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, EMBERSHADE_COOLDOWN_KEY, EMBERSHADE_COOLDOWN);
         
         // Get scaled stats
         double[] stats = getScaledStats(quality);
@@ -180,17 +176,17 @@ public class Embershade extends CustomEnchantment {
                     Location flameLoc = new Location(loc.getWorld(), x, y, z);
                     
                     // Dark red/black flames
-                    loc.getWorld().spawnParticle(Particle.FLAME, flameLoc, 1, 0.05, 0.05, 0.05, 0.01);
-                    loc.getWorld().spawnParticle(Particle.SMOKE, flameLoc, 1, 0.05, 0.05, 0.05, 0.01);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.FLAME, flameLoc, 1, 0.05, 0.05, 0.05, 0.01);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.SMOKE, flameLoc, 1, 0.05, 0.05, 0.05, 0.01);
                     
                     // Shadow particles
                     if (Math.random() < 0.3) {
-                        loc.getWorld().spawnParticle(Particle.SQUID_INK, flameLoc, 1, 0.1, 0.1, 0.1, 0.01);
+                        ParticleEmitter.getInstance().spawnParticle(Particle.SQUID_INK, flameLoc, 1, 0.1, 0.1, 0.1, 0.01);
                     }
                 }
                 
                 // Rising ash
-                loc.getWorld().spawnParticle(Particle.ASH, loc.clone().add(0, 1.5, 0), 2, 0.3, 0.5, 0.3, 0.01);
+                ParticleEmitter.getInstance().spawnParticle(Particle.ASH, loc.clone().add(0, 1.5, 0), 2, 0.3, 0.5, 0.3, 0.01);
                 
                 ticks += 3;
             }
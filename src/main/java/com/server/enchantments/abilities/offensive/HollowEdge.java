@@ -1,7 +1,5 @@
 package com.server.enchantments.abilities.offensive;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 import org.bukkit.Location;
@@ -14,11 +12,13 @@ import org.bukkit.event.Event;
 import org.bukkit.event.entity.EntityDeathEvent;
 import org.bukkit.inventory.ItemStack;
 
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -34,8 +34,8 @@ import com.server.profiles.ProfileManager;
  */
 public class HollowEdge extends CustomEnchantment {
     
-    private static final Map<UUID, Long> killCooldowns = new HashMap<>();
     private static final long KILL_COOLDOWN = 500; // 0.5 second between procs
+    private static final int KILL_COOLDOWN_KEY = CooldownManager.key("hollow_edge.kill");
     
     public HollowEdge() {
         super(
@@ -80,18 +80,14 @@ public class HollowEdge extends CustomEnchantment {
         LivingEntity killedEntity = deathEvent.getEntity();
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (killCooldowns.containsKey(playerId)) {
-            long lastKill = killCooldowns.get(playerId);
-            if (currentTime - lastKill < KILL_COOLDOWN) {
-                return; // Still on cooldown
-            }
+        if (CooldownManager.getInstance().isActive(playerId, KILL_COOLDOWN_KEY)) {
+            return; // Still on cooldown
         }
         
         // Update cooldown
-        killCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, KILL_COOLDOWN_KEY, KILL_COOLDOWN);
         
         // Get player profile
         Integer activeSlot = ProfileManager.getInstance().getActiveProfile(playerId);
@@ -117,10 +113,10 @@ public class HollowEdge extends CustomEnchantment {
         player.setHealth(newHealth);
         
         // Restore mana
-        int currentMana = profile.getStats().getTotalMana();
-        int maxMana = profile.getStats().getMana();
+        int currentMana = profile.getStats().getMana();
+        int maxMana = profile.getStats().getTotalMana();
         int newMana = Math.min(currentMana + (int)manaRestore, maxMana);
-        profile.getStats().setTotalMana(newMana);
+        profile.getStats().setMana(newMana);
         
         // Visual and sound effects
         createDrainEffect(killedEntity.getLocation(), player.getLocation());
@@ -161,13 +157,13 @@ public class HollowEdge extends CustomEnchantment {
             Location particleLoc = new Location(from.getWorld(), x, y, z);
             
             // Shadow particles
-            from.getWorld().spawnParticle(Particle.SMOKE, particleLoc, 1, 0.1, 0.1, 0.1, 0.01);
-            from.getWorld().spawnParticle(Particle.SQUID_INK, particleLoc, 2, 0.1, 0.1, 0.1, 0.01);
+            ParticleEmitter.getInstance().spawnParticle(Particle.SMOKE, particleLoc, 1, 0.1, 0.1, 0.1, 0.01);
+            ParticleEmitter.getInstance().spawnParticle(Particle.SQUID_INK, particleLoc, 2, 0.1, 0.1, 0.1, 0.01);
         }
         
         // Absorption effect at player
-        to.getWorld().spawnParticle(Particle.SOUL, to.add(0, 1, 0), 15, 0.3, 0.5, 0.3, 0.05);
-        to.getWorld().spawnParticle(Particle.SMOKE, to, 10, 0.4, 0.4, 0.4, 0.02);
+        ParticleEmitter.getInstance().spawnParticle(Particle.SOUL, to.add(0, 1, 0), 15, 0.3, 0.5, 0.3, 0.05);
+        ParticleEmitter.getInstance().spawnParticle(Particle.SMOKE, to, 10, 0.4, 0.4, 0.4, 0.02);
     }
     
     /**
@@ -1,7 +1,7 @@
 package com.server.enchantments.abilities.offensive;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.bukkit.Location;
@@ -16,14 +16,17 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import com.server.Main;
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.elements.HybridElement;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
+import com.server.spatial.SpatialIndex;
 
 /**
  * Stormfire - Fire/Lightning Hybrid Offensive Enchantment
@@ -37,8 +40,8 @@ import com.server.profiles.ProfileManager;
  */
 public class Stormfire extends CustomEnchantment {
     
-    private static final Map<UUID, Long> strikeCooldowns = new HashMap<>();
     private static final long STRIKE_COOLDOWN = 8000; // 8 seconds
+    private static final int STRIKE_COOLDOWN_KEY = CooldownManager.key("stormfire.strike");
     
     public Stormfire() {
         super(
@@ -84,18 +87,14 @@ public class Stormfire extends CustomEnchantment {
         LivingEntity target = (LivingEntity) damageEvent.getEntity();
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (strikeCooldowns.containsKey(playerId)) {
-            long lastStrike = strikeCooldowns.get(playerId);
-            if (currentTime - lastStrike < STRIKE_COOLDOWN) {
-                return;
-            }
+        if (CooldownManager.getInstance().isActive(playerId, STRIKE_COOLDOWN_KEY)) {
+            return;
         }
         
         // Update cooldown
-        strikeCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, STRIKE_COOLDOWN_KEY, STRIKE_COOLDOWN);
         
         // Get scaled stats
         double[] stats = getScaledStats(quality);
@@ -142,16 +141,14 @@ public class Stormfire extends CustomEnchantment {
         if (center == null || center.getWorld() == null) return;
         
         // Damage and burn nearby enemies
-        for (org.bukkit.entity.Entity entity : center.getWorld().getNearbyEntities(center, radius, radius, radius)) {
-            if (!(entity instanceof LivingEntity)) continue;
-            if (entity.equals(caster)) continue;
-            if (entity instanceof Player) continue; // Skip players for now
-            
-            LivingEntity living = (LivingEntity) entity;
-            
+        List<LivingEntity> targets = SpatialIndex.getInstance().querySphere(center, radius,
+            e -> !e.equals(caster) && !(e instanceof Player), // Skip players for now
+            new ArrayList<>());
+        
+        for (LivingEntity living : targets) {
             // Apply damage
             double distance = living.getLocation().distance(center);
-            double damageMultiplier = 1.0 - (distance / radius) * 0.5; // 50-100% damage based on distance
+            double damageMultiplier = 1.0 - (Math.min(distance, radius) / radius) * 0.5; // 50-100% damage based on distance
             living.damage(damage * damageMultiplier, caster);
             
             // Apply fire
@@ -182,18 +179,18 @@ public class Stormfire extends CustomEnchantment {
                     Location particleLoc = new Location(center.getWorld(), x, y, z);
                     
                     // Fire particles
-                    center.getWorld().spawnParticle(Particle.FLAME, particleLoc, 2, 0.1, 0.1, 0.1, 0.02);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.FLAME, particleLoc, 2, 0.1, 0.1, 0.1, 0.02);
                     
                     // Lightning particles
                     if (Math.random() < 0.3) {
-                        center.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, particleLoc, 1, 0.1, 0.1, 0.1, 0.05);
+                        ParticleEmitter.getInstance().spawnParticle(Particle.ELECTRIC_SPARK, particleLoc, 1, 0.1, 0.1, 0.1, 0.05);
                     }
                 }
                 
                 // Center explosion
-                center.getWorld().spawnParticle(Particle.LAVA, center.clone().add(0, 1, 0), 
+                ParticleEmitter.getInstance().spawnParticle(Particle.LAVA, center.clone().add(0, 1, 0), 
                                                5, 0.3, 0.3, 0.3, 0.1);
-                center.getWorld().spawnParticle(Particle.FLAME, center.clone().add(0, 1, 0), 
+                ParticleEmitter.getInstance().spawnParticle(Particle.FLAME, center.clone().add(0, 1, 0), 
                                                10, 0.5, 0.5, 0.5, 0.05);
                 
                 ticks++;
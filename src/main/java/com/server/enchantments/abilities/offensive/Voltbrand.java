@@ -1,8 +1,6 @@
 package com.server.enchantments.abilities.offensive;
 
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
@@ -10,7 +8,6 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.entity.Entity;
 import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
@@ -19,14 +16,17 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import com.server.Main;
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.utils.EnchantmentDamageUtil;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
+import com.server.spatial.SpatialIndex;
 
 /**
  * Voltbrand - Lightning Offensive Enchantment
@@ -40,8 +40,8 @@ import com.server.profiles.ProfileManager;
  */
 public class Voltbrand extends CustomEnchantment {
     
-    private static final Map<UUID, Long> chainCooldowns = new HashMap<>();
     private static final long CHAIN_COOLDOWN = 6000; // 6 seconds
+    private static final int CHAIN_COOLDOWN_KEY = CooldownManager.key("voltbrand.chain");
     
     public Voltbrand() {
         super(
@@ -85,18 +85,14 @@ public class Voltbrand extends CustomEnchantment {
         LivingEntity initialTarget = (LivingEntity) damageEvent.getEntity();
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (chainCooldowns.containsKey(playerId)) {
-            long lastChain = chainCooldowns.get(playerId);
-            if (currentTime - lastChain < CHAIN_COOLDOWN) {
-                return; // Still on cooldown
-            }
+        if (CooldownManager.getInstance().isActive(playerId, CHAIN_COOLDOWN_KEY)) {
+            return; // Still on cooldown
         }
         
         // Update cooldown
-        chainCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, CHAIN_COOLDOWN_KEY, CHAIN_COOLDOWN);
         
         // Get scaled stats (quality only)
         double[] stats = getScaledStats(quality);
@@ -188,31 +184,11 @@ public class Voltbrand extends CustomEnchantment {
      */
     private LivingEntity findNearestTarget(Location from, double range, 
                                           Set<UUID> excludeEntities, Player caster) {
-        LivingEntity nearest = null;
-        double nearestDistance = range;
-        
-        for (Entity entity : from.getWorld().getNearbyEntities(from, range, range, range)) {
-            if (!(entity instanceof LivingEntity)) {
-                continue;
-            }
-            
-            LivingEntity living = (LivingEntity) entity;
-            
-            // Skip if already hit, is the caster, or is a player
-            if (excludeEntities.contains(living.getUniqueId()) || 
-                living.equals(caster) ||
-                living instanceof Player) {
-                continue;
-            }
-            
-            double distance = from.distance(living.getLocation());
-            if (distance < nearestDistance) {
-                nearest = living;
-                nearestDistance = distance;
-            }
-        }
-        
-        return nearest;
+        // Skip if already hit, is the caster, or is a player
+        return SpatialIndex.getInstance().findNearest(from, range, living ->
+            !excludeEntities.contains(living.getUniqueId()) &&
+            !living.equals(caster) &&
+            !(living instanceof Player));
     }
     
     /**
@@ -236,8 +212,8 @@ public class Voltbrand extends CustomEnchantment {
             z += (Math.random() - 0.5) * 0.3;
             
             Location particleLoc = new Location(start.getWorld(), x, y, z);
-            start.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, particleLoc, 2, 0.1, 0.1, 0.1, 0.02);
-            start.getWorld().spawnParticle(Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
+            ParticleEmitter.getInstance().spawnParticle(Particle.ELECTRIC_SPARK, particleLoc, 2, 0.1, 0.1, 0.1, 0.02);
+            ParticleEmitter.getInstance().spawnParticle(Particle.END_ROD, particleLoc, 1, 0, 0, 0, 0);
         }
     }
     
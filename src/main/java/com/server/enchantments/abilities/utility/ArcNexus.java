@@ -23,9 +23,12 @@ import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 import com.server.profiles.stats.PlayerStats;
+import com.server.profiles.stats.StatLayer;
+import com.server.profiles.stats.StatType;
 
 /**
  * Arc Nexus - Lightning Utility Enchantment
@@ -135,8 +138,8 @@ public class ArcNexus extends CustomEnchantment {
             // Check if we should decay stacks
             long timeSinceLastHit = currentTime - stackData.lastHitTime;
             if (timeSinceLastHit > STACK_DECAY_DELAY_TICKS * 50L) { // Convert to ms
-                // Decay all stacks - reset to original attack speed
-                playerStats.setAttackSpeed(stackData.originalAttackSpeed);
+                // Decay all stacks - clear the attack speed buff
+                playerStats.setLayer(StatLayer.BUFF, StatType.ATTACK_SPEED, 0);
                 playerStats.applyToPlayer(player);
                 
                 // Remove Arc Nexus attack speed bonus
@@ -162,7 +165,7 @@ public class ArcNexus extends CustomEnchantment {
         // Calculate and apply attack speed bonus based on stacks
         double totalAttackSpeedBonus = stackData.currentStacks * attackSpeedPerStack;
         double newAttackSpeed = stackData.originalAttackSpeed + totalAttackSpeedBonus;
-        playerStats.setAttackSpeed(newAttackSpeed);
+        playerStats.setLayer(StatLayer.BUFF, StatType.ATTACK_SPEED, totalAttackSpeedBonus);
         playerStats.applyToPlayer(player);
         
         // Apply attack speed attribute directly
@@ -183,15 +186,12 @@ public class ArcNexus extends CustomEnchantment {
             player.sendMessage("§e⚡ Arc Nexus §7[§e" + stackData.currentStacks + "§7/§e" + maxStacks + "§7] §7(§e" + speedDisplay + " AS§7)");
         }
         
-        // Store final reference to original speed for decay task
-        final double originalSpeed = stackData.originalAttackSpeed;
-        
         // Schedule decay task
         stackData.decayTask = new BukkitRunnable() {
             @Override
             public void run() {
-                // Reset attack speed to original value
-                playerStats.setAttackSpeed(originalSpeed);
+                // Clear the attack speed buff
+                playerStats.setLayer(StatLayer.BUFF, StatType.ATTACK_SPEED, 0);
                 playerStats.applyToPlayer(player);
                 
                 // Remove Arc Nexus attack speed bonus
@@ -259,7 +259,7 @@ public class ArcNexus extends CustomEnchantment {
             double z = player.getLocation().getZ() + radius * Math.sin(angle);
             double y = player.getLocation().getY() + 1.0 + (Math.sin(angle) * 0.3);
             
-            player.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.ELECTRIC_SPARK,
                 x, y, z,
                 1, 0, 0, 0, 0.02
@@ -268,7 +268,7 @@ public class ArcNexus extends CustomEnchantment {
         
         // Additional particles at max stacks
         if (stacks >= 5) {
-            player.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.END_ROD,
                 player.getLocation().add(0, 1.5, 0),
                 10, 0.3, 0.3, 0.3, 0.1
@@ -1,7 +1,5 @@
 package com.server.enchantments.abilities.utility;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 
 import org.bukkit.Location;
@@ -15,11 +13,13 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -35,8 +35,8 @@ import com.server.profiles.ProfileManager;
  */
 public class AshenVeil extends CustomEnchantment {
     
-    private static final Map<UUID, Long> veilCooldowns = new HashMap<>();
     private static final long VEIL_COOLDOWN = 15000; // 15 seconds between procs
+    private static final int VEIL_COOLDOWN_KEY = CooldownManager.key("ashen_veil.veil");
     
     public AshenVeil() {
         super(
@@ -83,18 +83,14 @@ public class AshenVeil extends CustomEnchantment {
         }
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (veilCooldowns.containsKey(playerId)) {
-            long lastVeil = veilCooldowns.get(playerId);
-            if (currentTime - lastVeil < VEIL_COOLDOWN) {
-                return; // Still on cooldown
-            }
+        if (CooldownManager.getInstance().isActive(playerId, VEIL_COOLDOWN_KEY)) {
+            return; // Still on cooldown
         }
         
         // Update cooldown
-        veilCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, VEIL_COOLDOWN_KEY, VEIL_COOLDOWN);
         
         // Get scaled stats (quality only)
         double[] stats = getScaledStats(quality);
@@ -118,7 +114,7 @@ public class AshenVeil extends CustomEnchantment {
         Location loc = player.getLocation();
         if (loc != null && loc.getWorld() != null) {
             // Ash cloud particles
-            loc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.CAMPFIRE_COSY_SMOKE,
                 loc.add(0, 1, 0),
                 20,
@@ -127,7 +123,7 @@ public class AshenVeil extends CustomEnchantment {
             );
             
             // Flame particles for the fire element
-            loc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.SOUL_FIRE_FLAME,
                 loc,
                 15,
@@ -14,11 +14,13 @@ import org.bukkit.event.player.PlayerToggleSneakEvent;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Vector;
 
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -35,9 +37,9 @@ import com.server.profiles.ProfileManager;
 public class GaleStep extends CustomEnchantment {
     
     private static final Map<UUID, Long> lastSneakTime = new HashMap<>();
-    private static final Map<UUID, Long> dashCooldowns = new HashMap<>();
     private static final long DOUBLE_TAP_WINDOW = 300; // 300ms to double-tap
     private static final long BASE_COOLDOWN = 5000; // 5 seconds base cooldown
+    private static final int DASH_COOLDOWN_KEY = CooldownManager.key("gale_step.dash");
     
     public GaleStep() {
         super(
@@ -97,17 +99,14 @@ public class GaleStep extends CustomEnchantment {
         lastSneakTime.remove(playerId);
         
         // Check cooldown
-        Long lastDash = dashCooldowns.get(playerId);
-        if (lastDash != null) {
-            long cooldownRemaining = BASE_COOLDOWN - (currentTime - lastDash);
-            if (cooldownRemaining > 0) {
-                player.sendMessage("§6⚔ §7Gale Step §con cooldown! §7(" + (cooldownRemaining / 1000.0) + "s)");
-                return;
-            }
+        long cooldownRemaining = CooldownManager.getInstance().getRemaining(playerId, DASH_COOLDOWN_KEY);
+        if (cooldownRemaining > 0) {
+            player.sendMessage("§6⚔ §7Gale Step §con cooldown! §7(" + (cooldownRemaining / 1000.0) + "s)");
+            return;
         }
         
         // Update cooldown
-        dashCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, DASH_COOLDOWN_KEY, BASE_COOLDOWN);
         
         // Get scaled stats (quality only)
         double[] stats = getScaledStats(quality);
@@ -124,7 +123,7 @@ public class GaleStep extends CustomEnchantment {
         Location loc = player.getLocation();
         if (loc != null && loc.getWorld() != null) {
             // Wind particle trail
-            loc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.CLOUD,
                 loc.add(0, 1, 0),
                 20,
@@ -132,7 +131,7 @@ public class GaleStep extends CustomEnchantment {
                 0.15
             );
             
-            loc.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.SWEEP_ATTACK,
                 loc,
                 3,
@@ -173,7 +172,7 @@ public class GaleStep extends CustomEnchantment {
         for (int i = 0; i < 5; i++) {
             Location particleLoc = startLoc.clone().subtract(direction.clone().multiply(i * 0.5));
             if (particleLoc.getWorld() != null) {
-                particleLoc.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.CLOUD,
                     particleLoc.add(0, 1, 0),
                     3,
@@ -24,6 +24,7 @@ import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.elements.HybridElement;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -149,9 +150,9 @@ public class MistborneTempest extends CustomEnchantment {
         Location loc = player.getLocation();
         if (loc != null && loc.getWorld() != null) {
             // Mist burst
-            loc.getWorld().spawnParticle(Particle.CLOUD, loc.add(0, 1, 0), 30, 0.5, 0.8, 0.5, 0.1);
-            loc.getWorld().spawnParticle(Particle.SPLASH, loc, 20, 0.4, 0.6, 0.4, 0.2);
-            loc.getWorld().spawnParticle(Particle.SWEEP_ATTACK, loc, 5, 0.3, 0.5, 0.3, 0);
+            ParticleEmitter.getInstance().spawnParticle(Particle.CLOUD, loc.add(0, 1, 0), 30, 0.5, 0.8, 0.5, 0.1);
+            ParticleEmitter.getInstance().spawnParticle(Particle.SPLASH, loc, 20, 0.4, 0.6, 0.4, 0.2);
+            ParticleEmitter.getInstance().spawnParticle(Particle.SWEEP_ATTACK, loc, 5, 0.3, 0.5, 0.3, 0);
             
             // Wind sound
             loc.getWorld().playSound(loc, Sound.ENTITY_PHANTOM_FLAP, 1.0f, 1.5f);
@@ -197,12 +198,12 @@ public class MistborneTempest extends CustomEnchantment {
                 Location loc = player.getLocation();
                 if (loc != null && loc.getWorld() != null) {
                     // Mist trail
-                    loc.getWorld().spawnParticle(Particle.CLOUD, loc.add(0, 1, 0), 3, 0.3, 0.5, 0.3, 0.01);
-                    loc.getWorld().spawnParticle(Particle.SPLASH, loc, 2, 0.2, 0.3, 0.2, 0.05);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.CLOUD, loc.add(0, 1, 0), 3, 0.3, 0.5, 0.3, 0.01);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.SPLASH, loc, 2, 0.2, 0.3, 0.2, 0.05);
                     
                     // Occasional sweep
                     if (ticksElapsed % 5 == 0) {
-                        loc.getWorld().spawnParticle(Particle.SWEEP_ATTACK, loc, 1, 0, 0, 0, 0);
+                        ParticleEmitter.getInstance().spawnParticle(Particle.SWEEP_ATTACK, loc, 1, 0, 0, 0, 0);
                     }
                 }
                 
@@ -1,14 +1,14 @@
 package com.server.enchantments.abilities.utility;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.entity.EntityDamageEvent;
@@ -18,14 +18,17 @@ import org.bukkit.potion.PotionEffectType;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import com.server.Main;
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.elements.HybridElement;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
+import com.server.spatial.SpatialIndex;
 
 /**
  * Pure Reflection - Water/Light Hybrid Utility Enchantment
@@ -39,9 +42,11 @@ import com.server.profiles.ProfileManager;
  */
 public class PureReflection extends CustomEnchantment {
     
-    private static final Map<UUID, Long> barrierCooldowns = new HashMap<>();
-    private static final Map<UUID, Double> damageAbsorbed = new HashMap<>();
     private static final long BARRIER_COOLDOWN = 15000; // 15 seconds
+    private static final int BARRIER_COOLDOWN_KEY = CooldownManager.key("pure_reflection.barrier");
+    // Shield left to absorb, kept as a timed stacking effect in hundredths of a health point
+    private static final int SHIELD_KEY = CooldownManager.key("pure_reflection.shield");
+    private static final double SHIELD_UNITS = 100.0;
     
     public PureReflection() {
         super(
@@ -90,40 +95,35 @@ public class PureReflection extends CustomEnchantment {
         EntityDamageEvent damageEvent = (EntityDamageEvent) event;
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
+        CooldownManager cooldowns = CooldownManager.getInstance();
         
         // Check cooldown
-        if (barrierCooldowns.containsKey(playerId)) {
-            long lastBarrier = barrierCooldowns.get(playerId);
-            if (currentTime - lastBarrier < BARRIER_COOLDOWN) {
-                // Still within barrier duration - absorb damage
-                if (damageAbsorbed.containsKey(playerId)) {
-                    double absorbed = damageAbsorbed.get(playerId);
-                    double incomingDamage = damageEvent.getDamage();
-                    
-                    if (absorbed > 0) {
-                        double damageReduction = Math.min(absorbed, incomingDamage);
-                        damageEvent.setDamage(incomingDamage - damageReduction);
-                        damageAbsorbed.put(playerId, absorbed - damageReduction);
-                        
-                        // Visual feedback
-                        Location loc = player.getLocation();
-                        if (loc != null && loc.getWorld() != null) {
-                            loc.getWorld().spawnParticle(Particle.SPLASH, loc.add(0, 1, 0), 
-                                                        10, 0.5, 0.5, 0.5, 0.1);
-                            loc.getWorld().playSound(loc, Sound.BLOCK_WATER_AMBIENT, 0.5f, 1.5f);
-                        }
-                        
-                        player.sendMessage("§b✧ Pure Reflection §7absorbed §c" + 
-                                         String.format("%.1f", damageReduction) + " §7damage!");
-                    }
+        if (cooldowns.isActive(playerId, BARRIER_COOLDOWN_KEY)) {
+            // Still within barrier duration - absorb damage
+            double absorbed = cooldowns.getStacks(playerId, SHIELD_KEY) / SHIELD_UNITS;
+            if (absorbed > 0) {
+                double incomingDamage = damageEvent.getDamage();
+                double damageReduction = Math.min(absorbed, incomingDamage);
+                damageEvent.setDamage(incomingDamage - damageReduction);
+                cooldowns.setStacks(playerId, SHIELD_KEY, (int) Math.round((absorbed - damageReduction) * SHIELD_UNITS),
+                    cooldowns.getRemaining(playerId, SHIELD_KEY));
+                
+                // Visual feedback
+                Location loc = player.getLocation();
+                if (loc != null && loc.getWorld() != null) {
+                    ParticleEmitter.getInstance().spawnParticle(Particle.SPLASH, loc.add(0, 1, 0), 
+                                                10, 0.5, 0.5, 0.5, 0.1);
+                    loc.getWorld().playSound(loc, Sound.BLOCK_WATER_AMBIENT, 0.5f, 1.5f);
                 }
-                return;
+                
+                player.sendMessage("§b✧ Pure Reflection §7absorbed §c" + 
+                                 String.format("%.1f", damageReduction) + " §7damage!");
             }
+            return;
         }
         
         // Activate barrier
-        barrierCooldowns.put(playerId, currentTime);
+        cooldowns.start(playerId, BARRIER_COOLDOWN_KEY, BARRIER_COOLDOWN);
         
         // Get scaled stats
         double[] stats = getScaledStats(quality);
@@ -141,8 +141,8 @@ public class PureReflection extends CustomEnchantment {
         int finalDuration = (int) (baseBarrierDuration * (1.0 + waterBonus * 0.4)); // +40% max from water
         double finalRadius = baseCleanseRadius * (1.0 + lightBonus * 0.4); // +40% max radius from light
         
-        // Set absorption amount
-        damageAbsorbed.put(playerId, finalAbsorption);
+        // Set absorption amount; it runs out with the barrier and is dropped on logout
+        cooldowns.setStacks(playerId, SHIELD_KEY, (int) Math.round(finalAbsorption * SHIELD_UNITS), finalDuration * 50L);
         
         // Apply absorption and regeneration effects
         player.addPotionEffect(new PotionEffect(PotionEffectType.ABSORPTION, finalDuration, 1, false, true, true));
@@ -153,8 +153,9 @@ public class PureReflection extends CustomEnchantment {
         
         // Cleanse nearby allies
         int alliesCleansed = 0;
-        for (Entity entity : player.getNearbyEntities(finalRadius, finalRadius, finalRadius)) {
-            if (!(entity instanceof Player)) continue;
+        List<LivingEntity> allies = SpatialIndex.getInstance().queryBox(player.getLocation(), finalRadius, finalRadius, finalRadius,
+            e -> e instanceof Player && e != player, new ArrayList<>());
+        for (LivingEntity entity : allies) {
             Player ally = (Player) entity;
             
             cleanseDebuffs(ally);
@@ -165,7 +166,7 @@ public class PureReflection extends CustomEnchantment {
             // Visual effect on ally
             Location allyLoc = ally.getLocation();
             if (allyLoc != null && allyLoc.getWorld() != null) {
-                allyLoc.getWorld().spawnParticle(Particle.GLOW, allyLoc.add(0, 1, 0), 15, 0.5, 0.8, 0.5, 0.05);
+                ParticleEmitter.getInstance().spawnParticle(Particle.GLOW, allyLoc.add(0, 1, 0), 15, 0.5, 0.8, 0.5, 0.05);
             }
             
             ally.sendMessage("§b✧ Pure Reflection §7cleansed and shielded you!");
@@ -185,14 +186,6 @@ public class PureReflection extends CustomEnchantment {
         // Feedback
         player.sendMessage("§b✧ Pure Reflection §7activated! §7(§b" + (finalDuration / 20) + "s§7)" +
                           (alliesCleansed > 0 ? " §7Protected §b" + alliesCleansed + " §7allies!" : ""));
-        
-        // Clear absorption after duration
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                damageAbsorbed.remove(playerId);
-            }
-        }.runTaskLater(Main.getInstance(), finalDuration);
     }
     
     @Override
@@ -252,18 +245,18 @@ public class PureReflection extends CustomEnchantment {
                     Location barrierLoc = new Location(loc.getWorld(), x, y, z);
                     
                     // Water particles
-                    loc.getWorld().spawnParticle(Particle.SPLASH, barrierLoc, 1, 0, 0, 0, 0);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.SPLASH, barrierLoc, 1, 0, 0, 0, 0);
                     
                     // Light particles
                     if (Math.random() < 0.3) {
-                        loc.getWorld().spawnParticle(Particle.GLOW, barrierLoc, 1, 0.05, 0.05, 0.05, 0);
+                        ParticleEmitter.getInstance().spawnParticle(Particle.GLOW, barrierLoc, 1, 0.05, 0.05, 0.05, 0);
                     }
                 }
                 
                 // Central pillar every second
                 if (ticks % 20 == 0) {
                     for (int i = 0; i < 5; i++) {
-                        loc.getWorld().spawnParticle(Particle.END_ROD, loc.clone().add(0, i * 0.5, 0), 
+                        ParticleEmitter.getInstance().spawnParticle(Particle.END_ROD, loc.clone().add(0, i * 0.5, 0), 
                                                     2, 0.2, 0.1, 0.2, 0.01);
                     }
                 }
@@ -1,26 +1,29 @@
 package com.server.enchantments.abilities.utility;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.Particle;
 import org.bukkit.Sound;
-import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.entity.EntityDamageEvent;
 import org.bukkit.inventory.ItemStack;
 
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
+import com.server.spatial.SpatialIndex;
 
 /**
  * Radiant Grace - Light Utility Enchantment
@@ -34,8 +37,8 @@ import com.server.profiles.ProfileManager;
  */
 public class RadiantGrace extends CustomEnchantment {
     
-    private static final Map<UUID, Long> healCooldowns = new HashMap<>();
     private static final long HEAL_COOLDOWN = 8000; // 8 seconds
+    private static final int HEAL_COOLDOWN_KEY = CooldownManager.key("radiant_grace.heal");
     private static final double HEAL_RADIUS = 8.0; // 8 blocks
     
     public RadiantGrace() {
@@ -84,14 +87,10 @@ public class RadiantGrace extends CustomEnchantment {
         if (!(event instanceof EntityDamageEvent)) return;
         
         UUID playerId = player.getUniqueId();
-        long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (healCooldowns.containsKey(playerId)) {
-            long lastHeal = healCooldowns.get(playerId);
-            if (currentTime - lastHeal < HEAL_COOLDOWN) {
-                return; // Still on cooldown
-            }
+        if (CooldownManager.getInstance().isActive(playerId, HEAL_COOLDOWN_KEY)) {
+            return; // Still on cooldown
         }
         
         // Get scaled stats
@@ -109,9 +108,9 @@ public class RadiantGrace extends CustomEnchantment {
         int healedCount = 0;
         Location playerLoc = player.getLocation();
         
-        for (Entity entity : player.getNearbyEntities(finalRadius, finalRadius, finalRadius)) {
-            if (!(entity instanceof Player)) continue;
-            
+        List<LivingEntity> nearbyPlayers = SpatialIndex.getInstance().queryBox(playerLoc, finalRadius, finalRadius, finalRadius,
+            e -> e instanceof Player, new ArrayList<>());
+        for (LivingEntity entity : nearbyPlayers) {
             Player ally = (Player) entity;
             
             // Don't heal self (this enchantment is for allies)
@@ -150,7 +149,7 @@ public class RadiantGrace extends CustomEnchantment {
             }
             
             // Set cooldown
-            healCooldowns.put(playerId, currentTime);
+            CooldownManager.getInstance().start(playerId, HEAL_COOLDOWN_KEY, HEAL_COOLDOWN);
             
             // Feedback to caster
             player.sendMessage("§e☀ Radiant Grace §7healed §e" + healedCount + " §7" + 
@@ -174,12 +173,12 @@ public class RadiantGrace extends CustomEnchantment {
         for (int i = 0; i < 5; i++) {
             double yOffset = i * 0.4;
             Location particleLoc = loc.clone().add(0, yOffset, 0);
-            loc.getWorld().spawnParticle(Particle.GLOW, particleLoc, 3, 0.3, 0.1, 0.3, 0.02);
-            loc.getWorld().spawnParticle(Particle.END_ROD, particleLoc, 2, 0.2, 0.1, 0.2, 0.01);
+            ParticleEmitter.getInstance().spawnParticle(Particle.GLOW, particleLoc, 3, 0.3, 0.1, 0.3, 0.02);
+            ParticleEmitter.getInstance().spawnParticle(Particle.END_ROD, particleLoc, 2, 0.2, 0.1, 0.2, 0.01);
         }
         
         // Heart particles
-        loc.getWorld().spawnParticle(Particle.HEART, loc.add(0, 1.5, 0), 3, 0.5, 0.3, 0.5, 0);
+        ParticleEmitter.getInstance().spawnParticle(Particle.HEART, loc.add(0, 1.5, 0), 3, 0.5, 0.3, 0.5, 0);
     }
     
     /**
@@ -200,15 +199,15 @@ public class RadiantGrace extends CustomEnchantment {
                 double y = center.getY() + 0.2;
                 
                 Location particleLoc = new Location(center.getWorld(), x, y, z);
-                center.getWorld().spawnParticle(Particle.END_ROD, particleLoc, 1, 0.05, 0.05, 0.05, 0.01);
-                center.getWorld().spawnParticle(Particle.GLOW, particleLoc, 1, 0.1, 0.1, 0.1, 0);
+                ParticleEmitter.getInstance().spawnParticle(Particle.END_ROD, particleLoc, 1, 0.05, 0.05, 0.05, 0.01);
+                ParticleEmitter.getInstance().spawnParticle(Particle.GLOW, particleLoc, 1, 0.1, 0.1, 0.1, 0);
             }
         }
         
         // Central pillar of light
         for (int i = 0; i < 10; i++) {
             Location pillarLoc = center.clone().add(0, i * 0.3, 0);
-            center.getWorld().spawnParticle(Particle.FIREWORK, pillarLoc, 2, 0.1, 0.1, 0.1, 0.02);
+            ParticleEmitter.getInstance().spawnParticle(Particle.FIREWORK, pillarLoc, 2, 0.1, 0.1, 0.1, 0.02);
         }
     }
     
@@ -20,11 +20,13 @@ import org.bukkit.potion.PotionEffectType;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import com.server.Main;
+import com.server.cooldowns.CooldownManager;
 import com.server.enchantments.data.CustomEnchantment;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
 import com.server.enchantments.data.EnchantmentRarity;
 import com.server.enchantments.elements.ElementType;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -54,9 +56,9 @@ public class Veilborn extends CustomEnchantment {
     }
     
     private static final Map<UUID, SneakData> playerSneaks = new HashMap<>();
-    private static final Map<UUID, Long> invisCooldowns = new HashMap<>();
     private static final long DOUBLE_TAP_WINDOW = 300; // 300ms for double-tap
     private static final long INVIS_COOLDOWN = 15000; // 15 seconds
+    private static final int INVIS_COOLDOWN_KEY = CooldownManager.key("veilborn.invis");
     
     public Veilborn() {
         super(
@@ -111,13 +113,10 @@ public class Veilborn extends CustomEnchantment {
         long currentTime = System.currentTimeMillis();
         
         // Check cooldown
-        if (invisCooldowns.containsKey(playerId)) {
-            long lastInvis = invisCooldowns.get(playerId);
-            if (currentTime - lastInvis < INVIS_COOLDOWN) {
-                long remainingSeconds = (INVIS_COOLDOWN - (currentTime - lastInvis)) / 1000;
-                player.sendMessage("§5☠ Veilborn §7on cooldown: §e" + remainingSeconds + "s");
-                return;
-            }
+        if (CooldownManager.getInstance().isActive(playerId, INVIS_COOLDOWN_KEY)) {
+            long remainingSeconds = CooldownManager.getInstance().getRemaining(playerId, INVIS_COOLDOWN_KEY) / 1000;
+            player.sendMessage("§5☠ Veilborn §7on cooldown: §e" + remainingSeconds + "s");
+            return;
         }
         
         // Check for double-tap
@@ -167,9 +166,9 @@ public class Veilborn extends CustomEnchantment {
         Location loc = player.getLocation();
         if (loc != null && loc.getWorld() != null) {
             // Shadow burst
-            loc.getWorld().spawnParticle(Particle.SQUID_INK, loc.add(0, 1, 0), 30, 0.5, 0.8, 0.5, 0.1);
-            loc.getWorld().spawnParticle(Particle.SMOKE, loc, 20, 0.4, 0.6, 0.4, 0.05);
-            loc.getWorld().spawnParticle(Particle.SOUL, loc, 15, 0.3, 0.5, 0.3, 0.02);
+            ParticleEmitter.getInstance().spawnParticle(Particle.SQUID_INK, loc.add(0, 1, 0), 30, 0.5, 0.8, 0.5, 0.1);
+            ParticleEmitter.getInstance().spawnParticle(Particle.SMOKE, loc, 20, 0.4, 0.6, 0.4, 0.05);
+            ParticleEmitter.getInstance().spawnParticle(Particle.SOUL, loc, 15, 0.3, 0.5, 0.3, 0.02);
             
             // Shadow whisper sound
             loc.getWorld().playSound(loc, Sound.ENTITY_PHANTOM_DEATH, 0.7f, 0.6f);
@@ -177,7 +176,7 @@ public class Veilborn extends CustomEnchantment {
         }
         
         // Set cooldown
-        invisCooldowns.put(playerId, currentTime);
+        CooldownManager.getInstance().start(playerId, INVIS_COOLDOWN_KEY, INVIS_COOLDOWN);
         
         // Start shadow particle effect
         startShadowParticles(player, finalInvisDuration);
@@ -290,11 +289,11 @@ public class Veilborn extends CustomEnchantment {
                 Location loc = player.getLocation();
                 if (loc != null && loc.getWorld() != null) {
                     // Shadow trail particles
-                    loc.getWorld().spawnParticle(Particle.SQUID_INK, loc.add(0, 1, 0), 2, 0.3, 0.5, 0.3, 0.01);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.SQUID_INK, loc.add(0, 1, 0), 2, 0.3, 0.5, 0.3, 0.01);
                     
                     // Occasional soul particles
                     if (ticksElapsed % 10 == 0) {
-                        loc.getWorld().spawnParticle(Particle.SOUL, loc, 1, 0.2, 0.3, 0.2, 0.01);
+                        ParticleEmitter.getInstance().spawnParticle(Particle.SOUL, loc, 1, 0.2, 0.3, 0.2, 0.01);
                     }
                 }
                 
@@ -7,6 +7,7 @@ import org.bukkit.inventory.ItemStack;
 
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.elements.HybridElement;
+import com.server.items.LoreTemplate;
 
 import de.tr7zw.changeme.nbtapi.NBTItem;
 
@@ -19,6 +20,14 @@ public class EnchantmentData {
     private static final String NBT_PREFIX = "MMO_Enchant_";
     private static final String NBT_COUNT = "MMO_EnchantCount";
     
+    private static final String LORE_HEADER = org.bukkit.ChatColor.GRAY + "§m          §r " +
+            org.bukkit.ChatColor.GOLD + "⚔ Enchantments §r" +
+            org.bukkit.ChatColor.GRAY + "§m          §r";
+    // Format: "• 🔥 Ember Veil III [Legendary]" followed by the description
+    private static final LoreTemplate LORE_ENTRY = LoreTemplate.compile(
+            org.bukkit.ChatColor.GRAY + "• {0}{1} {2} {3}[{4}]",
+            org.bukkit.ChatColor.DARK_GRAY + "  {5}");
+    
     private final String enchantmentId;
     private final EnchantmentQuality quality;
     private final EnchantmentLevel level;
@@ -365,10 +374,9 @@ public class EnchantmentData {
         
         for (int i = 0; i < lore.size(); i++) {
             String line = lore.get(i);
-            String stripped = org.bukkit.ChatColor.stripColor(line);
             
             // Find enchantment header - look for "Enchantments" with decorative formatting
-            if (stripped != null && stripped.contains("Enchantments") && line.contains("§m")) {
+            if (line.contains("Enchantments") && line.contains("§m")) {
                 // Check if there's an empty line before this header
                 if (i > 0 && lore.get(i - 1).trim().isEmpty()) {
                     enchantSectionStart = i - 1; // Include the empty line before header
@@ -383,8 +391,7 @@ public class EnchantmentData {
                 // 2. We hit an empty line followed by non-enchantment content
                 // 3. We reach end of lore
                 
-                String currentStripped = org.bukkit.ChatColor.stripColor(line);
-                if (currentStripped != null && line.contains("§m") && !currentStripped.contains("Enchantments")) {
+                if (line.contains("§m") && !line.contains("Enchantments")) {
                     // Another section header found - don't include the empty line before it
                     enchantSectionEnd = i;
                     if (i > 0 && lore.get(i - 1).trim().isEmpty()) {
@@ -413,9 +420,7 @@ public class EnchantmentData {
         if (!enchantments.isEmpty()) {
             // Add enchantment section at the END of existing lore
             lore.add("");
-            lore.add(org.bukkit.ChatColor.GRAY + "§m          §r " + 
-                    org.bukkit.ChatColor.GOLD + "⚔ Enchantments §r" + 
-                    org.bukkit.ChatColor.GRAY + "§m          §r");
+            lore.add(LORE_HEADER);
             
             // Add each enchantment
             for (EnchantmentData data : enchantments) {
@@ -434,17 +439,10 @@ public class EnchantmentData {
                         elementIcon = data.getElement().getIcon() + " ";
                     }
                     
-                    EnchantmentLevel level = data.getLevel();
-                    
-                    // Enchantment name line with level and quality
-                    // Format: "• 🔥 Ember Veil III [Legendary]"
-                    lore.add(org.bukkit.ChatColor.GRAY + "• " + elementIcon + 
-                            enchant.getDisplayName() + " " +
-                            level.getDisplayName() + " " +
-                            quality.getColor() + "[" + quality.getDisplayName() + "]");
-                    
-                    // Description
-                    lore.add(org.bukkit.ChatColor.DARK_GRAY + "  " + enchant.getDescription());
+                    // Enchantment name line with level and quality, then the description
+                    lore.addAll(LORE_ENTRY.render(elementIcon, enchant.getDisplayName(),
+                            data.getLevel().getDisplayName(), quality.getColor(), quality.getDisplayName(),
+                            enchant.getDescription()));
                 }
             }
         }
@@ -1,5 +1,8 @@
 package com.server.enchantments.data;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
 import org.bukkit.ChatColor;
 
 /**
@@ -56,6 +59,14 @@ public enum EnchantmentQuality {
      * @param weights Array of weights for each quality tier
      */
     public static EnchantmentQuality rollQuality(int[] weights) {
+        return rollQuality(weights, ThreadLocalRandom.current());
+    }
+    
+    /**
+     * Roll a random quality based on weighted chances, using the given random source
+     * @param weights Array of weights for each quality tier
+     */
+    public static EnchantmentQuality rollQuality(int[] weights, Random random) {
         if (weights == null || weights.length != values().length) {
             weights = new int[]{40, 30, 20, 7, 2, 1, 0}; // Default to basic weights
         }
@@ -65,7 +76,7 @@ public enum EnchantmentQuality {
             totalWeight += weight;
         }
         
-        int roll = (int) (Math.random() * totalWeight);
+        int roll = (int) (random.nextDouble() * totalWeight);
         int currentWeight = 0;
         
         for (int i = 0; i < weights.length; i++) {
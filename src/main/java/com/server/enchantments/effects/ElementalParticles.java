@@ -9,10 +9,12 @@ import org.bukkit.util.Vector;
 
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.elements.HybridElement;
+import com.server.particles.ParticleEmitter;
 
 /**
  * Utility class for spawning element-based particle effects.
  * Provides different particle effects based on elemental types.
+ * All effects go through the {@link ParticleEmitter}, so they are view culled and budgeted.
  */
 public class ElementalParticles {
     
@@ -35,14 +37,14 @@ public class ElementalParticles {
         
         switch (element) {
             case FIRE:
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.FLAME,
                     location,
                     baseCount,
                     spread, spread, spread,
                     0.05
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.LAVA,
                     location,
                     (int) (baseCount * 0.3),
@@ -52,14 +54,14 @@ public class ElementalParticles {
                 break;
                 
             case WATER:
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.SPLASH,
                     location,
                     baseCount,
                     spread, spread, spread,
                     0.1
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.DRIPPING_WATER,
                     location.clone().add(0, 1, 0),
                     (int) (baseCount * 0.5),
@@ -73,7 +75,7 @@ public class ElementalParticles {
                     Color.fromRGB(139, 90, 43),
                     1.5f
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.DUST,
                     location,
                     baseCount,
@@ -81,7 +83,7 @@ public class ElementalParticles {
                     0,
                     earthDust
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.BLOCK,
                     location,
                     (int) (baseCount * 0.4),
@@ -92,14 +94,14 @@ public class ElementalParticles {
                 break;
                 
             case AIR:
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.CLOUD,
                     location,
                     baseCount,
                     spread, spread, spread,
                     0.08
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.SWEEP_ATTACK,
                     location,
                     (int) (baseCount * 0.2),
@@ -109,14 +111,14 @@ public class ElementalParticles {
                 break;
                 
             case LIGHTNING:
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.ELECTRIC_SPARK,
                     location,
                     baseCount,
                     spread, spread, spread,
                     0.15
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.END_ROD,
                     location,
                     (int) (baseCount * 0.3),
@@ -126,14 +128,14 @@ public class ElementalParticles {
                 break;
                 
             case SHADOW:
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.SQUID_INK,
                     location,
                     baseCount,
                     spread, spread, spread,
                     0.05
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.SMOKE,
                     location,
                     (int) (baseCount * 0.5),
@@ -143,14 +145,14 @@ public class ElementalParticles {
                 break;
                 
             case LIGHT:
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.GLOW,
                     location,
                     baseCount,
                     spread, spread, spread,
                     0.1
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.END_ROD,
                     location,
                     (int) (baseCount * 0.4),
@@ -164,7 +166,7 @@ public class ElementalParticles {
                     Color.fromRGB(34, 139, 34),
                     1.5f
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.DUST,
                     location,
                     baseCount,
@@ -172,7 +174,7 @@ public class ElementalParticles {
                     0,
                     natureDust
                 );
-                location.getWorld().spawnParticle(
+                ParticleEmitter.getInstance().spawnParticle(
                     Particle.HAPPY_VILLAGER,
                     location,
                     (int) (baseCount * 0.3),
@@ -206,7 +208,7 @@ public class ElementalParticles {
             2.0f
         );
         
-        location.getWorld().spawnParticle(
+        ParticleEmitter.getInstance().spawnParticle(
             Particle.DUST,
             location.clone().add(0, 0.5, 0),
             accentCount,
@@ -249,7 +251,7 @@ public class ElementalParticles {
                 ),
                 1.0f
             );
-            location.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                 Particle.DUST,
                 particleLoc,
                 2,
@@ -261,30 +263,30 @@ public class ElementalParticles {
             // Element-specific ambient particle
             switch (element) {
                 case FIRE:
-                    location.getWorld().spawnParticle(Particle.FLAME, particleLoc, 1, 0.05, 0.05, 0.05, 0.01);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.FLAME, particleLoc, 1, 0.05, 0.05, 0.05, 0.01);
                     break;
                 case WATER:
-                    location.getWorld().spawnParticle(Particle.SPLASH, particleLoc, 2, 0.1, 0.1, 0.1, 0);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.SPLASH, particleLoc, 2, 0.1, 0.1, 0.1, 0);
                     break;
                 case EARTH:
                     Particle.DustOptions earthDust = new Particle.DustOptions(Color.fromRGB(139, 90, 43), 0.8f);
-                    location.getWorld().spawnParticle(Particle.DUST, particleLoc, 1, 0.05, 0.05, 0.05, 0, earthDust);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.DUST, particleLoc, 1, 0.05, 0.05, 0.05, 0, earthDust);
                     break;
                 case AIR:
-                    location.getWorld().spawnParticle(Particle.CLOUD, particleLoc, 1, 0.1, 0.1, 0.1, 0.01);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.CLOUD, particleLoc, 1, 0.1, 0.1, 0.1, 0.01);
                     break;
                 case LIGHTNING:
-                    location.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, particleLoc, 1, 0.05, 0.05, 0.05, 0.02);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.ELECTRIC_SPARK, particleLoc, 1, 0.05, 0.05, 0.05, 0.02);
                     break;
                 case SHADOW:
-                    location.getWorld().spawnParticle(Particle.SQUID_INK, particleLoc, 2, 0.1, 0.1, 0.1, 0);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.SQUID_INK, particleLoc, 2, 0.1, 0.1, 0.1, 0);
                     break;
                 case LIGHT:
-                    location.getWorld().spawnParticle(Particle.GLOW, particleLoc, 2, 0.1, 0.1, 0.1, 0);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.GLOW, particleLoc, 2, 0.1, 0.1, 0.1, 0);
                     break;
                 case NATURE:
                     Particle.DustOptions natureDust = new Particle.DustOptions(Color.fromRGB(34, 139, 34), 0.8f);
-                    location.getWorld().spawnParticle(Particle.DUST, particleLoc, 1, 0.05, 0.05, 0.05, 0, natureDust);
+                    ParticleEmitter.getInstance().spawnParticle(Particle.DUST, particleLoc, 1, 0.05, 0.05, 0.05, 0, natureDust);
                     break;
             }
         }
@@ -375,30 +377,30 @@ public class ElementalParticles {
         
         switch (element) {
             case FIRE:
-                location.getWorld().spawnParticle(Particle.FLAME, location, 1, 0, 0, 0, 0.01);
+                ParticleEmitter.getInstance().spawnParticle(Particle.FLAME, location, 1, 0, 0, 0, 0.01);
                 break;
             case WATER:
-                location.getWorld().spawnParticle(Particle.SPLASH, location, 1, 0, 0, 0, 0);
+                ParticleEmitter.getInstance().spawnParticle(Particle.SPLASH, location, 1, 0, 0, 0, 0);
                 break;
             case EARTH:
                 Particle.DustOptions earthDust = new Particle.DustOptions(Color.fromRGB(139, 90, 43), 1.0f);
-                location.getWorld().spawnParticle(Particle.DUST, location, 1, 0, 0, 0, 0, earthDust);
+                ParticleEmitter.getInstance().spawnParticle(Particle.DUST, location, 1, 0, 0, 0, 0, earthDust);
                 break;
             case AIR:
-                location.getWorld().spawnParticle(Particle.CLOUD, location, 1, 0.05, 0.05, 0.05, 0);
+                ParticleEmitter.getInstance().spawnParticle(Particle.CLOUD, location, 1, 0.05, 0.05, 0.05, 0);
                 break;
             case LIGHTNING:
-                location.getWorld().spawnParticle(Particle.ELECTRIC_SPARK, location, 1, 0, 0, 0, 0.01);
+                ParticleEmitter.getInstance().spawnParticle(Particle.ELECTRIC_SPARK, location, 1, 0, 0, 0, 0.01);
                 break;
             case SHADOW:
-                location.getWorld().spawnParticle(Particle.SQUID_INK, location, 1, 0, 0, 0, 0);
+                ParticleEmitter.getInstance().spawnParticle(Particle.SQUID_INK, location, 1, 0, 0, 0, 0);
                 break;
             case LIGHT:
-                location.getWorld().spawnParticle(Particle.END_ROD, location, 1, 0, 0, 0, 0.01);
+                ParticleEmitter.getInstance().spawnParticle(Particle.END_ROD, location, 1, 0, 0, 0, 0.01);
                 break;
             case NATURE:
                 Particle.DustOptions natureDust = new Particle.DustOptions(Color.fromRGB(34, 139, 34), 1.0f);
-                location.getWorld().spawnParticle(Particle.DUST, location, 1, 0, 0, 0, 0, natureDust);
+                ParticleEmitter.getInstance().spawnParticle(Particle.DUST, location, 1, 0, 0, 0, 0, natureDust);
                 break;
         }
     }
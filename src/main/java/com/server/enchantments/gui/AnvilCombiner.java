@@ -8,10 +8,11 @@ import java.util.Map;
 import java.util.Random;
 
 import org.bukkit.ChatColor;
-import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 
+import com.server.Main;
+import com.server.debug.DebugManager.DebugSystem;
 import com.server.enchantments.data.EnchantmentData;
 import com.server.enchantments.data.EnchantmentLevel;
 import com.server.enchantments.data.EnchantmentQuality;
@@ -33,6 +34,16 @@ public class AnvilCombiner {
     private static final int BASE_XP_COST = 5;
     private static final int BASE_ESSENCE_COST = 100;
     
+    // Previews are recomputed on every slot change, so recent input pairs are remembered
+    private static final int PREVIEW_CACHE_SIZE = 128;
+    private static final Map<PreviewKey, PreviewResult> PREVIEW_CACHE =
+        new LinkedHashMap<PreviewKey, PreviewResult>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PreviewKey, PreviewResult> eldest) {
+                return size() > PREVIEW_CACHE_SIZE;
+            }
+        };
+    
     /**
      * Calculates the result of combining two items.
      * Returns a CombineResult with the output item and costs.
@@ -41,46 +52,47 @@ public class AnvilCombiner {
         if (input1 == null || input2 == null) {
             return null;
         }
-        
-        // Debug: Log what we're trying to combine
-        System.out.println("[Anvil] [DEBUG] === Calculate Result ===");
-        System.out.println("[Anvil] [DEBUG] Input1: " + input1.getType() + ", isEnchantedTome: " + EnchantmentTome.isEnchantedTome(input1) + ", isCustomItem: " + isCustomItem(input1));
-        System.out.println("[Anvil] [DEBUG] Input2: " + input2.getType() + ", isEnchantedTome: " + EnchantmentTome.isEnchantedTome(input2) + ", isCustomItem: " + isCustomItem(input2));
+        return calculateResult(AnvilInput.classify(input1), AnvilInput.classify(input2));
+    }
+    
+    /**
+     * Calculates the result of combining two classified inputs.
+     */
+    public static CombineResult calculateResult(AnvilInput input1, AnvilInput input2) {
+        if (input1.getItem() == null || input2.getItem() == null) {
+            return null;
+        }
+        if (isDebugEnabled()) {
+            debug("Combining " + input1 + " + " + input2);
+        }
         
         // Case 1: Two Enchanted Tomes (check BEFORE identical items!)
-        if (EnchantmentTome.isEnchantedTome(input1) && EnchantmentTome.isEnchantedTome(input2)) {
-            System.out.println("[Anvil] [DEBUG] -> Combining two tomes");
-            return combineTomes(input1, input2);
+        if (input1.isEnchantedTome() && input2.isEnchantedTome()) {
+            return combineTomes(input1.getItem(), input2.getItem());
         }
         
         // Case 2: Enchanted Tome + Fragments (boost apply chance)
-        if (EnchantmentTome.isEnchantedTome(input1) && ElementalFragment.isFragment(input2)) {
-            System.out.println("[Anvil] [DEBUG] -> Boosting tome with fragments");
-            return boostTomeWithFragments(input1, input2);
+        if (input1.isEnchantedTome() && input2.isFragment()) {
+            return boostTomeWithFragments(input1.getItem(), input2.getItem());
         }
-        if (ElementalFragment.isFragment(input1) && EnchantmentTome.isEnchantedTome(input2)) {
-            System.out.println("[Anvil] [DEBUG] -> Boosting tome with fragments");
-            return boostTomeWithFragments(input2, input1);
+        if (input1.isFragment() && input2.isEnchantedTome()) {
+            return boostTomeWithFragments(input2.getItem(), input1.getItem());
         }
         
         // Case 3: Item + Enchanted Tome
-        if (isCustomItem(input1) && EnchantmentTome.isEnchantedTome(input2)) {
-            System.out.println("[Anvil] [DEBUG] -> Applying tome to item (item in slot 1)");
-            return applyTomeToItem(input1, input2);
+        if (input1.isCustomItem() && input2.isEnchantedTome()) {
+            return applyTomeToItem(input1.getItem(), input2.getItem());
         }
-        if (EnchantmentTome.isEnchantedTome(input1) && isCustomItem(input2)) {
-            System.out.println("[Anvil] [DEBUG] -> Applying tome to item (tome in slot 1)");
-            return applyTomeToItem(input2, input1);
+        if (input1.isEnchantedTome() && input2.isCustomItem()) {
+            return applyTomeToItem(input2.getItem(), input1.getItem());
         }
         
         // Case 4: Two identical items (same material and custom model data)
-        if (areIdenticalItems(input1, input2)) {
-            System.out.println("[Anvil] [DEBUG] -> Combining two identical items");
-            return combineIdenticalItems(input1, input2);
+        if (areIdenticalItems(input1.getItem(), input2.getItem())) {
+            return combineIdenticalItems(input1.getItem(), input2.getItem());
         }
         
         // Invalid combination
-        System.out.println("[Anvil] [DEBUG] -> No valid combination found");
         return null;
     }
     
@@ -88,20 +100,32 @@ public class AnvilCombiner {
      * Calculates preview result (shows all enchantments as if they succeeded).
      * Returns result with a hasUncertainty flag if any enchants have <100% success.
      * This is used for the GUI preview - actual RNG is rolled when taking the item.
+     *
+     * Previews involve no RNG, so they are memoized per input pair; callers must not
+     * modify the returned result item.
      */
     public static PreviewResult calculatePreview(ItemStack input1, ItemStack input2) {
         if (input1 == null || input2 == null) {
             return null;
         }
         
+        PreviewKey key = new PreviewKey(input1, input2);
+        if (PREVIEW_CACHE.containsKey(key)) {
+            return PREVIEW_CACHE.get(key);
+        }
+        
+        PreviewResult preview = computePreview(AnvilInput.classify(input1), AnvilInput.classify(input2));
+        PREVIEW_CACHE.put(key, preview);
+        return preview;
+    }
+    
+    private static PreviewResult computePreview(AnvilInput input1, AnvilInput input2) {
         // For tome + item combinations, show ALL enchants as if they succeeded
-        if ((isCustomItem(input1) && EnchantmentTome.isEnchantedTome(input2)) ||
-            (EnchantmentTome.isEnchantedTome(input1) && isCustomItem(input2))) {
-            
-            ItemStack item = isCustomItem(input1) ? input1 : input2;
-            ItemStack tome = EnchantmentTome.isEnchantedTome(input1) ? input1 : input2;
-            
-            return previewTomeApplication(item, tome);
+        if (input1.isCustomItem() && input2.isEnchantedTome()) {
+            return previewTomeApplication(input1.getItem(), input2.getItem());
+        }
+        if (input1.isEnchantedTome() && input2.isCustomItem()) {
+            return previewTomeApplication(input2.getItem(), input1.getItem());
         }
         
         // For all other combinations, use normal calculation (no RNG involved)
@@ -203,26 +227,6 @@ public class AnvilCombiner {
         return meta1.getCustomModelData() == meta2.getCustomModelData();
     }
     
-    /**
-     * Checks if an item is a custom item (has custom model data, not a tome/fragment).
-     */
-    private static boolean isCustomItem(ItemStack item) {
-        if (item == null || item.getType() == Material.AIR) {
-            return false;
-        }
-        
-        if (EnchantmentTome.isEnchantedTome(item) || EnchantmentTome.isUnenchantedTome(item)) {
-            return false;
-        }
-        
-        if (ElementalFragment.isFragment(item)) {
-            return false;
-        }
-        
-        ItemMeta meta = item.getItemMeta();
-        return meta != null && meta.hasCustomModelData();
-    }
-    
     /**
      * Combines two identical items by merging their enchantments.
      */
@@ -396,15 +400,12 @@ public class AnvilCombiner {
     private static CombineResult applyTomeToItem(ItemStack item, ItemStack tome) {
         List<EnchantmentData> tomeEnchants = EnchantmentData.getEnchantmentsFromItem(tome);
         
-        System.out.println("[Anvil] [DEBUG] === Apply Tome to Item ===");
-        System.out.println("[Anvil] [DEBUG] Item: " + item.getType());
-        System.out.println("[Anvil] [DEBUG] Tome enchants: " + tomeEnchants.size());
-        
         if (tomeEnchants.isEmpty()) {
-            System.out.println("[Anvil] [DEBUG] No enchants on tome, returning null");
             return null;
         }
         
+        boolean debug = isDebugEnabled();
+        
         // Get apply chances from tome
         NBTItem tomeNBT = new NBTItem(tome);
         Map<Integer, Integer> applyChances = new HashMap<>();
@@ -412,7 +413,6 @@ public class AnvilCombiner {
             String prefix = "MMO_Enchant_" + i + "_";
             int applyChance = tomeNBT.getInteger(prefix + "ApplyChance");
             applyChances.put(i, applyChance);
-            System.out.println("[Anvil] [DEBUG] Enchant " + i + " (" + tomeEnchants.get(i).getEnchantmentId() + ") apply chance: " + applyChance);
         }
         
         ItemStack result = item.clone();
@@ -433,14 +433,15 @@ public class AnvilCombiner {
             com.server.enchantments.data.CustomEnchantment enchantObj = 
                 registry.getEnchantment(enchant.getEnchantmentId());
             if (enchantObj == null) {
-                System.out.println("[Anvil] [DEBUG] Enchant " + enchant.getEnchantmentId() + " not found in registry");
+                if (debug) {
+                    debug("Enchant " + enchant.getEnchantmentId() + " not found in registry");
+                }
                 incompatibleCount++;
                 continue;
             }
             
             // Check compatibility
             if (!isEnchantmentCompatible(result, enchantObj)) {
-                System.out.println("[Anvil] [DEBUG] Enchant " + enchant.getEnchantmentId() + " not compatible with item");
                 incompatibleCount++;
                 continue;
             }
@@ -449,34 +450,34 @@ public class AnvilCombiner {
             int applyChance = applyChances.getOrDefault(i, 50);
             int roll = RANDOM.nextInt(101); // 0-100
             
-            System.out.println("[Anvil] [DEBUG] Enchant " + enchant.getEnchantmentId() + " - Roll: " + roll + " vs " + applyChance + "%");
+            if (debug) {
+                debug("Enchant " + enchant.getEnchantmentId() + " - Roll: " + roll + " vs " + applyChance + "%");
+            }
             
             if (roll <= applyChance) {
                 // Success! Apply the enchantment
                 EnchantmentData.addEnchantmentToItem(result, enchantObj, 
                     enchant.getQuality(), enchant.getLevel(), null);
                 successCount++;
-                System.out.println("[Anvil] [DEBUG] SUCCESS! Applied " + enchant.getEnchantmentId());
             } else {
                 // Failed apply chance
                 failCount++;
-                System.out.println("[Anvil] [DEBUG] FAILED! Didn't apply " + enchant.getEnchantmentId());
             }
         }
         
-        System.out.println("[Anvil] [DEBUG] Results - Success: " + successCount + ", Failed: " + failCount + ", Incompatible: " + incompatibleCount);
+        if (debug) {
+            debug("Tome on " + item.getType() + " - Success: " + successCount + ", Failed: " + failCount
+                + ", Incompatible: " + incompatibleCount);
+        }
         
         // If no enchantments applied, return null
         if (successCount == 0) {
-            System.out.println("[Anvil] [DEBUG] No enchants applied, returning null");
             return null;
         }
         
         // Calculate cost
         int xpCost = BASE_XP_COST * (successCount + failCount + incompatibleCount);
         int essenceCost = BASE_ESSENCE_COST * successCount;
-        
-        System.out.println("[Anvil] [DEBUG] Returning result with cost: " + xpCost + " XP, " + essenceCost + " Essence");
         return new CombineResult(result, xpCost, essenceCost);
     }
     
@@ -492,31 +493,16 @@ public class AnvilCombiner {
      * Similar to combining items, but averages apply chances on duplicate enchantments.
      */
     private static CombineResult combineTomes(ItemStack tome1, ItemStack tome2) {
-        // Debug NBT contents
         NBTItem tome1NBT = new NBTItem(tome1);
         NBTItem tome2NBT = new NBTItem(tome2);
         
-        System.out.println("[Anvil] [DEBUG] === Tome 1 NBT Debug ===");
-        System.out.println("[Anvil] [DEBUG] Material: " + tome1.getType());
-        System.out.println("[Anvil] [DEBUG] Has MMO_EnchantCount: " + tome1NBT.hasKey("MMO_EnchantCount"));
-        if (tome1NBT.hasKey("MMO_EnchantCount")) {
-            System.out.println("[Anvil] [DEBUG] MMO_EnchantCount value: " + tome1NBT.getInteger("MMO_EnchantCount"));
-        }
-        System.out.println("[Anvil] [DEBUG] All NBT keys: " + tome1NBT.getKeys());
-        
-        System.out.println("[Anvil] [DEBUG] === Tome 2 NBT Debug ===");
-        System.out.println("[Anvil] [DEBUG] Material: " + tome2.getType());
-        System.out.println("[Anvil] [DEBUG] Has MMO_EnchantCount: " + tome2NBT.hasKey("MMO_EnchantCount"));
-        if (tome2NBT.hasKey("MMO_EnchantCount")) {
-            System.out.println("[Anvil] [DEBUG] MMO_EnchantCount value: " + tome2NBT.getInteger("MMO_EnchantCount"));
-        }
-        System.out.println("[Anvil] [DEBUG] All NBT keys: " + tome2NBT.getKeys());
-        
         List<EnchantmentData> enchants1 = EnchantmentData.getEnchantmentsFromItem(tome1);
         List<EnchantmentData> enchants2 = EnchantmentData.getEnchantmentsFromItem(tome2);
         
-        System.out.println("[Anvil] [DEBUG] Tome1 enchants: " + enchants1.size());
-        System.out.println("[Anvil] [DEBUG] Tome2 enchants: " + enchants2.size());
+        boolean debug = isDebugEnabled();
+        if (debug) {
+            debug("Combining tomes with " + enchants1.size() + " and " + enchants2.size() + " enchantments");
+        }
         
         Map<String, EnchantmentData> mergedEnchants = new LinkedHashMap<>();
         Map<String, Integer> applyChances = new HashMap<>();
@@ -559,9 +545,6 @@ public class AnvilCombiner {
         // Create unenchanted tome
         ItemStack resultTome = EnchantmentTome.createUnenchantedTome();
         
-        System.out.println("[Anvil] [DEBUG] Created unenchanted tome: " + (resultTome != null));
-        System.out.println("[Anvil] [DEBUG] Merged enchants to add: " + mergedEnchants.size());
-        
         // Apply enchantments
         com.server.enchantments.EnchantmentRegistry registry = 
             com.server.enchantments.EnchantmentRegistry.getInstance();
@@ -606,9 +589,6 @@ public class AnvilCombiner {
             com.server.enchantments.data.CustomEnchantment enchantObj = 
                 registry.getEnchantment(enchant.getEnchantmentId());
             
-            System.out.println("[Anvil] [DEBUG] Adding enchant: " + enchant.getEnchantmentId() + 
-                             ", registry found: " + (enchantObj != null));
-            
             if (enchantObj != null) {
                 // Check if needs upgrade
                 EnchantmentLevel levelToApply = enchant.getLevel();
@@ -617,28 +597,22 @@ public class AnvilCombiner {
                     levelToApply = EnchantmentLevel.values()[enchant.getLevel().ordinal() + 1];
                 }
                 
-                System.out.println("[Anvil] [DEBUG] Enchant: " + enchant.getEnchantmentId() + 
-                                 ", Original Level: " + enchant.getLevel() + 
-                                 ", Should Upgrade: " + shouldUpgrade + 
-                                 ", Applying at Level: " + levelToApply);
+                if (debug) {
+                    debug("Tome enchant " + enchant.getEnchantmentId() + ": " + enchant.getLevel()
+                        + (shouldUpgrade ? " -> " + levelToApply : ""));
+                }
                 
-                System.out.println("[Anvil] [DEBUG] Before addEnchant - tome type: " + resultTome.getType());
                 EnchantmentData.addEnchantmentToItem(resultTome, enchantObj, 
                     enchant.getQuality(), levelToApply, null);
-                System.out.println("[Anvil] [DEBUG] After addEnchant - tome type: " + resultTome.getType());
             }
         }
         
-        // Debug: Check enchantments on unenchanted tome before conversion
-        List<EnchantmentData> preConversionEnchants = EnchantmentData.getEnchantmentsFromItem(resultTome);
-        System.out.println("[Anvil] [DEBUG] Tome before conversion has " + preConversionEnchants.size() + " enchantments");
-        
         // Convert to enchanted tome
         resultTome = EnchantmentTome.createEnchantedTome(resultTome);
         
         // Check if conversion failed
         if (resultTome == null) {
-            System.out.println("[Anvil] [ERROR] createEnchantedTome returned null!");
+            Main.getInstance().getLogger().warning("[Anvil] createEnchantedTome returned null while combining tomes");
             return null;
         }
         
@@ -912,6 +886,47 @@ public class AnvilCombiner {
         return baseLore.isEmpty() ? null : baseLore;
     }
     
+    private static boolean isDebugEnabled() {
+        Main plugin = Main.getInstance();
+        return plugin != null && plugin.isDebugEnabled(DebugSystem.ENCHANTING);
+    }
+    
+    private static void debug(String message) {
+        Main.getInstance().debugLog(DebugSystem.ENCHANTING, "[Anvil] " + message);
+    }
+    
+    /**
+     * Cache key for a pair of anvil inputs. Holds copies, since the GUI's stacks change.
+     */
+    private static final class PreviewKey {
+        private final ItemStack input1;
+        private final ItemStack input2;
+        private final int hash;
+        
+        private PreviewKey(ItemStack input1, ItemStack input2) {
+            this.input1 = input1.clone();
+            this.input2 = input2.clone();
+            this.hash = 31 * this.input1.hashCode() + this.input2.hashCode();
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof PreviewKey)) {
+                return false;
+            }
+            PreviewKey other = (PreviewKey) o;
+            return hash == other.hash && input1.equals(other.input1) && input2.equals(other.input2);
+        }
+        
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+    
     /**
      * Result of a combine operation.
      */
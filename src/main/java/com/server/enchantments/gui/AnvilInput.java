@@ -0,0 +1,81 @@
+package com.server.enchantments.gui;
+
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+import com.server.enchantments.items.ElementalFragment;
+import com.server.enchantments.items.EnchantmentTome;
+
+/**
+ * An anvil input slot's item, classified once so the combiner doesn't re-read its NBT for
+ * every rule it checks.
+ */
+public final class AnvilInput {
+
+    public enum Kind {
+        ENCHANTED_TOME,
+        UNENCHANTED_TOME,
+        FRAGMENT,
+        /** Has custom model data and is not a tome or fragment */
+        CUSTOM_ITEM,
+        OTHER
+    }
+
+    private final ItemStack item;
+    private final Kind kind;
+
+    private AnvilInput(ItemStack item, Kind kind) {
+        this.item = item;
+        this.kind = kind;
+    }
+
+    /**
+     * Classifies an item. Tome checks come first, then fragments, then custom items.
+     */
+    public static AnvilInput classify(ItemStack item) {
+        return new AnvilInput(item, kindOf(item));
+    }
+
+    private static Kind kindOf(ItemStack item) {
+        if (item == null || item.getType() == Material.AIR) {
+            return Kind.OTHER;
+        }
+        if (EnchantmentTome.isEnchantedTome(item)) {
+            return Kind.ENCHANTED_TOME;
+        }
+        if (EnchantmentTome.isUnenchantedTome(item)) {
+            return Kind.UNENCHANTED_TOME;
+        }
+        if (ElementalFragment.isFragment(item)) {
+            return Kind.FRAGMENT;
+        }
+        ItemMeta meta = item.getItemMeta();
+        return meta != null && meta.hasCustomModelData() ? Kind.CUSTOM_ITEM : Kind.OTHER;
+    }
+
+    public ItemStack getItem() {
+        return item;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public boolean isEnchantedTome() {
+        return kind == Kind.ENCHANTED_TOME;
+    }
+
+    public boolean isFragment() {
+        return kind == Kind.FRAGMENT;
+    }
+
+    public boolean isCustomItem() {
+        return kind == Kind.CUSTOM_ITEM;
+    }
+
+    @Override
+    public String toString() {
+        return (item != null ? item.getType() : "empty") + " (" + kind + ")";
+    }
+}
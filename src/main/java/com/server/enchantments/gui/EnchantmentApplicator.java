@@ -527,29 +527,7 @@ public class EnchantmentApplicator {
             .max(Comparator.comparingInt(FragmentTier::ordinal))
             .orElse(FragmentTier.BASIC);
         
-        int[] qualityWeightsArray = highestTier.getQualityWeights();
-        
-        // Convert int[] to Map<EnchantmentQuality, Double>
-        Map<EnchantmentQuality, Double> qualityWeights = new HashMap<>();
-        EnchantmentQuality[] qualities = EnchantmentQuality.values();
-        for (int i = 0; i < qualityWeightsArray.length && i < qualities.length; i++) {
-            qualityWeights.put(qualities[i], (double) qualityWeightsArray[i]);
-        }
-        
-        // Weighted random selection
-        double totalWeight = qualityWeights.values().stream().mapToDouble(Double::doubleValue).sum();
-        double randomValue = RANDOM.nextDouble() * totalWeight;
-        double currentWeight = 0.0;
-        
-        for (Map.Entry<EnchantmentQuality, Double> entry : qualityWeights.entrySet()) {
-            currentWeight += entry.getValue();
-            if (randomValue <= currentWeight) {
-                return entry.getKey();
-            }
-        }
-        
-        // Fallback
-        return EnchantmentQuality.COMMON;
+        return EnchantmentQuality.rollQuality(highestTier.getQualityWeights(), RANDOM);
     }
     
     /**
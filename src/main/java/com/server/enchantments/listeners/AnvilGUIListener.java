@@ -22,11 +22,14 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
 
 import com.server.Main;
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
 import com.server.enchantments.effects.ElementalParticles;
 import com.server.enchantments.elements.ElementType;
 import com.server.enchantments.gui.AnvilCombiner;
 import com.server.enchantments.gui.AnvilGUI;
-import com.server.enchantments.items.EnchantmentTome;
+import com.server.enchantments.gui.AnvilInput;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -422,18 +425,22 @@ public class AnvilGUIListener implements Listener {
         player.playSound(player.getLocation(), org.bukkit.Sound.BLOCK_ENCHANTMENT_TABLE_USE, 0.7f, 1.2f);
         
         // Consume costs
+        if (!CurrencyLedger.getInstance().withdraw(profile, Currency.ESSENCE, essenceCost, TransactionReason.PURCHASE)) {
+            return;
+        }
         player.setLevel(player.getLevel() - xpCost);
-        profile.removeEssence(essenceCost);
         
         // Determine which input is the tome and which is the item
         ItemStack input1 = gui.getInput1();
         ItemStack input2 = gui.getInput2();
-        boolean input1IsTome = EnchantmentTome.isEnchantedTome(input1);
-        boolean input2IsTome = EnchantmentTome.isEnchantedTome(input2);
+        AnvilInput classified1 = AnvilInput.classify(input1);
+        AnvilInput classified2 = AnvilInput.classify(input2);
+        boolean input1IsTome = classified1.isEnchantedTome();
+        boolean input2IsTome = classified2.isEnchantedTome();
         boolean isTomeApplication = input1IsTome || input2IsTome;
         
         // Calculate actual result with RNG
-        AnvilCombiner.CombineResult actualResult = AnvilCombiner.calculateResult(input1, input2);
+        AnvilCombiner.CombineResult actualResult = AnvilCombiner.calculateResult(classified1, classified2);
         
         // Check if all enchantments failed (for tome applications)
         if (actualResult == null && isTomeApplication) {
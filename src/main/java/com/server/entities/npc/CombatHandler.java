@@ -20,7 +20,6 @@ import org.bukkit.metadata.FixedMetadataValue;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
 import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import com.server.Main;
@@ -44,9 +43,7 @@ public class CombatHandler {
     // Maps to store NPC combat data
     private final Map<UUID, Double> npcHealth = new HashMap<>();
     private final Map<UUID, NPCStats> npcStats = new HashMap<>();
-    private final Map<UUID, BukkitTask> combatTasks = new HashMap<>();
     private final Map<UUID, Entity> currentTargets = new HashMap<>();
-    private final Map<UUID, Map<String, Long>> abilityCooldownMap = new HashMap<>();
     private final Map<String, Long> respawnTimerMap = new HashMap<>();
     
     // Configuration
@@ -62,11 +59,15 @@ public class CombatHandler {
     // NPC identification
     private static final List<UUID> hostileNpcUuids = new ArrayList<>();
     
+    // Shared AI scheduler that ticks every NPC's combat task
+    private final NPCAIScheduler aiScheduler;
+    
     /**
      * Create a new combat handler
      */
     public CombatHandler() {
         this.plugin = Main.getInstance();
+        this.aiScheduler = new NPCAIScheduler(plugin);
     }
     
     /**
@@ -77,6 +78,7 @@ public class CombatHandler {
      */
     public CombatHandler(double maxHealth, int physicalDamage) {
         this.plugin = Main.getInstance();
+        this.aiScheduler = new NPCAIScheduler(plugin);
     }
     
     /**
@@ -200,11 +202,7 @@ public class CombatHandler {
         }
         
         // Cancel any existing combat task
-        BukkitTask existingTask = combatTasks.get(npcId);
-        if (existingTask != null) {
-            existingTask.cancel();
-            combatTasks.remove(npcId);
-        }
+        aiScheduler.unregister(npcId);
         
         // Update nameplate
         NPCManager.getInstance().updateNameplate(npc, npcHealth.get(npcId), stats.getMaxHealth());
@@ -215,7 +213,7 @@ public class CombatHandler {
         }
         
         // More aggressive AI task for hostile NPCs
-        BukkitTask task = new BukkitRunnable() {
+        aiScheduler.register(npc, new NPCAIScheduler.AITask() {
             private int tickCounter = 0;
             private float attackCharge = 0.7f;
             private int attackCooldown = 0;
@@ -227,11 +225,9 @@ public class CombatHandler {
             private boolean canCounterAttack = true;
             
             @Override
-            public void run() {
+            public boolean tick() {
                 if (!npc.isSpawned() || npcHealth.getOrDefault(npcId, 0.0) <= 0) {
-                    this.cancel();
-                    combatTasks.remove(npcId);
-                    return;
+                    return false;
                 }
                 
                 // Get current target
@@ -437,11 +433,9 @@ public class CombatHandler {
                 }
                 
                 tickCounter++;
+                return true;
             }
-        }.runTaskTimer(plugin, 1L, 1L);
-        
-        // Store task
-        combatTasks.put(npcId, task);
+        });
         
         // Debug log
         if (plugin.isDebugEnabled(DebugSystem.NPC)) {
@@ -457,7 +451,6 @@ public class CombatHandler {
         if (!npc.isSpawned()) return null;
         
         Entity bestTarget = null;
-        double closestDistance = maxRange;
         
         // Always check if we already have a valid current target that's within an extended range
         // This helps prevent target switching too frequently
@@ -468,46 +461,16 @@ public class CombatHandler {
             return currentTarget;
         }
         
+        Location npcLocation = npc.getEntity().getLocation();
+        
         // First, prioritize players as targets if within range
         if (targetsPlayers) {
-            for (Player player : npc.getEntity().getWorld().getPlayers()) {
-                if (!isValidCombatTarget(npc, player)) {
-                    continue;
-                }
-                
-                double distance = npc.getEntity().getLocation().distance(player.getLocation());
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    bestTarget = player;
-                }
-            }
+            bestTarget = aiScheduler.findNearestPlayer(npcLocation, maxRange, entity -> isValidCombatTarget(npc, entity));
         }
         
-        // If no player targets found or we also target NPCs, look for NPC targets if enabled
-        if ((bestTarget == null || targetsNPCs) && targetsNPCs) {
-            List<Entity> nearbyEntities = npc.getEntity().getNearbyEntities(maxRange, maxRange, maxRange);
-            for (Entity entity : nearbyEntities) {
-                if (!isValidCombatTarget(npc, entity) || !(CitizensAPI.getNPCRegistry().isNPC(entity))) {
-                    continue;
-                }
-                
-                // Don't target yourself
-                if (entity.getUniqueId().equals(npc.getUniqueId())) {
-                    continue;
-                }
-                
-                double distance = npc.getEntity().getLocation().distance(entity.getLocation());
-                
-                // Only choose an NPC target if:
-                // 1. We have no target yet, OR
-                // 2. This NPC is closer than the current best target AND
-                //    either the current best isn't a player OR we don't prioritize players
-                if (bestTarget == null || 
-                    (distance < closestDistance && (!(bestTarget instanceof Player) || !targetsPlayers))) {
-                    closestDistance = distance;
-                    bestTarget = entity;
-                }
-            }
+        // If no player targets found, look for NPC targets if enabled
+        if (bestTarget == null && targetsNPCs) {
+            bestTarget = aiScheduler.findNearestNPC(npcLocation, maxRange, entity -> isValidCombatTarget(npc, entity));
         }
         
         return bestTarget;
@@ -727,11 +690,7 @@ public class CombatHandler {
         }
         
         // Cancel any existing combat task to avoid duplicates
-        BukkitTask existingTask = combatTasks.get(npcId);
-        if (existingTask != null) {
-            existingTask.cancel();
-            combatTasks.remove(npcId);
-        }
+        aiScheduler.unregister(npcId);
         
         // Use the helper method with the correct settings
         startCombatWithSettings(npc, initialTarget, npcTargetsPlayers, npcTargetsNPCs);
@@ -746,7 +705,7 @@ public class CombatHandler {
      * Start combat behavior with specific targeting settings
      */
     private void startCombatWithSettings(NPC npc, Player initialTarget, boolean targetsPlayers, boolean targetsNPCs) {
-        if (!npc.isSpawned() || combatTasks.containsKey(npc.getUniqueId())) {
+        if (!npc.isSpawned() || aiScheduler.isRegistered(npc.getUniqueId())) {
             return;
         }
         
@@ -791,7 +750,7 @@ public class CombatHandler {
         }
         
         // Combat AI task
-        BukkitTask task = new BukkitRunnable() {
+        aiScheduler.register(npc, new NPCAIScheduler.AITask() {
             private int tickCounter = 0;
             private float attackCharge = 0.3f;
             private boolean isCharging = true;
@@ -802,12 +761,10 @@ public class CombatHandler {
             private boolean attackLocked = false;
             
             @Override
-            public void run() {
+            public boolean tick() {
                 if (!npc.isSpawned() || npcHealth.getOrDefault(npcId, 0.0) <= 0) {
-                    // NPC is despawned or dead, cancel task
-                    this.cancel();
-                    combatTasks.remove(npcId);
-                    return;
+                    // NPC is despawned or dead, stop the task
+                    return false;
                 }
                 
                 // Get current target
@@ -910,11 +867,9 @@ public class CombatHandler {
                 }
                 
                 tickCounter++;
+                return true;
             }
-        }.runTaskTimer(plugin, 1L, 1L);
-        
-        // Store the task reference for later cancellation
-        combatTasks.put(npc.getUniqueId(), task);
+        });
         
         // Log startup
         if (plugin.isDebugEnabled(DebugSystem.NPC)) {
@@ -980,32 +935,21 @@ public class CombatHandler {
             return currentTarget;
         }
         
+        Location npcLocation = npc.getEntity().getLocation();
+        
         // First, prioritize players as targets
         if (targetsPlayers) {
-            for (Player player : npc.getEntity().getWorld().getPlayers()) {
-                // Skip invalid targets
-                if (!isValidCombatTarget(npc, player)) continue;
-                
-                double distance = npc.getEntity().getLocation().distance(player.getLocation());
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    bestTarget = player;
-                }
+            bestTarget = aiScheduler.findNearestPlayer(npcLocation, closestDistance, entity -> isValidCombatTarget(npc, entity));
+            if (bestTarget != null) {
+                closestDistance = npcLocation.distance(bestTarget.getLocation());
             }
         }
         
         // Then check for NPC targets if no player was found or if very close
         if ((bestTarget == null || closestDistance > 5.0) && targetsNPCs) {
-            for (NPC otherNpc : CitizensAPI.getNPCRegistry()) {
-                // Skip self and invalid targets
-                if (otherNpc.equals(npc) || !otherNpc.isSpawned() || !isValidCombatTarget(npc, otherNpc.getEntity())) 
-                    continue;
-                
-                double distance = npc.getEntity().getLocation().distance(otherNpc.getEntity().getLocation());
-                if (distance < closestDistance) {
-                    closestDistance = distance;
-                    bestTarget = otherNpc.getEntity();
-                }
+            Entity npcTarget = aiScheduler.findNearestNPC(npcLocation, closestDistance, entity -> isValidCombatTarget(npc, entity));
+            if (npcTarget != null) {
+                bestTarget = npcTarget;
             }
         }
         
@@ -1264,9 +1208,6 @@ public class CombatHandler {
     public void triggerCounterAttack(NPC npc, Entity attacker) {
         if (npc == null || !npc.isSpawned() || attacker == null) return;
         
-        // Get the attack charge data
-        BukkitTask combatTask = combatTasks.get(npc.getUniqueId());
-        
         // Add the attacker as a target
         currentTargets.put(npc.getUniqueId(), attacker);
         
@@ -1303,14 +1244,7 @@ public class CombatHandler {
      * @return The NPC ID, or null if not found
      */
     private String findNpcIdByUuid(java.util.UUID uuid) {
-        NPCManager manager = NPCManager.getInstance();
-        for (String id : manager.getIds()) {
-            NPC npc = manager.getNPC(id);
-            if (npc != null && npc.getUniqueId().equals(uuid)) {
-                return id;
-            }
-        }
-        return null;
+        return NPCManager.getInstance().getIdByUUID(uuid);
     }
 
     /**
@@ -1830,10 +1764,7 @@ public class CombatHandler {
      */
     public void stopCombatBehavior(UUID npcId) {
         // Cancel combat task if it exists
-        BukkitTask task = combatTasks.remove(npcId);
-        if (task != null) {
-            task.cancel();
-        }
+        aiScheduler.unregister(npcId);
         
         // Remove from target tracking
         currentTargets.remove(npcId);
@@ -1846,7 +1777,7 @@ public class CombatHandler {
      * @return True if the NPC is in combat
      */
     public boolean isInCombat(UUID npcId) {
-        return combatTasks.containsKey(npcId) && currentTargets.containsKey(npcId);
+        return aiScheduler.isRegistered(npcId) && currentTargets.containsKey(npcId);
     }
     
     /**
@@ -0,0 +1,376 @@
+package com.server.entities.npc;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.server.Main;
+import com.server.profiling.ProfilerSection;
+import com.server.profiling.TickProfiler;
+
+import net.citizensnpcs.api.CitizensAPI;
+import net.citizensnpcs.api.npc.NPC;
+
+/**
+ * Runs the combat AI of every NPC from a single tick task.
+ *
+ * Players and spawned NPCs are bucketed into a spatial hash of 16-block columns per world.
+ * Each grid is rebuilt at most once per tick, by the first query that needs it, so ticks in
+ * which no tier update or target search is due never touch it. NPC brains are ticked at a
+ * rate that depends on the distance to the nearest player:
+ * - FULL: every tick (player within 32 blocks)
+ * - REDUCED: every 4 ticks (player within 64 blocks)
+ * - FROZEN: not ticked at all, navigation is stopped
+ *
+ * Target searches go through {@link #findNearestPlayer} and {@link #findNearestNPC}, which
+ * only visit the cells that overlap the search radius.
+ */
+public class NPCAIScheduler {
+
+    /**
+     * One NPC's AI, ticked by the scheduler.
+     */
+    public interface AITask {
+        /**
+         * Runs one AI step.
+         *
+         * @return false to stop and unregister this task
+         */
+        boolean tick();
+    }
+
+    public enum Tier {
+        FULL, REDUCED, FROZEN
+    }
+
+    private static final int CELL_SHIFT = 4; // 16-block cells
+    private static final double FULL_RANGE = 32.0;
+    private static final double REDUCED_RANGE = 64.0;
+    private static final int REDUCED_INTERVAL = 4;
+    private static final int TIER_UPDATE_INTERVAL = 10;
+    private static final int HASH_EXPIRY_TICKS = 200;
+
+    private final Main plugin;
+    private final ProfilerSection tickProfile = TickProfiler.getInstance().section("npc.ai");
+    private final Map<UUID, Entry> entries = new LinkedHashMap<>();
+    private final Map<World, SpatialHash> worldHashes = new HashMap<>();
+    private final List<Entry> tickBuffer = new ArrayList<>();
+    private BukkitTask tickTask;
+    private long currentTick;
+
+    public NPCAIScheduler(Main plugin) {
+        this.plugin = plugin;
+    }
+
+    // ==================== Registration ====================
+
+    /**
+     * Registers (or replaces) the AI task of an NPC.
+     */
+    public void register(NPC npc, AITask task) {
+        entries.put(npc.getUniqueId(), new Entry(npc, task, entries.size()));
+        if (tickTask == null) {
+            tickTask = Bukkit.getScheduler().runTaskTimer(plugin, () -> tickProfile.run(this::tick), 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops the AI task of an NPC.
+     *
+     * @return True if a task was registered
+     */
+    public boolean unregister(UUID npcId) {
+        Entry entry = entries.remove(npcId);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        return true;
+    }
+
+    public boolean isRegistered(UUID npcId) {
+        return entries.containsKey(npcId);
+    }
+
+    /**
+     * Gets the current tick tier of an NPC, or null if it has no AI task.
+     */
+    public Tier getTier(UUID npcId) {
+        Entry entry = entries.get(npcId);
+        return entry != null ? entry.tier : null;
+    }
+
+    public int getTaskCount() {
+        return entries.size();
+    }
+
+    // ==================== Ticking ====================
+
+    private void tick() {
+        currentTick++;
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        if (currentTick % HASH_EXPIRY_TICKS == 0) {
+            // Forget worlds nobody has searched in a while (e.g. unloaded ones)
+            worldHashes.values().removeIf(hash -> currentTick - hash.usedAt > HASH_EXPIRY_TICKS);
+        }
+
+        // Tasks may start or stop other NPCs' AI while ticking, so iterate a copy
+        tickBuffer.addAll(entries.values());
+        for (Entry entry : tickBuffer) {
+            if (entry.cancelled) {
+                continue;
+            }
+            if (!entry.npc.isSpawned()) {
+                entries.remove(entry.npc.getUniqueId(), entry);
+                continue;
+            }
+
+            if (entry.tier == null || (currentTick + entry.phase) % TIER_UPDATE_INTERVAL == 0) {
+                updateTier(entry);
+            }
+
+            if (entry.tier == Tier.FROZEN) {
+                continue;
+            }
+            if (entry.tier == Tier.REDUCED && (currentTick + entry.phase) % REDUCED_INTERVAL != 0) {
+                continue;
+            }
+
+            boolean keepRunning;
+            try {
+                keepRunning = entry.task.tick();
+            } catch (Exception e) {
+                plugin.getLogger().warning("NPC AI task for " + entry.npc.getName() + " failed: " + e.getMessage());
+                keepRunning = false;
+            }
+            if (!keepRunning) {
+                entries.remove(entry.npc.getUniqueId(), entry);
+            }
+        }
+        tickBuffer.clear();
+    }
+
+    private void updateTier(Entry entry) {
+        Location location = entry.npc.getEntity().getLocation();
+        double nearest = nearestPlayerDistanceSquared(location, REDUCED_RANGE);
+
+        Tier tier;
+        if (nearest <= FULL_RANGE * FULL_RANGE) {
+            tier = Tier.FULL;
+        } else if (nearest <= REDUCED_RANGE * REDUCED_RANGE) {
+            tier = Tier.REDUCED;
+        } else {
+            tier = Tier.FROZEN;
+        }
+
+        if (tier == Tier.FROZEN && entry.tier != Tier.FROZEN) {
+            entry.npc.getNavigator().cancelNavigation();
+        }
+        entry.tier = tier;
+    }
+
+    private SpatialHash hashFor(World world) {
+        SpatialHash hash = worldHashes.get(world);
+        if (hash == null) {
+            hash = new SpatialHash();
+            worldHashes.put(world, hash);
+        }
+        hash.usedAt = currentTick;
+        return hash;
+    }
+
+    /**
+     * Gets the player grid of a world, re-bucketing its players on the first use in a tick.
+     */
+    private Grid playersIn(World world) {
+        SpatialHash hash = hashFor(world);
+        if (hash.playersBuiltAt != currentTick) {
+            hash.playersBuiltAt = currentTick;
+            hash.players.clear();
+            for (Player player : world.getPlayers()) {
+                hash.players.insert(player, player.getLocation(hash.scratch));
+            }
+        }
+        return hash.players;
+    }
+
+    /**
+     * Gets the NPC grid of a world. The first use in a tick re-buckets the spawned NPCs of
+     * every stale world in one pass over the Citizens registry.
+     */
+    private Grid npcsIn(World world) {
+        SpatialHash hash = hashFor(world);
+        if (hash.npcsBuiltAt != currentTick) {
+            for (SpatialHash other : worldHashes.values()) {
+                if (other.npcsBuiltAt != currentTick) {
+                    other.npcs.clear();
+                    other.npcsStale = true;
+                }
+            }
+            for (NPC npc : CitizensAPI.getNPCRegistry()) {
+                if (!npc.isSpawned()) {
+                    continue;
+                }
+                Entity entity = npc.getEntity();
+                SpatialHash target = worldHashes.get(entity.getWorld());
+                if (target != null && target.npcsStale) {
+                    target.npcs.insert(entity, entity.getLocation(target.scratch));
+                }
+            }
+            for (SpatialHash other : worldHashes.values()) {
+                other.npcsStale = false;
+                other.npcsBuiltAt = currentTick;
+            }
+        }
+        return hash.npcs;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Finds the nearest player within range that passes the filter.
+     */
+    public Player findNearestPlayer(Location center, double range, Predicate<Entity> filter) {
+        return (Player) playersIn(center.getWorld()).nearest(center, range, filter);
+    }
+
+    /**
+     * Finds the nearest spawned NPC entity within range that passes the filter.
+     */
+    public Entity findNearestNPC(Location center, double range, Predicate<Entity> filter) {
+        return npcsIn(center.getWorld()).nearest(center, range, filter);
+    }
+
+    private double nearestPlayerDistanceSquared(Location center, double range) {
+        Node node = playersIn(center.getWorld()).nearestNode(center, range, null);
+        return node != null ? node.distanceSquared(center) : Double.MAX_VALUE;
+    }
+
+    // ==================== Internals ====================
+
+    private static final class Entry {
+        private final NPC npc;
+        private final AITask task;
+        private final int phase;
+        private Tier tier;
+        private boolean cancelled;
+
+        private Entry(NPC npc, AITask task, int phase) {
+            this.npc = npc;
+            this.task = task;
+            this.phase = phase;
+        }
+    }
+
+    private static final class SpatialHash {
+        private final Grid players = new Grid();
+        private final Grid npcs = new Grid();
+        private final Location scratch = new Location(null, 0, 0, 0);
+        private long playersBuiltAt = -1;
+        private long npcsBuiltAt = -1;
+        private boolean npcsStale;
+        private long usedAt;
+    }
+
+    private static final class Node {
+        private Entity entity;
+        private double x, y, z;
+
+        private void set(Entity entity, Location location) {
+            this.entity = entity;
+            this.x = location.getX();
+            this.y = location.getY();
+            this.z = location.getZ();
+        }
+
+        private double distanceSquared(Location location) {
+            double dx = x - location.getX();
+            double dy = y - location.getY();
+            double dz = z - location.getZ();
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    /**
+     * Columns of 16x16 blocks keyed by packed cell coordinates. Cell lists and nodes are
+     * kept and reused between rebuilds so rebuilding does not reallocate them.
+     */
+    private static final class Grid {
+        private final Map<Long, List<Node>> cells = new HashMap<>();
+        private final List<Node> nodes = new ArrayList<>();
+        private int used;
+
+        private static long key(int cellX, int cellZ) {
+            return ((long) cellX << 32) | (cellZ & 0xffffffffL);
+        }
+
+        private void clear() {
+            for (List<Node> cell : cells.values()) {
+                cell.clear();
+            }
+            for (int i = 0; i < used; i++) {
+                nodes.get(i).entity = null; // Don't keep removed entities alive until the next rebuild
+            }
+            used = 0;
+        }
+
+        private void insert(Entity entity, Location location) {
+            if (used == nodes.size()) {
+                nodes.add(new Node());
+            }
+            Node node = nodes.get(used++);
+            node.set(entity, location);
+            long key = key(location.getBlockX() >> CELL_SHIFT, location.getBlockZ() >> CELL_SHIFT);
+            cells.computeIfAbsent(key, k -> new ArrayList<>()).add(node);
+        }
+
+        private Entity nearest(Location center, double range, Predicate<Entity> filter) {
+            Node node = nearestNode(center, range, filter);
+            return node != null ? node.entity : null;
+        }
+
+        private Node nearestNode(Location center, double range, Predicate<Entity> filter) {
+            int minX = (int) Math.floor(center.getX() - range) >> CELL_SHIFT;
+            int maxX = (int) Math.floor(center.getX() + range) >> CELL_SHIFT;
+            int minZ = (int) Math.floor(center.getZ() - range) >> CELL_SHIFT;
+            int maxZ = (int) Math.floor(center.getZ() + range) >> CELL_SHIFT;
+
+            Node best = null;
+            double bestDistance = range * range;
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    List<Node> cell = cells.get(key(cx, cz));
+                    if (cell == null) {
+                        continue;
+                    }
+                    for (Node node : cell) {
+                        double distance = node.distanceSquared(center);
+                        if (distance > bestDistance) {
+                            continue;
+                        }
+                        if (filter != null && !filter.test(node.entity)) {
+                            continue;
+                        }
+                        best = node;
+                        bestDistance = distance;
+                    }
+                }
+            }
+            return best;
+        }
+    }
+}
@@ -34,6 +34,7 @@ public class NPCManager {
     private final NPCRegistry npcRegistry;
     private final Map<String, NPC> npcById = new HashMap<>();
     private final Map<UUID, NPC> npcByUUID = new HashMap<>();
+    private final Map<UUID, String> idByUUID = new HashMap<>();
     private final Map<String, NPCInteractionHandler> interactionHandlers = new HashMap<>();
     private final Map<UUID, ArmorStand> nameplateStands = new HashMap<>();
     private final CombatHandler combatHandler = new CombatHandler();
@@ -96,6 +97,7 @@ public class NPCManager {
         // Store the NPC in our maps for later reference
         npcById.put(id, npc);
         npcByUUID.put(npc.getUniqueId(), npc);
+        idByUUID.put(npc.getUniqueId(), id);
         
         // Set the skin if provided
         if (skinName != null && !skinName.isEmpty()) {
@@ -159,6 +161,7 @@ public class NPCManager {
             npc.destroy();
             npcById.remove(id);
             npcByUUID.remove(uuid);
+            idByUUID.remove(uuid);
             interactionHandlers.remove(id);
             
             plugin.debugLog(DebugSystem.NPC,"Removed NPC with ID: " + id);
@@ -251,6 +254,16 @@ public class NPCManager {
         return npcByUUID.get(uuid);
     }
     
+    /**
+     * Get the ID of an NPC by its UUID
+     * 
+     * @param uuid The UUID of the NPC
+     * @return The NPC ID, or null if not found
+     */
+    public String getIdByUUID(UUID uuid) {
+        return idByUUID.get(uuid);
+    }
+    
     /**
      * Set equipment for an NPC
      * 
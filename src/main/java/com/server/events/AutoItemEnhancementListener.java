@@ -11,6 +11,7 @@ import org.bukkit.event.player.PlayerPickupItemEvent;
 import org.bukkit.inventory.ItemStack;
 
 import com.server.Main;
+import com.server.crafting.fuel.FuelRegistry;
 import com.server.items.ItemManager;
 
 /**
@@ -31,7 +32,7 @@ public class AutoItemEnhancementListener implements Listener {
     public void onPlayerPickupItem(PlayerPickupItemEvent event) {
         ItemStack item = event.getItem().getItemStack();
         
-        if (ItemManager.needsFuelLore(item)) {
+        if (ItemManager.needsEnhancement(item)) {
             ItemStack enhanced = ItemManager.enhanceItemWithAllProperties(item);
             event.getItem().setItemStack(enhanced);
         }
@@ -44,7 +45,7 @@ public class AutoItemEnhancementListener implements Listener {
     public void onCraftItem(CraftItemEvent event) {
         ItemStack result = event.getRecipe().getResult();
         
-        if (result != null && ItemManager.needsFuelLore(result)) {
+        if (result != null && ItemManager.needsEnhancement(result)) {
             ItemStack enhanced = ItemManager.enhanceItemWithAllProperties(result);
             event.getInventory().setResult(enhanced);
         }
@@ -58,7 +59,7 @@ public class AutoItemEnhancementListener implements Listener {
         for (int i = 0; i < event.getDrops().size(); i++) {
             ItemStack drop = event.getDrops().get(i);
             
-            if (ItemManager.needsFuelLore(drop)) {
+            if (ItemManager.needsEnhancement(drop)) {
                 ItemStack enhanced = ItemManager.enhanceItemWithAllProperties(drop);
                 event.getDrops().set(i, enhanced);
             }
@@ -74,7 +75,7 @@ public class AutoItemEnhancementListener implements Listener {
             org.bukkit.entity.Item caughtItem = (org.bukkit.entity.Item) event.getCaught();
             ItemStack item = caughtItem.getItemStack();
             
-            if (ItemManager.needsFuelLore(item)) {
+            if (ItemManager.needsEnhancement(item)) {
                 ItemStack enhanced = ItemManager.enhanceItemWithAllProperties(item);
                 caughtItem.setItemStack(enhanced);
             }
@@ -86,19 +87,28 @@ public class AutoItemEnhancementListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR)
     public void onInventoryClick(InventoryClickEvent event) {
+        // Most clicks involve no fuel material, so don't schedule anything for them
+        FuelRegistry fuels = FuelRegistry.getInstance();
+        ItemStack clicked = event.getCurrentItem();
+        ItemStack held = event.getCursor();
+        if ((clicked == null || !fuels.mayBeFuel(clicked.getType()))
+                && (held == null || !fuels.mayBeFuel(held.getType()))) {
+            return;
+        }
+        
         // Delay the enhancement to ensure the item has been moved
         plugin.getServer().getScheduler().runTask(plugin, () -> {
             ItemStack currentItem = event.getCurrentItem();
             ItemStack cursor = event.getCursor();
             
             // Check current item
-            if (currentItem != null && ItemManager.needsFuelLore(currentItem)) {
+            if (currentItem != null && ItemManager.needsEnhancement(currentItem)) {
                 ItemStack enhanced = ItemManager.enhanceItemWithAllProperties(currentItem);
                 event.setCurrentItem(enhanced);
             }
             
             // Check cursor item
-            if (cursor != null && ItemManager.needsFuelLore(cursor)) {
+            if (cursor != null && ItemManager.needsEnhancement(cursor)) {
                 ItemStack enhanced = ItemManager.enhanceItemWithAllProperties(cursor);
                 event.setCursor(enhanced);
             }
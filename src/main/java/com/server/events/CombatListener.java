@@ -1,5 +1,7 @@
 package com.server.events;
 
+import java.util.ArrayList;
+
 import org.bukkit.Location;
 import org.bukkit.NamespacedKey;
 import org.bukkit.Particle;
@@ -28,6 +30,7 @@ import com.server.debug.DebugManager.DebugSystem;
 import com.server.entities.CustomMobStats;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
+import com.server.spatial.SpatialIndex;
 
 public class CombatListener implements Listener {
     
@@ -294,12 +297,11 @@ public class CombatListener implements Listener {
                                     entity.getWorld().spawnParticle(Particle.EXPLOSION_EMITTER, entity.getLocation(), 1, 0, 0, 0, 0);
                                     
                                     // Damage nearby players
-                                    for (Entity nearby : entity.getNearbyEntities(5, 2, 5)) {
-                                        if (nearby instanceof Player) {
-                                            Player nearbyPlayer = (Player) nearby;
-                                            nearbyPlayer.damage(stats.getPhysicalDamage() * 0.8, entity);
-                                            nearbyPlayer.setVelocity(nearbyPlayer.getLocation().subtract(entity.getLocation()).toVector().normalize().multiply(1.2).setY(0.5));
-                                        }
+                                    for (LivingEntity nearby : SpatialIndex.getInstance().queryBox(entity.getLocation(), 5, 2, 5,
+                                            e -> e instanceof Player, new ArrayList<>())) {
+                                        Player nearbyPlayer = (Player) nearby;
+                                        nearbyPlayer.damage(stats.getPhysicalDamage() * 0.8, entity);
+                                        nearbyPlayer.setVelocity(nearbyPlayer.getLocation().subtract(entity.getLocation()).toVector().normalize().multiply(1.2).setY(0.5));
                                     }
                                 }
                             }, 15L); // Delay for animation to play before effect
@@ -18,6 +18,9 @@ import org.bukkit.scheduler.BukkitTask;
 
 import com.server.Main;
 import com.server.debug.DebugManager.DebugSystem;
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
 import com.server.entities.CustomMobStats;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
@@ -149,7 +152,7 @@ public class CustomMobListener implements Listener {
                     }
                     
                     // Add currency to player
-                    profile.addUnits(goldAmount);
+                    CurrencyLedger.getInstance().deposit(profile, Currency.UNITS, goldAmount, TransactionReason.REWARD);
                     player.sendMessage("§6+" + goldAmount + " Gold");
                     
                     // Clear default drops and set custom ones
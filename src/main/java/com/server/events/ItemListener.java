@@ -1,14 +1,21 @@
 package com.server.events;
 
+import org.bukkit.block.DoubleChest;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.entity.EntityPickupItemEvent;
 import org.bukkit.event.inventory.CraftItemEvent;
+import org.bukkit.event.inventory.InventoryOpenEvent;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.BlockInventoryHolder;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 
 import com.server.items.ItemManager;
+import com.server.items.LegacyItemMigration;
 
 public class ItemListener implements Listener {
 
@@ -27,6 +34,25 @@ public class ItemListener implements Listener {
         ItemStack item = event.getItem().getItemStack();
         if (!ItemManager.hasRarity(item)) {
             event.getItem().setItemStack(ItemManager.applyRarity(item));
+            return;
+        }
+        ItemStack migrated = LegacyItemMigration.migrate(item);
+        if (migrated != null) {
+            event.getItem().setItemStack(migrated);
+        }
+    }
+
+    /**
+     * Converts legacy lore-only items in chests, ender chests and other block containers when
+     * opened. Plugin GUIs are skipped so their icons are never rewritten.
+     */
+    @EventHandler(priority = EventPriority.NORMAL, ignoreCancelled = true)
+    public void onInventoryOpen(InventoryOpenEvent event) {
+        Inventory inventory = event.getInventory();
+        InventoryHolder holder = inventory.getHolder();
+        if (holder instanceof BlockInventoryHolder || holder instanceof DoubleChest
+                || inventory.getType() == InventoryType.ENDER_CHEST) {
+            LegacyItemMigration.migrateInventory(inventory);
         }
     }
-}
\ No newline at end of file
+}
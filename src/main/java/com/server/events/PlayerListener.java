@@ -12,6 +12,7 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.AsyncPlayerPreLoginEvent;
 import org.bukkit.event.player.PlayerChangedWorldEvent;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
@@ -37,11 +38,39 @@ public class PlayerListener implements Listener {
         this.plugin = plugin;
     }
 
+    /**
+     * Load the player's profiles from disk while they are still logging in, so the join
+     * itself never waits on file IO
+     */
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onAsyncPreLogin(AsyncPlayerPreLoginEvent event) {
+        if (event.getLoginResult() == AsyncPlayerPreLoginEvent.Result.ALLOWED) {
+            ProfileManager.getInstance().preloadProfiles(event.getUniqueId());
+        }
+    }
+
     // In PlayerListener.java
     @EventHandler(priority = EventPriority.HIGHEST)
     public void onPlayerJoin(PlayerJoinEvent event) {
         Player player = event.getPlayer();
         ProfileManager pm = ProfileManager.getInstance();
+        if (!pm.isLoaded(player.getUniqueId())) {
+            // Pre-login didn't finish loading them; finish the join once they are, rather than waiting here
+            pm.loadProfiles(player.getUniqueId()).whenComplete((loaded, error) ->
+                plugin.getServer().getScheduler().runTask(plugin, () -> {
+                    if (!player.isOnline()) {
+                        return;
+                    }
+                    if (error != null) {
+                        plugin.getLogger().warning("Failed to load profiles for " + player.getName() + ": " + error);
+                        player.kick(net.kyori.adventure.text.Component.text("Your profiles could not be loaded. Please reconnect!")
+                            .color(net.kyori.adventure.text.format.NamedTextColor.RED));
+                        return;
+                    }
+                    onPlayerJoin(event);
+                }));
+            return;
+        }
         PlayerProfile[] profiles = pm.getProfiles(player.getUniqueId());
 
         initializeAttributes(player);
@@ -236,6 +265,16 @@ public class PlayerListener implements Listener {
                         }
                     }.runTaskLater(plugin, 10L); // Use a longer delay to ensure stats are fully applied
                 }
+            } else {
+                // Profiles were loaded from disk but none is active yet (e.g. after a restart)
+                new BukkitRunnable() {
+                    @Override
+                    public void run() {
+                        if (player.isOnline()) {
+                            ProfileGUI.openProfileSelector(player);
+                        }
+                    }
+                }.runTaskLater(plugin, 1L);
             }
         }
 
@@ -326,8 +365,8 @@ public class PlayerListener implements Listener {
             }
         }
 
-        // If player has no profiles, reopen the menu
-        if (!hasProfiles) {
+        // If player has no profiles, or hasn't picked one since their profiles were loaded, reopen the menu
+        if (!hasProfiles || pm.getActiveProfile(player.getUniqueId()) == null) {
             new BukkitRunnable() {
                 @Override
                 public void run() {
@@ -10,6 +10,10 @@ import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
+import com.server.islands.data.IslandType;
 import com.server.islands.managers.IslandManager;
 
 import net.kyori.adventure.text.Component;
@@ -79,6 +83,9 @@ public class IslandAdminCommand implements CommandExecutor, TabCompleter {
             case "complete":
                 handleCompleteChallenge(player, args);
                 break;
+            case "reloadtemplate":
+                handleReloadTemplate(player, args);
+                break;
             default:
                 sendUsage(player);
                 break;
@@ -116,7 +123,7 @@ public class IslandAdminCommand implements CommandExecutor, TabCompleter {
             islandManager.loadIsland(islandId).thenAccept(island -> {
                 if (island == null) return;
                 
-                island.setIslandTokens(amount);
+                CurrencyLedger.getInstance().set(island, Currency.ISLAND_TOKENS, amount, TransactionReason.ADMIN);
                 islandManager.getDataManager().saveIsland(island).thenRun(() -> {
                     player.sendMessage(Component.text("✓ ", NamedTextColor.GREEN, TextDecoration.BOLD)
                         .append(Component.text("Set ", NamedTextColor.GREEN))
@@ -157,7 +164,7 @@ public class IslandAdminCommand implements CommandExecutor, TabCompleter {
             islandManager.loadIsland(islandId).thenAccept(island -> {
                 if (island == null) return;
                 
-                island.addIslandTokens(amount);
+                CurrencyLedger.getInstance().deposit(island, Currency.ISLAND_TOKENS, amount, TransactionReason.ADMIN);
                 islandManager.getDataManager().saveIsland(island).thenRun(() -> {
                     player.sendMessage(Component.text("✓ ", NamedTextColor.GREEN, TextDecoration.BOLD)
                         .append(Component.text("Added ", NamedTextColor.GREEN))
@@ -348,6 +355,23 @@ public class IslandAdminCommand implements CommandExecutor, TabCompleter {
         });
     }
     
+    private void handleReloadTemplate(Player player, String[] args) {
+        if (args.length < 2) {
+            player.sendMessage(Component.text("Usage: /islandadmin reloadtemplate <type>", NamedTextColor.RED));
+            return;
+        }
+        
+        IslandType type = IslandType.fromString(args[1]);
+        if (type == null) {
+            player.sendMessage(Component.text("✗ Unknown island type: " + args[1], NamedTextColor.RED));
+            return;
+        }
+        
+        islandManager.getWorldManager().invalidateTemplate(type);
+        player.sendMessage(Component.text("✓ ", NamedTextColor.GREEN, TextDecoration.BOLD)
+            .append(Component.text("Reloaded the " + type.getDisplayName() + " template. New islands will use the current template world.", NamedTextColor.GREEN)));
+    }
+    
     private void sendUsage(Player player) {
         player.sendMessage(Component.empty());
         player.sendMessage(Component.text("━━━━━ ", NamedTextColor.DARK_GRAY, TextDecoration.STRIKETHROUGH)
@@ -368,6 +392,8 @@ public class IslandAdminCommand implements CommandExecutor, TabCompleter {
             .append(Component.text(" - View island info", NamedTextColor.GRAY)));
         player.sendMessage(Component.text("  /islandadmin completechallenge <player> <challengeId>", NamedTextColor.AQUA)
             .append(Component.text(" - Force complete a challenge", NamedTextColor.GRAY)));
+        player.sendMessage(Component.text("  /islandadmin reloadtemplate <type>", NamedTextColor.AQUA)
+            .append(Component.text(" - Reload an island template from disk", NamedTextColor.GRAY)));
         player.sendMessage(Component.text("━━━━━━━━━━━━━━━━━━━━━━━━━━━", NamedTextColor.DARK_GRAY, TextDecoration.STRIKETHROUGH));
         player.sendMessage(Component.empty());
     }
@@ -383,7 +409,12 @@ public class IslandAdminCommand implements CommandExecutor, TabCompleter {
             completions.add("setvalue");
             completions.add("info");
             completions.add("completechallenge");
+            completions.add("reloadtemplate");
             completions.add("gui");
+        } else if (args.length == 2 && args[0].equalsIgnoreCase("reloadtemplate")) {
+            for (IslandType type : IslandType.values()) {
+                completions.add(type.name().toLowerCase());
+            }
         } else if (args.length == 2) {
             // Suggest online player names
             return null; // Bukkit will handle player name completion
@@ -11,6 +11,9 @@ import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
 import com.server.islands.gui.IslandShopGUI;
 import com.server.islands.managers.IslandManager;
 
@@ -116,7 +119,12 @@ public class IslandShopGUIListener implements Listener {
                 }
                 
                 // Deduct tokens
-                island.addIslandTokens(-item.cost);
+                if (!CurrencyLedger.getInstance().withdraw(island, Currency.ISLAND_TOKENS, item.cost, TransactionReason.PURCHASE)) {
+                    player.sendMessage(Component.text("❌ You don't have enough tokens! Required: " + item.cost, NamedTextColor.RED));
+                    player.playSound(player.getLocation(), org.bukkit.Sound.ENTITY_VILLAGER_NO, 1.0f, 1.0f);
+                    return;
+                }
+                islandManager.updateIslandTokens(island.getIslandId(), island.getIslandTokens());
                 
                 // Give item to player
                 ItemStack purchasedItem = new ItemStack(item.material, item.quantity);
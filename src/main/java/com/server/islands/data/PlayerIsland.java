@@ -6,10 +6,15 @@ import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.LedgerAccount;
+import com.server.economy.TransactionReason;
+
 /**
  * Represents a player's island with all its data and upgrade levels.
  */
-public class PlayerIsland {
+public class PlayerIsland implements LedgerAccount {
     
     // Core identifiers
     private final UUID islandId;
@@ -25,7 +30,8 @@ public class PlayerIsland {
     // Progression
     private int islandLevel;
     private long islandValue;
-    private int islandTokens; // Island tokens earned from challenges
+    private int islandTokens; // Island tokens earned from challenges, changed through the CurrencyLedger
+    private volatile long ledgerSequence; // Not persisted; the ledger is always at least as new as the database
     
     // Upgrade levels
     private int sizeLevel;
@@ -51,11 +57,25 @@ public class PlayerIsland {
     private float spawnYaw;
     private float spawnPitch;
     
+    // Runtime redstone accounting (not persisted, maintained on the main thread by IslandRedstoneListener)
+    private int redstoneCount;
+    private boolean redstoneCountValid;
+    private boolean redstoneRecountPending;
+    private int redstoneDeltaSinceScan;
+    
     /**
      * Creates a new island for a player.
      */
     public PlayerIsland(UUID ownerUuid, IslandType islandType) {
-        this.islandId = UUID.randomUUID();
+        this(UUID.randomUUID(), ownerUuid, islandType);
+    }
+    
+    /**
+     * Creates a new island for a player with a pre-allocated ID
+     * (used when claiming a pre-cloned world from the template pool).
+     */
+    public PlayerIsland(UUID islandId, UUID ownerUuid, IslandType islandType) {
+        this.islandId = islandId;
         this.ownerUuid = ownerUuid;
         this.islandType = islandType;
         this.islandName = "My Island";
@@ -225,6 +245,79 @@ public class PlayerIsland {
         return 1000;
     }
     
+    // ==================== Redstone Counter Methods ====================
+    
+    /**
+     * Gets the tracked number of redstone components on this island.
+     * While the counter is invalid this only reflects changes seen since the last recount.
+     */
+    public int getRedstoneCount() {
+        return redstoneCount;
+    }
+    
+    /**
+     * Checks if the redstone counter is trusted (a recount has completed since load).
+     */
+    public boolean isRedstoneCountValid() {
+        return redstoneCountValid;
+    }
+    
+    /**
+     * Applies a placement (+) or removal (-) to the redstone counter.
+     * A counter that would drop below zero is clearly wrong and is invalidated instead.
+     */
+    public void adjustRedstoneCount(int delta) {
+        redstoneDeltaSinceScan += delta;
+        redstoneCount += delta;
+        if (redstoneCount < 0) {
+            redstoneCount = 0;
+            redstoneCountValid = false;
+        }
+    }
+    
+    /**
+     * Marks the redstone counter as suspect so the next check schedules a recount.
+     */
+    public void invalidateRedstoneCount() {
+        redstoneCountValid = false;
+    }
+    
+    /**
+     * Starts a recount.
+     * @return false if a recount is already running
+     */
+    public boolean beginRedstoneRecount() {
+        if (redstoneRecountPending) {
+            return false;
+        }
+        redstoneRecountPending = true;
+        return true;
+    }
+    
+    /**
+     * Marks the moment the recount snapshot was taken.
+     * Changes made after this point are replayed on top of the scan result.
+     */
+    public void markRedstoneSnapshot() {
+        redstoneDeltaSinceScan = 0;
+    }
+    
+    /**
+     * Finishes a recount started with {@link #beginRedstoneRecount()}.
+     */
+    public void completeRedstoneRecount(int scannedCount) {
+        redstoneCount = Math.max(0, scannedCount + redstoneDeltaSinceScan);
+        redstoneCountValid = true;
+        redstoneRecountPending = false;
+    }
+    
+    /**
+     * Aborts a recount that could not finish; the counter stays invalid.
+     */
+    public void abortRedstoneRecount() {
+        redstoneRecountPending = false;
+    }
+    
     // ==================== Crop Growth Methods ====================
     
     /**
@@ -372,11 +465,11 @@ public class PlayerIsland {
     }
     
     public void setIslandTokens(int islandTokens) {
-        this.islandTokens = islandTokens;
+        CurrencyLedger.getInstance().set(this, Currency.ISLAND_TOKENS, islandTokens, TransactionReason.UNSPECIFIED);
     }
     
     public void addIslandTokens(int amount) {
-        this.islandTokens += amount;
+        CurrencyLedger.getInstance().deposit(this, Currency.ISLAND_TOKENS, amount, TransactionReason.UNSPECIFIED);
     }
     
     public boolean hasEnoughTokens(int amount) {
@@ -384,11 +477,45 @@ public class PlayerIsland {
     }
     
     public boolean removeIslandTokens(int amount) {
-        if (hasEnoughTokens(amount)) {
-            this.islandTokens -= amount;
-            return true;
+        return CurrencyLedger.getInstance().withdraw(this, Currency.ISLAND_TOKENS, amount, TransactionReason.UNSPECIFIED);
+    }
+    
+    // Ledger account
+    
+    @Override
+    public UUID getLedgerId() {
+        return islandId;
+    }
+    
+    @Override
+    public int getLedgerSlot() {
+        return -1;
+    }
+    
+    @Override
+    public int getBalance(Currency currency) {
+        if (currency != Currency.ISLAND_TOKENS) {
+            throw new IllegalArgumentException("Islands don't hold " + currency);
+        }
+        return islandTokens;
+    }
+    
+    @Override
+    public void applyBalance(Currency currency, int balance) {
+        if (currency != Currency.ISLAND_TOKENS) {
+            throw new IllegalArgumentException("Islands don't hold " + currency);
         }
-        return false;
+        this.islandTokens = balance;
+    }
+    
+    @Override
+    public long getLedgerSequence() {
+        return ledgerSequence;
+    }
+    
+    @Override
+    public void setLedgerSequence(long ledgerSequence) {
+        this.ledgerSequence = ledgerSequence;
     }
     
     public int getSizeLevel() {
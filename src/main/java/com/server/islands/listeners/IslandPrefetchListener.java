@@ -0,0 +1,26 @@
+package com.server.islands.listeners;
+
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+
+import com.server.islands.managers.IslandManager;
+
+/**
+ * Starts reading a player's island world in the background as soon as they join,
+ * so teleporting to the island later does not wait on disk I/O.
+ */
+public class IslandPrefetchListener implements Listener {
+    
+    private final IslandManager islandManager;
+    
+    public IslandPrefetchListener(IslandManager islandManager) {
+        this.islandManager = islandManager;
+    }
+    
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        islandManager.getLifecycleManager().prefetchForPlayer(event.getPlayer().getUniqueId());
+    }
+}
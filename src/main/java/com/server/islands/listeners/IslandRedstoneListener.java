@@ -1,24 +1,35 @@
 package com.server.islands.listeners;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import org.bukkit.Bukkit;
-import org.bukkit.Location;
+import org.bukkit.ChunkSnapshot;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.PistonMoveReaction;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockBurnEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockFromToEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
 import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
 
+import com.destroystokyo.paper.event.block.BlockDestroyEvent;
 import com.server.islands.data.PlayerIsland;
 import com.server.islands.managers.IslandManager;
+import com.server.islands.managers.IslandUpgradeManager;
 import com.server.util.BedrockPlayerUtil;
 
 import net.kyori.adventure.text.Component;
@@ -27,16 +38,19 @@ import net.kyori.adventure.text.format.TextDecoration;
 
 /**
  * Tracks redstone component placement and enforces redstone limits on islands.
+ * 
+ * Each island keeps a redstone counter that is adjusted incrementally on place, break,
+ * piston, explosion, burn, fluid and physics removals, so the limit check is O(1).
+ * A full recount from chunk snapshots only runs (off the main thread) when the counter
+ * is unknown or suspected to be wrong.
  */
 public class IslandRedstoneListener implements Listener {
     
     private final IslandManager islandManager;
-    
-    // Cache of redstone blocks per island: islandId -> Set<Location>
-    private final Map<UUID, Map<Location, Material>> redstoneBlocks = new HashMap<>();
+    private final IslandUpgradeManager upgradeManager;
     
     // Redstone materials to track
-    private static final Set<Material> REDSTONE_MATERIALS = Set.of(
+    private static final Set<Material> REDSTONE_MATERIALS = EnumSet.of(
         Material.REDSTONE_WIRE,
         Material.REDSTONE_TORCH,
         Material.REDSTONE_WALL_TORCH,
@@ -83,6 +97,7 @@ public class IslandRedstoneListener implements Listener {
     
     public IslandRedstoneListener(IslandManager islandManager) {
         this.islandManager = islandManager;
+        this.upgradeManager = islandManager.getUpgradeManager();
     }
     
     /**
@@ -99,30 +114,16 @@ public class IslandRedstoneListener implements Listener {
             return;
         }
         
-        World world = block.getWorld();
-        
-        // Check if player is on an island
-        if (!world.getName().startsWith("island_")) {
-            return;
+        UUID islandId = getIslandId(block.getWorld());
+        if (islandId == null) {
+            return; // Not a valid island world
         }
         
         Player player = event.getPlayer();
         
-        // Get the island from the world name
-        String worldName = world.getName();
-        String islandIdStr = worldName.substring(7); // Remove "island_" prefix
-        UUID islandId;
-        
-        try {
-            islandId = UUID.fromString(islandIdStr);
-        } catch (IllegalArgumentException e) {
-            return; // Not a valid island world
-        }
-        
         // Get the island from cache (must be synchronous for event cancellation to work)
         PlayerIsland island = islandManager.getCache().getIsland(islandId);
         if (island == null) {
-            // Try to get from cache by checking if this is the owner's island
             // This handles the case where the island isn't cached yet
             event.setCancelled(true);
             
@@ -133,19 +134,20 @@ public class IslandRedstoneListener implements Listener {
             return;
         }
         
-        // Check current redstone count synchronously
-        int currentCount = countRedstoneBlocks(island);
-        int limit = island.getCurrentRedstoneLimit();
+        // Counter is unknown or suspect - recount in the background, changes made meanwhile are replayed
+        if (!island.isRedstoneCountValid()) {
+            scanIslandRedstone(island);
+        }
         
-        // Debug logging
-        islandManager.getPlugin().getLogger().info("[Island Redstone] Player " + player.getName() + 
-            " trying to place " + material + " - Current: " + currentCount + "/" + limit);
+        int currentCount = island.getRedstoneCount();
+        int limit = island.getCurrentRedstoneLimit();
         
-        if (currentCount >= limit) {
+        if (!upgradeManager.hasRedstoneCapacity(island)) {
             // Cancel the placement
             event.setCancelled(true);
             
-            islandManager.getPlugin().getLogger().info("[Island Redstone] BLOCKED placement - limit reached");
+            islandManager.getPlugin().getLogger().info("[Island Redstone] BLOCKED placement by " + player.getName() + 
+                " - limit reached (" + currentCount + "/" + limit + ")");
             
             // Send message to player (chat and action bar)
             player.sendMessage(Component.text("✗ ", NamedTextColor.RED, TextDecoration.BOLD)
@@ -156,13 +158,17 @@ public class IslandRedstoneListener implements Listener {
             
             // Action bar for Bedrock players
             BedrockPlayerUtil.sendActionBar(player, "§c✗ Redstone limit: " + currentCount + "/" + limit + " §e/island upgrade");
-        } else {
-            islandManager.getPlugin().getLogger().info("[Island Redstone] ALLOWED placement - adding to cache");
-            
-            // Add to cache
-            redstoneBlocks
-                .computeIfAbsent(islandId, k -> new HashMap<>())
-                .put(block.getLocation(), material);
+        }
+    }
+    
+    /**
+     * Counts a placed redstone component once no other listener has cancelled the placement.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockPlaced(BlockPlaceEvent event) {
+        Block block = event.getBlock();
+        if (REDSTONE_MATERIALS.contains(block.getType())) {
+            adjustCount(block.getWorld(), 1);
         }
     }
     
@@ -171,125 +177,231 @@ public class IslandRedstoneListener implements Listener {
      */
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public void onBlockBreak(BlockBreakEvent event) {
-        Block block = event.getBlock();
-        Material material = block.getType();
-        
-        // Check if it's a redstone component
-        if (!REDSTONE_MATERIALS.contains(material)) {
-            return;
+        onRedstoneRemoved(event.getBlock());
+    }
+    
+    /**
+     * Handles components destroyed by physics (e.g. a torch losing the block it was attached to).
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockDestroy(BlockDestroyEvent event) {
+        onRedstoneRemoved(event.getBlock());
+    }
+    
+    /**
+     * Handles components burnt away by fire.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockBurn(BlockBurnEvent event) {
+        onRedstoneRemoved(event.getBlock());
+    }
+    
+    /**
+     * Handles components washed away by flowing water or lava.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onFluidFlow(BlockFromToEvent event) {
+        Block toBlock = event.getToBlock();
+        if (!toBlock.getType().isSolid()) {
+            onRedstoneRemoved(toBlock);
         }
-        
-        World world = block.getWorld();
-        
-        // Check if player is on an island
-        if (!world.getName().startsWith("island_")) {
+    }
+    
+    /**
+     * Handles components broken by an extending piston. Moved components keep their count.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonExtend(BlockPistonExtendEvent event) {
+        onPistonMove(event.getBlock().getWorld(), event.getBlocks());
+    }
+    
+    /**
+     * Handles components broken by a retracting sticky piston.
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPistonRetract(BlockPistonRetractEvent event) {
+        onPistonMove(event.getBlock().getWorld(), event.getBlocks());
+    }
+    
+    /**
+     * Handles components destroyed by entity explosions (TNT, creepers).
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onEntityExplode(EntityExplodeEvent event) {
+        onBlocksExploded(event.getLocation().getWorld(), event.blockList());
+    }
+    
+    /**
+     * Handles components destroyed by block explosions (beds, respawn anchors).
+     */
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onBlockExplode(BlockExplodeEvent event) {
+        onBlocksExploded(event.getBlock().getWorld(), event.blockList());
+    }
+    
+    private void onPistonMove(World world, List<Block> blocks) {
+        int removed = 0;
+        for (Block block : blocks) {
+            if (block.getPistonMoveReaction() == PistonMoveReaction.BREAK && REDSTONE_MATERIALS.contains(block.getType())) {
+                removed++;
+            }
+        }
+        adjustCount(world, -removed);
+    }
+    
+    private void onBlocksExploded(World world, List<Block> blocks) {
+        int removed = 0;
+        for (Block block : blocks) {
+            if (REDSTONE_MATERIALS.contains(block.getType())) {
+                removed++;
+            }
+        }
+        adjustCount(world, -removed);
+    }
+    
+    private void onRedstoneRemoved(Block block) {
+        if (REDSTONE_MATERIALS.contains(block.getType())) {
+            adjustCount(block.getWorld(), -1);
+        }
+    }
+    
+    /**
+     * Applies a counter change to the island owning the given world, if it is cached.
+     */
+    private void adjustCount(World world, int delta) {
+        if (delta == 0) {
             return;
         }
         
-        // Get the island from the world name
-        String worldName = world.getName();
-        String islandIdStr = worldName.substring(7); // Remove "island_" prefix
-        UUID islandId;
-        
-        try {
-            islandId = UUID.fromString(islandIdStr);
-        } catch (IllegalArgumentException e) {
-            return; // Not a valid island world
+        UUID islandId = getIslandId(world);
+        if (islandId == null) {
+            return;
         }
         
-        // Remove from cache
-        Map<Location, Material> islandRedstone = redstoneBlocks.get(islandId);
-        if (islandRedstone != null) {
-            islandRedstone.remove(block.getLocation());
+        PlayerIsland island = islandManager.getCache().getIsland(islandId);
+        if (island != null) {
+            island.adjustRedstoneCount(delta);
         }
     }
     
     /**
-     * Counts redstone blocks on an island.
-     * Uses cache first, only scans world if cache is empty/invalid.
-     * For event checking, we use a fast count that assumes cache is valid.
+     * Resolves the island ID from an island world name, or null for non-island worlds.
      */
-    private int countRedstoneBlocks(PlayerIsland island) {
-        UUID islandId = island.getIslandId();
-        
-        // Check cache first
-        Map<Location, Material> cached = redstoneBlocks.get(islandId);
-        if (cached != null) {
-            // For event checking, we trust the cache and do a quick validation
-            // Only remove entries that are clearly invalid (block no longer exists)
-            cached.entrySet().removeIf(entry -> {
-                try {
-                    Block block = entry.getKey().getBlock();
-                    return block == null || block.getType() != entry.getValue();
-                } catch (Exception e) {
-                    return true; // Remove invalid entries
-                }
-            });
-            return cached.size();
+    private UUID getIslandId(World world) {
+        String worldName = world.getName();
+        if (!worldName.startsWith("island_")) {
+            return null;
         }
         
-        // If no cache exists, initialize empty cache and return 0
-        // The first scan will happen async after server start
-        redstoneBlocks.put(islandId, new HashMap<>());
-        return 0;
+        try {
+            return UUID.fromString(worldName.substring(7)); // Remove "island_" prefix
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
     
     /**
-     * Performs a full world scan to rebuild the cache.
-     * This should be called asynchronously, not during event handling.
+     * Recounts redstone components on an island from chunk snapshots.
+     * Must be called on the main thread. Chunks are loaded asynchronously, snapshotted together
+     * in a single tick, and counted off the main thread. Changes made after the snapshot are
+     * replayed on top of the result by {@link PlayerIsland#completeRedstoneRecount(int)}.
      */
     public void scanIslandRedstone(PlayerIsland island) {
-        UUID islandId = island.getIslandId();
-        
         World world = Bukkit.getWorld(island.getWorldName());
-        if (world == null) {
+        if (world == null || !island.beginRedstoneRecount()) {
             return;
         }
         
-        Map<Location, Material> newCache = new HashMap<>();
-        
-        // Scan within the island's border
         int radius = island.getCurrentSize() / 2;
-        Location center = new Location(world, 0, 0, 0);
+        int minChunk = -radius >> 4;
+        int maxChunk = radius >> 4;
+        int minY = world.getMinHeight();
+        int maxY = world.getMaxHeight();
         
-        for (int x = -radius; x <= radius; x++) {
-            for (int z = -radius; z <= radius; z++) {
-                for (int y = world.getMinHeight(); y < world.getMaxHeight(); y++) {
-                    Location loc = center.clone().add(x, y, z);
+        List<CompletableFuture<?>> chunkLoads = new ArrayList<>();
+        for (int cx = minChunk; cx <= maxChunk; cx++) {
+            for (int cz = minChunk; cz <= maxChunk; cz++) {
+                chunkLoads.add(world.getChunkAtAsync(cx, cz));
+            }
+        }
+        
+        CompletableFuture.allOf(chunkLoads.toArray(new CompletableFuture[0])).whenComplete((ignored, loadError) -> {
+            Bukkit.getScheduler().runTask(islandManager.getPlugin(), () -> {
+                if (loadError != null || !world.equals(Bukkit.getWorld(island.getWorldName()))) {
+                    island.abortRedstoneRecount();
+                    return;
+                }
+                
+                // Snapshot every chunk in the same tick and restart the change log from here
+                List<ChunkSnapshot> snapshots = new ArrayList<>();
+                for (int cx = minChunk; cx <= maxChunk; cx++) {
+                    for (int cz = minChunk; cz <= maxChunk; cz++) {
+                        snapshots.add(world.getChunkAt(cx, cz).getChunkSnapshot(false, false, false));
+                    }
+                }
+                island.markRedstoneSnapshot();
+                
+                CompletableFuture.supplyAsync(() -> {
+                    int total = 0;
+                    for (ChunkSnapshot snapshot : snapshots) {
+                        total += countRedstone(snapshot, radius, minY, maxY);
+                    }
+                    return total;
+                }).whenComplete((total, countError) -> Bukkit.getScheduler().runTask(islandManager.getPlugin(), () -> {
+                    if (countError != null) {
+                        island.abortRedstoneRecount();
+                        islandManager.getPlugin().getLogger().warning("[Island] Redstone recount failed for " + 
+                            island.getWorldName() + ": " + countError.getMessage());
+                        return;
+                    }
                     
-                    // Check if chunk is loaded before accessing block
-                    if (!world.isChunkLoaded(loc.getBlockX() >> 4, loc.getBlockZ() >> 4)) {
+                    island.completeRedstoneRecount(total);
+                    islandManager.getPlugin().getLogger().info("[Island] Scanned " + island.getWorldName() + 
+                        " and found " + island.getRedstoneCount() + " redstone components");
+                }));
+            });
+        });
+    }
+    
+    /**
+     * Counts redstone components in a chunk snapshot that fall inside the island border.
+     */
+    private static int countRedstone(ChunkSnapshot snapshot, int radius, int minY, int maxY) {
+        int baseX = snapshot.getX() << 4;
+        int baseZ = snapshot.getZ() << 4;
+        int sections = (maxY - minY) >> 4;
+        int count = 0;
+        
+        for (int section = 0; section < sections; section++) {
+            if (snapshot.isSectionEmpty(section)) {
+                continue;
+            }
+            
+            int sectionMinY = minY + (section << 4);
+            for (int y = sectionMinY; y < sectionMinY + 16; y++) {
+                for (int x = 0; x < 16; x++) {
+                    if (Math.abs(baseX + x) > radius) {
                         continue;
                     }
-                    
-                    Block block = world.getBlockAt(loc);
-                    Material type = block.getType();
-                    
-                    if (REDSTONE_MATERIALS.contains(type)) {
-                        newCache.put(loc, type);
+                    for (int z = 0; z < 16; z++) {
+                        if (Math.abs(baseZ + z) > radius) {
+                            continue;
+                        }
+                        if (REDSTONE_MATERIALS.contains(snapshot.getBlockType(x, y, z))) {
+                            count++;
+                        }
                     }
                 }
             }
         }
         
-        // Update cache
-        redstoneBlocks.put(islandId, newCache);
-        
-        islandManager.getPlugin().getLogger().info("[Island] Scanned " + island.getWorldName() + 
-            " and found " + newCache.size() + " redstone components");
-    }
-    
-    /**
-     * Clears the cache for an island (called when island is deleted).
-     */
-    public void clearIslandCache(UUID islandId) {
-        redstoneBlocks.remove(islandId);
+        return count;
     }
     
     /**
      * Gets the current redstone count for an island.
      */
     public int getRedstoneCount(PlayerIsland island) {
-        return countRedstoneBlocks(island);
+        return island.getRedstoneCount();
     }
 }
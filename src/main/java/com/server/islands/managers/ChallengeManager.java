@@ -13,15 +13,22 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
 import com.server.islands.data.ChallengeProgress;
 import com.server.islands.data.IslandChallenge;
 import com.server.islands.data.IslandChallenge.ChallengeCategory;
+import com.server.profiling.TickProfiler;
 
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
@@ -36,6 +43,8 @@ public class ChallengeManager {
     private final IslandManager islandManager;
     private Connection connection;
     private final File databaseFile;
+    private final Executor databaseExecutor =
+        TickProfiler.getInstance().executor("db.challenges", ForkJoinPool.commonPool());
     
     // Registry of all challenges
     private final Map<String, IslandChallenge> challengeRegistry;
@@ -123,7 +132,7 @@ public class ChallengeManager {
      * Closes database connection.
      */
     public CompletableFuture<Void> shutdown() {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             try {
                 if (connection != null && !connection.isClosed()) {
                     connection.close();
@@ -202,7 +211,7 @@ public class ChallengeManager {
      * Gets challenge progress for an island (island-wide challenge).
      */
     public CompletableFuture<ChallengeProgress> getIslandProgress(UUID islandId, String challengeId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             // Check cache first
             if (islandProgressCache.containsKey(islandId)) {
                 ChallengeProgress cached = islandProgressCache.get(islandId).get(challengeId);
@@ -247,7 +256,7 @@ public class ChallengeManager {
      * Gets challenge progress for a player (player-specific challenge).
      */
     public CompletableFuture<ChallengeProgress> getPlayerProgress(UUID playerId, UUID islandId, String challengeId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             // Check cache first
             if (playerProgressCache.containsKey(playerId)) {
                 ChallengeProgress cached = playerProgressCache.get(playerId).get(challengeId);
@@ -337,7 +346,8 @@ public class ChallengeManager {
         // Award tokens to island
         islandManager.loadIsland(islandId).thenAccept(island -> {
             if (island != null) {
-                island.addIslandTokens(challenge.getTokenReward());
+                CurrencyLedger.getInstance().deposit(island, Currency.ISLAND_TOKENS, challenge.getTokenReward(),
+                    TransactionReason.REWARD);
                 // Update in database
                 islandManager.updateIslandTokens(islandId, island.getIslandTokens());
                 
@@ -384,7 +394,7 @@ public class ChallengeManager {
      * Saves challenge progress to database.
      */
     private void saveProgress(ChallengeProgress progress) {
-        CompletableFuture.runAsync(() -> {
+        runAsync(() -> {
             try {
                 String sql = "INSERT OR REPLACE INTO island_challenge_progress (challenge_id, island_id, player_id, current_progress, completed, completed_at) " +
                     "VALUES (?, ?, ?, ?, ?, ?)";
@@ -436,7 +446,7 @@ public class ChallengeManager {
      * Gets all completed challenges for an island.
      */
     public CompletableFuture<List<String>> getCompletedChallenges(UUID islandId, UUID playerId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             List<String> completed = new ArrayList<>();
             try {
                 String sql;
@@ -469,7 +479,7 @@ public class ChallengeManager {
      * Sets progress to target amount and marks as completed.
      */
     public CompletableFuture<Boolean> forceCompleteChallenge(UUID islandId, String challengeId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             try {
                 IslandChallenge challenge = challengeRegistry.get(challengeId);
                 if (challenge == null) {
@@ -500,7 +510,8 @@ public class ChallengeManager {
                 islandManager.loadIsland(islandId).thenAccept(island -> {
                     if (island != null) {
                         int tokenReward = challenge.getTokenReward();
-                        island.addIslandTokens(tokenReward);
+                        CurrencyLedger.getInstance().deposit(island, Currency.ISLAND_TOKENS, tokenReward,
+                            TransactionReason.ADMIN);
                         islandManager.getDataManager().saveIsland(island);
                         
                         plugin.getLogger().info("Admin force completed challenge: " + challengeId + 
@@ -520,7 +531,7 @@ public class ChallengeManager {
      * Get all completed challenges for an island (including both island-wide and any player-specific)
      */
     public CompletableFuture<java.util.Set<String>> getCompletedChallenges(UUID islandId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             java.util.Set<String> completed = new java.util.HashSet<>();
             try {
                 String sql = "SELECT DISTINCT challenge_id FROM island_challenge_progress WHERE island_id=? AND completed=1";
@@ -542,7 +553,7 @@ public class ChallengeManager {
      * Get challenge progress for a specific challenge
      */
     public CompletableFuture<Integer> getChallengeProgress(UUID islandId, UUID playerId, String challengeId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             try {
                 IslandChallenge challenge = challengeRegistry.get(challengeId);
                 if (challenge == null) {
@@ -596,4 +607,15 @@ public class ChallengeManager {
     public JavaPlugin getPlugin() {
         return plugin;
     }
+    
+    /**
+     * Runs a database task on the common pool through the profiler ({@code db.challenges}).
+     */
+    private CompletableFuture<Void> runAsync(Runnable task) {
+        return CompletableFuture.runAsync(task, databaseExecutor);
+    }
+    
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, databaseExecutor);
+    }
 }
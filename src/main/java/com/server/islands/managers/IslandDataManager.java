@@ -9,38 +9,54 @@ import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
 
 import org.bukkit.plugin.java.JavaPlugin;
 
+import com.server.economy.CurrencyLedger;
 import com.server.islands.data.IslandInvite;
 import com.server.islands.data.IslandMember;
 import com.server.islands.data.IslandMember.IslandRole;
 import com.server.islands.data.IslandStatistics;
 import com.server.islands.data.IslandType;
 import com.server.islands.data.PlayerIsland;
+import com.server.profiling.TickProfiler;
 
 /**
  * Manages database operations for islands.
- * Uses SQLite for local storage.
+ * Uses SQLite for local storage. All statements run on one database thread, since they share
+ * a single connection and its transaction state.
  */
 public class IslandDataManager {
     
     private final JavaPlugin plugin;
     private Connection connection;
     private final File databaseFile;
+    private final ExecutorService databaseThread;
+    private final Executor databaseExecutor;
     
     public IslandDataManager(JavaPlugin plugin) {
         this.plugin = plugin;
         this.databaseFile = new File(plugin.getDataFolder(), "islands.db");
+        this.databaseThread = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "mmo-island-db");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.databaseExecutor = TickProfiler.getInstance().executor("db.islands", databaseThread);
     }
     
     /**
      * Initializes the database connection and creates tables.
      */
     public CompletableFuture<Void> initialize() {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             try {
                 // Create data folder if it doesn't exist
                 if (!plugin.getDataFolder().exists()) {
@@ -64,10 +80,10 @@ public class IslandDataManager {
     }
     
     /**
-     * Closes the database connection.
+     * Closes the database connection once all queued statements have run.
      */
     public CompletableFuture<Void> shutdown() {
-        return CompletableFuture.runAsync(() -> {
+        CompletableFuture<Void> closed = runAsync(() -> {
             try {
                 if (connection != null && !connection.isClosed()) {
                     connection.close();
@@ -77,6 +93,8 @@ public class IslandDataManager {
                 plugin.getLogger().severe("Failed to close database connection: " + e.getMessage());
             }
         });
+        databaseThread.shutdown();
+        return closed;
     }
     
     /**
@@ -167,7 +185,7 @@ public class IslandDataManager {
      * Saves an island to the database.
      */
     public CompletableFuture<Void> saveIsland(PlayerIsland island) {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "INSERT OR REPLACE INTO player_islands VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -207,7 +225,7 @@ public class IslandDataManager {
      * Loads an island from the database.
      */
     public CompletableFuture<PlayerIsland> loadIsland(UUID islandId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             String sql = "SELECT * FROM player_islands WHERE island_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -230,7 +248,7 @@ public class IslandDataManager {
      * Loads an island by owner UUID.
      */
     public CompletableFuture<PlayerIsland> loadIslandByOwner(UUID ownerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             String sql = "SELECT * FROM player_islands WHERE owner_uuid = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -253,7 +271,7 @@ public class IslandDataManager {
      * Deletes an island from the database.
      */
     public CompletableFuture<Void> deleteIsland(UUID islandId) {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "DELETE FROM player_islands WHERE island_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -270,7 +288,7 @@ public class IslandDataManager {
      * Extracts island data from a ResultSet.
      */
     private PlayerIsland extractIslandFromResultSet(ResultSet rs) throws SQLException {
-        return new PlayerIsland(
+        PlayerIsland island = new PlayerIsland(
             UUID.fromString(rs.getString("island_id")),
             UUID.fromString(rs.getString("owner_uuid")),
             rs.getString("island_name"),
@@ -295,6 +313,9 @@ public class IslandDataManager {
             rs.getFloat("spawn_yaw"),
             rs.getFloat("spawn_pitch")
         );
+        // Token changes may not have been flushed to the database yet
+        CurrencyLedger.getInstance().recover(island);
+        return island;
     }
     
     // ==================== Member Operations ====================
@@ -303,7 +324,7 @@ public class IslandDataManager {
      * Saves a member to the database.
      */
     public CompletableFuture<Void> saveMember(IslandMember member) {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "INSERT OR REPLACE INTO island_members VALUES (?,?,?,?,?)";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -327,7 +348,7 @@ public class IslandDataManager {
      * Loads all members of an island.
      */
     public CompletableFuture<List<IslandMember>> loadMembers(UUID islandId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             List<IslandMember> members = new ArrayList<>();
             String sql = "SELECT * FROM island_members WHERE island_id = ?";
             
@@ -357,7 +378,7 @@ public class IslandDataManager {
      * Deletes a member from an island.
      */
     public CompletableFuture<Void> deleteMember(UUID islandId, UUID playerUuid) {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "DELETE FROM island_members WHERE island_id = ? AND player_uuid = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -375,7 +396,7 @@ public class IslandDataManager {
      * Deletes all members of an island.
      */
     public CompletableFuture<Void> deleteMembers(UUID islandId) {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "DELETE FROM island_members WHERE island_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -394,7 +415,7 @@ public class IslandDataManager {
      * Saves statistics to the database.
      */
     public CompletableFuture<Void> saveStatistics(IslandStatistics stats) {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "INSERT OR REPLACE INTO island_statistics VALUES (?,?,?,?,?,?,?,?)";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -419,7 +440,7 @@ public class IslandDataManager {
      * Loads statistics from the database.
      */
     public CompletableFuture<IslandStatistics> loadStatistics(UUID islandId) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             String sql = "SELECT * FROM island_statistics WHERE island_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -451,7 +472,7 @@ public class IslandDataManager {
      * Deletes statistics from the database.
      */
     public CompletableFuture<Void> deleteStatistics(UUID islandId) {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "DELETE FROM island_statistics WHERE island_id = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -470,7 +491,7 @@ public class IslandDataManager {
      * Saves an invitation to the database.
      */
     public CompletableFuture<Void> saveInvite(IslandInvite invite) {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "INSERT OR REPLACE INTO island_invites VALUES (?,?,?,?,?)";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -492,7 +513,7 @@ public class IslandDataManager {
      * Loads pending invites for a player.
      */
     public CompletableFuture<List<IslandInvite>> loadInvitesForPlayer(UUID playerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             List<IslandInvite> invites = new ArrayList<>();
             String sql = "SELECT * FROM island_invites WHERE invited_player = ?";
             
@@ -527,7 +548,7 @@ public class IslandDataManager {
      * Deletes an invitation from the database.
      */
     public CompletableFuture<Void> deleteInvite(UUID islandId, UUID playerUuid) {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "DELETE FROM island_invites WHERE island_id = ? AND invited_player = ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -545,7 +566,7 @@ public class IslandDataManager {
      * Deletes all expired invitations.
      */
     public CompletableFuture<Void> cleanupExpiredInvites() {
-        return CompletableFuture.runAsync(() -> {
+        return runAsync(() -> {
             String sql = "DELETE FROM island_invites WHERE expires_at < ?";
             
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
@@ -566,7 +587,7 @@ public class IslandDataManager {
      * Checks if a player has any island membership (as owner or member).
      */
     public CompletableFuture<Boolean> hasIslandMembership(UUID playerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             // Check if player owns an island
             String sqlOwner = "SELECT COUNT(*) FROM player_islands WHERE owner_uuid = ?";
             try (PreparedStatement stmt = connection.prepareStatement(sqlOwner)) {
@@ -599,7 +620,7 @@ public class IslandDataManager {
      * Gets the island ID that a player is a member of (owner or member).
      */
     public CompletableFuture<UUID> getPlayerIslandId(UUID playerUuid) {
-        return CompletableFuture.supplyAsync(() -> {
+        return supplyAsync(() -> {
             // Check if player owns an island
             String sqlOwner = "SELECT island_id FROM player_islands WHERE owner_uuid = ?";
             try (PreparedStatement stmt = connection.prepareStatement(sqlOwner)) {
@@ -629,19 +650,41 @@ public class IslandDataManager {
     }
     
     /**
-     * Updates island tokens in the database.
+     * Updates the tokens of several islands in one transaction.
      */
-    public CompletableFuture<Void> updateIslandTokens(UUID islandId, int newTokenAmount) {
-        return CompletableFuture.runAsync(() -> {
+    public CompletableFuture<Void> updateIslandTokens(Map<UUID, Integer> tokens) {
+        return runAsync(() -> {
             String sql = "UPDATE player_islands SET island_tokens = ? WHERE island_id = ?";
             try (PreparedStatement stmt = connection.prepareStatement(sql)) {
-                stmt.setInt(1, newTokenAmount);
-                stmt.setString(2, islandId.toString());
-                stmt.executeUpdate();
+                connection.setAutoCommit(false);
+                try {
+                    for (Map.Entry<UUID, Integer> entry : tokens.entrySet()) {
+                        stmt.setInt(1, entry.getValue());
+                        stmt.setString(2, entry.getKey().toString());
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                    connection.commit();
+                } catch (SQLException e) {
+                    connection.rollback();
+                    throw e;
+                } finally {
+                    connection.setAutoCommit(true);
+                }
             } catch (SQLException e) {
                 plugin.getLogger().severe("Failed to update island tokens: " + e.getMessage());
             }
         });
     }
+    
+    /**
+     * Runs a database task on the database thread through the profiler ({@code db.islands}).
+     */
+    private CompletableFuture<Void> runAsync(Runnable task) {
+        return CompletableFuture.runAsync(task, databaseExecutor);
+    }
+    
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> task) {
+        return CompletableFuture.supplyAsync(task, databaseExecutor);
+    }
 }
-
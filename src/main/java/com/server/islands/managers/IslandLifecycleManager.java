@@ -0,0 +1,172 @@
+package com.server.islands.managers;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.java.JavaPlugin;
+
+import com.server.islands.data.PlayerIsland;
+
+/**
+ * Keeps island worlds ready before players need them and unloads them gently afterwards.
+ *
+ * - Prefetch: island world bytes are read in the background when a member joins or opens
+ *   the island menu, so the later load skips disk I/O.
+ * - Warm pool: the most recently used islands stay loaded even after going idle.
+ * - Staggered unloads: idle islands outside the warm pool are unloaded one at a time,
+ *   at most {@code maxUnloadsPerMinute} per minute.
+ */
+public class IslandLifecycleManager {
+
+    private static final long IDLE_UNLOAD_THRESHOLD = 5 * 60 * 1000; // 5 minutes
+    private static final long PREFETCH_MAX_AGE = 2 * 60 * 1000; // 2 minutes
+
+    private final JavaPlugin plugin;
+    private final IslandManager islandManager;
+    private final int warmPoolSize;
+    private final int maxUnloadsPerMinute;
+
+    // Recently used islands in access order (eldest first), bounded to warmPoolSize
+    private final Map<UUID, Boolean> warmPool;
+
+    // Set while an unload is running so slow unloads never overlap
+    private final AtomicBoolean unloadInProgress = new AtomicBoolean(false);
+
+    public IslandLifecycleManager(JavaPlugin plugin, IslandManager islandManager) {
+        this.plugin = plugin;
+        this.islandManager = islandManager;
+        this.warmPoolSize = Math.max(0, plugin.getConfig().getInt("islands.lifecycle.warm-pool-size", 16));
+        this.maxUnloadsPerMinute = Math.max(1, plugin.getConfig().getInt("islands.lifecycle.max-unloads-per-minute", 6));
+        this.warmPool = new LinkedHashMap<UUID, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, Boolean> eldest) {
+                return size() > warmPoolSize;
+            }
+        };
+
+        startUnloadTask();
+    }
+
+    // ==================== Prefetching ====================
+
+    /**
+     * Prefetches the world of the island a player belongs to (owner or member).
+     */
+    public void prefetchForPlayer(UUID playerUuid) {
+        islandManager.getPlayerIslandId(playerUuid).thenAccept(islandId -> {
+            if (islandId != null) {
+                prefetchIsland(islandId);
+            }
+        });
+    }
+
+    /**
+     * Prefetches an island world by island ID unless it is already loaded.
+     */
+    public void prefetchIsland(UUID islandId) {
+        if (islandManager.getCache().getIsland(islandId) != null) {
+            return;
+        }
+        islandManager.getWorldManager().prefetchWorld("island_" + islandId);
+    }
+
+    // ==================== Warm Pool ====================
+
+    /**
+     * Marks an island as just used, moving it to the front of the warm pool.
+     */
+    public void touch(UUID islandId) {
+        synchronized (warmPool) {
+            warmPool.put(islandId, Boolean.TRUE);
+        }
+    }
+
+    /**
+     * Removes an island from the warm pool (called when the island is deleted).
+     */
+    public void forget(UUID islandId) {
+        synchronized (warmPool) {
+            warmPool.remove(islandId);
+        }
+    }
+
+    /**
+     * Checks if an island is one of the most recently used and should stay loaded.
+     */
+    public boolean isWarm(UUID islandId) {
+        synchronized (warmPool) {
+            return warmPool.containsKey(islandId);
+        }
+    }
+
+    // ==================== Staggered Unloading ====================
+
+    /**
+     * Starts the unload task. It runs {@code maxUnloadsPerMinute} times per minute and
+     * unloads at most one island per run, oldest first.
+     */
+    private void startUnloadTask() {
+        long period = Math.max(1L, 1200L / maxUnloadsPerMinute);
+
+        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
+            islandManager.getWorldManager().expirePrefetchedWorlds(PREFETCH_MAX_AGE);
+
+            if (!unloadInProgress.compareAndSet(false, true)) {
+                return; // Previous unload still running
+            }
+
+            PlayerIsland candidate = findUnloadCandidate();
+            if (candidate == null) {
+                unloadInProgress.set(false);
+                return;
+            }
+
+            unloadIsland(candidate).whenComplete((ignored, error) -> {
+                if (error != null) {
+                    plugin.getLogger().warning("Failed to auto-unload island " + candidate.getWorldName() + ": " + error.getMessage());
+                }
+                unloadInProgress.set(false);
+            });
+        }, 1200L, period);
+    }
+
+    /**
+     * Finds the longest-idle island with no players that is outside the warm pool.
+     */
+    private PlayerIsland findUnloadCandidate() {
+        long currentTime = System.currentTimeMillis();
+        IslandCache cache = islandManager.getCache();
+
+        return cache.getAllIslands().stream()
+            .filter(island -> cache.getPlayersOnIsland(island.getIslandId()).isEmpty())
+            .filter(island -> currentTime - island.getLastAccessed() > IDLE_UNLOAD_THRESHOLD)
+            .filter(island -> !isWarm(island.getIslandId()))
+            .min(Comparator.comparingLong(PlayerIsland::getLastAccessed))
+            .orElse(null);
+    }
+
+    /**
+     * Saves an island, unloads its world and removes it from the cache.
+     */
+    private CompletableFuture<Void> unloadIsland(PlayerIsland island) {
+        return islandManager.getDataManager().saveIsland(island)
+            .thenCompose(v -> islandManager.getWorldManager().unloadWorld(island.getWorldName()))
+            .thenRun(() -> {
+                islandManager.getCache().removeIsland(island.getIslandId());
+                plugin.getLogger().info("Auto-unloaded island: " + island.getWorldName());
+            });
+    }
+
+    public int getWarmPoolSize() {
+        return warmPoolSize;
+    }
+
+    public int getMaxUnloadsPerMinute() {
+        return maxUnloadsPerMinute;
+    }
+}
@@ -1,12 +1,12 @@
 package com.server.islands.managers;
 
-import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -14,6 +14,9 @@ import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
 import com.server.islands.data.IslandInvite;
 import com.server.islands.data.IslandMember;
 import com.server.islands.data.IslandStatistics;
@@ -36,31 +39,43 @@ public class IslandManager {
     private final IslandWorldManager worldManager;
     private final IslandDataManager dataManager;
     private final IslandCache cache;
+    private final IslandLifecycleManager lifecycleManager;
     
     // Track which island each player is currently on
     private final Map<UUID, UUID> playerLocations = new HashMap<>();
     
+    // Token balances waiting to be written to the database, by island
+    private final Map<UUID, Integer> pendingTokens = new ConcurrentHashMap<>();
+    
     public IslandManager(JavaPlugin plugin) {
         this.plugin = plugin;
         this.worldManager = new IslandWorldManager(plugin);
         this.dataManager = new IslandDataManager(plugin);
         this.cache = new IslandCache(this);
         
-        // Start auto-unload task (check every minute)
-        startAutoUnloadTask();
+        // Prefetching, warm pool and staggered auto-unloading
+        this.lifecycleManager = new IslandLifecycleManager(plugin, this);
     }
     
     /**
      * Initializes the island system.
      */
     public CompletableFuture<Void> initialize() {
-        return dataManager.initialize();
+        return dataManager.initialize().thenRun(() -> {
+            worldManager.warmUpPreparedPools();
+            
+            long flushTicks = Math.max(1L, plugin.getConfig().getLong("islands.token-flush-seconds", 5L)) * 20L;
+            // Balances are read on the main thread; only the write happens on the database thread
+            Bukkit.getScheduler().runTaskTimer(plugin, this::flushIslandTokens, flushTicks, flushTicks);
+        });
     }
     
     /**
      * Shuts down the island system.
      */
     public CompletableFuture<Void> shutdown() {
+        flushIslandTokens();
+        worldManager.shutdown();
         cache.clear();
         return dataManager.shutdown();
     }
@@ -86,10 +101,15 @@ public class IslandManager {
             }
             
             // Deduct cost
-            profile.removeUnits(type.getCost());
+            if (!CurrencyLedger.getInstance().withdraw(profile, Currency.UNITS, type.getCost(), TransactionReason.PURCHASE)) {
+                return null;
+            }
             
-            // Create island data
-            PlayerIsland island = new PlayerIsland(playerUuid, type);
+            // Create island data, reusing a pre-cloned world when one is ready
+            IslandWorldManager.PreparedIsland prepared = worldManager.claimPreparedIsland(type);
+            PlayerIsland island = prepared != null
+                ? new PlayerIsland(prepared.getIslandId(), playerUuid, type)
+                : new PlayerIsland(playerUuid, type);
             
             // Save to database
             dataManager.saveIsland(island).join();
@@ -103,7 +123,7 @@ public class IslandManager {
             dataManager.saveStatistics(stats).join();
             
             // Generate world
-            worldManager.generateIslandWorld(island).join();
+            worldManager.generateIslandWorld(island, prepared).join();
             
             // Cache the island
             cache.cacheIsland(island);
@@ -141,6 +161,7 @@ public class IslandManager {
                         
                         // Remove from cache
                         cache.removeIsland(islandId);
+                        lifecycleManager.forget(islandId);
                         
                         // Delete from database
                         CompletableFuture.allOf(
@@ -171,9 +192,13 @@ public class IslandManager {
             PlayerIsland cached = cache.getIsland(islandId);
             if (cached != null) {
                 cached.updateLastAccessed();
+                lifecycleManager.touch(islandId);
                 return cached;
             }
             
+            // Start reading the world while the database lookup runs
+            lifecycleManager.prefetchIsland(islandId);
+            
             // Load from database
             PlayerIsland island = dataManager.loadIsland(islandId).join();
             if (island == null) {
@@ -186,6 +211,7 @@ public class IslandManager {
             // Cache it
             cache.cacheIsland(island);
             island.updateLastAccessed();
+            lifecycleManager.touch(islandId);
             
             return island;
         });
@@ -216,6 +242,7 @@ public class IslandManager {
                 worldManager.loadWorld(island).join();
                 // Cache it
                 cache.cacheIsland(island);
+                lifecycleManager.touch(island.getIslandId());
             }
             return island;
         });
@@ -474,16 +501,33 @@ public class IslandManager {
     }
     
     /**
-     * Updates island tokens in the database.
+     * Queues an island's tokens to be written to the database. Queued islands are written
+     * together in one transaction every {@code islands.token-flush-seconds}; until then the
+     * currency ledger holds the change, so nothing is lost if the server stops first.
      */
     public CompletableFuture<Void> updateIslandTokens(UUID islandId, int newTokenAmount) {
-        return CompletableFuture.runAsync(() -> {
-            PlayerIsland island = cache.getIsland(islandId);
-            if (island != null) {
-                island.setIslandTokens(newTokenAmount);
+        pendingTokens.put(islandId, newTokenAmount);
+        return CompletableFuture.completedFuture(null);
+    }
+    
+    /**
+     * Snapshots all queued island tokens and writes them to the database. Call on the main thread.
+     */
+    public CompletableFuture<Void> flushIslandTokens() {
+        if (pendingTokens.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        
+        Map<UUID, Integer> batch = new HashMap<>();
+        for (UUID islandId : pendingTokens.keySet()) {
+            Integer queued = pendingTokens.remove(islandId);
+            if (queued != null) {
+                // Prefer the live balance, which may have changed again since it was queued
+                PlayerIsland island = cache.getIsland(islandId);
+                batch.put(islandId, island != null ? island.getIslandTokens() : queued);
             }
-            dataManager.updateIslandTokens(islandId, newTokenAmount).join();
-        });
+        }
+        return dataManager.updateIslandTokens(batch);
     }
     
     // ==================== Members ====================
@@ -662,50 +706,6 @@ public class IslandManager {
         return dataManager.getPlayerIslandId(playerUuid);
     }
     
-    // ==================== Auto-Unload System ====================
-    
-    /**
-     * Starts the auto-unload task to unload inactive islands.
-     */
-    private void startAutoUnloadTask() {
-        Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, () -> {
-            long currentTime = System.currentTimeMillis();
-            long unloadThreshold = 5 * 60 * 1000; // 5 minutes
-            
-            List<UUID> toUnload = new ArrayList<>();
-            
-            for (PlayerIsland island : cache.getAllIslands()) {
-                // Skip if players are on the island
-                if (!cache.getPlayersOnIsland(island.getIslandId()).isEmpty()) {
-                    continue;
-                }
-                
-                // Check if island has been inactive
-                if (currentTime - island.getLastAccessed() > unloadThreshold) {
-                    toUnload.add(island.getIslandId());
-                }
-            }
-            
-            // Unload inactive islands
-            for (UUID islandId : toUnload) {
-                PlayerIsland island = cache.getIsland(islandId);
-                if (island != null) {
-                    // Save to database
-                    dataManager.saveIsland(island).join();
-                    
-                    // Unload world
-                    worldManager.unloadWorld(island.getWorldName()).join();
-                    
-                    // Remove from cache
-                    cache.removeIsland(islandId);
-                    
-                    plugin.getLogger().info("Auto-unloaded island: " + island.getWorldName());
-                }
-            }
-            
-        }, 1200L, 1200L); // Run every minute (1200 ticks)
-    }
-    
     // ==================== Getters ====================
     
     public JavaPlugin getPlugin() {
@@ -724,6 +724,10 @@ public class IslandManager {
         return cache;
     }
     
+    public IslandLifecycleManager getLifecycleManager() {
+        return lifecycleManager;
+    }
+    
     public IslandUpgradeManager getUpgradeManager() {
         return new IslandUpgradeManager(plugin, this);
     }
@@ -6,6 +6,10 @@ import java.util.concurrent.CompletableFuture;
 import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
+import com.server.economy.Transfer;
 import com.server.islands.data.PlayerIsland;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
@@ -15,6 +19,8 @@ import com.server.profiles.ProfileManager;
  */
 public class IslandUpgradeManager {
     
+    private static final String BALANCE_CHANGED = "Your balance changed before the upgrade went through. Please try again.";
+    
     private final JavaPlugin plugin;
     private final IslandManager islandManager;
     
@@ -23,6 +29,16 @@ public class IslandUpgradeManager {
         this.islandManager = islandManager;
     }
     
+    /**
+     * Deducts an upgrade's unit and token costs together, or neither if either balance is short.
+     */
+    private static boolean chargeUpgrade(PlayerProfile profile, PlayerIsland island, int unitCost, int tokenCost) {
+        Transfer cost = new Transfer()
+            .debit(profile, Currency.UNITS, unitCost)
+            .debit(island, Currency.ISLAND_TOKENS, tokenCost);
+        return CurrencyLedger.getInstance().commit(cost, TransactionReason.PURCHASE);
+    }
+    
     /**
      * Calculate island token cost for an upgrade based on level
      * Must match the costs shown in IslandUpgradeGUI
@@ -54,6 +70,14 @@ public class IslandUpgradeManager {
         }
     }
     
+    /**
+     * Checks whether an island can fit another redstone component under its current limit.
+     * Relies on the island's incrementally maintained counter, so this is O(1).
+     */
+    public boolean hasRedstoneCapacity(PlayerIsland island) {
+        return island.getRedstoneCount() < island.getCurrentRedstoneLimit();
+    }
+    
     /**
      * Upgrades the island size by 2 blocks (1 in each direction).
      * Cost: Units + Island Tokens (based on level)
@@ -89,9 +113,9 @@ public class IslandUpgradeManager {
                     island.getIslandTokens() + ")");
             }
             
-            // Deduct costs
-            profile.removeUnits(unitCost);
-            island.removeIslandTokens(tokenCost);
+            if (!chargeUpgrade(profile, island, unitCost, tokenCost)) {
+                return new UpgradeResult(false, BALANCE_CHANGED);
+            }
             
             // Upgrade level
             int oldSize = island.getCurrentSize();
@@ -144,9 +168,9 @@ public class IslandUpgradeManager {
                     island.getIslandTokens() + ")");
             }
             
-            // Deduct costs
-            profile.removeUnits(unitCost);
-            island.removeIslandTokens(tokenCost);
+            if (!chargeUpgrade(profile, island, unitCost, tokenCost)) {
+                return new UpgradeResult(false, BALANCE_CHANGED);
+            }
             
             // Upgrade level
             int oldLimit = island.getCurrentPlayerLimit();
@@ -196,9 +220,9 @@ public class IslandUpgradeManager {
                     island.getIslandTokens() + ")");
             }
             
-            // Deduct costs
-            profile.removeUnits(unitCost);
-            island.removeIslandTokens(tokenCost);
+            if (!chargeUpgrade(profile, island, unitCost, tokenCost)) {
+                return new UpgradeResult(false, BALANCE_CHANGED);
+            }
             
             // Upgrade level
             int oldLimit = island.getCurrentRedstoneLimit();
@@ -248,9 +272,9 @@ public class IslandUpgradeManager {
                     island.getIslandTokens() + ")");
             }
             
-            // Deduct costs
-            profile.removeUnits(unitCost);
-            island.removeIslandTokens(tokenCost);
+            if (!chargeUpgrade(profile, island, unitCost, tokenCost)) {
+                return new UpgradeResult(false, BALANCE_CHANGED);
+            }
             
             // Upgrade level
             double oldMultiplier = island.getCropGrowthMultiplier();
@@ -299,9 +323,9 @@ public class IslandUpgradeManager {
                     island.getIslandTokens() + ")");
             }
             
-            // Deduct costs
-            profile.removeUnits(unitCost);
-            island.removeIslandTokens(tokenCost);
+            if (!chargeUpgrade(profile, island, unitCost, tokenCost)) {
+                return new UpgradeResult(false, BALANCE_CHANGED);
+            }
             
             // Enable weather control
             island.setWeatherControl(true);
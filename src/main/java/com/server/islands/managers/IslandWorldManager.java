@@ -2,7 +2,13 @@ package com.server.islands.managers;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -12,7 +18,6 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import com.infernalsuite.asp.api.AdvancedSlimePaperAPI;
-import com.infernalsuite.asp.api.loaders.SlimeLoader;
 import com.infernalsuite.asp.api.world.SlimeWorld;
 import com.infernalsuite.asp.api.world.SlimeWorldInstance;
 import com.infernalsuite.asp.api.world.properties.SlimePropertyMap;
@@ -27,7 +32,21 @@ public class IslandWorldManager {
     
     private final JavaPlugin plugin;
     private final AdvancedSlimePaperAPI slimeAPI;
-    private final SlimeLoader loader;
+    private final IslandWorldStorage loader;
+    
+    // Island worlds read from disk ahead of a load: worldName -> in-flight or completed read
+    private final Map<String, PrefetchedWorld> prefetchedWorlds = new ConcurrentHashMap<>();
+    private final int maxPrefetchedWorlds;
+    
+    // Templates per island type, read from disk once and cloned from memory afterwards
+    private final Map<IslandType, SlimeWorld> templateCache = new ConcurrentHashMap<>();
+    
+    // Pre-cloned island worlds waiting to be claimed by new islands
+    private final Map<IslandType, Queue<PreparedIsland>> preparedIslands = new ConcurrentHashMap<>();
+    private final Set<IslandType> refillsInProgress = ConcurrentHashMap.newKeySet();
+    private final int preparedPoolSize;
+    // One empty marker file per unclaimed pool world, so worlds left behind by a crash can be found
+    private final File preparedMarkers;
     
     public IslandWorldManager(JavaPlugin plugin) {
         this.plugin = plugin;
@@ -38,47 +57,13 @@ public class IslandWorldManager {
         if (!slimeWorldsFolder.exists()) {
             slimeWorldsFolder.mkdirs();
         }
-        this.loader = new com.infernalsuite.asp.api.loaders.SlimeLoader() {
-            @Override
-            public byte[] readWorld(String worldName) throws com.infernalsuite.asp.api.exceptions.UnknownWorldException, IOException {
-                File worldFile = new File(slimeWorldsFolder, worldName + ".slime");
-                if (!worldFile.exists()) {
-                    throw new com.infernalsuite.asp.api.exceptions.UnknownWorldException(worldName);
-                }
-                return java.nio.file.Files.readAllBytes(worldFile.toPath());
-            }
-            
-            @Override
-            public boolean worldExists(String worldName) throws IOException {
-                return new File(slimeWorldsFolder, worldName + ".slime").exists();
-            }
-            
-            @Override
-            public java.util.List<String> listWorlds() throws IOException {
-                File[] files = slimeWorldsFolder.listFiles((dir, name) -> name.endsWith(".slime"));
-                if (files == null) return java.util.Collections.emptyList();
-                return java.util.Arrays.stream(files)
-                    .map(f -> f.getName().replace(".slime", ""))
-                    .collect(java.util.stream.Collectors.toList());
-            }
-            
-            @Override
-            public void saveWorld(String worldName, byte[] data) throws IOException {
-                File worldFile = new File(slimeWorldsFolder, worldName + ".slime");
-                java.nio.file.Files.write(worldFile.toPath(), data);
-            }
-            
-            @Override
-            public void deleteWorld(String worldName) throws com.infernalsuite.asp.api.exceptions.UnknownWorldException, IOException {
-                File worldFile = new File(slimeWorldsFolder, worldName + ".slime");
-                if (!worldFile.exists()) {
-                    throw new com.infernalsuite.asp.api.exceptions.UnknownWorldException(worldName);
-                }
-                if (!worldFile.delete()) {
-                    throw new IOException("Failed to delete world file: " + worldName);
-                }
-            }
-        };
+        // Atomic, template-deduplicated storage
+        this.loader = new IslandWorldStorage(slimeWorldsFolder, plugin.getLogger());
+        this.preparedPoolSize = Math.max(0, plugin.getConfig().getInt("islands.prepared-pool-size", 3));
+        this.maxPrefetchedWorlds = Math.max(1, plugin.getConfig().getInt("islands.max-prefetched-worlds", 16));
+        this.preparedMarkers = new File(slimeWorldsFolder, "prepared");
+        deleteLeftoverPreparedWorlds();
+        deleteUnusedStorageBases();
         
         plugin.getLogger().info("IslandWorldManager initialized with AdvancedSlimePaper");
     }
@@ -87,6 +72,14 @@ public class IslandWorldManager {
      * Generates a new island world using AdvancedSlimePaper.
      */
     public CompletableFuture<World> generateIslandWorld(PlayerIsland island) {
+        return generateIslandWorld(island, null);
+    }
+    
+    /**
+     * Generates a new island world, using a pre-cloned world from the pool when one was claimed
+     * for this island (see {@link #claimPreparedIsland(IslandType)}).
+     */
+    public CompletableFuture<World> generateIslandWorld(PlayerIsland island, PreparedIsland prepared) {
         return CompletableFuture.supplyAsync(() -> {
             String worldName = island.getWorldName();
             
@@ -98,18 +91,19 @@ public class IslandWorldManager {
             }
             
             try {
-                // Get or create the template for this island type
-                String templateName = "island_template_" + island.getIslandType().name().toLowerCase();
-                SlimeWorld templateWorld = getOrCreateTemplate(island.getIslandType(), templateName);
-                
-                if (templateWorld == null) {
-                    plugin.getLogger().severe("Failed to get/create template for " + island.getIslandType());
-                    return null;
+                SlimeWorld slimeWorld;
+                if (prepared != null && prepared.getIslandId().equals(island.getIslandId())) {
+                    // Already cloned in the background; it belongs to the island from now on
+                    slimeWorld = prepared.world;
+                    unmarkPrepared(worldName);
+                } else {
+                    slimeWorld = cloneTemplate(island.getIslandType(), worldName);
+                    if (slimeWorld == null) {
+                        plugin.getLogger().severe("Failed to get/create template for " + island.getIslandType());
+                        return null;
+                    }
                 }
                 
-                // Clone the template to create the new island world
-                SlimeWorld slimeWorld = templateWorld.clone(worldName, loader);
-                
                 // Generate and load world on main thread
                 CompletableFuture<World> worldFuture = new CompletableFuture<>();
                 Bukkit.getScheduler().runTask(plugin, () -> {
@@ -145,10 +139,53 @@ public class IslandWorldManager {
     }
     
     /**
-     * Gets or creates a template SlimeWorld for the given island type.
+     * Gets the template world name for an island type.
+     */
+    private String getTemplateName(IslandType type) {
+        return "island_template_" + type.name().toLowerCase();
+    }
+    
+    /**
+     * Clones the template for an island type into a new world stored under the given name.
+     * Returns null if the template could not be loaded or created.
+     */
+    private SlimeWorld cloneTemplate(IslandType type, String worldName) throws Exception {
+        String templateName = getTemplateName(type);
+        SlimeWorld templateWorld = getOrCreateTemplate(type, templateName);
+        if (templateWorld == null) {
+            return null;
+        }
+        
+        loader.bindTemplate(worldName, templateName);
+        return templateWorld.clone(worldName, loader);
+    }
+    
+    /**
+     * Gets a template from the in-memory cache, reading or creating it on first use.
+     */
+    private SlimeWorld getOrCreateTemplate(IslandType type, String templateName) {
+        SlimeWorld cached = templateCache.get(type);
+        if (cached != null) {
+            return cached;
+        }
+        
+        synchronized (templateCache) {
+            cached = templateCache.get(type);
+            if (cached == null) {
+                cached = readOrCreateTemplate(type, templateName);
+                if (cached != null) {
+                    templateCache.put(type, cached);
+                }
+            }
+            return cached;
+        }
+    }
+    
+    /**
+     * Reads or creates a template SlimeWorld for the given island type.
      * Templates are created once and cloned for each new island.
      */
-    private SlimeWorld getOrCreateTemplate(com.server.islands.data.IslandType type, String templateName) {
+    private SlimeWorld readOrCreateTemplate(IslandType type, String templateName) {
         try {
             // Check if template already exists
             if (loader.worldExists(templateName)) {
@@ -224,28 +261,30 @@ public class IslandWorldManager {
             }
             
             try {
+                // Saves of this world are deduplicated against its template
+                loader.bindTemplate(worldName, getTemplateName(island.getIslandType()));
+                
                 // Check if SlimeWorld exists
                 if (!loader.worldExists(worldName)) {
                     plugin.getLogger().warning("SlimeWorld not found: " + worldName + " - Generating new world");
                     return generateIslandWorld(island).join();
                 }
                 
-                // Read the SlimeWorld data (throws exceptions that need to be handled)
-                SlimeWorld slimeWorld;
-                try {
-                    slimeWorld = slimeAPI.readWorld(loader, worldName, false, new SlimePropertyMap());
-                } catch (com.infernalsuite.asp.api.exceptions.UnknownWorldException | 
-                         com.infernalsuite.asp.api.exceptions.CorruptedWorldException |
-                         com.infernalsuite.asp.api.exceptions.NewerFormatException e) {
-                    plugin.getLogger().severe("Failed to read SlimeWorld: " + e.getMessage());
-                    return null;
+                // Use a prefetched read if one exists, otherwise read the SlimeWorld data now
+                SlimeWorld slimeWorld = takePrefetchedWorld(worldName);
+                if (slimeWorld == null) {
+                    slimeWorld = readSlimeWorld(worldName);
+                    if (slimeWorld == null) {
+                        return null;
+                    }
                 }
+                SlimeWorld worldToLoad = slimeWorld;
                 
                 // Load world on main thread
                 CompletableFuture<World> worldFuture = new CompletableFuture<>();
                 Bukkit.getScheduler().runTask(plugin, () -> {
                     try {
-                        SlimeWorldInstance instance = slimeAPI.loadWorld(slimeWorld, true);
+                        SlimeWorldInstance instance = slimeAPI.loadWorld(worldToLoad, true);
                         World world = instance.getBukkitWorld();
                         
                         if (world != null) {
@@ -273,10 +312,260 @@ public class IslandWorldManager {
         });
     }
     
+    /**
+     * Reads a SlimeWorld from storage without loading it into the server.
+     * Returns null if the world does not exist or cannot be read.
+     */
+    private SlimeWorld readSlimeWorld(String worldName) {
+        try {
+            if (!loader.worldExists(worldName)) {
+                return null;
+            }
+            return slimeAPI.readWorld(loader, worldName, false, new SlimePropertyMap());
+        } catch (com.infernalsuite.asp.api.exceptions.UnknownWorldException | 
+                 com.infernalsuite.asp.api.exceptions.CorruptedWorldException |
+                 com.infernalsuite.asp.api.exceptions.NewerFormatException | IOException e) {
+            plugin.getLogger().severe("Failed to read SlimeWorld: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    // ==================== Prepared Island Pool ====================
+    
+    /**
+     * Claims a pre-cloned world for a new island, or null if the pool for this type is empty.
+     * The island must be created with {@link PreparedIsland#getIslandId()} so its world name matches.
+     */
+    public PreparedIsland claimPreparedIsland(IslandType type) {
+        Queue<PreparedIsland> pool = preparedIslands.get(type);
+        PreparedIsland prepared = pool != null ? pool.poll() : null;
+        // Skip clones of a template that has since been invalidated
+        while (prepared != null && prepared.template != templateCache.get(type)) {
+            discardPreparedIsland(prepared);
+            prepared = pool.poll();
+        }
+        refillPreparedPool(type);
+        return prepared;
+    }
+    
+    /**
+     * Drops the cached template for an island type so it is read from disk again, and
+     * discards pooled worlds cloned from the old copy. Call after a template world is changed.
+     */
+    public void invalidateTemplate(IslandType type) {
+        templateCache.remove(type);
+        Queue<PreparedIsland> pool = preparedIslands.get(type);
+        if (pool != null) {
+            PreparedIsland prepared;
+            while ((prepared = pool.poll()) != null) {
+                discardPreparedIsland(prepared);
+            }
+        }
+        refillPreparedPool(type);
+    }
+    
+    /**
+     * Fills every island type's pool in the background (called once the island system is ready).
+     */
+    public void warmUpPreparedPools() {
+        for (IslandType type : IslandType.values()) {
+            refillPreparedPool(type);
+        }
+    }
+    
+    /**
+     * Tops up the prepared pool for an island type in the background.
+     */
+    private void refillPreparedPool(IslandType type) {
+        if (preparedPoolSize <= 0 || !refillsInProgress.add(type)) {
+            return;
+        }
+        
+        CompletableFuture.runAsync(() -> {
+            Queue<PreparedIsland> pool = preparedIslands.computeIfAbsent(type, t -> new ConcurrentLinkedQueue<>());
+            try {
+                while (pool.size() < preparedPoolSize) {
+                    String templateName = getTemplateName(type);
+                    SlimeWorld template = getOrCreateTemplate(type, templateName);
+                    if (template == null) {
+                        break;
+                    }
+                    
+                    UUID islandId = UUID.randomUUID();
+                    String worldName = "island_" + islandId;
+                    // Marked before the clone is stored, so a crash can never leave an unmarked pool world
+                    markPrepared(worldName);
+                    loader.bindTemplate(worldName, templateName);
+                    pool.add(new PreparedIsland(islandId, template.clone(worldName, loader), template));
+                }
+            } catch (Exception e) {
+                plugin.getLogger().warning("[Island] Failed to prepare " + type + " island worlds: " + e.getMessage());
+            } finally {
+                refillsInProgress.remove(type);
+            }
+        });
+    }
+    
+    /**
+     * Deletes the stored files of pre-cloned worlds that were never claimed.
+     */
+    public void shutdown() {
+        for (Queue<PreparedIsland> pool : preparedIslands.values()) {
+            PreparedIsland prepared;
+            while ((prepared = pool.poll()) != null) {
+                discardPreparedIsland(prepared);
+            }
+        }
+    }
+    
+    private void discardPreparedIsland(PreparedIsland prepared) {
+        deletePreparedWorld("island_" + prepared.getIslandId());
+    }
+    
+    /**
+     * Deletes pool worlds left behind when the server stopped without running {@link #shutdown()}.
+     */
+    private void deleteLeftoverPreparedWorlds() {
+        String[] leftovers = preparedMarkers.list();
+        if (leftovers == null || leftovers.length == 0) {
+            return;
+        }
+        for (String worldName : leftovers) {
+            deletePreparedWorld(worldName);
+        }
+        plugin.getLogger().info("[Island] Deleted " + leftovers.length + " unclaimed island worlds from the last run");
+    }
+    
+    private void deleteUnusedStorageBases() {
+        try {
+            int deleted = loader.sweepUnusedBases();
+            if (deleted > 0) {
+                plugin.getLogger().info("[Island] Deleted " + deleted + " storage bases no island uses any more");
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("[Island] Failed to sweep unused storage bases: " + e.getMessage());
+        }
+    }
+    
+    private void deletePreparedWorld(String worldName) {
+        try {
+            if (loader.worldExists(worldName)) {
+                loader.deleteWorld(worldName);
+            }
+            unmarkPrepared(worldName);
+        } catch (Exception e) {
+            plugin.getLogger().warning("[Island] Failed to delete unclaimed island world: " + e.getMessage());
+        }
+    }
+    
+    private void markPrepared(String worldName) throws IOException {
+        preparedMarkers.mkdirs();
+        new File(preparedMarkers, worldName).createNewFile();
+    }
+    
+    private void unmarkPrepared(String worldName) {
+        new File(preparedMarkers, worldName).delete();
+    }
+    
+    /**
+     * A template clone that has been stored but not yet assigned to an island.
+     */
+    public static class PreparedIsland {
+        private final UUID islandId;
+        private final SlimeWorld world;
+        private final SlimeWorld template;
+        
+        private PreparedIsland(UUID islandId, SlimeWorld world, SlimeWorld template) {
+            this.islandId = islandId;
+            this.world = world;
+            this.template = template;
+        }
+        
+        public UUID getIslandId() {
+            return islandId;
+        }
+    }
+    
+    // ==================== Prefetching ====================
+    
+    /**
+     * Starts reading an island world from disk in the background so a later
+     * {@link #loadWorld(PlayerIsland)} does not wait on I/O. Does nothing if the
+     * world is already loaded or a read is already in flight. At most
+     * {@code islands.max-prefetched-worlds} are held; the oldest is dropped to make room.
+     */
+    public void prefetchWorld(String worldName) {
+        // World lookups belong on the main thread
+        if (!Bukkit.isPrimaryThread()) {
+            Bukkit.getScheduler().runTask(plugin, () -> prefetchWorld(worldName));
+            return;
+        }
+        if (Bukkit.getWorld(worldName) != null || prefetchedWorlds.containsKey(worldName)) {
+            return;
+        }
+        while (prefetchedWorlds.size() >= maxPrefetchedWorlds) {
+            dropOldestPrefetchedWorld();
+        }
+        prefetchedWorlds.put(worldName,
+            new PrefetchedWorld(CompletableFuture.supplyAsync(() -> readSlimeWorld(worldName))));
+    }
+    
+    private void dropOldestPrefetchedWorld() {
+        String oldest = null;
+        long oldestCreatedAt = Long.MAX_VALUE;
+        for (Map.Entry<String, PrefetchedWorld> entry : prefetchedWorlds.entrySet()) {
+            if (entry.getValue().createdAt < oldestCreatedAt) {
+                oldest = entry.getKey();
+                oldestCreatedAt = entry.getValue().createdAt;
+            }
+        }
+        if (oldest != null) {
+            prefetchedWorlds.remove(oldest);
+        }
+    }
+    
+    /**
+     * Removes and returns a prefetched world, waiting for the read if it is still in flight.
+     */
+    private SlimeWorld takePrefetchedWorld(String worldName) {
+        PrefetchedWorld prefetched = prefetchedWorlds.remove(worldName);
+        if (prefetched == null) {
+            return null;
+        }
+        return prefetched.future.join();
+    }
+    
+    /**
+     * Drops prefetched worlds that were never loaded within the given age.
+     */
+    public void expirePrefetchedWorlds(long maxAgeMillis) {
+        long cutoff = System.currentTimeMillis() - maxAgeMillis;
+        prefetchedWorlds.values().removeIf(prefetched -> prefetched.createdAt < cutoff);
+    }
+    
+    /**
+     * Gets the number of prefetched worlds currently held in memory.
+     */
+    public int getPrefetchedWorldCount() {
+        return prefetchedWorlds.size();
+    }
+    
+    private static class PrefetchedWorld {
+        private final CompletableFuture<SlimeWorld> future;
+        private final long createdAt = System.currentTimeMillis();
+        
+        PrefetchedWorld(CompletableFuture<SlimeWorld> future) {
+            this.future = future;
+        }
+    }
+    
     /**
      * Unloads an island world and saves it to SlimeWorld format.
      */
     public CompletableFuture<Boolean> unloadWorld(String worldName) {
+        // A prefetched copy would be older than what the unload is about to save
+        prefetchedWorlds.remove(worldName);
+        
         return CompletableFuture.supplyAsync(() -> {
             World world = Bukkit.getWorld(worldName);
             if (world == null) {
@@ -0,0 +1,582 @@
+package com.server.islands.managers;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.github.luben.zstd.Zstd;
+import com.infernalsuite.asp.api.exceptions.UnknownWorldException;
+import com.infernalsuite.asp.api.loaders.SlimeLoader;
+
+/**
+ * File-based SlimeLoader for island worlds.
+ *
+ * - Every write goes to a temp file, is fsynced, then atomically renamed over the live
+ *   .slime file and the directory is fsynced, so a crash mid-save leaves the previous
+ *   version intact and a finished save survives power loss.
+ * - Island worlds are compared with their template one Minecraft chunk at a time, and any
+ *   chunk identical to the template's chunk at the same position is stored as a reference
+ *   instead of a copy. Referenced templates are frozen into content-addressed base files, so
+ *   regenerating a template never breaks existing islands. Bases no island references any
+ *   more are deleted at startup by {@link #sweepUnusedBases()}.
+ *
+ * Templates (island_template_*) are stored as plain slime files. Files without the container
+ * header are read as plain slime data, so existing worlds keep loading and are converted on
+ * their next save. Worlds in a slime format this class does not understand are stored as is.
+ */
+public class IslandWorldStorage implements SlimeLoader {
+
+    private static final String EXTENSION = ".slime";
+    private static final String TEMPLATE_PREFIX = "island_template_";
+
+    // Container header: "MMOI" + version
+    private static final int MAGIC = 0x4D4D4F49;
+    private static final byte FORMAT_VERSION = 2;
+
+    private static final byte RECORD_LITERAL = 0;
+    private static final byte RECORD_BASE_REF = 1;
+
+    // Slime layout written by AdvancedSlimePaper: header, version, data version, then the
+    // zstd-compressed chunk block (compressed length, raw length, bytes)
+    private static final byte SLIME_HEADER_0 = (byte) 0xB1;
+    private static final byte SLIME_HEADER_1 = 0x0B;
+    private static final byte SLIME_VERSION = 12;
+    private static final int SLIME_PREFIX_LENGTH = 7;
+    private static final int LIGHT_ARRAY_LENGTH = 2048;
+
+    // Length-prefixed blobs after a chunk's sections: height maps, tile entities, entities, extra data
+    private static final int CHUNK_TRAILING_BLOBS = 4;
+
+    private final File worldsFolder;
+    private final File basesFolder;
+    private final Logger logger;
+
+    // Island world name -> template world name it was cloned from
+    private final Map<String, String> templateBindings = new ConcurrentHashMap<>();
+
+    // Template world name -> chunk index of its current frozen base
+    private final Map<String, BaseIndex> templateIndexes = new ConcurrentHashMap<>();
+
+    // Base hash -> chunk index (used when reconstructing worlds)
+    private final Map<String, BaseIndex> bases = new ConcurrentHashMap<>();
+
+    private volatile boolean warnedUnknownFormat = false;
+
+    public IslandWorldStorage(File worldsFolder, Logger logger) {
+        this.worldsFolder = worldsFolder;
+        this.basesFolder = new File(worldsFolder, "bases");
+        this.logger = logger;
+
+        if (!basesFolder.exists()) {
+            basesFolder.mkdirs();
+        }
+    }
+
+    /**
+     * Records which template an island world was cloned from so its saves can be deduplicated.
+     */
+    public void bindTemplate(String worldName, String templateName) {
+        if (!isTemplate(worldName)) {
+            templateBindings.put(worldName, templateName);
+        }
+    }
+
+    // ==================== SlimeLoader ====================
+
+    @Override
+    public byte[] readWorld(String worldName) throws UnknownWorldException, IOException {
+        File worldFile = getWorldFile(worldName);
+        if (!worldFile.exists()) {
+            throw new UnknownWorldException(worldName);
+        }
+        return decode(Files.readAllBytes(worldFile.toPath()));
+    }
+
+    @Override
+    public boolean worldExists(String worldName) throws IOException {
+        return getWorldFile(worldName).exists();
+    }
+
+    @Override
+    public List<String> listWorlds() throws IOException {
+        File[] files = worldsFolder.listFiles((dir, name) -> name.endsWith(EXTENSION));
+        if (files == null) return Collections.emptyList();
+        return Arrays.stream(files)
+            .map(f -> f.getName().substring(0, f.getName().length() - EXTENSION.length()))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public void saveWorld(String worldName, byte[] data) throws IOException {
+        byte[] encoded;
+        String templateName = templateBindings.get(worldName);
+
+        if (isTemplate(worldName)) {
+            // Templates are the dedup source, keep them as plain slime files
+            templateIndexes.remove(worldName);
+            encoded = data;
+        } else {
+            BaseIndex base = templateName != null ? getTemplateIndex(templateName) : null;
+            encoded = encode(data, base);
+        }
+
+        writeAtomically(getWorldFile(worldName), encoded);
+    }
+
+    @Override
+    public void deleteWorld(String worldName) throws UnknownWorldException, IOException {
+        File worldFile = getWorldFile(worldName);
+        if (!worldFile.exists()) {
+            throw new UnknownWorldException(worldName);
+        }
+        if (!worldFile.delete()) {
+            throw new IOException("Failed to delete world file: " + worldName);
+        }
+        templateBindings.remove(worldName);
+    }
+
+    // ==================== Encoding ====================
+
+    /**
+     * Encodes world bytes into the container format, replacing chunks identical to the base's
+     * chunk at the same position with references. Returns the data unchanged when nothing is saved.
+     */
+    private byte[] encode(byte[] data, BaseIndex base) throws IOException {
+        if (base == null) {
+            return data;
+        }
+
+        SlimeLayout layout = SlimeLayout.parse(data);
+        if (layout == null) {
+            warnUnknownFormat();
+            return data;
+        }
+
+        ByteArrayOutputStream records = new ByteArrayOutputStream(data.length);
+        DataOutputStream out = new DataOutputStream(records);
+        out.writeInt(layout.prefix.length);
+        out.write(layout.prefix);
+        out.writeInt(layout.count);
+
+        int refs = 0;
+        for (int i = 0; i < layout.count; i++) {
+            if (base.layout.matches(layout, i)) {
+                out.writeByte(RECORD_BASE_REF);
+                out.writeLong(layout.keys[i]);
+                refs++;
+            } else {
+                out.writeByte(RECORD_LITERAL);
+                out.writeInt(layout.lengths[i]);
+                out.write(layout.chunks, layout.offsets[i], layout.lengths[i]);
+            }
+        }
+
+        out.writeInt(layout.suffix.length);
+        out.write(layout.suffix);
+        out.flush();
+
+        if (refs == 0) {
+            return data;
+        }
+
+        byte[] raw = records.toByteArray();
+        byte[] compressed = Zstd.compress(raw);
+
+        ByteArrayOutputStream container = new ByteArrayOutputStream(compressed.length + 96);
+        DataOutputStream header = new DataOutputStream(container);
+        header.writeInt(MAGIC);
+        header.writeByte(FORMAT_VERSION);
+        header.writeUTF(base.hash);
+        header.writeInt(raw.length);
+        header.writeInt(compressed.length);
+        header.write(compressed);
+        header.flush();
+
+        // Mostly rewritten islands can end up larger than the plain file
+        return container.size() < data.length ? container.toByteArray() : data;
+    }
+
+    /**
+     * Decodes a stored file. Files without the container header are returned unchanged.
+     */
+    private byte[] decode(byte[] stored) throws IOException {
+        if (stored.length < 4 || ByteBuffer.wrap(stored).getInt() != MAGIC) {
+            return stored;
+        }
+
+        DataInputStream header = new DataInputStream(new ByteArrayInputStream(stored));
+        header.readInt();
+        byte version = header.readByte();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported island storage version: " + version);
+        }
+        String baseHash = header.readUTF();
+        int rawLength = header.readInt();
+        byte[] compressed = new byte[header.readInt()];
+        header.readFully(compressed);
+
+        BaseIndex base = loadBase(baseHash);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(decompress(compressed, rawLength)));
+
+        byte[] prefix = new byte[in.readInt()];
+        in.readFully(prefix);
+        int count = in.readInt();
+
+        ByteArrayOutputStream chunks = new ByteArrayOutputStream(base.layout.chunks.length);
+        DataOutputStream chunkOut = new DataOutputStream(chunks);
+        chunkOut.writeInt(count);
+
+        for (int i = 0; i < count; i++) {
+            byte type = in.readByte();
+            if (type == RECORD_LITERAL) {
+                byte[] chunk = new byte[in.readInt()];
+                in.readFully(chunk);
+                chunkOut.write(chunk);
+            } else if (type == RECORD_BASE_REF) {
+                long key = in.readLong();
+                Integer index = base.layout.indexByKey.get(key);
+                if (index == null) {
+                    throw new IOException("Island storage references missing base chunk: " + baseHash);
+                }
+                chunkOut.write(base.layout.chunks, base.layout.offsets[index], base.layout.lengths[index]);
+            } else {
+                throw new IOException("Corrupted island storage record type: " + type);
+            }
+        }
+        chunkOut.flush();
+
+        byte[] suffix = new byte[in.readInt()];
+        in.readFully(suffix);
+
+        // Rebuild the slime file around a freshly compressed chunk block
+        byte[] chunkBlock = chunks.toByteArray();
+        byte[] compressedChunks = Zstd.compress(chunkBlock);
+
+        ByteArrayOutputStream result = new ByteArrayOutputStream(prefix.length + compressedChunks.length + suffix.length + 8);
+        DataOutputStream resultOut = new DataOutputStream(result);
+        resultOut.write(prefix);
+        resultOut.writeInt(compressedChunks.length);
+        resultOut.writeInt(chunkBlock.length);
+        resultOut.write(compressedChunks);
+        resultOut.write(suffix);
+        resultOut.flush();
+        return result.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] compressed, int rawLength) throws IOException {
+        try {
+            return Zstd.decompress(compressed, rawLength);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupted island storage data", e);
+        }
+    }
+
+    private void warnUnknownFormat() {
+        if (!warnedUnknownFormat) {
+            warnedUnknownFormat = true;
+            logger.warning("[Island] Unrecognized slime format, island worlds will be saved without template deduplication");
+        }
+    }
+
+    // ==================== Base Files ====================
+
+    /**
+     * Gets the chunk index for a template, freezing its current contents into a base file if needed.
+     */
+    private BaseIndex getTemplateIndex(String templateName) throws IOException {
+        File templateFile = getWorldFile(templateName);
+        if (!templateFile.exists()) {
+            return null;
+        }
+
+        BaseIndex cached = templateIndexes.get(templateName);
+        if (cached != null && cached.sourceModified == templateFile.lastModified()) {
+            return cached;
+        }
+
+        byte[] templateData = Files.readAllBytes(templateFile.toPath());
+        SlimeLayout layout = SlimeLayout.parse(templateData);
+        if (layout == null) {
+            warnUnknownFormat();
+            return null;
+        }
+
+        String hash = sha256(templateData);
+        File baseFile = new File(basesFolder, hash + ".base");
+        if (!baseFile.exists()) {
+            writeAtomically(baseFile, templateData);
+            logger.info("[Island] Stored storage base for " + templateName + " (" + hash.substring(0, 12) + ")");
+        }
+
+        BaseIndex index = new BaseIndex(hash, layout, templateFile.lastModified());
+        bases.put(hash, index);
+        templateIndexes.put(templateName, index);
+        return index;
+    }
+
+    /**
+     * Deletes base files that no stored island world references any more. Bases of current
+     * templates are recreated on the next save that needs them. Must run before any world is
+     * saved, since a save in flight may reference a base the sweep can't see yet.
+     *
+     * @return The number of bases deleted
+     */
+    public int sweepUnusedBases() throws IOException {
+        File[] baseFiles = basesFolder.listFiles((dir, name) -> name.endsWith(".base"));
+        File[] worldFiles = worldsFolder.listFiles((dir, name) -> name.endsWith(EXTENSION));
+        if (baseFiles == null || baseFiles.length == 0 || worldFiles == null) {
+            return 0;
+        }
+
+        Set<String> referenced = new HashSet<>();
+        for (File worldFile : worldFiles) {
+            String hash = readBaseHash(worldFile);
+            if (hash != null) {
+                referenced.add(hash);
+            }
+        }
+
+        int deleted = 0;
+        for (File baseFile : baseFiles) {
+            String hash = baseFile.getName().substring(0, baseFile.getName().length() - ".base".length());
+            if (!referenced.contains(hash) && baseFile.delete()) {
+                bases.remove(hash);
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    /**
+     * Reads the base hash from a stored world's container header, or null for plain slime files.
+     */
+    private static String readBaseHash(File worldFile) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(worldFile)))) {
+            if (worldFile.length() < 5 || in.readInt() != MAGIC) {
+                return null;
+            }
+            if (in.readByte() != FORMAT_VERSION) {
+                throw new IOException("Unsupported island storage version in " + worldFile.getName());
+            }
+            return in.readUTF();
+        }
+    }
+
+    private BaseIndex loadBase(String hash) throws IOException {
+        BaseIndex cached = bases.get(hash);
+        if (cached != null) {
+            return cached;
+        }
+
+        File baseFile = new File(basesFolder, hash + ".base");
+        if (!baseFile.exists()) {
+            throw new IOException("Missing island storage base: " + hash);
+        }
+
+        SlimeLayout layout = SlimeLayout.parse(Files.readAllBytes(baseFile.toPath()));
+        if (layout == null) {
+            throw new IOException("Unreadable island storage base: " + hash);
+        }
+
+        BaseIndex index = new BaseIndex(hash, layout, baseFile.lastModified());
+        bases.put(hash, index);
+        return index;
+    }
+
+    /**
+     * A frozen template and its chunks.
+     */
+    private static class BaseIndex {
+        private final String hash;
+        private final SlimeLayout layout;
+        private final long sourceModified;
+
+        BaseIndex(String hash, SlimeLayout layout, long sourceModified) {
+            this.hash = hash;
+            this.layout = layout;
+            this.sourceModified = sourceModified;
+        }
+    }
+
+    /**
+     * A slime file split into the bytes before the chunk block, each chunk's serialized record
+     * (keyed by its x/z position) and the bytes after the chunk block.
+     */
+    private static class SlimeLayout {
+        private byte[] prefix;
+        private byte[] suffix;
+        private byte[] chunks;
+        private int count;
+        private int[] offsets;
+        private int[] lengths;
+        private long[] keys;
+        private final Map<Long, Integer> indexByKey = new HashMap<>();
+
+        /**
+         * @return the layout, or null if the data is not in the expected slime format
+         */
+        static SlimeLayout parse(byte[] data) {
+            if (data.length < SLIME_PREFIX_LENGTH + 8 || data[0] != SLIME_HEADER_0
+                    || data[1] != SLIME_HEADER_1 || data[2] != SLIME_VERSION) {
+                return null;
+            }
+
+            try {
+                ByteBuffer header = ByteBuffer.wrap(data);
+                header.position(SLIME_PREFIX_LENGTH);
+                int compressedLength = header.getInt();
+                int rawLength = header.getInt();
+                int chunksStart = header.position();
+                if (compressedLength < 0 || rawLength < 4 || compressedLength > data.length - chunksStart) {
+                    return null;
+                }
+
+                SlimeLayout layout = new SlimeLayout();
+                layout.prefix = Arrays.copyOfRange(data, 0, SLIME_PREFIX_LENGTH);
+                layout.suffix = Arrays.copyOfRange(data, chunksStart + compressedLength, data.length);
+                layout.chunks = Zstd.decompress(Arrays.copyOfRange(data, chunksStart, chunksStart + compressedLength), rawLength);
+
+                ByteBuffer in = ByteBuffer.wrap(layout.chunks);
+                layout.count = in.getInt();
+                if (layout.count < 0 || layout.count > in.remaining() / 12) {
+                    return null;
+                }
+                layout.offsets = new int[layout.count];
+                layout.lengths = new int[layout.count];
+                layout.keys = new long[layout.count];
+
+                for (int i = 0; i < layout.count; i++) {
+                    int start = in.position();
+                    int x = in.getInt();
+                    int z = in.getInt();
+                    int sections = in.getInt();
+                    for (int s = 0; s < sections; s++) {
+                        if (in.get() != 0) skip(in, LIGHT_ARRAY_LENGTH); // block light
+                        if (in.get() != 0) skip(in, LIGHT_ARRAY_LENGTH); // sky light
+                        skip(in, in.getInt()); // block states
+                        skip(in, in.getInt()); // biomes
+                    }
+                    for (int b = 0; b < CHUNK_TRAILING_BLOBS; b++) {
+                        skip(in, in.getInt());
+                    }
+
+                    layout.offsets[i] = start;
+                    layout.lengths[i] = in.position() - start;
+                    layout.keys[i] = ((long) x << 32) | (z & 0xFFFFFFFFL);
+                    layout.indexByKey.put(layout.keys[i], i);
+                }
+
+                // Anything left over means the layout was misread
+                return in.hasRemaining() ? null : layout;
+            } catch (RuntimeException e) {
+                return null;
+            }
+        }
+
+        private static void skip(ByteBuffer in, int length) {
+            if (length < 0 || length > in.remaining()) {
+                throw new IllegalArgumentException("Invalid slime field length: " + length);
+            }
+            in.position(in.position() + length);
+        }
+
+        /**
+         * @return whether chunk {@code i} of {@code other} is identical to this layout's chunk at the same position
+         */
+        boolean matches(SlimeLayout other, int i) {
+            Integer index = indexByKey.get(other.keys[i]);
+            if (index == null || lengths[index] != other.lengths[i]) {
+                return false;
+            }
+            int offset = offsets[index];
+            int otherOffset = other.offsets[i];
+            return Arrays.equals(chunks, offset, offset + lengths[index],
+                other.chunks, otherOffset, otherOffset + other.lengths[i]);
+        }
+    }
+
+    // ==================== Utility Methods ====================
+
+    /**
+     * Writes a file via temp file + fsync + atomic rename so readers never see a partial file.
+     */
+    private static void writeAtomically(File target, byte[] data) throws IOException {
+        Path targetPath = target.toPath();
+        Path tempPath = Files.createTempFile(targetPath.getParent(), target.getName() + ".", ".tmp");
+
+        try {
+            try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(true);
+            }
+
+            try {
+                Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempPath);
+        }
+        syncDirectory(targetPath.getParent());
+    }
+
+    /**
+     * Flushes a directory so a rename into it survives power loss.
+     */
+    private static void syncDirectory(Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            // Some platforms (Windows) can't open directories; the rename itself is still atomic
+        }
+    }
+
+    private static String sha256(byte[] data) throws IOException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-256 not available", e);
+        }
+    }
+
+    private static boolean isTemplate(String worldName) {
+        return worldName.startsWith(TEMPLATE_PREFIX);
+    }
+
+    private File getWorldFile(String worldName) {
+        return new File(worldsFolder, worldName + EXTENSION);
+    }
+}
@@ -16,7 +16,80 @@ import static com.server.items.ItemRarity.BASIC;
 
 public class CustomItems {
     
+    // ==================== Prototypes ====================
+    // Each item is built once and cloned afterwards, see ItemPrototypes
+    
     public static ItemStack createWitchHat() {
+        return ItemPrototypes.get("witch_hat", CustomItems::buildWitchHat);
+    }
+
+    public static ItemStack createApprenticeEdge() {
+        return ItemPrototypes.get("apprentice_edge", CustomItems::buildApprenticeEdge);
+    }
+
+    public static ItemStack createEmberwoodStaff() {
+        return ItemPrototypes.get("emberwood_staff", CustomItems::buildEmberwoodStaff);
+    }
+
+    public static ItemStack createArcloom() {
+        return ItemPrototypes.get("arcloom", CustomItems::buildArcloom);
+    }
+
+    public static ItemStack createCrownOfMagnus() {
+        return ItemPrototypes.get("crown_of_magnus", CustomItems::buildCrownOfMagnus);
+    }
+
+    public static ItemStack createSiphonFang() {
+        return ItemPrototypes.get("siphon_fang", CustomItems::buildSiphonFang);
+    }
+
+    public static ItemStack createFleshrake() {
+        return ItemPrototypes.get("fleshrake", CustomItems::buildFleshrake);
+    }
+
+    public static ItemStack createShatteredShellPickaxe() {
+        return ItemPrototypes.get("shattered_shell_pickaxe", CustomItems::buildShatteredShellPickaxe);
+    }
+
+    public static ItemStack createWanderersWeaveHood() {
+        return ItemPrototypes.get("wanderers_weave_hood", CustomItems::buildWanderersWeaveHood);
+    }
+
+    public static ItemStack createWanderersWeaveTunic() {
+        return ItemPrototypes.get("wanderers_weave_tunic", CustomItems::buildWanderersWeaveTunic);
+    }
+
+    public static ItemStack createWanderersWeaveLeggings() {
+        return ItemPrototypes.get("wanderers_weave_leggings", CustomItems::buildWanderersWeaveLeggings);
+    }
+
+    public static ItemStack createWanderersWeaveBoots() {
+        return ItemPrototypes.get("wanderers_weave_boots", CustomItems::buildWanderersWeaveBoots);
+    }
+
+    public static ItemStack createRustyCrumbledPickaxe() {
+        return ItemPrototypes.get("rusty_crumbled_pickaxe", CustomItems::buildRustyCrumbledPickaxe);
+    }
+
+    public static ItemStack createRootCrackedPickaxe() {
+        return ItemPrototypes.get("root_cracked_pickaxe", CustomItems::buildRootCrackedPickaxe);
+    }
+
+    public static ItemStack createCopperheadPickaxe() {
+        return ItemPrototypes.get("copperhead_pickaxe", CustomItems::buildCopperheadPickaxe);
+    }
+
+    public static ItemStack createForgedCopperPickaxe() {
+        return ItemPrototypes.get("forged_copper_pickaxe", CustomItems::buildForgedCopperPickaxe);
+    }
+
+    public static ItemStack createBambooRod() {
+        return ItemPrototypes.get("bamboo_rod", CustomItems::buildBambooRod);
+    }
+
+    // ==================== Builders ====================
+    
+    static ItemStack buildWitchHat() {
         ItemStack item = new ItemStack(Material.CARVED_PUMPKIN);
         ItemMeta meta = item.getItemMeta();
         
@@ -37,7 +110,7 @@ public class CustomItems {
         return item;
     }
 
-        public static ItemStack createApprenticeEdge() {
+    static ItemStack buildApprenticeEdge() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -76,7 +149,7 @@ public class CustomItems {
         return item;
     }
 
-    public static ItemStack createEmberwoodStaff() {
+    static ItemStack buildEmberwoodStaff() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -122,7 +195,7 @@ public class CustomItems {
         return item;
     }
 
-    public static ItemStack createArcloom() {
+    static ItemStack buildArcloom() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -172,7 +245,7 @@ public class CustomItems {
         return item;
     }
 
-    public static ItemStack createCrownOfMagnus() {
+    static ItemStack buildCrownOfMagnus() {
         ItemStack item = new ItemStack(Material.GOLDEN_HELMET);
         ItemMeta meta = item.getItemMeta();
         
@@ -221,7 +294,7 @@ public class CustomItems {
         return item;
     }
 
-    public static ItemStack createSiphonFang() {
+    static ItemStack buildSiphonFang() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -255,7 +328,7 @@ public class CustomItems {
         return item;
     }
 
-    public static ItemStack createFleshrake() {
+    static ItemStack buildFleshrake() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -296,10 +369,17 @@ public class CustomItems {
         meta.getPersistentDataContainer().set(keyCooldown, PersistentDataType.LONG, 0L);
         
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .physicalDamage(25)
+            .omnivamp(10.0)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createShatteredShellPickaxe() {
+    static ItemStack buildShatteredShellPickaxe() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -324,10 +404,17 @@ public class CustomItems {
         ));
         
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .physicalDamage(3)
+            .miningSpeed(0.1)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createWanderersWeaveHood() {
+    static ItemStack buildWanderersWeaveHood() {
         ItemStack item = new ItemStack(Material.LEATHER_HELMET);
         ItemMeta meta = item.getItemMeta();
         
@@ -351,10 +438,17 @@ public class CustomItems {
         ));
                 
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .health(3)
+            .armor(1)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createWanderersWeaveTunic() {
+    static ItemStack buildWanderersWeaveTunic() {
         ItemStack item = new ItemStack(Material.LEATHER_CHESTPLATE);
         ItemMeta meta = item.getItemMeta();
         
@@ -378,10 +472,17 @@ public class CustomItems {
         ));
             
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .health(3)
+            .armor(1)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createWanderersWeaveLeggings() {
+    static ItemStack buildWanderersWeaveLeggings() {
         ItemStack item = new ItemStack(Material.LEATHER_LEGGINGS);
         ItemMeta meta = item.getItemMeta();
         
@@ -405,10 +506,17 @@ public class CustomItems {
         ));
                
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .health(3)
+            .armor(1)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createWanderersWeaveBoots() {
+    static ItemStack buildWanderersWeaveBoots() {
         ItemStack item = new ItemStack(Material.LEATHER_BOOTS);
         ItemMeta meta = item.getItemMeta();
         
@@ -432,10 +540,17 @@ public class CustomItems {
         ));
               
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .health(3)
+            .armor(1)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createRustyCrumbledPickaxe() {
+    static ItemStack buildRustyCrumbledPickaxe() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -460,10 +575,17 @@ public class CustomItems {
         ));
         
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .miningSpeed(0.1)
+            .miningFortune(1.0)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createRootCrackedPickaxe() {
+    static ItemStack buildRootCrackedPickaxe() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -488,10 +610,17 @@ public class CustomItems {
         ));
         
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .miningSpeed(0.2)
+            .miningFortune(2.0)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createCopperheadPickaxe() {
+    static ItemStack buildCopperheadPickaxe() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -517,10 +646,18 @@ public class CustomItems {
         ));
         
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .physicalDamage(5)
+            .miningSpeed(0.3)
+            .miningFortune(5.0)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createForgedCopperPickaxe() {
+    static ItemStack buildForgedCopperPickaxe() {
         ItemStack item = new ItemStack(Material.CARROT_ON_A_STICK);
         ItemMeta meta = item.getItemMeta();
         
@@ -546,10 +683,18 @@ public class CustomItems {
         ));
         
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .physicalDamage(7)
+            .miningSpeed(0.3)
+            .miningFortune(7.0)
+            .build();
+        
         return item;
     }
 
-    public static ItemStack createBambooRod() {
+    static ItemStack buildBambooRod() {
         ItemStack item = new ItemStack(Material.FISHING_ROD);
         ItemMeta meta = item.getItemMeta();
         
@@ -578,6 +723,13 @@ public class CustomItems {
         ));
         
         item.setItemMeta(meta);
+        
+        // Store stat data in NBT (replaces lore parsing)
+        item = new ItemStatData.Builder(item)
+            .physicalDamage(3)
+            .lurePotency(1)
+            .build();
+        
         return item;
     }
 
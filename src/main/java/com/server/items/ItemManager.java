@@ -6,21 +6,48 @@ import java.util.UUID;
 
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
+import org.bukkit.NamespacedKey;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeModifier;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
+import org.bukkit.persistence.PersistentDataType;
 
+import com.server.Main;
 import com.server.crafting.fuel.FuelData;
 import com.server.crafting.fuel.FuelRegistry;
+import com.server.utils.NamespacedKeyUtils;
 
 public class ItemManager {
     
+    /**
+     * Written to an item's PDC once it has been enhanced. Bump it when enhancement changes
+     * so existing items are enhanced again.
+     */
+    public static final int ENHANCEMENT_VERSION = 1;
+    private static NamespacedKey enhancementKey;
+    
+    private static final LoreTemplate RARITY_LINE = LoreTemplate.compile(ChatColor.GRAY + "Rarity: {0}");
+    private static final LoreTemplate PHYSICAL_DAMAGE_LINE =
+        LoreTemplate.compile(ChatColor.GRAY + "Physical Damage: " + ChatColor.RED + "+{0}");
+    private static final LoreTemplate ARMOR_LINE =
+        LoreTemplate.compile(ChatColor.GRAY + "Armor: " + ChatColor.GREEN + "+{0}");
+    
     /**
      * Apply comprehensive item enhancements including rarity and fuel properties
      * ENHANCED: Now includes automatic fuel lore for all fuel items
      */
     public static ItemStack applyRarity(ItemStack item) {
+        if (isPlainStack(item)) {
+            // Plain vanilla stacks always come out the same, so clone a per-material prototype
+            Material type = item.getType();
+            return withAmount(ItemPrototypes.get("rarity:" + type.name(), () -> applyRarityTo(new ItemStack(type))),
+                item.getAmount());
+        }
+        return applyRarityTo(item);
+    }
+    
+    private static ItemStack applyRarityTo(ItemStack item) {
         ItemStack modifiedItem = item.clone();
         ItemMeta meta = modifiedItem.getItemMeta();
         if (meta == null) return modifiedItem;
@@ -30,12 +57,14 @@ public class ItemManager {
             ItemRarity rarity = getItemRarity(modifiedItem.getType());
             List<String> lore = meta.hasLore() ? meta.getLore() : new ArrayList<>();
             
-            lore.add(0, ChatColor.GRAY + "Rarity: " + rarity.getFormattedName());
+            lore.add(0, RARITY_LINE.renderLine(rarity.getFormattedName()));
             
-            // Add other stats based on item type
+            // Add other stats based on item type, stored as NBT so the stat scan never reads lore
+            ItemStatData.Stats stats = new ItemStatData.Stats();
             if (isWeapon(modifiedItem.getType())) {
                 double damage = getWeaponDamage(modifiedItem.getType());
-                lore.add(ChatColor.GRAY + "Physical Damage: " + ChatColor.RED + "+" + damage);
+                lore.add(PHYSICAL_DAMAGE_LINE.renderLine(damage));
+                stats.physicalDamage = (int) damage;
                 
                 // For vanilla weapons, set attack speed to 0.5 (changed from 0)
                 AttributeModifier attackSpeed = new AttributeModifier(
@@ -48,11 +77,15 @@ public class ItemManager {
             }
             else if (isArmor(modifiedItem.getType())) {
                 double armor = getArmorValue(modifiedItem.getType());
-                lore.add(ChatColor.GRAY + "Armor: " + ChatColor.GREEN + "+" + armor);
+                lore.add(ARMOR_LINE.renderLine(armor));
+                stats.armor = (int) armor;
             }
 
             meta.setLore(lore);
             modifiedItem.setItemMeta(meta);
+            if ((stats.physicalDamage != 0 || stats.armor != 0) && !ItemStatData.hasStats(modifiedItem)) {
+                modifiedItem = new ItemStatData.Builder(modifiedItem).stats(stats).build();
+            }
         }
         
         // CRITICAL NEW FEATURE: Apply fuel lore for all fuel items automatically
@@ -88,16 +121,68 @@ public class ItemManager {
         if (item == null || item.getType() == Material.AIR) {
             return item;
         }
-        
-        // Apply rarity first (which includes fuel lore)
-        ItemStack enhanced = applyRarity(item);
+        if (isPlainStack(item)) {
+            Material type = item.getType();
+            return withAmount(ItemPrototypes.get("enhanced:" + type.name(), () -> enhance(new ItemStack(type))),
+                item.getAmount());
+        }
+        return enhance(item);
+    }
+    
+    private static ItemStack enhance(ItemStack item) {
+        // Apply rarity first (which includes fuel lore). Called while building the enhanced
+        // prototype, so go straight to applyRarityTo rather than through the rarity prototypes
+        ItemStack enhanced = applyRarityTo(item);
         
         // Double-check fuel lore is applied
         enhanced = applyFuelLoreIfApplicable(enhanced);
         
+        ItemMeta meta = enhanced.getItemMeta();
+        if (meta != null) {
+            meta.getPersistentDataContainer().set(getEnhancementKey(), PersistentDataType.INTEGER, ENHANCEMENT_VERSION);
+            enhanced.setItemMeta(meta);
+        }
         return enhanced;
     }
     
+    /**
+     * Fast check for whether enhanceItemWithAllProperties would change an item.
+     * Materials no fuel uses are rejected without touching item meta, and items carrying the
+     * current enhancement version skip the fuel lookup and lore scan.
+     */
+    public static boolean needsEnhancement(ItemStack item) {
+        if (item == null || !FuelRegistry.getInstance().mayBeFuel(item.getType())) {
+            return false;
+        }
+        if (item.hasItemMeta()) {
+            Integer version = item.getItemMeta().getPersistentDataContainer()
+                .get(getEnhancementKey(), PersistentDataType.INTEGER);
+            if (version != null && version == ENHANCEMENT_VERSION) {
+                return false;
+            }
+        }
+        return needsFuelLore(item);
+    }
+    
+    /**
+     * A stack with no meta at all, e.g. a fresh mob drop or a vanilla crafting result
+     */
+    private static boolean isPlainStack(ItemStack item) {
+        return item.getType() != Material.AIR && !item.hasItemMeta();
+    }
+    
+    private static ItemStack withAmount(ItemStack item, int amount) {
+        item.setAmount(amount);
+        return item;
+    }
+    
+    private static NamespacedKey getEnhancementKey() {
+        if (enhancementKey == null) {
+            enhancementKey = NamespacedKeyUtils.getEnhancementVersionKey(Main.getInstance());
+        }
+        return enhancementKey;
+    }
+    
     /**
      * Check if an item is a fuel and needs fuel lore - NEW METHOD
      */
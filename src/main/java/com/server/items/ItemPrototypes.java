@@ -0,0 +1,74 @@
+package com.server.items;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+/**
+ * Registry of finished item prototypes, keyed by item id.
+ *
+ * Building an item from scratch means creating the stack, its meta, lore, PDC entries and
+ * NBT stats. Each prototype is built once, the first time its id is requested, and every
+ * later request gets a clone. Prototypes are never handed out, so they can't be changed.
+ */
+public final class ItemPrototypes {
+
+    private static final Map<String, ItemStack> PROTOTYPES = new ConcurrentHashMap<>();
+
+    private ItemPrototypes() {
+    }
+
+    /**
+     * Returns a copy of the prototype for an id, building the prototype with the factory
+     * the first time.
+     */
+    public static ItemStack get(String id, Supplier<ItemStack> factory) {
+        ItemStack prototype = PROTOTYPES.get(id);
+        if (prototype == null) {
+            // Built outside the map so a factory may request other prototypes; if two threads
+            // build the same id at once, the first one stored wins
+            ItemStack built = factory.get().clone();
+            prototype = PROTOTYPES.putIfAbsent(id, built);
+            if (prototype == null) {
+                prototype = built;
+            }
+        }
+        return prototype.clone();
+    }
+
+    /**
+     * Returns a copy of the prototype with per-instance changes applied to its meta, such as
+     * a rolled quality or a unique id.
+     */
+    public static ItemStack get(String id, Supplier<ItemStack> factory, Consumer<ItemMeta> overrides) {
+        ItemStack item = get(id, factory);
+        ItemMeta meta = item.getItemMeta();
+        if (meta != null) {
+            overrides.accept(meta);
+            item.setItemMeta(meta);
+        }
+        return item;
+    }
+
+    /**
+     * Drops a prototype so it's rebuilt on the next request.
+     */
+    public static void invalidate(String id) {
+        PROTOTYPES.remove(id);
+    }
+
+    /**
+     * Drops every prototype, e.g. after item definitions or rarities change.
+     */
+    public static void clear() {
+        PROTOTYPES.clear();
+    }
+
+    public static int size() {
+        return PROTOTYPES.size();
+    }
+}
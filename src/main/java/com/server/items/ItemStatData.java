@@ -181,6 +181,22 @@ public class ItemStatData {
             return this;
         }
         
+        /**
+         * Set every non-zero stat from a stats container
+         */
+        public Builder stats(Stats stats) {
+            return health(stats.health).armor(stats.armor).magicResist(stats.magicResist)
+                .physicalDamage(stats.physicalDamage).rangedDamage(stats.rangedDamage).magicDamage(stats.magicDamage)
+                .mana(stats.mana).cooldownReduction(stats.cooldownReduction).healthRegen(stats.healthRegen)
+                .attackSpeed(stats.attackSpeed).attackRange(stats.attackRange).size(stats.size)
+                .lifeSteal(stats.lifeSteal).critChance(stats.critChance).critDamage(stats.critDamage)
+                .omnivamp(stats.omnivamp).miningFortune(stats.miningFortune).miningSpeed(stats.miningSpeed)
+                .buildRange(stats.buildRange).lurePotency(stats.lurePotency).fishingFortune(stats.fishingFortune)
+                .fishingResilience(stats.fishingResilience).fishingFocus(stats.fishingFocus)
+                .fishingPrecision(stats.fishingPrecision).seaMonsterAffinity(stats.seaMonsterAffinity)
+                .treasureSense(stats.treasureSense);
+        }
+
         /**
          * Apply the NBT data to the item and return it
          */
@@ -230,8 +246,29 @@ public class ItemStatData {
             return stats;
         }
         
-        NBTItem nbtItem = new NBTItem(item);
+        readStats(new NBTItem(item), stats);
+        return stats;
+    }
+    
+    /**
+     * Read all stats from an item, decoding its NBT only once
+     * @return The stats, or null if the item has no stat data
+     */
+    public static Stats getStatsIfPresent(ItemStack item) {
+        if (item == null || item.getType() == org.bukkit.Material.AIR) {
+            return null;
+        }
         
+        NBTItem nbtItem = new NBTItem(item);
+        if (!hasStats(nbtItem)) {
+            return null;
+        }
+        Stats stats = new Stats();
+        readStats(nbtItem, stats);
+        return stats;
+    }
+    
+    private static void readStats(NBTItem nbtItem, Stats stats) {
         // Read integer stats
         if (nbtItem.hasKey(HEALTH)) stats.health = nbtItem.getInteger(HEALTH);
         if (nbtItem.hasKey(ARMOR)) stats.armor = nbtItem.getInteger(ARMOR);
@@ -261,8 +298,6 @@ public class ItemStatData {
         if (nbtItem.hasKey(FISHING_PRECISION)) stats.fishingPrecision = nbtItem.getDouble(FISHING_PRECISION);
         if (nbtItem.hasKey(SEA_MONSTER_AFFINITY)) stats.seaMonsterAffinity = nbtItem.getDouble(SEA_MONSTER_AFFINITY);
         if (nbtItem.hasKey(TREASURE_SENSE)) stats.treasureSense = nbtItem.getDouble(TREASURE_SENSE);
-        
-        return stats;
     }
     
     /**
@@ -273,8 +308,10 @@ public class ItemStatData {
             return false;
         }
         
-        NBTItem nbtItem = new NBTItem(item);
-        
+        return hasStats(new NBTItem(item));
+    }
+    
+    private static boolean hasStats(NBTItem nbtItem) {
         // Check if any stat key exists
         return nbtItem.hasKey(HEALTH) || nbtItem.hasKey(ARMOR) || nbtItem.hasKey(MAGIC_RESIST) ||
                nbtItem.hasKey(PHYSICAL_DAMAGE) || nbtItem.hasKey(RANGED_DAMAGE) || nbtItem.hasKey(MAGIC_DAMAGE) ||
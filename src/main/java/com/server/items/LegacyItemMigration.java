@@ -0,0 +1,212 @@
+package com.server.items;
+
+import java.util.List;
+
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.meta.ItemMeta;
+
+/**
+ * One-time conversion of legacy items whose stats only exist in their lore.
+ *
+ * Items made before stats moved to NBT are parsed once with the same rules the stat scanner
+ * used to apply every scan, and the result is written as {@link ItemStatData}. From then on
+ * the scanner only reads NBT. Items with stat data, or without any stat lines, are left as is.
+ */
+public final class LegacyItemMigration {
+
+    // Stats whose "Stat: +total (bonus)" line is skipped when the whole total comes from enchantments
+    private static final String[] ENCHANTABLE_STATS = {
+        "Health:", "Armor:", "Magic Resist:", "Physical Damage:", "Magic Damage:",
+        "Mana:", "Critical Chance:", "Critical Damage:", "Mining Fortune:",
+        "Mining Speed:", "Farming Fortune:", "Looting Fortune:", "Fishing Fortune:",
+        "Build Range:", "Cooldown Reduction:", "Health Regen:", "Speed:", "Luck:"
+    };
+
+    private LegacyItemMigration() {
+    }
+
+    /**
+     * Migrates every legacy item in an inventory in place.
+     *
+     * @return The number of items migrated
+     */
+    public static int migrateInventory(Inventory inventory) {
+        int migrated = 0;
+        ItemStack[] contents = inventory.getContents();
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack migratedItem = migrate(contents[slot]);
+            if (migratedItem != null) {
+                inventory.setItem(slot, migratedItem);
+                migrated++;
+            }
+        }
+        return migrated;
+    }
+
+    /**
+     * Converts a legacy item's lore stats to NBT.
+     *
+     * @return A migrated copy of the item, or null if it needs no migration
+     */
+    public static ItemStack migrate(ItemStack item) {
+        if (item == null || item.getType() == Material.AIR || !item.hasItemMeta()) {
+            return null;
+        }
+        ItemMeta meta = item.getItemMeta();
+        if (!meta.hasLore() || ItemStatData.hasStats(item)) {
+            return null;
+        }
+
+        ItemStatData.Stats stats = new ItemStatData.Stats();
+        if (!parseLore(meta.getLore(), stats)) {
+            return null;
+        }
+        return new ItemStatData.Builder(item.clone()).stats(stats).build();
+    }
+
+    /**
+     * Reads stats from lore lines.
+     *
+     * @return Whether any stat was found
+     */
+    static boolean parseLore(List<String> lore, ItemStatData.Stats stats) {
+        for (String loreLine : lore) {
+            String line = ChatColor.stripColor(loreLine);
+
+            // Health regen is always counted, even when it all comes from enchantments
+            if (line.contains("Health Regen:")) {
+                stats.healthRegen += parseTotal(line, "Health Regen:");
+                continue;
+            }
+
+            // Crit stats are shown as percentages but stored as decimals (15% becomes 0.15)
+            if (line.contains("Critical Chance:")) {
+                stats.critChance += parseTotal(line, "Critical Chance:") / 100.0;
+                continue;
+            }
+            if (line.contains("Critical Damage:")) {
+                stats.critDamage += parseTotal(line, "Critical Damage:") / 100.0;
+                continue;
+            }
+
+            if (isEnchantmentOnlyLine(line)) {
+                continue;
+            }
+
+            stats.health += (int) parseTotal(line, "Health:");
+            stats.armor += (int) parseTotal(line, "Armor:");
+            stats.magicResist += (int) parseTotal(line, "Magic Resist:");
+            stats.physicalDamage += (int) parseTotal(line, "Physical Damage:");
+            stats.rangedDamage += (int) parseTotal(line, "Ranged Damage:");
+            stats.magicDamage += (int) parseTotal(line, "Magic Damage:");
+            stats.mana += (int) parseTotal(line, "Mana:");
+            stats.miningSpeed += parseTotal(line, "Mining Speed:");
+            stats.miningFortune += parseTotal(line, "Mining Fortune:");
+            stats.fishingFortune += parseTotal(line, "Fishing Fortune:");
+
+            int lurePotency = (int) parseTotal(line, "Lure Potency:");
+            if (lurePotency == 0) {
+                lurePotency = (int) parseTotal(line, "Fishing Potency:");
+            }
+            stats.lurePotency += lurePotency;
+
+            stats.fishingResilience += parseTotal(line, "Fishing Resilience:");
+            stats.fishingFocus += parseTotal(line, "Fishing Focus:");
+            stats.fishingPrecision += parseTotal(line, "Fishing Precision:");
+            stats.seaMonsterAffinity += parseTotal(line, "Sea Monster Affinity:");
+            stats.treasureSense += parseTotal(line, "Treasure Sense:");
+
+            stats.cooldownReduction += (int) parseTotal(line, "Cooldown Reduction:");
+            stats.attackSpeed += parseTotal(line, "Attack Speed:");
+            stats.attackRange += parseTotal(line, "Attack Range:");
+            stats.size += parseTotal(line, "Size:");
+            stats.lifeSteal += parseTotal(line, "Life Steal:");
+            stats.omnivamp += parseTotal(line, "Omnivamp:");
+            stats.buildRange += parseTotal(line, "Build Range:");
+        }
+        return hasAnyStat(stats);
+    }
+
+    /**
+     * Reads the total from a "Stat: +total (bonus)" line: the first {@code +number} after the
+     * stat name, or 0 if the line has none.
+     */
+    static double parseTotal(String line, String statName) {
+        int statIndex = line.indexOf(statName);
+        if (statIndex < 0) {
+            return 0;
+        }
+        int plus = line.indexOf('+', statIndex + statName.length());
+        while (plus >= 0) {
+            int end = plus + 1;
+            while (end < line.length() && Character.isDigit(line.charAt(end))) {
+                end++;
+            }
+            if (end > plus + 1) {
+                // Optional fraction, only if digits follow the dot
+                if (end + 1 < line.length() && line.charAt(end) == '.' && Character.isDigit(line.charAt(end + 1))) {
+                    end++;
+                    while (end < line.length() && Character.isDigit(line.charAt(end))) {
+                        end++;
+                    }
+                }
+                return Double.parseDouble(line.substring(plus + 1, end));
+            }
+            plus = line.indexOf('+', plus + 1);
+        }
+        return 0;
+    }
+
+    /**
+     * Whether a "Stat: +total (bonus)" line's total is all enchantment bonus, meaning the
+     * enchantment scan already counts it.
+     */
+    private static boolean isEnchantmentOnlyLine(String line) {
+        int open = line.indexOf('(');
+        int close = line.indexOf(')');
+        if (open < 0 || close < 0) {
+            return false;
+        }
+
+        String statName = null;
+        for (String prefix : ENCHANTABLE_STATS) {
+            if (line.contains(prefix)) {
+                statName = prefix;
+                break;
+            }
+        }
+        if (statName == null || statName.equals("Health Regen:")) {
+            return false;
+        }
+
+        try {
+            String beforeBrackets = line.substring(0, open).trim();
+            String total = beforeBrackets.substring(beforeBrackets.indexOf(statName) + statName.length())
+                .replace("+", "").trim();
+            String bonus = line.substring(open + 1, close).replace("+", "").replace("-", "").trim();
+            return Math.abs(Double.parseDouble(total) - Double.parseDouble(bonus)) < 0.001;
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            return false;
+        }
+    }
+
+    private static boolean hasAnyStat(ItemStatData.Stats stats) {
+        double[] values = {
+            stats.health, stats.armor, stats.magicResist, stats.physicalDamage, stats.rangedDamage,
+            stats.magicDamage, stats.mana, stats.cooldownReduction, stats.healthRegen, stats.attackSpeed,
+            stats.attackRange, stats.size, stats.lifeSteal, stats.critChance, stats.critDamage,
+            stats.omnivamp, stats.miningFortune, stats.miningSpeed, stats.buildRange, stats.lurePotency,
+            stats.fishingFortune, stats.fishingResilience, stats.fishingFocus, stats.fishingPrecision,
+            stats.seaMonsterAffinity, stats.treasureSense
+        };
+        for (double value : values) {
+            if (value != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
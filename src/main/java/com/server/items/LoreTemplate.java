@@ -0,0 +1,120 @@
+package com.server.items;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A block of lore lines with {@code {0}}, {@code {1}}, ... placeholders.
+ *
+ * The lines are split into literal and placeholder parts once, when the template is compiled.
+ * Rendered blocks are cached by the values they were rendered with, so items sharing the same
+ * stats reuse one immutable list instead of rebuilding the strings.
+ */
+public final class LoreTemplate {
+
+    private static final int CACHE_SIZE = 256;
+
+    // Per line: literal parts around the placeholders, and which value goes in each gap
+    private final String[][] literals;
+    private final int[][] slots;
+    private final int valueCount;
+
+    private final Map<List<Object>, List<String>> cache = new LinkedHashMap<List<Object>, List<String>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, List<String>> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private LoreTemplate(String[][] literals, int[][] slots, int valueCount) {
+        this.literals = literals;
+        this.slots = slots;
+        this.valueCount = valueCount;
+    }
+
+    /**
+     * Compiles a template. Each argument is one lore line.
+     *
+     * @throws IllegalArgumentException If a placeholder is not closed or not a number
+     */
+    public static LoreTemplate compile(String... lines) {
+        String[][] literals = new String[lines.length][];
+        int[][] slots = new int[lines.length][];
+        int valueCount = 0;
+
+        for (int line = 0; line < lines.length; line++) {
+            String text = lines[line];
+            List<String> parts = new ArrayList<>();
+            List<Integer> lineSlots = new ArrayList<>();
+
+            int start = 0;
+            int open = text.indexOf('{');
+            while (open >= 0) {
+                int close = text.indexOf('}', open);
+                if (close < 0) {
+                    throw new IllegalArgumentException("Unclosed placeholder in lore template: " + text);
+                }
+                int slot;
+                try {
+                    slot = Integer.parseInt(text.substring(open + 1, close));
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Invalid placeholder in lore template: " + text, e);
+                }
+                parts.add(text.substring(start, open));
+                lineSlots.add(slot);
+                valueCount = Math.max(valueCount, slot + 1);
+                start = close + 1;
+                open = text.indexOf('{', start);
+            }
+            parts.add(text.substring(start));
+
+            literals[line] = parts.toArray(new String[0]);
+            slots[line] = lineSlots.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new LoreTemplate(literals, slots, valueCount);
+    }
+
+    /**
+     * Renders the template. The result is shared between calls with equal values and must
+     * not be modified.
+     */
+    public synchronized List<String> render(Object... values) {
+        if (values.length < valueCount) {
+            throw new IllegalArgumentException("Lore template needs " + valueCount + " values, got " + values.length);
+        }
+        List<Object> key = Arrays.asList(values.clone());
+        List<String> rendered = cache.get(key);
+        if (rendered == null) {
+            rendered = renderUncached(values);
+            cache.put(key, rendered);
+        }
+        return rendered;
+    }
+
+    /**
+     * Renders a single-line template.
+     */
+    public String renderLine(Object... values) {
+        return render(values).get(0);
+    }
+
+    private List<String> renderUncached(Object[] values) {
+        String[] lines = new String[literals.length];
+        StringBuilder builder = new StringBuilder();
+        for (int line = 0; line < literals.length; line++) {
+            builder.setLength(0);
+            String[] parts = literals[line];
+            int[] lineSlots = slots[line];
+            for (int i = 0; i < lineSlots.length; i++) {
+                builder.append(parts[i]).append(values[lineSlots[i]]);
+            }
+            builder.append(parts[parts.length - 1]);
+            lines[line] = builder.toString();
+        }
+        return Collections.unmodifiableList(Arrays.asList(lines));
+    }
+}
@@ -0,0 +1,259 @@
+package com.server.particles;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.Particle;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.util.Vector;
+
+import com.server.Main;
+
+/**
+ * Sends particles only to players who can plausibly see them, within a per-tick budget.
+ *
+ * Unlike {@code World#spawnParticle}, which sends a packet to every player within 32 blocks
+ * regardless of where they look, the emitter skips players that are too far away or facing
+ * away from the effect. Players very close to the effect always receive it so nearby effects
+ * don't pop in when turning around.
+ *
+ * Every packet counts against the receiving player's budget and the budget of the chunk the
+ * effect is in. Once half of either budget is used, particle counts are scaled down; once a
+ * budget is spent, further effects are dropped for the rest of the tick. Detail is also halved
+ * while the server is running behind. Essential effects (gameplay cues) are never scaled or
+ * dropped, but still count against the budgets.
+ *
+ * The spawn methods mirror the {@code World#spawnParticle} overloads so call sites migrate
+ * one-for-one. Viewer positions and look directions are snapshotted once per tick per world.
+ * Must be used from the main server thread.
+ */
+public class ParticleEmitter implements Listener {
+
+    private static ParticleEmitter instance;
+
+    private static final double NEAR_RANGE = 8.0;
+    // Cosine of the half angle of the view cone (~100 degrees to each side, covers peripheral vision)
+    private static final double VIEW_CONE_COS = -0.2;
+    // Fraction of a budget after which particle counts start to shrink
+    private static final double DEGRADE_START = 0.5;
+    private static final double MIN_DETAIL = 0.25;
+    private static final double OVERLOADED_TICK_MS = 45.0;
+
+    private final double viewRange;
+    private final int playerBudget;
+    private final int chunkBudget;
+    private final Map<UUID, ViewerSnapshot> viewers = new HashMap<>();
+
+    private long packetsSent;
+    private long packetsDropped;
+
+    private ParticleEmitter(Main plugin) {
+        this.viewRange = plugin.getConfig().getDouble("particles.view-range", 32.0);
+        this.playerBudget = Math.max(1, plugin.getConfig().getInt("particles.player-budget", 96));
+        this.chunkBudget = Math.max(1, plugin.getConfig().getInt("particles.chunk-budget", 384));
+    }
+
+    public static void initialize(Main plugin) {
+        if (instance == null) {
+            instance = new ParticleEmitter(plugin);
+            plugin.getServer().getPluginManager().registerEvents(instance, plugin);
+        }
+    }
+
+    public static ParticleEmitter getInstance() {
+        if (instance == null) {
+            throw new IllegalStateException("ParticleEmitter has not been initialized!");
+        }
+        return instance;
+    }
+
+    // ==================== Emission ====================
+
+    public void spawnParticle(Particle particle, Location location, int count) {
+        emit(particle, location, count, 0, 0, 0, 1, null, false);
+    }
+
+    public void spawnParticle(Particle particle, Location location, int count,
+                              double offsetX, double offsetY, double offsetZ) {
+        emit(particle, location, count, offsetX, offsetY, offsetZ, 1, null, false);
+    }
+
+    public void spawnParticle(Particle particle, Location location, int count,
+                              double offsetX, double offsetY, double offsetZ, double extra) {
+        emit(particle, location, count, offsetX, offsetY, offsetZ, extra, null, false);
+    }
+
+    public <T> void spawnParticle(Particle particle, Location location, int count, T data) {
+        emit(particle, location, count, 0, 0, 0, 1, data, false);
+    }
+
+    public <T> void spawnParticle(Particle particle, Location location, int count,
+                                  double offsetX, double offsetY, double offsetZ, T data) {
+        emit(particle, location, count, offsetX, offsetY, offsetZ, 1, data, false);
+    }
+
+    public <T> void spawnParticle(Particle particle, Location location, int count,
+                                  double offsetX, double offsetY, double offsetZ, double extra, T data) {
+        emit(particle, location, count, offsetX, offsetY, offsetZ, extra, data, false);
+    }
+
+    /**
+     * Spawns an effect that carries gameplay information (e.g. a minigame target). It is still
+     * view culled but never scaled down or dropped by the budgets.
+     */
+    public <T> void spawnEssentialParticle(Particle particle, Location location, int count,
+                                           double offsetX, double offsetY, double offsetZ, double extra, T data) {
+        emit(particle, location, count, offsetX, offsetY, offsetZ, extra, data, true);
+    }
+
+    /**
+     * Checks whether any player could see an effect at {@code location}. Callers can use this
+     * to skip building expensive effects nobody would receive.
+     */
+    public boolean isVisible(Location location) {
+        World world = location.getWorld();
+        if (world == null) {
+            return false;
+        }
+        for (Viewer viewer : snapshotOf(world).viewers) {
+            if (canSee(viewer, location.getX(), location.getY(), location.getZ())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public long getPacketsSent() {
+        return packetsSent;
+    }
+
+    public long getPacketsDropped() {
+        return packetsDropped;
+    }
+
+    private <T> void emit(Particle particle, Location location, int count,
+                          double offsetX, double offsetY, double offsetZ, double extra, T data, boolean essential) {
+        World world = location.getWorld();
+        if (world == null) {
+            return;
+        }
+        double x = location.getX(), y = location.getY(), z = location.getZ();
+        ViewerSnapshot snapshot = snapshotOf(world);
+        long chunkKey = chunkKey(location.getBlockX() >> 4, location.getBlockZ() >> 4);
+        int[] chunkUsed = snapshot.chunkUsage.computeIfAbsent(chunkKey, key -> new int[1]);
+
+        for (Viewer viewer : snapshot.viewers) {
+            if (!canSee(viewer, x, y, z)) {
+                continue;
+            }
+
+            int scaled = count;
+            if (!essential) {
+                if (viewer.sent >= playerBudget || chunkUsed[0] >= chunkBudget) {
+                    packetsDropped++;
+                    continue;
+                }
+                double load = Math.max((double) viewer.sent / playerBudget, (double) chunkUsed[0] / chunkBudget);
+                scaled = degrade(count, load, snapshot.serverDetail);
+            }
+
+            viewer.player.spawnParticle(particle, x, y, z, scaled, offsetX, offsetY, offsetZ, extra, data);
+            viewer.sent++;
+            chunkUsed[0]++;
+            packetsSent++;
+        }
+    }
+
+    /**
+     * Scales a particle count down as a budget fills up. A count of 0 has special meaning
+     * (the offsets become a velocity) and is passed through unchanged.
+     */
+    private static int degrade(int count, double load, double serverDetail) {
+        if (count <= 1) {
+            return count;
+        }
+        double detail = serverDetail;
+        if (load > DEGRADE_START) {
+            double over = (load - DEGRADE_START) / (1.0 - DEGRADE_START);
+            detail *= 1.0 - over * (1.0 - MIN_DETAIL);
+        }
+        return detail >= 1.0 ? count : Math.max(1, (int) Math.round(count * detail));
+    }
+
+    private boolean canSee(Viewer viewer, double x, double y, double z) {
+        double dx = x - viewer.eyeX;
+        double dy = y - viewer.eyeY;
+        double dz = z - viewer.eyeZ;
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+
+        if (distanceSquared > viewRange * viewRange) {
+            return false;
+        }
+        if (distanceSquared <= NEAR_RANGE * NEAR_RANGE) {
+            return true;
+        }
+        double along = dx * viewer.dirX + dy * viewer.dirY + dz * viewer.dirZ;
+        return along >= VIEW_CONE_COS * Math.sqrt(distanceSquared);
+    }
+
+    private static long chunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    // ==================== Viewer Snapshots ====================
+
+    private ViewerSnapshot snapshotOf(World world) {
+        ViewerSnapshot snapshot = viewers.computeIfAbsent(world.getUID(), id -> new ViewerSnapshot());
+        int tick = Bukkit.getCurrentTick();
+        if (snapshot.builtAt != tick) {
+            snapshot.builtAt = tick;
+            snapshot.viewers.clear();
+            snapshot.chunkUsage.clear();
+            snapshot.serverDetail = Bukkit.getAverageTickTime() > OVERLOADED_TICK_MS ? 0.5 : 1.0;
+            for (Player player : world.getPlayers()) {
+                snapshot.viewers.add(new Viewer(player));
+            }
+        }
+        return snapshot;
+    }
+
+    @EventHandler
+    public void onWorldUnload(WorldUnloadEvent event) {
+        viewers.remove(event.getWorld().getUID());
+    }
+
+    private static final class ViewerSnapshot {
+        private int builtAt = Integer.MIN_VALUE;
+        private double serverDetail = 1.0;
+        private final List<Viewer> viewers = new ArrayList<>();
+        private final Map<Long, int[]> chunkUsage = new HashMap<>();
+    }
+
+    private static final class Viewer {
+        private final Player player;
+        private final double eyeX, eyeY, eyeZ;
+        private final double dirX, dirY, dirZ;
+        private int sent;
+
+        private Viewer(Player player) {
+            Location eye = player.getEyeLocation();
+            Vector direction = eye.getDirection();
+            this.player = player;
+            this.eyeX = eye.getX();
+            this.eyeY = eye.getY();
+            this.eyeZ = eye.getZ();
+            this.dirX = direction.getX();
+            this.dirY = direction.getY();
+            this.dirZ = direction.getZ();
+        }
+    }
+}
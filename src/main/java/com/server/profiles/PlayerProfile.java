@@ -1,7 +1,11 @@
 package com.server.profiles;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -14,17 +18,24 @@ import org.bukkit.World;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.MemoryConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.inventory.ItemStack;
 
 import com.server.Main;
 import com.server.debug.DebugManager.DebugSystem;
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.LedgerAccount;
+import com.server.economy.TransactionReason;
 import com.server.items.ItemType;
+import com.server.items.LegacyItemMigration;
 import com.server.profiles.skills.data.PlayerSkillData;
 import com.server.profiles.skills.trees.PlayerSkillTreeData;
 import com.server.profiles.stats.PlayerStats;
 
-public class PlayerProfile {
+public class PlayerProfile implements LedgerAccount {
     private final UUID playerUUID;
     private final int slot;
     private String name;
@@ -46,6 +57,7 @@ public class PlayerProfile {
     private int premiumUnits;   // Rare currency for special items
     private int essence;        // Progression currency, non-tradeable
     private int bits;           // Premium currency from store, for cosmetics
+    private volatile long ledgerSequence; // Last currency ledger entry applied to the balances above
 
     // Profile Level System
     private int profileLevel;           // Current profile level
@@ -109,6 +121,7 @@ public class PlayerProfile {
         player.getInventory().setContents(inventoryContents.clone());
         player.getInventory().setArmorContents(armorContents.clone());
         player.getInventory().setExtraContents(extraContents.clone());
+        LegacyItemMigration.migrateInventory(player.getInventory());
         updateLastPlayed();
     }
     
@@ -134,8 +147,9 @@ public class PlayerProfile {
             return;
         }
 
+        // Async so a destination chunk that isn't loaded yet doesn't stall the tick
         Location loc = new Location(world, x, y, z, yaw, pitch);
-        player.teleport(loc);
+        player.teleportAsync(loc);
     }
 
     public void loadProfile(Player player) {
@@ -188,6 +202,21 @@ public class PlayerProfile {
     }
 
     public void saveProfile(Player player) {
+        syncFromPlayer(player);
+        endPlaytimeSession();
+        
+        if (Main.getInstance().isDebugMode()) {
+            Main.getInstance().getLogger().info("Profile saved for " + player.getName() + 
+                                    " with health: " + stats.getCurrentHealth() + "/" + 
+                                    player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue());
+        }
+    }
+
+    /**
+     * Copy the player's inventory, location and Minecraft stats into this profile without
+     * ending the playtime session
+     */
+    public void syncFromPlayer(Player player) {
         saveInventory(player);
         saveLocation(player);
         
@@ -195,17 +224,9 @@ public class PlayerProfile {
         stats.updateFromPlayer(player);
         
         // CRITICAL: Always explicitly save current health value
-        double currentHealth = player.getHealth();
-        stats.setCurrentHealth(currentHealth);
+        stats.setCurrentHealth(player.getHealth());
         
         updateLastPlayed();
-        endPlaytimeSession();
-        
-        if (Main.getInstance().isDebugMode()) {
-            Main.getInstance().getLogger().info("Profile saved for " + player.getName() + 
-                                    " with health: " + currentHealth + "/" + 
-                                    player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue());
-        }
     }
 
     // Getters
@@ -315,7 +336,8 @@ public class PlayerProfile {
         return sessionStartTime > 0;
     }
 
-    // Currency getters and setters
+    // Currency getters and setters. Every change goes through the CurrencyLedger, which
+    // logs it before updating the balance here.
     
     /**
      * Get the player's Units balance
@@ -331,7 +353,7 @@ public class PlayerProfile {
      * @param units The new amount of Units
      */
     public void setUnits(int units) {
-        this.units = Math.max(0, units); // Prevent negative balance
+        CurrencyLedger.getInstance().set(this, Currency.UNITS, units, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -340,10 +362,7 @@ public class PlayerProfile {
      * @return The new balance
      */
     public int addUnits(int amount) {
-        if (amount > 0) {
-            this.units += amount;
-        }
-        return this.units;
+        return CurrencyLedger.getInstance().deposit(this, Currency.UNITS, amount, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -352,13 +371,7 @@ public class PlayerProfile {
      * @return True if the player had enough Units and they were removed, false otherwise
      */
     public boolean removeUnits(int amount) {
-        if (amount <= 0) return true;
-        
-        if (this.units >= amount) {
-            this.units -= amount;
-            return true;
-        }
-        return false;
+        return CurrencyLedger.getInstance().withdraw(this, Currency.UNITS, amount, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -375,7 +388,7 @@ public class PlayerProfile {
      * @param premiumUnits The new amount of Premium Units
      */
     public void setPremiumUnits(int premiumUnits) {
-        this.premiumUnits = Math.max(0, premiumUnits); // Prevent negative balance
+        CurrencyLedger.getInstance().set(this, Currency.PREMIUM_UNITS, premiumUnits, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -384,10 +397,7 @@ public class PlayerProfile {
      * @return The new balance
      */
     public int addPremiumUnits(int amount) {
-        if (amount > 0) {
-            this.premiumUnits += amount;
-        }
-        return this.premiumUnits;
+        return CurrencyLedger.getInstance().deposit(this, Currency.PREMIUM_UNITS, amount, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -396,13 +406,7 @@ public class PlayerProfile {
      * @return True if the player had enough Premium Units and they were removed, false otherwise
      */
     public boolean removePremiumUnits(int amount) {
-        if (amount <= 0) return true;
-        
-        if (this.premiumUnits >= amount) {
-            this.premiumUnits -= amount;
-            return true;
-        }
-        return false;
+        return CurrencyLedger.getInstance().withdraw(this, Currency.PREMIUM_UNITS, amount, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -419,7 +423,7 @@ public class PlayerProfile {
      * @param essence The new amount of Essence
      */
     public void setEssence(int essence) {
-        this.essence = Math.max(0, essence); // Prevent negative balance
+        CurrencyLedger.getInstance().set(this, Currency.ESSENCE, essence, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -428,10 +432,7 @@ public class PlayerProfile {
      * @return The new balance
      */
     public int addEssence(int amount) {
-        if (amount > 0) {
-            this.essence += amount;
-        }
-        return this.essence;
+        return CurrencyLedger.getInstance().deposit(this, Currency.ESSENCE, amount, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -440,13 +441,7 @@ public class PlayerProfile {
      * @return True if the player had enough Essence and it was removed, false otherwise
      */
     public boolean removeEssence(int amount) {
-        if (amount <= 0) return true;
-        
-        if (this.essence >= amount) {
-            this.essence -= amount;
-            return true;
-        }
-        return false;
+        return CurrencyLedger.getInstance().withdraw(this, Currency.ESSENCE, amount, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -463,7 +458,7 @@ public class PlayerProfile {
      * @param bits The new amount of Bits
      */
     public void setBits(int bits) {
-        this.bits = Math.max(0, bits); // Prevent negative balance
+        CurrencyLedger.getInstance().set(this, Currency.BITS, bits, TransactionReason.UNSPECIFIED);
     }
 
     public PlayerSkillData getSkillData() {
@@ -483,10 +478,7 @@ public class PlayerProfile {
      * @return The new balance
      */
     public int addBits(int amount) {
-        if (amount > 0) {
-            this.bits += amount;
-        }
-        return this.bits;
+        return CurrencyLedger.getInstance().deposit(this, Currency.BITS, amount, TransactionReason.UNSPECIFIED);
     }
     
     /**
@@ -495,13 +487,51 @@ public class PlayerProfile {
      * @return True if the player had enough Bits and they were removed, false otherwise
      */
     public boolean removeBits(int amount) {
-        if (amount <= 0) return true;
-        
-        if (this.bits >= amount) {
-            this.bits -= amount;
-            return true;
+        return CurrencyLedger.getInstance().withdraw(this, Currency.BITS, amount, TransactionReason.UNSPECIFIED);
+    }
+
+    // Ledger account
+
+    @Override
+    public UUID getLedgerId() {
+        return playerUUID;
+    }
+
+    @Override
+    public int getLedgerSlot() {
+        return slot;
+    }
+
+    @Override
+    public int getBalance(Currency currency) {
+        switch (currency) {
+            case UNITS: return units;
+            case PREMIUM_UNITS: return premiumUnits;
+            case ESSENCE: return essence;
+            case BITS: return bits;
+            default: throw new IllegalArgumentException("Profiles don't hold " + currency);
+        }
+    }
+
+    @Override
+    public void applyBalance(Currency currency, int balance) {
+        switch (currency) {
+            case UNITS: units = balance; break;
+            case PREMIUM_UNITS: premiumUnits = balance; break;
+            case ESSENCE: essence = balance; break;
+            case BITS: bits = balance; break;
+            default: throw new IllegalArgumentException("Profiles don't hold " + currency);
         }
-        return false;
+    }
+
+    @Override
+    public long getLedgerSequence() {
+        return ledgerSequence;
+    }
+
+    @Override
+    public void setLedgerSequence(long ledgerSequence) {
+        this.ledgerSequence = ledgerSequence;
     }
 
     /**
@@ -815,5 +845,184 @@ public class PlayerProfile {
         return profileLevel >= MAX_PROFILE_LEVEL;
     }
 
-    
+    // =============================================================================
+    // SNAPSHOTS
+    // =============================================================================
+
+    /**
+     * Copy this profile's state into a snapshot. Items are cloned, so the snapshot can be
+     * serialized off the main thread. For an active profile, call {@link #syncFromPlayer}
+     * first so the snapshot includes the live inventory.
+     */
+    public ProfileSnapshot snapshot() {
+        Map<String, ConfigurationSection> sections = new LinkedHashMap<>();
+
+        ConfigurationSection profile = new MemoryConfiguration();
+        profile.set("name", name);
+        profile.set("created", created);
+        profile.set("last-played", lastPlayed);
+        profile.set("playtime", getTotalPlaytimeMillis());
+        profile.set("level", profileLevel);
+        profile.set("current-xp", profileCurrentXp);
+        profile.set("total-xp", profileTotalXp);
+        profile.set("unlocked-abilities", new ArrayList<>(unlockedAbilities));
+        profile.set("enabled-abilities", new ArrayList<>(enabledAbilities));
+        sections.put(ProfileSnapshot.PROFILE, profile);
+
+        ConfigurationSection location = new MemoryConfiguration();
+        location.set("world", worldName);
+        location.set("x", x);
+        location.set("y", y);
+        location.set("z", z);
+        location.set("yaw", yaw);
+        location.set("pitch", pitch);
+        sections.put(ProfileSnapshot.LOCATION, location);
+
+        ConfigurationSection inventory = new MemoryConfiguration();
+        inventory.set("contents", copyItems(inventoryContents));
+        inventory.set("armor", copyItems(armorContents));
+        inventory.set("extra", copyItems(extraContents));
+        sections.put(ProfileSnapshot.INVENTORY, inventory);
+
+        ConfigurationSection statsSection = new MemoryConfiguration();
+        stats.writeTo(statsSection);
+        sections.put(ProfileSnapshot.STATS, statsSection);
+
+        ConfigurationSection skills = new MemoryConfiguration();
+        skillData.writeTo(skills);
+        sections.put(ProfileSnapshot.SKILLS, skills);
+
+        ConfigurationSection skillTree = new MemoryConfiguration();
+        skillTreeData.writeTo(skillTree);
+        sections.put(ProfileSnapshot.SKILL_TREE, skillTree);
+
+        // Read before the balances: the ledger sets it after them, so the balances are never older
+        long sequence = ledgerSequence;
+        ConfigurationSection currencies = new MemoryConfiguration();
+        currencies.set("units", units);
+        currencies.set("premium-units", premiumUnits);
+        currencies.set("essence", essence);
+        currencies.set("bits", bits);
+        currencies.set("ledger-sequence", sequence);
+        sections.put(ProfileSnapshot.CURRENCIES, currencies);
+
+        ConfigurationSection cosmeticsSection = new MemoryConfiguration();
+        for (Map.Entry<ItemType, ItemStack> entry : cosmetics.entrySet()) {
+            if (entry.getValue() != null) {
+                cosmeticsSection.set(entry.getKey().name(), entry.getValue().clone());
+            }
+        }
+        sections.put(ProfileSnapshot.COSMETICS, cosmeticsSection);
+
+        return new ProfileSnapshot(playerUUID, slot, System.currentTimeMillis(), sections);
+    }
+
+    /**
+     * Replace this profile's state with the sections a snapshot contains; sections it
+     * doesn't contain are left as they are. The player's live inventory isn't touched, so
+     * reload an active profile with {@link #loadProfile} afterwards.
+     */
+    public void restore(ProfileSnapshot snapshot) {
+        if (snapshot.hasSection(ProfileSnapshot.PROFILE)) {
+            ConfigurationSection profile = snapshot.getSection(ProfileSnapshot.PROFILE);
+            name = profile.getString("name", name);
+            created = profile.getLong("created", created);
+            lastPlayed = profile.getLong("last-played", lastPlayed);
+            totalPlaytimeMillis = profile.getLong("playtime", totalPlaytimeMillis);
+            if (sessionStartTime > 0) {
+                // Keep a running session going, counted from now on top of the restored total
+                sessionStartTime = System.currentTimeMillis();
+            }
+            profileLevel = profile.getInt("level", profileLevel);
+            profileCurrentXp = profile.getDouble("current-xp", profileCurrentXp);
+            profileTotalXp = profile.getDouble("total-xp", profileTotalXp);
+            unlockedAbilities.clear();
+            unlockedAbilities.addAll(profile.getStringList("unlocked-abilities"));
+            enabledAbilities.clear();
+            enabledAbilities.addAll(profile.getStringList("enabled-abilities"));
+        }
+
+        if (snapshot.hasSection(ProfileSnapshot.LOCATION)) {
+            ConfigurationSection location = snapshot.getSection(ProfileSnapshot.LOCATION);
+            worldName = location.getString("world", worldName);
+            x = location.getDouble("x", x);
+            y = location.getDouble("y", y);
+            z = location.getDouble("z", z);
+            yaw = (float) location.getDouble("yaw", yaw);
+            pitch = (float) location.getDouble("pitch", pitch);
+        }
+
+        if (snapshot.hasSection(ProfileSnapshot.INVENTORY)) {
+            ConfigurationSection inventory = snapshot.getSection(ProfileSnapshot.INVENTORY);
+            inventoryContents = readItems(inventory.getList("contents"), inventoryContents.length);
+            armorContents = readItems(inventory.getList("armor"), armorContents.length);
+            extraContents = readItems(inventory.getList("extra"), extraContents.length);
+        }
+
+        if (snapshot.hasSection(ProfileSnapshot.STATS)) {
+            stats.readFrom(snapshot.getSection(ProfileSnapshot.STATS));
+        }
+        if (snapshot.hasSection(ProfileSnapshot.SKILLS)) {
+            skillData.readFrom(snapshot.getSection(ProfileSnapshot.SKILLS));
+        }
+        if (snapshot.hasSection(ProfileSnapshot.SKILL_TREE)) {
+            skillTreeData.readFrom(snapshot.getSection(ProfileSnapshot.SKILL_TREE));
+        }
+
+        if (snapshot.hasSection(ProfileSnapshot.CURRENCIES)) {
+            ConfigurationSection currencies = snapshot.getSection(ProfileSnapshot.CURRENCIES);
+            units = currencies.getInt("units", units);
+            premiumUnits = currencies.getInt("premium-units", premiumUnits);
+            essence = currencies.getInt("essence", essence);
+            bits = currencies.getInt("bits", bits);
+        }
+
+        if (snapshot.hasSection(ProfileSnapshot.COSMETICS)) {
+            ConfigurationSection cosmeticsSection = snapshot.getSection(ProfileSnapshot.COSMETICS);
+            cosmetics.clear();
+            for (String key : cosmeticsSection.getKeys(false)) {
+                ItemStack item = cosmeticsSection.getItemStack(key);
+                try {
+                    if (item != null) {
+                        cosmetics.put(ItemType.valueOf(key), item);
+                    }
+                } catch (IllegalArgumentException e) {
+                    // Cosmetic slot no longer exists
+                }
+            }
+        }
+    }
+
+    /**
+     * Create a profile from a snapshot
+     */
+    public static PlayerProfile fromSnapshot(ProfileSnapshot snapshot) {
+        PlayerProfile profile = new PlayerProfile(snapshot.getPlayerUUID(), snapshot.getSlot(),
+            snapshot.getSection(ProfileSnapshot.PROFILE).getString("name", "Profile " + (snapshot.getSlot() + 1)));
+        profile.restore(snapshot);
+        // Not part of restore(): a restored backup's balances are written to the ledger as new entries
+        profile.ledgerSequence = snapshot.getSection(ProfileSnapshot.CURRENCIES).getLong("ledger-sequence", 0L);
+        return profile;
+    }
+
+    private static List<ItemStack> copyItems(ItemStack[] items) {
+        ItemStack[] copy = new ItemStack[items.length];
+        for (int i = 0; i < items.length; i++) {
+            copy[i] = items[i] != null ? items[i].clone() : null;
+        }
+        return Arrays.asList(copy);
+    }
+
+    private static ItemStack[] readItems(List<?> items, int minSize) {
+        if (items == null) {
+            return new ItemStack[minSize];
+        }
+        // Player inventory contents include the armor and off-hand slots, so keep the saved length
+        ItemStack[] result = new ItemStack[Math.max(minSize, items.size())];
+        for (int i = 0; i < items.size(); i++) {
+            Object item = items.get(i);
+            result[i] = item instanceof ItemStack ? (ItemStack) item : null;
+        }
+        return result;
+    }
 }
\ No newline at end of file
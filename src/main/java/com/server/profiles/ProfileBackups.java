@@ -0,0 +1,272 @@
+package com.server.profiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * Incremental backups of profile snapshots under {@code profiles/backups/<player>/<slot>/}.
+ *
+ * Every snapshot section is stored once in {@code objects/}, named by the SHA-256 of its
+ * contents, and each backup is a manifest in {@code manifests/} mapping section names to
+ * objects. Manifests are named {@code <taken-at>-<n>.yml}, where {@code n} tells apart backups
+ * taken in the same millisecond. A backup only writes the sections that changed since the profile's previous
+ * backup and is skipped entirely if nothing changed, so backing up on every save is cheap.
+ * Only used from the profile IO thread.
+ */
+final class ProfileBackups {
+
+    private static final String EXTENSION = ".yml";
+
+    private static final Comparator<File> NEWEST_FIRST = Comparator
+        .comparingLong(ProfileBackups::parseTime)
+        .thenComparingInt(ProfileBackups::parseCounter)
+        .reversed();
+
+    private final File folder;
+    private final int maxBackups;
+
+    // Section hashes of each profile's newest backup, so unchanged sections are found without reading disk
+    private final Map<String, Map<String, String>> latestHashes = new HashMap<>();
+
+    ProfileBackups(File folder, int maxBackups) {
+        this.folder = folder;
+        this.maxBackups = Math.max(1, maxBackups);
+    }
+
+    /**
+     * Backs up the sections of a snapshot that changed since the profile's last backup.
+     */
+    void record(ProfileSnapshot snapshot) throws IOException {
+        File profileFolder = getProfileFolder(snapshot.getPlayerUUID(), snapshot.getSlot());
+        String key = profileFolder.getPath();
+        Map<String, String> previous = latestHashes.get(key);
+        if (previous == null) {
+            previous = readNewestManifest(profileFolder);
+        }
+
+        Map<String, String> hashes = new LinkedHashMap<>();
+        boolean changed = previous == null || !previous.keySet().equals(snapshot.getSections().keySet());
+        for (Map.Entry<String, ConfigurationSection> entry : snapshot.getSections().entrySet()) {
+            byte[] data = ProfileSnapshot.serializeSection(entry.getValue());
+            String hash = sha256(data);
+            hashes.put(entry.getKey(), hash);
+            if (previous != null && hash.equals(previous.get(entry.getKey()))) {
+                continue;
+            }
+            changed = true;
+            File object = getObjectFile(profileFolder, hash);
+            if (!object.isFile()) {
+                object.getParentFile().mkdirs();
+                ProfileStore.writeAtomically(object, data);
+            }
+        }
+        if (!changed) {
+            return;
+        }
+
+        // Objects are on disk before the manifest that references them, so a crash never leaves a broken backup
+        YamlConfiguration manifest = new YamlConfiguration();
+        manifest.set("taken-at", snapshot.getTakenAt());
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            manifest.set("sections." + entry.getKey(), entry.getValue());
+        }
+        File manifestFolder = new File(profileFolder, "manifests");
+        manifestFolder.mkdirs();
+        File manifestFile = new File(manifestFolder, snapshot.getTakenAt() + "-0" + EXTENSION);
+        for (int counter = 1; manifestFile.exists(); counter++) {
+            manifestFile = new File(manifestFolder, snapshot.getTakenAt() + "-" + counter + EXTENSION);
+        }
+        ProfileStore.writeAtomically(manifestFile, manifest.saveToString().getBytes(StandardCharsets.UTF_8));
+        latestHashes.put(key, hashes);
+
+        prune(profileFolder);
+    }
+
+    /**
+     * Lists the times of a profile's backups, newest first.
+     */
+    List<Long> list(UUID playerUUID, int slot) {
+        List<Long> times = new ArrayList<>();
+        for (File manifest : listManifests(getProfileFolder(playerUUID, slot))) {
+            times.add(parseTime(manifest));
+        }
+        return times;
+    }
+
+    /**
+     * Loads a profile's newest backup taken at or before a time.
+     *
+     * @return The backup, or null if the profile has none that old
+     */
+    ProfileSnapshot load(UUID playerUUID, int slot, long time) throws IOException {
+        File profileFolder = getProfileFolder(playerUUID, slot);
+        File found = null;
+        for (File manifest : listManifests(profileFolder)) {
+            if (parseTime(manifest) <= time) {
+                found = manifest;
+                break;
+            }
+        }
+        if (found == null) {
+            return null;
+        }
+
+        long foundTime = parseTime(found);
+        Map<String, String> hashes = readManifest(found);
+        Map<String, ConfigurationSection> sections = new LinkedHashMap<>();
+        for (Map.Entry<String, String> entry : hashes.entrySet()) {
+            File object = getObjectFile(profileFolder, entry.getValue());
+            try {
+                sections.put(entry.getKey(), ProfileSnapshot.deserializeSection(Files.readAllBytes(object.toPath())));
+            } catch (InvalidConfigurationException e) {
+                throw new IOException("Unreadable " + entry.getKey() + " section in backup " + foundTime, e);
+            }
+        }
+        return new ProfileSnapshot(playerUUID, slot, foundTime, sections);
+    }
+
+    /**
+     * Drops the oldest backups once a profile has a tenth more than the limit, then deletes
+     * objects no remaining backup references.
+     */
+    private void prune(File profileFolder) throws IOException {
+        List<File> sorted = listManifests(profileFolder);
+        if (sorted.size() <= maxBackups + maxBackups / 10) {
+            return;
+        }
+
+        for (File old : sorted.subList(maxBackups, sorted.size())) {
+            Files.deleteIfExists(old.toPath());
+        }
+
+        Set<String> referenced = new HashSet<>();
+        for (File manifest : sorted.subList(0, maxBackups)) {
+            referenced.addAll(readManifest(manifest).values());
+        }
+        File[] prefixes = new File(profileFolder, "objects").listFiles();
+        if (prefixes == null) {
+            return;
+        }
+        for (File prefix : prefixes) {
+            File[] objects = prefix.listFiles();
+            if (objects == null) {
+                continue;
+            }
+            for (File object : objects) {
+                if (!referenced.contains(object.getName())) {
+                    Files.deleteIfExists(object.toPath());
+                }
+            }
+        }
+    }
+
+    private Map<String, String> readNewestManifest(File profileFolder) throws IOException {
+        List<File> manifests = listManifests(profileFolder);
+        return manifests.isEmpty() ? null : readManifest(manifests.get(0));
+    }
+
+    /**
+     * @return A profile's manifest files, newest first
+     */
+    private static List<File> listManifests(File profileFolder) {
+        List<File> sorted = new ArrayList<>();
+        File[] manifests = new File(profileFolder, "manifests").listFiles();
+        if (manifests != null) {
+            for (File manifest : manifests) {
+                if (parseTime(manifest) >= 0) {
+                    sorted.add(manifest);
+                }
+            }
+        }
+        sorted.sort(NEWEST_FIRST);
+        return sorted;
+    }
+
+    private static Map<String, String> readManifest(File file) throws IOException {
+        YamlConfiguration manifest = new YamlConfiguration();
+        try {
+            manifest.loadFromString(new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        } catch (InvalidConfigurationException e) {
+            throw new IOException("Unreadable backup manifest " + file.getName(), e);
+        }
+        Map<String, String> hashes = new LinkedHashMap<>();
+        ConfigurationSection sections = manifest.getConfigurationSection("sections");
+        if (sections != null) {
+            for (String name : sections.getKeys(false)) {
+                hashes.put(name, sections.getString(name));
+            }
+        }
+        return hashes;
+    }
+
+    /**
+     * @return The time in a manifest's {@code <takenAt>-<n>.yml} name, or -1 if it isn't a manifest
+     */
+    private static long parseTime(File manifest) {
+        String name = manifest.getName();
+        int dash = name.indexOf('-');
+        if (dash < 0 || parseCounter(manifest) < 0) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(name.substring(0, dash));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * @return The counter in a manifest's {@code <takenAt>-<n>.yml} name, or -1 if it isn't a manifest
+     */
+    private static int parseCounter(File manifest) {
+        String name = manifest.getName();
+        int dash = name.indexOf('-');
+        if (dash < 0 || !name.endsWith(EXTENSION)) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(name.substring(dash + 1, name.length() - EXTENSION.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private File getProfileFolder(UUID playerUUID, int slot) {
+        return new File(new File(folder, playerUUID.toString()), String.valueOf(slot));
+    }
+
+    // Objects are spread over subfolders by the first two hash characters
+    private static File getObjectFile(File profileFolder, String hash) {
+        return new File(new File(new File(profileFolder, "objects"), hash.substring(0, 2)), hash);
+    }
+
+    private static String sha256(byte[] data) throws IOException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(data);
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("SHA-256 not available", e);
+        }
+    }
+}
@@ -2,29 +2,47 @@ package com.server.profiles;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
+import org.bukkit.World;
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
 import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 import org.bukkit.scheduler.BukkitRunnable;
 
 import com.server.Main;
 import com.server.debug.DebugManager.DebugSystem;
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
+import com.server.profiling.TickProfiler;
 
 public class ProfileManager {
+    // How long chunks prefetched for the profile selector stay loaded (30 seconds)
+    private static final long PREFETCH_TICKS = 600L;
+
     private static ProfileManager instance;
-    private final Map<UUID, PlayerProfile[]> profiles;
+    private final Map<UUID, PlayerProfile[]> profiles; // Filled from async pre-login, so concurrent
+    private final Map<UUID, CompletableFuture<PlayerProfile[]>> loading; // Loads still reading from disk
     private final Map<UUID, Integer> activeProfiles; // Track active profile for each player
     private final Main plugin;
+    private final ProfileStore store;
+    private int autosaveSeconds;
 
     private ProfileManager() {
-        profiles = new HashMap<>();
+        profiles = new ConcurrentHashMap<>();
+        loading = new ConcurrentHashMap<>();
         activeProfiles = new HashMap<>();
         this.plugin = Main.getInstance();
+        this.store = new ProfileStore(plugin);
     }
 
     public static ProfileManager getInstance() {
@@ -34,8 +52,85 @@ public class ProfileManager {
         return instance;
     }
 
+    /**
+     * Whether the manager (and with it the profile store) has been created
+     */
+    public static boolean isInitialized() {
+        return instance != null;
+    }
+
+    /**
+     * Gets a player's profile slots. Profiles are loaded during async pre-login; if they
+     * aren't loaded yet, the main thread gets empty slots and the load carries on in the
+     * background, while other threads wait for it.
+     */
     public PlayerProfile[] getProfiles(UUID uuid) {
-        return profiles.computeIfAbsent(uuid, k -> new PlayerProfile[3]);
+        PlayerProfile[] playerProfiles = profiles.get(uuid);
+        if (playerProfiles != null) {
+            return playerProfiles;
+        }
+        CompletableFuture<PlayerProfile[]> load = loadProfiles(uuid);
+        if (!Bukkit.isPrimaryThread()) {
+            return load.join();
+        }
+        plugin.getLogger().warning("Profiles for " + uuid + " were needed before they finished loading");
+        return new PlayerProfile[3];
+    }
+
+    /**
+     * Whether a player's profiles are in memory, so changes to their slots will stick
+     */
+    public boolean isLoaded(UUID uuid) {
+        return profiles.containsKey(uuid);
+    }
+
+    /**
+     * Loads a player's profiles ahead of their join. Called off the main thread.
+     */
+    public void preloadProfiles(UUID uuid) {
+        loadProfiles(uuid).join();
+    }
+
+    /**
+     * Loads a player's profiles from disk without blocking. Completes once they're cached,
+     * on whichever thread finished the read.
+     */
+    public CompletableFuture<PlayerProfile[]> loadProfiles(UUID uuid) {
+        PlayerProfile[] cached = profiles.get(uuid);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<PlayerProfile[]> load = new CompletableFuture<>();
+        CompletableFuture<PlayerProfile[]> pending = loading.putIfAbsent(uuid, load);
+        if (pending != null) {
+            return pending;
+        }
+
+        store.loadAll(uuid).thenApply(snapshots -> {
+            PlayerProfile[] loaded = fromSnapshots(snapshots);
+            PlayerProfile[] existing = profiles.putIfAbsent(uuid, loaded);
+            return existing != null ? existing : loaded;
+        }).whenComplete((loaded, error) -> {
+            loading.remove(uuid, load);
+            if (error != null) {
+                load.completeExceptionally(error);
+            } else {
+                load.complete(loaded);
+            }
+        });
+        return load;
+    }
+
+    private PlayerProfile[] fromSnapshots(ProfileSnapshot[] snapshots) {
+        PlayerProfile[] playerProfiles = new PlayerProfile[3];
+        for (int slot = 0; slot < playerProfiles.length; slot++) {
+            if (snapshots[slot] != null) {
+                playerProfiles[slot] = PlayerProfile.fromSnapshot(snapshots[slot]);
+                CurrencyLedger.getInstance().recover(playerProfiles[slot]);
+            }
+        }
+        return playerProfiles;
     }
 
     /**
@@ -43,6 +138,10 @@ public class ProfileManager {
      */
     public boolean createProfile(Player player, int slot, String name) {
         if (slot < 0 || slot >= 3) return false;
+        if (!isLoaded(player.getUniqueId())) {
+            player.sendMessage(ChatColor.RED + "Your profiles are still loading, try again in a moment.");
+            return false;
+        }
 
         // Before creating a profile, initialize attributes
         initializePlayerAttributes(player);
@@ -55,6 +154,7 @@ public class ProfileManager {
 
         // Create new profile with default stats
         PlayerProfile newProfile = new PlayerProfile(player.getUniqueId(), slot, name);
+        CurrencyLedger.getInstance().openAccount(newProfile);
         
         // Only reset player state if they don't have an active profile
         Integer currentSlot = activeProfiles.get(player.getUniqueId());
@@ -106,6 +206,7 @@ public class ProfileManager {
         }
         
         playerProfiles[slot] = newProfile;
+        store.save(newProfile.snapshot());
         
         player.sendMessage(ChatColor.GREEN + "Successfully created profile '" + 
                         ChatColor.GOLD + name + ChatColor.GREEN + "' in slot #" + (slot + 1));
@@ -146,7 +247,17 @@ public class ProfileManager {
         return false;
     }
 
+    /**
+     * Switch a player to another profile. The outgoing profile is snapshotted here and written
+     * to disk in the background, so the switch itself never waits on IO.
+     */
     public boolean selectProfile(Player player, int slot) {
+        boolean[] selected = new boolean[1];
+        TickProfiler.getInstance().section("profiles.switch").run(() -> selected[0] = switchProfile(player, slot));
+        return selected[0];
+    }
+
+    private boolean switchProfile(Player player, int slot) {
         PlayerProfile[] playerProfiles = getProfiles(player.getUniqueId());
         if (playerProfiles[slot] == null) {
             player.sendMessage(ChatColor.RED + "No profile exists in slot #" + (slot + 1));
@@ -171,6 +282,7 @@ public class ProfileManager {
             
             // Save full profile state
             playerProfiles[currentSlot].saveProfile(player);
+            store.save(currentProfile.snapshot());
         }
             
         // Load the new profile (which will set correct health value)
@@ -210,12 +322,6 @@ public class ProfileManager {
         // Set profile as active before loading to ensure it's recognized
         activeProfiles.put(player.getUniqueId(), slot);
         
-        // Load the profile (this will set proper health from profile)
-        newProfile.loadProfile(player);
-        
-        // Set profile as active before loading to ensure it's recognized
-        activeProfiles.put(player.getUniqueId(), slot);
-        
         // Load the profile (this will set proper health from profile)
         newProfile.loadProfile(player);
 
@@ -292,6 +398,7 @@ public class ProfileManager {
 
         String profileName = playerProfiles[slot].getName();
         playerProfiles[slot] = null;
+        store.delete(player.getUniqueId(), slot);
         player.sendMessage(ChatColor.YELLOW + "Deleted profile '" + 
                          ChatColor.GOLD + profileName + ChatColor.YELLOW + "' from slot #" + (slot + 1));
         return true;
@@ -449,7 +556,142 @@ public class ProfileManager {
             if (playerProfiles[activeSlot] != null) {
                 playerProfiles[activeSlot].endPlaytimeSession();
                 playerProfiles[activeSlot].saveProfile(player);
+                store.save(playerProfiles[activeSlot].snapshot());
             }
         }
     }
+
+    // ==================== Persistence ====================
+
+    /**
+     * Start loading the chunks the player's other profiles were saved in, so switching to one
+     * doesn't wait for its chunk. Called when the profile selector opens.
+     */
+    public void prefetchProfiles(Player player) {
+        Integer activeSlot = activeProfiles.get(player.getUniqueId());
+        for (PlayerProfile profile : getProfiles(player.getUniqueId())) {
+            if (profile == null || (activeSlot != null && profile.getSlot() == activeSlot)) {
+                continue;
+            }
+            World world = Bukkit.getWorld(profile.getWorldName());
+            if (world == null) {
+                continue;
+            }
+            int chunkX = (int) Math.floor(profile.getX()) >> 4;
+            int chunkZ = (int) Math.floor(profile.getZ()) >> 4;
+            world.getChunkAtAsync(chunkX, chunkZ).thenAccept(chunk -> {
+                // Hold the chunk long enough for the player to pick a profile
+                if (chunk.addPluginChunkTicket(plugin)) {
+                    Bukkit.getScheduler().runTaskLater(plugin, () -> chunk.removePluginChunkTicket(plugin), PREFETCH_TICKS);
+                }
+            });
+        }
+    }
+
+    /**
+     * Start saving online players' active profiles every {@code profiles.autosave-seconds}
+     * (default 300, 0 to disable), so a crash loses at most that much progress.
+     */
+    public void startAutosave() {
+        autosaveSeconds = plugin.getConfig().getInt("profiles.autosave-seconds", 300);
+        if (autosaveSeconds <= 0) {
+            return;
+        }
+        new BukkitRunnable() {
+            private int second;
+
+            @Override
+            public void run() {
+                autosave(second++ % autosaveSeconds);
+            }
+        }.runTaskTimer(plugin, 20L, 20L);
+    }
+
+    private void autosave(int second) {
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            // Each player is saved in their own second of the interval, spreading the work out
+            if (Math.floorMod(player.getUniqueId().hashCode(), autosaveSeconds) != second) {
+                continue;
+            }
+            PlayerProfile profile = getActivePlayerProfile(player.getUniqueId());
+            if (profile != null) {
+                profile.syncFromPlayer(player);
+                store.save(profile.snapshot());
+            }
+        }
+    }
+
+    // ==================== Backups ====================
+
+    /**
+     * Get the times of a profile slot's backups, newest first
+     */
+    public CompletableFuture<List<Long>> getBackupTimes(UUID playerUUID, int slot) {
+        return store.listBackups(playerUUID, slot);
+    }
+
+    /**
+     * Restore a profile slot to its newest backup taken at or before a time. The state being
+     * replaced is backed up first, so a restore can itself be undone. Works for online and
+     * offline players and for deleted profiles.
+     *
+     * @return Completes on the main thread with the backup that was applied, or null if the
+     *         slot has no backup that old
+     */
+    public CompletableFuture<ProfileSnapshot> restoreBackup(UUID playerUUID, int slot, long time) {
+        CompletableFuture<ProfileSnapshot> result = new CompletableFuture<>();
+        loadProfiles(playerUUID).thenCompose(loaded -> store.loadBackup(playerUUID, slot, time)).whenComplete((backup, error) ->
+            Bukkit.getScheduler().runTask(plugin, () -> {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                    return;
+                }
+                if (backup != null) {
+                    applyBackup(playerUUID, slot, backup);
+                }
+                result.complete(backup);
+            }));
+        return result;
+    }
+
+    private void applyBackup(UUID playerUUID, int slot, ProfileSnapshot backup) {
+        PlayerProfile[] playerProfiles = getProfiles(playerUUID);
+        PlayerProfile profile = playerProfiles[slot];
+        if (profile == null) {
+            profile = PlayerProfile.fromSnapshot(backup);
+            CurrencyLedger.getInstance().openAccount(profile);
+            playerProfiles[slot] = profile;
+            store.save(profile.snapshot());
+            return;
+        }
+
+        Player player = Bukkit.getPlayer(playerUUID);
+        Integer activeSlot = activeProfiles.get(playerUUID);
+        boolean live = player != null && activeSlot != null && activeSlot == slot;
+        if (live) {
+            profile.syncFromPlayer(player);
+        }
+        store.backup(profile.snapshot());
+
+        if (backup.hasSection(ProfileSnapshot.CURRENCIES)) {
+            ConfigurationSection currencies = backup.getSection(ProfileSnapshot.CURRENCIES);
+            CurrencyLedger ledger = CurrencyLedger.getInstance();
+            ledger.set(profile, Currency.UNITS, currencies.getInt("units", profile.getUnits()), TransactionReason.RESTORE);
+            ledger.set(profile, Currency.PREMIUM_UNITS, currencies.getInt("premium-units", profile.getPremiumUnits()), TransactionReason.RESTORE);
+            ledger.set(profile, Currency.ESSENCE, currencies.getInt("essence", profile.getEssence()), TransactionReason.RESTORE);
+            ledger.set(profile, Currency.BITS, currencies.getInt("bits", profile.getBits()), TransactionReason.RESTORE);
+        }
+        profile.restore(backup);
+        if (live) {
+            profile.loadProfile(player);
+        }
+        store.save(profile.snapshot());
+    }
+
+    /**
+     * Write out all queued profile saves. Called on disable, after players have been kicked.
+     */
+    public void shutdown() {
+        store.shutdown();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,144 @@
+package com.server.profiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.InvalidConfigurationException;
+import org.bukkit.configuration.MemoryConfiguration;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+/**
+ * A point-in-time copy of a {@link PlayerProfile}.
+ *
+ * Snapshots are taken on the main thread with {@link PlayerProfile#snapshot()} and hold only
+ * plain values and cloned item stacks, so they can be serialized and written on any thread.
+ * State is grouped into named sections (see {@link #SECTIONS}). A snapshot is never changed
+ * after it is taken.
+ */
+public final class ProfileSnapshot {
+
+    public static final String PROFILE = "profile";
+    public static final String LOCATION = "location";
+    public static final String INVENTORY = "inventory";
+    public static final String STATS = "stats";
+    public static final String SKILLS = "skills";
+    public static final String SKILL_TREE = "skill-tree";
+    public static final String CURRENCIES = "currencies";
+    public static final String COSMETICS = "cosmetics";
+
+    public static final List<String> SECTIONS =
+        List.of(PROFILE, LOCATION, INVENTORY, STATS, SKILLS, SKILL_TREE, CURRENCIES, COSMETICS);
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final UUID playerUUID;
+    private final int slot;
+    private final long takenAt;
+    private final Map<String, ConfigurationSection> sections;
+
+    ProfileSnapshot(UUID playerUUID, int slot, long takenAt, Map<String, ConfigurationSection> sections) {
+        this.playerUUID = playerUUID;
+        this.slot = slot;
+        this.takenAt = takenAt;
+        this.sections = Collections.unmodifiableMap(new LinkedHashMap<>(sections));
+    }
+
+    public UUID getPlayerUUID() {
+        return playerUUID;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public long getTakenAt() {
+        return takenAt;
+    }
+
+    public boolean hasSection(String name) {
+        return sections.containsKey(name);
+    }
+
+    /**
+     * Gets a section's values, or an empty section if the snapshot doesn't include it.
+     * The returned section must not be modified.
+     */
+    public ConfigurationSection getSection(String name) {
+        ConfigurationSection section = sections.get(name);
+        return section != null ? section : new MemoryConfiguration();
+    }
+
+    public Map<String, ConfigurationSection> getSections() {
+        return sections;
+    }
+
+    // ==================== Serialization ====================
+
+    /**
+     * Encodes the snapshot as YAML. Safe to call off the main thread.
+     */
+    public byte[] serialize() {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("format", FORMAT_VERSION);
+        yaml.set("player", playerUUID.toString());
+        yaml.set("slot", slot);
+        yaml.set("taken-at", takenAt);
+        for (Map.Entry<String, ConfigurationSection> entry : sections.entrySet()) {
+            yaml.set("sections." + entry.getKey(), entry.getValue());
+        }
+        return yaml.saveToString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decodes a snapshot written by {@link #serialize()}.
+     *
+     * @throws InvalidConfigurationException If the data isn't a valid snapshot
+     */
+    public static ProfileSnapshot deserialize(byte[] data) throws InvalidConfigurationException {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.loadFromString(new String(data, StandardCharsets.UTF_8));
+
+        String player = yaml.getString("player");
+        ConfigurationSection root = yaml.getConfigurationSection("sections");
+        if (player == null || root == null || !yaml.contains("slot")) {
+            throw new InvalidConfigurationException("Missing snapshot header or sections");
+        }
+
+        UUID playerUUID;
+        try {
+            playerUUID = UUID.fromString(player);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidConfigurationException("Invalid player id: " + player);
+        }
+
+        Map<String, ConfigurationSection> sections = new LinkedHashMap<>();
+        for (String name : root.getKeys(false)) {
+            ConfigurationSection section = root.getConfigurationSection(name);
+            if (section != null) {
+                sections.put(name, section);
+            }
+        }
+        return new ProfileSnapshot(playerUUID, yaml.getInt("slot"), yaml.getLong("taken-at"), sections);
+    }
+
+    /**
+     * Encodes one section on its own, for storing sections separately.
+     */
+    static byte[] serializeSection(ConfigurationSection section) {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.set("data", section);
+        return yaml.saveToString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static ConfigurationSection deserializeSection(byte[] data) throws InvalidConfigurationException {
+        YamlConfiguration yaml = new YamlConfiguration();
+        yaml.loadFromString(new String(data, StandardCharsets.UTF_8));
+        ConfigurationSection section = yaml.getConfigurationSection("data");
+        return section != null ? section : new MemoryConfiguration();
+    }
+}
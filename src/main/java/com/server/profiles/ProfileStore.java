@@ -0,0 +1,234 @@
+package com.server.profiles;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.bukkit.configuration.InvalidConfigurationException;
+
+import com.server.Main;
+import com.server.profiling.TickProfiler;
+
+/**
+ * Reads and writes profile snapshots under {@code profiles/<player>/<slot>.yml}.
+ *
+ * All file IO runs on one background thread, so operations on a profile happen in the order
+ * they were queued. When a newer snapshot of a profile arrives while an older one is still
+ * queued, the queued write picks up the newer one instead of writing twice. Files are
+ * replaced atomically, so a crash leaves either the old or the new snapshot on disk. Each
+ * write is also recorded in the profile's {@link ProfileBackups} unless backups are disabled
+ * ({@code profiles.backups.enabled}).
+ */
+final class ProfileStore {
+
+    private static final String EXTENSION = ".yml";
+    private static final int SLOTS = 3;
+
+    private final Main plugin;
+    private final File folder;
+    private final ExecutorService ioThread;
+    private final Executor io;
+    private final ProfileBackups backups;
+
+    // Latest snapshot waiting to be written, by profile key
+    private final Map<String, ProfileSnapshot> pendingWrites = new ConcurrentHashMap<>();
+
+    ProfileStore(Main plugin) {
+        this.plugin = plugin;
+        this.folder = new File(plugin.getDataFolder(), "profiles");
+        this.ioThread = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "mmo-profile-io");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.io = TickProfiler.getInstance().executor("profiles.io", ioThread);
+        this.backups = plugin.getConfig().getBoolean("profiles.backups.enabled", true)
+            ? new ProfileBackups(new File(folder, "backups"), plugin.getConfig().getInt("profiles.backups.max-per-profile", 100))
+            : null;
+    }
+
+    /**
+     * Queues a snapshot to be written.
+     */
+    void save(ProfileSnapshot snapshot) {
+        String key = key(snapshot.getPlayerUUID(), snapshot.getSlot());
+        if (pendingWrites.put(key, snapshot) != null) {
+            return; // The write already queued for this profile will pick up this snapshot
+        }
+        io.execute(() -> {
+            ProfileSnapshot latest = pendingWrites.remove(key);
+            if (latest != null) {
+                write(latest);
+            }
+        });
+    }
+
+    /**
+     * Loads all of a player's profile slots.
+     *
+     * @return Snapshots indexed by slot, null for empty slots
+     */
+    CompletableFuture<ProfileSnapshot[]> loadAll(UUID playerUUID) {
+        return CompletableFuture.supplyAsync(() -> {
+            ProfileSnapshot[] snapshots = new ProfileSnapshot[SLOTS];
+            for (int slot = 0; slot < SLOTS; slot++) {
+                snapshots[slot] = read(playerUUID, slot);
+            }
+            return snapshots;
+        }, io);
+    }
+
+    /**
+     * Queues a backup of a snapshot without writing it as the profile's current state.
+     */
+    void backup(ProfileSnapshot snapshot) {
+        if (backups != null) {
+            io.execute(() -> recordBackup(snapshot));
+        }
+    }
+
+    /**
+     * Lists the times of a profile's backups, newest first.
+     */
+    CompletableFuture<List<Long>> listBackups(UUID playerUUID, int slot) {
+        if (backups == null) {
+            return CompletableFuture.completedFuture(List.of());
+        }
+        return CompletableFuture.supplyAsync(() -> backups.list(playerUUID, slot), io);
+    }
+
+    /**
+     * Loads a profile's newest backup taken at or before a time, or null if there is none.
+     */
+    CompletableFuture<ProfileSnapshot> loadBackup(UUID playerUUID, int slot, long time) {
+        if (backups == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return backups.load(playerUUID, slot, time);
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, io);
+    }
+
+    /**
+     * Deletes a profile's file, dropping any write still queued for it. Its backups are kept.
+     */
+    void delete(UUID playerUUID, int slot) {
+        pendingWrites.remove(key(playerUUID, slot));
+        io.execute(() -> {
+            try {
+                Files.deleteIfExists(getFile(playerUUID, slot).toPath());
+            } catch (IOException e) {
+                plugin.getLogger().warning("Failed to delete profile " + key(playerUUID, slot) + ": " + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Finishes all queued IO and stops the IO thread.
+     */
+    void shutdown() {
+        ioThread.shutdown();
+        try {
+            if (!ioThread.awaitTermination(30, TimeUnit.SECONDS)) {
+                plugin.getLogger().severe("Timed out waiting for profile saves; " + pendingWrites.size() + " profiles not written");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== File IO ====================
+
+    private void write(ProfileSnapshot snapshot) {
+        File file = getFile(snapshot.getPlayerUUID(), snapshot.getSlot());
+        try {
+            byte[] data = snapshot.serialize();
+            file.getParentFile().mkdirs();
+            writeAtomically(file, data);
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().severe("Failed to save profile " + key(snapshot.getPlayerUUID(), snapshot.getSlot())
+                + ": " + e.getMessage());
+            return;
+        }
+        if (backups != null) {
+            recordBackup(snapshot);
+        }
+    }
+
+    private void recordBackup(ProfileSnapshot snapshot) {
+        try {
+            backups.record(snapshot);
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().warning("Failed to back up profile " + key(snapshot.getPlayerUUID(), snapshot.getSlot())
+                + ": " + e.getMessage());
+        }
+    }
+
+    private ProfileSnapshot read(UUID playerUUID, int slot) {
+        File file = getFile(playerUUID, slot);
+        if (!file.isFile()) {
+            return null;
+        }
+        try {
+            return ProfileSnapshot.deserialize(Files.readAllBytes(file.toPath()));
+        } catch (IOException | InvalidConfigurationException | RuntimeException e) {
+            // Keep the unreadable file for inspection rather than overwriting it on the next save
+            File aside = new File(file.getParentFile(), file.getName() + ".corrupt-" + System.currentTimeMillis());
+            plugin.getLogger().severe("Failed to load profile " + key(playerUUID, slot) + ", moved it to "
+                + aside.getName() + ": " + e.getMessage());
+            file.renameTo(aside);
+            return null;
+        }
+    }
+
+    /**
+     * Writes a file via temp file + fsync + atomic rename so readers never see a partial file.
+     */
+    static void writeAtomically(File target, byte[] data) throws IOException {
+        Path targetPath = target.toPath();
+        Path tempPath = targetPath.resolveSibling(target.getName() + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.wrap(data);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(true);
+        }
+
+        try {
+            Files.move(tempPath, targetPath, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath, targetPath, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private File getFile(UUID playerUUID, int slot) {
+        return new File(new File(folder, playerUUID.toString()), slot + EXTENSION);
+    }
+
+    private static String key(UUID playerUUID, int slot) {
+        return playerUUID + "/" + slot;
+    }
+}
@@ -39,6 +39,9 @@ public class ProfileGUI {
         PlayerProfile[] profiles = ProfileManager.getInstance().getProfiles(player.getUniqueId());
         Integer activeSlot = ProfileManager.getInstance().getActiveProfile(player.getUniqueId());
 
+        // Start loading the other profiles' chunks while the player picks one
+        ProfileManager.getInstance().prefetchProfiles(player);
+
         // Add decorative border
         createBorder(gui);
         
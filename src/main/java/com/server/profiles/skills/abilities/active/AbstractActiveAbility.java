@@ -1,14 +1,13 @@
 package com.server.profiles.skills.abilities.active;
 
 import java.util.List;
-import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
 import org.bukkit.entity.Player;
 
+import com.server.cooldowns.CooldownManager;
 import com.server.profiles.skills.abilities.AbstractSkillAbility;
 
 /**
@@ -16,10 +15,9 @@ import com.server.profiles.skills.abilities.AbstractSkillAbility;
  */
 public abstract class AbstractActiveAbility extends AbstractSkillAbility implements ActiveAbility {
     
-    private static final ConcurrentHashMap<UUID, ConcurrentHashMap<String, Long>> playerCooldowns = new ConcurrentHashMap<>();
-    
     protected final int cooldownSeconds;
     protected final String activationMethod;
+    private final int cooldownKey;
     
     public AbstractActiveAbility(String id, String displayName, String description, 
                               String skillId, Material icon, String unlockRequirement,
@@ -27,6 +25,7 @@ public abstract class AbstractActiveAbility extends AbstractSkillAbility impleme
         super(id, displayName, description, skillId, icon, unlockRequirement);
         this.cooldownSeconds = cooldownSeconds;
         this.activationMethod = activationMethod;
+        this.cooldownKey = CooldownManager.key("ability." + id);
     }
     
     @Override
@@ -46,33 +45,12 @@ public abstract class AbstractActiveAbility extends AbstractSkillAbility impleme
     
     @Override
     public long getCooldownRemaining(Player player) {
-        UUID playerUUID = player.getUniqueId();
-        
-        if (!playerCooldowns.containsKey(playerUUID) || 
-            !playerCooldowns.get(playerUUID).containsKey(id)) {
-            return 0;
-        }
-        
-        long cooldownUntil = playerCooldowns.get(playerUUID).get(id);
-        long now = System.currentTimeMillis();
-        
-        return Math.max(0, cooldownUntil - now);
+        return CooldownManager.getInstance().getRemaining(player.getUniqueId(), cooldownKey);
     }
     
     @Override
     public void setCooldown(Player player) {
-        UUID playerUUID = player.getUniqueId();
-        
-        // Initialize nested maps if needed
-        if (!playerCooldowns.containsKey(playerUUID)) {
-            playerCooldowns.put(playerUUID, new ConcurrentHashMap<>());
-        }
-        
-        // Calculate cooldown end time
-        long cooldownUntil = System.currentTimeMillis() + (cooldownSeconds * 1000);
-        
-        // Set the cooldown
-        playerCooldowns.get(playerUUID).put(id, cooldownUntil);
+        CooldownManager.getInstance().start(player.getUniqueId(), cooldownKey, cooldownSeconds * 1000L);
     }
     
     @Override
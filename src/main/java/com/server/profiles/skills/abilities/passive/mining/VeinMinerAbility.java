@@ -463,7 +463,7 @@ public class VeinMinerAbility extends AbstractPassiveAbility {
     /**
      * Sort blocks by distance from the source block
      */
-    private List<Block> sortBlocksByDistance(Set<Block> blocks, Block sourceBlock) {
+    List<Block> sortBlocksByDistance(Set<Block> blocks, Block sourceBlock) {
         List<Block> sortedBlocks = new ArrayList<>(blocks);
         
         // Sort blocks by distance from source
@@ -540,7 +540,7 @@ public class VeinMinerAbility extends AbstractPassiveAbility {
      * Recursively find connected ore blocks of the same type
      * Updated to include diagonal connections
      */
-    private void findConnectedOres(Block block, Material type, Set<Block> minedBlocks, int remaining) {
+    void findConnectedOres(Block block, Material type, Set<Block> minedBlocks, int remaining) {
         if (remaining <= 0 || minedBlocks.size() >= remaining) return;
         
         // Add the current block to the set
@@ -62,8 +62,8 @@ public class SkillLevelupListener implements Listener {
                 targetSkill = skill.getParentSkill();
                 tokenType = targetSkill.getId();
                 
-                if (plugin.isDebugEnabled(DebugSystem.SKILLS)) {
-                    plugin.debugLog(DebugSystem.SKILLS, 
+                if (plugin.isDebugEnabled(DebugSystem.SKILLS, player)) {
+                    plugin.debugLog(DebugSystem.SKILLS, player, 
                         "Subskill " + skill.getDisplayName() + " level up - awarding tokens to parent skill: " + 
                         targetSkill.getDisplayName());
                 }
@@ -88,8 +88,8 @@ public class SkillLevelupListener implements Listener {
             // Play sound for token reward
             player.playSound(player.getLocation(), Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.7f, 1.2f);
             
-            if (plugin.isDebugEnabled(DebugSystem.SKILLS)) {
-                plugin.debugLog(DebugSystem.SKILLS, player.getName() + " received " + tokensToAward + " " + 
+            if (plugin.isDebugEnabled(DebugSystem.SKILLS, player)) {
+                plugin.debugLog(DebugSystem.SKILLS, player, player.getName() + " received " + tokensToAward + " " + 
                                     tokenInfo.displayName + " Tokens for reaching level " + 
                                     newLevel + " in " + skill.getDisplayName() + 
                                     " (tokens awarded to " + targetSkill.getDisplayName() + ")");
@@ -13,6 +13,8 @@ import com.server.profiles.skills.data.SkillLevel;
 import com.server.profiles.skills.events.SkillLevelUpEvent;
 import com.server.profiles.skills.skills.mining.subskills.OreExtractionSubskill;
 import com.server.profiles.stats.PlayerStats;
+import com.server.profiles.stats.StatLayer;
+import com.server.profiles.stats.StatType;
 
 /**
  * Manages progression of skills and subskills, including handling parent-child relationships
@@ -94,8 +96,8 @@ public class SkillProgressionManager {
             double newBonus = oreSkill.getMiningFortuneBonus(newLevel.getLevel());
             double fortuneIncrease = newBonus - previousBonus;
             
-            // Apply the increase to player's default mining fortune stats
-            stats.increaseDefaultMiningFortune(fortuneIncrease);
+            // Apply the increase to the skill layer of the player's mining fortune
+            stats.addToLayer(StatLayer.SKILL, StatType.MINING_FORTUNE, fortuneIncrease);
             
             // Apply the changes to the player
             stats.applyToPlayer(player);
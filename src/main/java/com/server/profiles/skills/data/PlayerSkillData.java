@@ -1,5 +1,7 @@
 package com.server.profiles.skills.data;
 
+import org.bukkit.configuration.ConfigurationSection;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -65,4 +67,30 @@ public class PlayerSkillData {
     public Map<String, SkillLevel> getAllSkillLevels() {
         return new HashMap<>(skillLevels);
     }
+
+    /**
+     * Write all skill levels to a section, one subsection per skill
+     */
+    public void writeTo(ConfigurationSection section) {
+        for (Map.Entry<String, SkillLevel> entry : skillLevels.entrySet()) {
+            ConfigurationSection skill = section.createSection(entry.getKey());
+            skill.set("level", entry.getValue().getLevel());
+            skill.set("current-xp", entry.getValue().getCurrentXp());
+            skill.set("total-xp", entry.getValue().getTotalXp());
+        }
+    }
+
+    /**
+     * Replace all skill levels with the ones written by {@link #writeTo}
+     */
+    public void readFrom(ConfigurationSection section) {
+        skillLevels.clear();
+        for (String skillId : section.getKeys(false)) {
+            ConfigurationSection skill = section.getConfigurationSection(skillId);
+            if (skill != null) {
+                skillLevels.put(skillId, new SkillLevel(skill.getInt("level"),
+                    skill.getDouble("current-xp"), skill.getDouble("total-xp")));
+            }
+        }
+    }
 }
\ No newline at end of file
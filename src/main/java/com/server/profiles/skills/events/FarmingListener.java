@@ -93,8 +93,8 @@ public class FarmingListener implements Listener {
         int fortuneMultiplier = calculateFortuneMultiplier(farmingFortune);
         
         // Debug logging
-        if (plugin.isDebugEnabled(DebugSystem.SKILLS)) {
-            plugin.debugLog(DebugSystem.SKILLS, 
+        if (plugin.isDebugEnabled(DebugSystem.SKILLS, player)) {
+            plugin.debugLog(DebugSystem.SKILLS, player, 
                 player.getName() + " broke " + blockType + " with Farming Fortune multiplier: " + fortuneMultiplier);
         }
         
@@ -113,8 +113,8 @@ public class FarmingListener implements Listener {
             
             SkillProgressionManager.getInstance().addExperience(player, harvestingSkill, xpAmount);
             
-            if (plugin.isDebugEnabled(DebugSystem.SKILLS)) {
-                plugin.debugLog(DebugSystem.SKILLS, 
+            if (plugin.isDebugEnabled(DebugSystem.SKILLS, player)) {
+                plugin.debugLog(DebugSystem.SKILLS, player, 
                     player.getName() + " gained " + xpAmount + " XP in Harvesting for harvesting " + blockType.name());
             }
         }
@@ -176,8 +176,8 @@ public class FarmingListener implements Listener {
             
             SkillProgressionManager.getInstance().addExperience(player, cultivatingSkill, xpAmount);
             
-            if (plugin.isDebugEnabled(DebugSystem.SKILLS)) {
-                plugin.debugLog(DebugSystem.SKILLS, 
+            if (plugin.isDebugEnabled(DebugSystem.SKILLS, player)) {
+                plugin.debugLog(DebugSystem.SKILLS, player, 
                     player.getName() + " gained " + xpAmount + " XP in Cultivating for planting " + plantableType.name());
             }
         }
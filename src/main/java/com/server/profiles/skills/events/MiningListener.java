@@ -96,8 +96,8 @@ public class MiningListener implements Listener {
             block.removeMetadata("veinminer_processed", plugin);
             
             // Debug logging
-            if (plugin.isDebugEnabled(DebugSystem.SKILLS)) {
-                plugin.debugLog(DebugSystem.SKILLS,player.getName() + " broke vein miner block " + block.getType() + 
+            if (plugin.isDebugEnabled(DebugSystem.SKILLS, player)) {
+                plugin.debugLog(DebugSystem.SKILLS, player, player.getName() + " broke vein miner block " + block.getType() + 
                     " with fortune multiplier: " + fortuneMultiplier);
             }
         } else {
@@ -155,8 +155,8 @@ public class MiningListener implements Listener {
         }
         
         // Debug output
-        if (plugin.isDebugEnabled(DebugSystem.SKILLS)) {
-            plugin.debugLog(DebugSystem.SKILLS,player.getName() + " broke " + block.getType() + 
+        if (plugin.isDebugEnabled(DebugSystem.SKILLS, player)) {
+            plugin.debugLog(DebugSystem.SKILLS, player, player.getName() + " broke " + block.getType() + 
                 " with Mining Fortune multiplier: " + fortuneMultiplier);
         }
         
@@ -16,6 +16,9 @@ import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.metadata.FixedMetadataValue;
 
 import com.server.Main;
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 import com.server.profiles.skills.core.Skill;
@@ -254,7 +257,10 @@ public class ConfirmationGUI {
         }
         
         // Deduct the premium units
-        profile.removePremiumUnits(cost);
+        if (!CurrencyLedger.getInstance().withdraw(profile, Currency.PREMIUM_UNITS, cost, TransactionReason.PURCHASE)) {
+            player.closeInventory();
+            return;
+        }
         
         PlayerSkillTreeData treeData = profile.getSkillTreeData();
         
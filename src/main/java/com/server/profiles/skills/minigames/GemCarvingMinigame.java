@@ -2,7 +2,6 @@ package com.server.profiles.skills.minigames;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -23,12 +22,11 @@ import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.persistence.PersistentDataContainer;
 import org.bukkit.persistence.PersistentDataType;
-import org.bukkit.scheduler.BukkitRunnable;
-import org.bukkit.scheduler.BukkitTask;
 import org.bukkit.util.Vector;
 
 import com.server.Main;
-import com.server.debug.DebugManager.DebugSystem;
+import com.server.cooldowns.CooldownManager;
+import com.server.particles.ParticleEmitter;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 import com.server.profiles.skills.core.Skill;
@@ -52,7 +50,7 @@ public class GemCarvingMinigame {
     private final Random random = new Random();
     
     // Set to keep track of crystals on cooldown with their expiry time
-    private final Map<UUID, Long> crystalCooldowns = new HashMap<>();
+    private static final int CRYSTAL_COOLDOWN_KEY = CooldownManager.key("gem_carving.crystal");
     
     // Constants for game mechanics
     private static final int REQUIRED_HITS = 5;
@@ -165,14 +163,6 @@ public class GemCarvingMinigame {
     
     public GemCarvingMinigame(Main plugin) {
         this.plugin = plugin;
-        
-        // Start a cleanup task for cooldowns
-        new BukkitRunnable() {
-            @Override
-            public void run() {
-                cleanupExpiredCooldowns();
-            }
-        }.runTaskTimer(plugin, 20 * 60, 20 * 60); // Run every minute
     }
     
     /**
@@ -354,24 +344,13 @@ public class GemCarvingMinigame {
      * Check if a crystal is currently on cooldown
      */
     private boolean isCrystalOnCooldown(ArmorStand crystal) {
-        UUID crystalId = crystal.getUniqueId();
-        if (!crystalCooldowns.containsKey(crystalId)) {
-            return false;
-        }
-        
-        long expiryTime = crystalCooldowns.get(crystalId);
-        long currentTime = System.currentTimeMillis();
-        
-        return currentTime < expiryTime;
+        return CooldownManager.getInstance().isActive(crystal.getUniqueId(), CRYSTAL_COOLDOWN_KEY);
     }
     
     /**
      * Show a visual effect to indicate the crystal is on cooldown
      */
     private void showCooldownEffect(ArmorStand crystal, CrystalTier tier) {
-        // Calculate remaining cooldown
-        long remainingSecs = (crystalCooldowns.get(crystal.getUniqueId()) - System.currentTimeMillis()) / 1000;
-        
         // Create a colored dust cloud around the crystal using tier-specific color
         Location effectLoc = crystal.getLocation().clone().add(0, 1.0, 0);
         
@@ -380,43 +359,20 @@ public class GemCarvingMinigame {
                 tier.getParticleColor().mixColors(Color.GRAY), // Mix with gray for cooldown effect
                 0.7f);
         
-        crystal.getWorld().spawnParticle(Particle.DUST, 
+        ParticleEmitter.getInstance().spawnParticle(Particle.DUST, 
                 effectLoc, 10, 0.3, 0.3, 0.3, 0, dustOptions);
         
         // Add a subtle smoke effect
-        crystal.getWorld().spawnParticle(Particle.SMOKE, 
+        ParticleEmitter.getInstance().spawnParticle(Particle.SMOKE, 
                 effectLoc, 5, 0.2, 0.2, 0.2, 0.01);
     }
     
-    /**
-     * Clean up expired cooldowns periodically
-     */
-    private void cleanupExpiredCooldowns() {
-        long currentTime = System.currentTimeMillis();
-        Set<UUID> toRemove = new HashSet<>();
-        
-        for (Map.Entry<UUID, Long> entry : crystalCooldowns.entrySet()) {
-            if (entry.getValue() < currentTime) {
-                toRemove.add(entry.getKey());
-            }
-        }
-        
-        for (UUID id : toRemove) {
-            crystalCooldowns.remove(id);
-        }
-        
-        if (!toRemove.isEmpty() && plugin.isDebugEnabled(DebugSystem.SKILLS)) {
-            plugin.debugLog(DebugSystem.SKILLS,"Cleaned up " + toRemove.size() + " expired crystal cooldowns");
-        }
-    }
-    
     /**
      * Put a crystal on cooldown based on its tier
      */
     private void setCrystalCooldown(ArmorStand crystal, CrystalTier tier) {
         int cooldownSeconds = (int)(BASE_CRYSTAL_COOLDOWN_SECONDS * tier.getCooldownMultiplier());
-        long expiryTime = System.currentTimeMillis() + (cooldownSeconds * 1000);
-        crystalCooldowns.put(crystal.getUniqueId(), expiryTime);
+        CooldownManager.getInstance().start(crystal.getUniqueId(), CRYSTAL_COOLDOWN_KEY, cooldownSeconds * 1000L);
     }
     
     /**
@@ -503,15 +459,18 @@ public class GemCarvingMinigame {
      * Cancel all active sessions (on plugin disable)
      */
     public void cancelAllSessions() {
-        for (UUID playerId : activeSessions.keySet()) {
+        // Ending a session removes it from the map, so iterate a copy
+        for (UUID playerId : new ArrayList<>(activeSessions.keySet())) {
             endSession(playerId, false);
         }
         activeSessions.clear();
     }
     
-     private class GameSession {
+     private class GameSession implements MinigameSession {
         // Constants for this session
         private static final int ACTIONBAR_UPDATE_TICKS = 10; // Update every half second
+        private static final int PARTICLE_INTERVAL_TICKS = 5; // Every 1/4 second
+        private static final int ACTIONBAR_HOLD_TICKS = MinigameHud.ACTION_BAR_REFRESH_TICKS + ACTIONBAR_UPDATE_TICKS;
         
         private final Player player;
         private final ArmorStand crystal;
@@ -524,10 +483,11 @@ public class GemCarvingMinigame {
         private boolean isActive = false;
         private final int requiredHits; // Store the required hits for this session
         
-        private BukkitTask particleTask;
-        private BukkitTask timeoutTask;
-        private BukkitTask gameTimeoutTask;
-        private BukkitTask actionBarTask;
+        // Timers, in ticks since the session started (advanced by the minigame runtime)
+        private int ticksElapsed = 0;
+        private int gameTimeoutAt;
+        private int targetTimeoutAt;
+        private int nextActionBarAt;
         
         // Calculated values for this session based on crystal tier
         private final double particleRadius;
@@ -609,30 +569,55 @@ public class GemCarvingMinigame {
             createNewTarget();
             
             // Start game timeout - higher tiers have less time
-            int gameTimeout = (int)(BASE_GAME_TIMEOUT_TICKS * tier.getTimeoutMultiplier());
-            gameTimeoutTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                // Game timed out
-                endGame(false);
-            }, gameTimeout);
-            
-            // Start the particle display task that will periodically show particles
-            particleTask = new BukkitRunnable() {
-                @Override
-                public void run() {
-                    if (!isActive || currentTarget == null || !player.isOnline() || crystal.isDead()) {
-                        cancel();
-                        endGame(false);
-                        return;
-                    }
-                    
-                    // Create visual particles around the target location
-                    showTargetParticles();
-                }
-            }.runTaskTimer(plugin, 0, 5); // Every 1/4 second
+            gameTimeoutAt = (int)(BASE_GAME_TIMEOUT_TICKS * tier.getTimeoutMultiplier());
             
             // Register with the SkillActionBarManager to handle the custom display
             // and start displaying the progress information
             updateActionBar();
+            
+            // Timeouts, target particles and the action bar are driven by the shared runtime
+            MinigameRuntime.getInstance().register(this);
+        }
+        
+        @Override
+        public String getMinigameType() {
+            return "gem_carving";
+        }
+        
+        @Override
+        public Player getPlayer() {
+            return player;
+        }
+        
+        /**
+         * Advance the session timers by one tick
+         */
+        @Override
+        public boolean tick() {
+            if (!isActive) {
+                return false;
+            }
+            if (currentTarget == null || !player.isOnline() || crystal.isDead() || ticksElapsed >= gameTimeoutAt) {
+                // Invalid state or the game timed out
+                endGame(false);
+                return false;
+            }
+            
+            if (ticksElapsed >= targetTimeoutAt) {
+                onTargetTimeout();
+            }
+            
+            // Create visual particles around the target location
+            if (ticksElapsed % PARTICLE_INTERVAL_TICKS == 0) {
+                showTargetParticles();
+            }
+            
+            if (ticksElapsed >= nextActionBarAt) {
+                updateActionBar();
+            }
+            
+            ticksElapsed++;
+            return isActive;
         }
 
         /**
@@ -673,13 +658,14 @@ public class GemCarvingMinigame {
                                 " §7(" + hitsInSequence + "/" + requiredHits + ")";
             
             // Use the SkillActionBarManager to display the custom minigame status
-            // This will register a custom action bar that won't conflict with skill XP displays
-            SkillActionBarManager.getInstance().showCustomActionBar(player, actionBarText, ACTIONBAR_UPDATE_TICKS);
-            
-            // Schedule the next update if still active
-            if (isActive) {
-                actionBarTask = Bukkit.getScheduler().runTaskLater(plugin, this::updateActionBar, ACTIONBAR_UPDATE_TICKS);
+            // This will register a custom action bar that won't conflict with skill XP displays.
+            // Only resend when the text changed or the bar is about to fade
+            if (MinigameRuntime.getInstance().getHud(player).claimActionBar(actionBarText)) {
+                SkillActionBarManager.getInstance().showCustomActionBar(player, actionBarText, ACTIONBAR_HOLD_TICKS);
             }
+            
+            // Check again on the next update interval
+            nextActionBarAt = ticksElapsed + ACTIONBAR_UPDATE_TICKS;
         }
         
         /**
@@ -717,18 +703,20 @@ public class GemCarvingMinigame {
          */
         private void showTargetParticles() {
             // Create dust particles at the target with tier-specific color
-            currentTarget.getWorld().spawnParticle(
+            // The target is what the player aims for, so it is exempt from particle budgets
+            ParticleEmitter.getInstance().spawnEssentialParticle(
                     Particle.DUST_COLOR_TRANSITION, 
                     currentTarget, 
                     6,                               // Number of particles
                     particleRadius * 0.5,            // Spread based on tier
                     particleRadius * 0.5, 
                     particleRadius * 0.5, 
+                    1.0,
                     particleEffect);                 // Tier-specific particle effect
             
             // Add a more noticeable glow that can be seen through blocks
             // Use flame color matching the tier
-            currentTarget.getWorld().spawnParticle(
+            ParticleEmitter.getInstance().spawnParticle(
                     CRYSTAL_TIERS.get("mooncrystal").getParticleRadiusMultiplier() < 0.7 ? 
                             Particle.SOUL_FIRE_FLAME : Particle.FLAME,
                     currentTarget,
@@ -789,17 +777,12 @@ public class GemCarvingMinigame {
          * Handle a successful hit
          */
         private void onHitSuccess() {
-            // Cancel current timeout task if it exists
-            if (timeoutTask != null) {
-                timeoutTask.cancel();
-            }
-            
             // Play success sound and particles
             float pitch = 1.0f + (hitsInSequence * 0.1f); // Higher pitch with each successful hit
             player.playSound(currentTarget, Sound.ENTITY_EXPERIENCE_ORB_PICKUP, 0.7f, pitch);
             
             // Show success particles with tier-specific color
-            currentTarget.getWorld().spawnParticle(Particle.DUST, currentTarget, 
+            ParticleEmitter.getInstance().spawnParticle(Particle.DUST, currentTarget, 
                     20, 0.3, 0.3, 0.3, 0, successParticle);
             
             // Increment hit counter
@@ -823,6 +806,7 @@ public class GemCarvingMinigame {
                     // Occasionally remind players that the bonus scales with quality
                     if (hitsInSequence == 1 || random.nextDouble() < 0.2) {
                         player.sendActionBar("§3Your Carver's Expertise skill increases XP based on gem quality!");
+                        MinigameRuntime.getInstance().getHud(player).invalidateActionBar();
                     }
                 }
                 
@@ -856,9 +840,10 @@ public class GemCarvingMinigame {
             
             // Show failure message
             SkillActionBarManager.getInstance().showCustomActionBar(player, "§cMissed! §7Progress reset.", 40);
+            MinigameRuntime.getInstance().getHud(player).invalidateActionBar();
             
             // Update the action bar with the reset progress after a short delay
-            Bukkit.getScheduler().runTaskLater(plugin, this::updateActionBar, 40);
+            nextActionBarAt = ticksElapsed + 40;
             
             // Create a new target
             createNewTarget();
@@ -925,32 +910,31 @@ public class GemCarvingMinigame {
             }
             
             // Set a timeout for this target with duration based on tier
-            if (timeoutTask != null) {
-                timeoutTask.cancel();
-            }
-            
             // For higher tiers, add a slight random variance to the timeout duration
             // This makes timing more unpredictable and keeps players on their toes
             double timeoutVariance = 1.0 + ((random.nextDouble() - 0.5) * 0.2 * (2.0 - tier.getParticleRadiusMultiplier()));
             int finalTimeoutTicks = (int)(particleTimeoutTicks * timeoutVariance);
             
-            timeoutTask = Bukkit.getScheduler().runTaskLater(plugin, () -> {
-                if (isActive) {
-                    // Player didn't hit the target in time
-                    player.sendActionBar("§cToo slow! §7Progress reset.");
-                    player.playSound(currentTarget, Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
-                    
-                    // Show failure particles
-                    currentTarget.getWorld().spawnParticle(Particle.DUST, currentTarget, 
-                            15, 0.3, 0.3, 0.3, 0, FAIL_PARTICLE);
-                    
-                    // Reset hit counter
-                    hitsInSequence = 0;
-                    
-                    // Create a new target
-                    createNewTarget();
-                }
-            }, finalTimeoutTicks);
+            targetTimeoutAt = ticksElapsed + finalTimeoutTicks;
+        }
+        
+        /**
+         * Player didn't hit the target in time
+         */
+        private void onTargetTimeout() {
+            player.sendActionBar("§cToo slow! §7Progress reset.");
+            MinigameRuntime.getInstance().getHud(player).invalidateActionBar();
+            player.playSound(currentTarget, Sound.BLOCK_NOTE_BLOCK_BASS, 0.5f, 0.5f);
+            
+            // Show failure particles
+            ParticleEmitter.getInstance().spawnParticle(Particle.DUST, currentTarget, 
+                    15, 0.3, 0.3, 0.3, 0, FAIL_PARTICLE);
+            
+            // Reset hit counter
+            hitsInSequence = 0;
+            
+            // Create a new target
+            createNewTarget();
         }
         
         /**
@@ -1070,9 +1054,9 @@ public class GemCarvingMinigame {
                             Particle.DustOptions tierSuccessParticle = new Particle.DustOptions(
                                     Color.fromRGB(r, g, b), 1.5f);
                             
-                            crystal.getWorld().spawnParticle(Particle.DUST, 
+                            ParticleEmitter.getInstance().spawnParticle(Particle.DUST, 
                                     effectLoc, 30, 0.5, 0.5, 0.5, 0, tierSuccessParticle);
-                            crystal.getWorld().spawnParticle(Particle.WITCH, 
+                            ParticleEmitter.getInstance().spawnParticle(Particle.WITCH, 
                                     effectLoc, 20, 0.5, 0.5, 0.5, 0.05);
                             
                             float pitch = 1.0f + (index * 0.2f);
@@ -1118,10 +1102,10 @@ public class GemCarvingMinigame {
                     Particle.DustOptions tierFailParticle = new Particle.DustOptions(
                             Color.fromRGB(r, g, b), 1.0f);
                     
-                    crystal.getWorld().spawnParticle(Particle.DUST, 
+                    ParticleEmitter.getInstance().spawnParticle(Particle.DUST, 
                             effectLoc, 20, 0.5, 0.5, 0.5, 0, tierFailParticle);
                     
-                    crystal.getWorld().spawnParticle(Particle.ITEM, 
+                    ParticleEmitter.getInstance().spawnParticle(Particle.ITEM, 
                             effectLoc, 15, 0.3, 0.3, 0.3, 0.05, 
                             new ItemStack(Material.AMETHYST_SHARD));
                     
@@ -1329,26 +1313,8 @@ public class GemCarvingMinigame {
             if (!isActive) return;
             isActive = false;
             
-            // Cancel all tasks
-            if (particleTask != null) {
-                particleTask.cancel();
-                particleTask = null;
-            }
-            
-            if (timeoutTask != null) {
-                timeoutTask.cancel();
-                timeoutTask = null;
-            }
-            
-            if (gameTimeoutTask != null) {
-                gameTimeoutTask.cancel();
-                gameTimeoutTask = null;
-            }
-            
-            if (actionBarTask != null) {
-                actionBarTask.cancel();
-                actionBarTask = null;
-            }
+            // Stop ticking
+            MinigameRuntime.getInstance().unregister(this);
             
             // DON'T clear the custom action bar here anymore
             // Let completeGame() handle this with proper timing for the skill display
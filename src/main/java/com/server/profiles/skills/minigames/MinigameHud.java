@@ -0,0 +1,81 @@
+package com.server.profiles.skills.minigames;
+
+import org.bukkit.entity.Player;
+
+/**
+ * Diff-based action bar and title output for a player in a minigame.
+ *
+ * An action bar is only sent when its text changes, or again after
+ * {@link #ACTION_BAR_REFRESH_TICKS} so an unchanged bar doesn't fade out. A title is skipped
+ * while the exact same title is still on screen.
+ */
+public class MinigameHud {
+
+    // The client fades an action bar out after roughly 60 ticks
+    static final int ACTION_BAR_REFRESH_TICKS = 30;
+
+    private final Player player;
+    private final MinigameRuntime runtime;
+
+    private String actionBar;
+    private long actionBarSentAt;
+    private String title;
+    private String subtitle;
+    private long titleVisibleUntil;
+
+    MinigameHud(Player player, MinigameRuntime runtime) {
+        this.player = player;
+        this.runtime = runtime;
+    }
+
+    /**
+     * Shows an action bar if it differs from the one on screen or is about to fade.
+     */
+    public void actionBar(String text) {
+        if (claimActionBar(text)) {
+            player.sendActionBar(text);
+        }
+    }
+
+    /**
+     * Records {@code text} as the current action bar without sending it, for callers that
+     * send through another display manager.
+     *
+     * @return True if the caller should send it now
+     */
+    public boolean claimActionBar(String text) {
+        long now = runtime.getCurrentTick();
+        if (text.equals(actionBar) && now - actionBarSentAt < ACTION_BAR_REFRESH_TICKS) {
+            runtime.recordHudUpdate(false);
+            return false;
+        }
+        actionBar = text;
+        actionBarSentAt = now;
+        runtime.recordHudUpdate(true);
+        return true;
+    }
+
+    /**
+     * Shows a title unless the same title and subtitle are still on screen.
+     */
+    public void title(String title, String subtitle, int fadeIn, int stay, int fadeOut) {
+        long now = runtime.getCurrentTick();
+        if (title.equals(this.title) && subtitle.equals(this.subtitle) && now < titleVisibleUntil) {
+            runtime.recordHudUpdate(false);
+            return;
+        }
+        this.title = title;
+        this.subtitle = subtitle;
+        this.titleVisibleUntil = now + fadeIn + stay;
+        runtime.recordHudUpdate(true);
+        player.sendTitle(title, subtitle, fadeIn, stay, fadeOut);
+    }
+
+    /**
+     * Forgets the current action bar, e.g. after another message replaced it, so the next
+     * {@link #actionBar} call sends again.
+     */
+    public void invalidateActionBar() {
+        actionBar = null;
+    }
+}
@@ -0,0 +1,266 @@
+package com.server.profiles.skills.minigames;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.server.Main;
+
+/**
+ * Advances every running minigame session, of every type, from a single tick task.
+ *
+ * Sessions register themselves when they start and are ticked until {@link MinigameSession#tick()}
+ * returns false or they are unregistered. HUD output goes through a per-player
+ * {@link MinigameHud} so unchanged action bars and titles are not re-sent every tick.
+ *
+ * The runtime also keeps per-type statistics: how many sessions are active and how long
+ * ticking them takes.
+ */
+public class MinigameRuntime {
+
+    private static MinigameRuntime instance;
+
+    // Weight of the newest sample in the tick cost moving average
+    private static final double COST_SMOOTHING = 0.05;
+
+    private final Main plugin;
+    private final Map<MinigameSession, Entry> entries = new LinkedHashMap<>();
+    private final Map<UUID, MinigameHud> huds = new HashMap<>();
+    private final Map<String, TypeStats> stats = new LinkedHashMap<>();
+    private final List<Entry> tickBuffer = new ArrayList<>();
+    private BukkitTask tickTask;
+
+    private long hudUpdatesSent;
+    private long hudUpdatesSkipped;
+
+    private MinigameRuntime(Main plugin) {
+        this.plugin = plugin;
+    }
+
+    public static void initialize(Main plugin) {
+        if (instance == null) {
+            instance = new MinigameRuntime(plugin);
+        }
+    }
+
+    public static MinigameRuntime getInstance() {
+        if (instance == null) {
+            throw new IllegalStateException("MinigameRuntime has not been initialized!");
+        }
+        return instance;
+    }
+
+    // ==================== Registration ====================
+
+    /**
+     * Starts ticking a session. Its first tick runs on the next server tick.
+     */
+    public void register(MinigameSession session) {
+        if (entries.containsKey(session)) {
+            return;
+        }
+        entries.put(session, new Entry(session));
+        stats.computeIfAbsent(session.getMinigameType(), TypeStats::new).activeSessions++;
+        if (tickTask == null) {
+            tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tick, 1L, 1L);
+        }
+    }
+
+    /**
+     * Stops ticking a session. What is on the player's screen is left to the session.
+     *
+     * @return True if the session was registered
+     */
+    public boolean unregister(MinigameSession session) {
+        Entry entry = entries.remove(session);
+        if (entry == null) {
+            return false;
+        }
+        entry.cancelled = true;
+        stats.get(session.getMinigameType()).activeSessions--;
+
+        UUID playerId = session.getPlayer().getUniqueId();
+        if (!hasSession(playerId)) {
+            huds.remove(playerId);
+        }
+        return true;
+    }
+
+    public boolean isRegistered(MinigameSession session) {
+        return entries.containsKey(session);
+    }
+
+    /**
+     * Gets the HUD of a player, creating it if needed.
+     */
+    public MinigameHud getHud(Player player) {
+        return huds.computeIfAbsent(player.getUniqueId(), id -> new MinigameHud(player, this));
+    }
+
+    /**
+     * Stops the tick task. Sessions are ended by their own managers.
+     */
+    public void shutdown() {
+        if (tickTask != null) {
+            tickTask.cancel();
+            tickTask = null;
+        }
+        for (Entry entry : entries.values()) {
+            entry.cancelled = true;
+        }
+        entries.clear();
+        huds.clear();
+        for (TypeStats typeStats : stats.values()) {
+            typeStats.activeSessions = 0;
+        }
+    }
+
+    private boolean hasSession(UUID playerId) {
+        for (MinigameSession session : entries.keySet()) {
+            if (session.getPlayer().getUniqueId().equals(playerId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // ==================== Ticking ====================
+
+    private void tick() {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        // Sessions end (and new ones start) while ticking, so iterate a copy
+        tickBuffer.addAll(entries.values());
+        for (TypeStats typeStats : stats.values()) {
+            typeStats.tickNanos = 0;
+        }
+
+        for (Entry entry : tickBuffer) {
+            if (entry.cancelled) {
+                continue;
+            }
+            MinigameSession session = entry.session;
+            long start = System.nanoTime();
+            boolean keep;
+            try {
+                keep = session.tick();
+            } catch (Exception e) {
+                plugin.getLogger().warning("Error ticking " + session.getMinigameType() + " minigame for "
+                    + session.getPlayer().getName() + ": " + e.getMessage());
+                keep = false;
+            }
+            stats.get(session.getMinigameType()).tickNanos += System.nanoTime() - start;
+
+            if (!keep) {
+                unregister(session);
+            }
+        }
+        tickBuffer.clear();
+
+        for (TypeStats typeStats : stats.values()) {
+            typeStats.ticks++;
+            typeStats.averageTickNanos += (typeStats.tickNanos - typeStats.averageTickNanos) * COST_SMOOTHING;
+        }
+    }
+
+    // ==================== Statistics ====================
+
+    public int getActiveCount() {
+        return entries.size();
+    }
+
+    public int getActiveCount(String type) {
+        TypeStats typeStats = stats.get(type);
+        return typeStats != null ? typeStats.activeSessions : 0;
+    }
+
+    /**
+     * Gets the statistics of every minigame type that has run since startup, by type id.
+     */
+    public Map<String, TypeStats> getStats() {
+        return Collections.unmodifiableMap(stats);
+    }
+
+    /**
+     * Gets how many HUD updates were sent versus skipped because nothing changed.
+     */
+    public long getHudUpdatesSent() {
+        return hudUpdatesSent;
+    }
+
+    public long getHudUpdatesSkipped() {
+        return hudUpdatesSkipped;
+    }
+
+    long getCurrentTick() {
+        return Bukkit.getCurrentTick();
+    }
+
+    void recordHudUpdate(boolean sent) {
+        if (sent) {
+            hudUpdatesSent++;
+        } else {
+            hudUpdatesSkipped++;
+        }
+    }
+
+    /**
+     * Runtime statistics of one minigame type.
+     */
+    public static class TypeStats {
+        private final String type;
+        private int activeSessions;
+        private long ticks;
+        private long tickNanos;
+        private double averageTickNanos;
+
+        private TypeStats(String type) {
+            this.type = type;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public int getActiveSessions() {
+            return activeSessions;
+        }
+
+        /**
+         * Time spent ticking all sessions of this type in the last server tick
+         */
+        public long getLastTickNanos() {
+            return tickNanos;
+        }
+
+        /**
+         * Moving average of the time spent ticking all sessions of this type per server tick
+         */
+        public double getAverageTickNanos() {
+            return averageTickNanos;
+        }
+
+        public long getTicks() {
+            return ticks;
+        }
+    }
+
+    private static final class Entry {
+        private final MinigameSession session;
+        private boolean cancelled;
+
+        private Entry(MinigameSession session) {
+            this.session = session;
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.server.profiles.skills.minigames;
+
+import org.bukkit.entity.Player;
+
+/**
+ * A running minigame session, advanced every tick by the {@link MinigameRuntime}.
+ */
+public interface MinigameSession {
+
+    /**
+     * Short id of the minigame type (e.g. "fishing"), used to group runtime statistics
+     */
+    String getMinigameType();
+
+    Player getPlayer();
+
+    /**
+     * Advances the session by one tick.
+     *
+     * @return false to stop ticking this session
+     */
+    boolean tick();
+}
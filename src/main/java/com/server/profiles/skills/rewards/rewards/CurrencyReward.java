@@ -3,6 +3,9 @@ package com.server.profiles.skills.rewards.rewards;
 import org.bukkit.ChatColor;
 import org.bukkit.entity.Player;
 
+import com.server.economy.Currency;
+import com.server.economy.CurrencyLedger;
+import com.server.economy.TransactionReason;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 import com.server.profiles.skills.data.SkillReward;
@@ -35,26 +38,24 @@ public class CurrencyReward extends SkillReward {
         if (profile == null) return;
         
         // Add the currency based on the type
+        Currency currency;
         switch (currencyType.toLowerCase()) {
-            case "units":
-            case "coins":
-                profile.addUnits(amount);
-                break;
             case "premium_units":
             case "premium":
-                profile.addPremiumUnits(amount);
+                currency = Currency.PREMIUM_UNITS;
                 break;
             case "essence":
-                profile.addEssence(amount);
+                currency = Currency.ESSENCE;
                 break;
             case "bits":
-                profile.addBits(amount);
+                currency = Currency.BITS;
                 break;
             default:
-                // Unknown currency type, default to basic units
-                profile.addUnits(amount);
+                // Units, or an unknown currency type
+                currency = Currency.UNITS;
                 break;
         }
+        CurrencyLedger.getInstance().deposit(profile, currency, amount, TransactionReason.REWARD);
         
         // Notify the player
         player.sendMessage(ChatColor.GREEN + "Skill Reward: " + getDescription());
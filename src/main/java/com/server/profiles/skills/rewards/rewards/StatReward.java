@@ -9,6 +9,8 @@ import com.server.profiles.ProfileManager;
 import com.server.profiles.skills.data.SkillReward;
 import com.server.profiles.skills.rewards.SkillRewardType;
 import com.server.profiles.stats.PlayerStats;
+import com.server.profiles.stats.StatLayer;
+import com.server.profiles.stats.StatType;
 
 /**
  * A reward that boosts a player's stats
@@ -35,77 +37,59 @@ public class StatReward extends SkillReward {
         // Get the player's stats
         PlayerStats stats = profile.getStats();
         
-        // Apply the stat boost based on the stat name
+        // Apply the stat boost to the skill layer, so equipment scans never undo it
         switch (statName.toLowerCase()) {
             case SkillRewardType.HEALTH:
-                stats.setHealth(stats.getHealth() + (int)amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.HEALTH, (int) amount);
                 break;
             case SkillRewardType.ARMOR:
-                stats.setArmor(stats.getArmor() + (int)amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.ARMOR, (int) amount);
                 break;
             case SkillRewardType.MAGIC_RESIST:
-                stats.setMagicResist(stats.getMagicResist() + (int)amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.MAGIC_RESIST, (int) amount);
                 break;
             case SkillRewardType.PHYSICAL_DAMAGE:
-                stats.setPhysicalDamage(stats.getPhysicalDamage() + (int)amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.PHYSICAL_DAMAGE, (int) amount);
                 break;
             case SkillRewardType.MAGIC_DAMAGE:
-                stats.setMagicDamage(stats.getMagicDamage() + (int)amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.MAGIC_DAMAGE, (int) amount);
                 break;
             case SkillRewardType.MANA:
-                stats.setTotalMana(stats.getTotalMana() + (int)amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.MANA, (int) amount);
                 break;
             case SkillRewardType.SPEED:
-                stats.setSpeed(stats.getSpeed() + amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.SPEED, amount);
                 break;
             case SkillRewardType.CRITICAL_DAMAGE:
-                stats.setCriticalDamage(stats.getCriticalDamage() + amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.CRITICAL_DAMAGE, amount);
                 break;
             case SkillRewardType.CRITICAL_CHANCE:
-                stats.setCriticalChance(stats.getCriticalChance() + amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.CRITICAL_CHANCE, amount);
                 break;
             case SkillRewardType.COOLDOWN_REDUCTION:
-                stats.setCooldownReduction(stats.getCooldownReduction() + (int)amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.COOLDOWN_REDUCTION, (int) amount);
                 break;
             case SkillRewardType.LIFE_STEAL:
-                stats.setLifeSteal(stats.getLifeSteal() + amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.LIFE_STEAL, amount);
                 break;
                 
             // Fortune stats
             case SkillRewardType.MINING_FORTUNE:
-                // Store the exact value without any rounding by using Java's BigDecimal for precision
-                double currentMiningFortune = stats.getMiningFortune();
-                // Use BigDecimal for precise calculation
-                java.math.BigDecimal preciseValue = new java.math.BigDecimal(Double.toString(currentMiningFortune))
-                    .add(new java.math.BigDecimal(Double.toString(amount)));
-                // Convert back to double at the last moment to maintain precision
-                stats.setMiningFortune(preciseValue.doubleValue());
+                stats.addToLayer(StatLayer.SKILL, StatType.MINING_FORTUNE, amount);
                 break;
-                
             case SkillRewardType.FARMING_FORTUNE:
-                double currentFarmingFortune = stats.getFarmingFortune();
-                java.math.BigDecimal preciseFarmingValue = new java.math.BigDecimal(Double.toString(currentFarmingFortune))
-                    .add(new java.math.BigDecimal(Double.toString(amount)));
-                stats.setFarmingFortune(preciseFarmingValue.doubleValue());
+                stats.addToLayer(StatLayer.SKILL, StatType.FARMING_FORTUNE, amount);
                 break;
-                
             case SkillRewardType.LOOTING_FORTUNE:
-                double currentLootingFortune = stats.getLootingFortune();
-                java.math.BigDecimal preciseLootingValue = new java.math.BigDecimal(Double.toString(currentLootingFortune))
-                    .add(new java.math.BigDecimal(Double.toString(amount)));
-                stats.setLootingFortune(preciseLootingValue.doubleValue());
+                stats.addToLayer(StatLayer.SKILL, StatType.LOOTING_FORTUNE, amount);
                 break;
-                
             case SkillRewardType.FISHING_FORTUNE:
-                double currentFishingFortune = stats.getFishingFortune();
-                java.math.BigDecimal preciseFishingValue = new java.math.BigDecimal(Double.toString(currentFishingFortune))
-                    .add(new java.math.BigDecimal(Double.toString(amount)));
-                stats.setFishingFortune(preciseFishingValue.doubleValue());
+                stats.addToLayer(StatLayer.SKILL, StatType.FISHING_FORTUNE, amount);
                 break;
                 
             // Other stats
             case SkillRewardType.LUCK:
-                stats.setLuck(stats.getLuck() + (int)amount);
+                stats.addToLayer(StatLayer.SKILL, StatType.LUCK, (int) amount);
                 break;
                 
             default:
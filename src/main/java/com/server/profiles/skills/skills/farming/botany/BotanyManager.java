@@ -16,6 +16,8 @@ import org.bukkit.scheduler.BukkitTask;
 import com.server.Main;
 import com.server.debug.DebugManager;
 import com.server.debug.DebugManager.DebugSystem;
+import com.server.profiling.ProfilerSection;
+import com.server.profiling.TickProfiler;
 
 /**
  * Manages all planted custom crops and crop breeders
@@ -80,10 +82,11 @@ public class BotanyManager {
      * Start the growth tick task
      */
     private void startGrowthTask() {
+        ProfilerSection profile = TickProfiler.getInstance().section("botany.growth");
         growthTask = new BukkitRunnable() {
             @Override
             public void run() {
-                tickCropGrowth();
+                profile.run(BotanyManager.this::tickCropGrowth);
             }
         }.runTaskTimer(plugin, GROWTH_TICK_INTERVAL, GROWTH_TICK_INTERVAL);
         
@@ -95,11 +98,13 @@ public class BotanyManager {
      * Start the breeder update task
      */
     private void startBreederTask() {
+        ProfilerSection breederProfile = TickProfiler.getInstance().section("botany.breeders");
+        ProfilerSection breederBlockProfile = TickProfiler.getInstance().section("botany.breeder-blocks");
         breederTask = new BukkitRunnable() {
             @Override
             public void run() {
-                tickBreeders(); // OLD multiblock breeders
-                tickBreederBlocks(); // NEW breeder blocks
+                breederProfile.run(BotanyManager.this::tickBreeders); // OLD multiblock breeders
+                breederBlockProfile.run(BotanyManager.this::tickBreederBlocks); // NEW breeder blocks
             }
         }.runTaskTimer(plugin, BREEDER_TICK_INTERVAL, BREEDER_TICK_INTERVAL);
         
@@ -113,21 +118,22 @@ public class BotanyManager {
     private void tickCropGrowth() {
         int grownCount = 0;
         
+        // Checked once per tick so the loop builds nothing while debugging is off
+        boolean debugging = plugin.isDebugEnabled(DebugSystem.SKILLS);
         for (PlantedCustomCrop crop : plantedCrops.values()) {
             if (crop.tryGrow()) {
                 grownCount++;
                 
-                if (Main.getInstance().isDebugEnabled(DebugSystem.SKILLS)) {
+                if (debugging) {
                     CustomCrop cropData = crop.getCrop();
-                    DebugManager.getInstance().debug(DebugSystem.SKILLS,
-                        "[Botany] Crop grew: " + cropData.getDisplayName() + 
+                    plugin.debugLog(DebugSystem.SKILLS, "[Botany] Crop grew: " + cropData.getDisplayName() + 
                         " to stage " + crop.getCurrentStage() + "/" + (cropData.getMaxGrowthStages() - 1));
                 }
             }
         }
         
-        if (grownCount > 0) {
-            DebugManager.getInstance().debug(DebugSystem.SKILLS,
+        if (debugging && grownCount > 0) {
+            plugin.debugLog(DebugSystem.SKILLS, 
                 "[Botany] Growth tick: " + grownCount + "/" + plantedCrops.size() + " crops grew");
         }
     }
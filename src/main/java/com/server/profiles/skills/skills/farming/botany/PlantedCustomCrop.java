@@ -9,13 +9,13 @@ import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
+import org.bukkit.block.data.BlockData;
 import org.bukkit.entity.Display;
 import org.bukkit.entity.EntityType;
 import org.bukkit.entity.ItemDisplay;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.util.Transformation;
 
-import com.server.Main;
 import com.server.debug.DebugManager;
 import com.server.debug.DebugManager.DebugSystem;
 
@@ -172,9 +172,9 @@ public class PlantedCustomCrop {
             updateVisual();
             
             // Debug output
-            if (Main.getInstance().isDebugEnabled(DebugSystem.SKILLS)) {
-                DebugManager.getInstance().debug(DebugSystem.SKILLS,
-                    "[Botany] Crop grew: " + crop.getDisplayName() + 
+            DebugManager debug = DebugManager.getInstance();
+            if (debug.isDebugEnabled(DebugSystem.SKILLS)) {
+                debug.debug(DebugSystem.SKILLS, "[Botany] Crop grew: " + crop.getDisplayName() + 
                     " to stage " + currentStage + " (Hydrated: " + isHydrated + ")");
             }
             
@@ -190,47 +190,38 @@ public class PlantedCustomCrop {
      */
     private boolean isFarmlandHydrated() {
         Block belowBlock = blockLocation.getBlock().getRelative(0, -1, 0);
-        
-        if (Main.getInstance().isDebugEnabled(DebugSystem.SKILLS)) {
-            DebugManager.getInstance().debug(DebugSystem.SKILLS,
-                "[Botany] Checking block below: " + belowBlock.getType());
-        }
+        // Called for every crop on every growth tick, so check once instead of building messages
+        DebugManager debug = DebugManager.getInstance();
+        boolean debugging = debug.isDebugEnabled(DebugSystem.SKILLS);
         
         if (belowBlock.getType() != Material.FARMLAND) {
-            if (Main.getInstance().isDebugEnabled(DebugSystem.SKILLS)) {
-                DebugManager.getInstance().debug(DebugSystem.SKILLS,
-                    "[Botany] Block below is NOT farmland: " + belowBlock.getType());
+            if (debugging) {
+                debug.debug(DebugSystem.SKILLS, "[Botany] Block below is NOT farmland: " + belowBlock.getType());
             }
             return false; // Not farmland somehow
         }
         
         // Check moisture level of farmland using the Farmland BlockData type
-        if (Main.getInstance().isDebugEnabled(DebugSystem.SKILLS)) {
-            DebugManager.getInstance().debug(DebugSystem.SKILLS,
-                "[Botany] Block data type: " + belowBlock.getBlockData().getClass().getName());
-        }
-        
-        if (belowBlock.getBlockData() instanceof org.bukkit.block.data.type.Farmland) {
-            org.bukkit.block.data.type.Farmland farmland = (org.bukkit.block.data.type.Farmland) belowBlock.getBlockData();
+        BlockData blockData = belowBlock.getBlockData();
+        if (blockData instanceof org.bukkit.block.data.type.Farmland) {
+            org.bukkit.block.data.type.Farmland farmland = (org.bukkit.block.data.type.Farmland) blockData;
             // Farmland moisture: 0 = completely dry, 7 = fully hydrated
             int moistureLevel = farmland.getMoisture();
             int maxMoisture = farmland.getMaximumMoisture();
             
             // Debug output
-            if (Main.getInstance().isDebugEnabled(DebugSystem.SKILLS)) {
-                DebugManager.getInstance().debug(DebugSystem.SKILLS,
+            if (debugging) {
+                debug.debug(DebugSystem.SKILLS,
                     "[Botany] Farmland moisture: " + moistureLevel + "/" + maxMoisture + " (0=dry, " + maxMoisture + "=hydrated)");
             }
             
             // Hydrated = moisture level greater than 0 (anything but completely dry)
             return moistureLevel > 0;
-        } else {
-            if (Main.getInstance().isDebugEnabled(DebugSystem.SKILLS)) {
-                DebugManager.getInstance().debug(DebugSystem.SKILLS,
-                    "[Botany] BlockData is NOT Farmland type!");
-            }
         }
         
+        if (debugging) {
+            debug.debug(DebugSystem.SKILLS, "[Botany] BlockData is NOT Farmland type: " + blockData.getClass().getName());
+        }
         return false;
     }
     
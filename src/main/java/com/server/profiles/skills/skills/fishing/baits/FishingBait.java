@@ -2,6 +2,7 @@ package com.server.profiles.skills.skills.fishing.baits;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.bukkit.Material;
 import org.bukkit.inventory.ItemStack;
@@ -171,6 +172,6 @@ public enum FishingBait {
         if (attractedFish.isEmpty()) {
             return FishType.COD; // Fallback
         }
-        return attractedFish.get((int) (Math.random() * attractedFish.size()));
+        return attractedFish.get(ThreadLocalRandom.current().nextInt(attractedFish.size()));
     }
 }
@@ -0,0 +1,96 @@
+package com.server.profiles.skills.skills.fishing.loot;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Weighted random selection in constant time (Vose's alias method).
+ *
+ * Building the table is O(n); every sample afterwards costs one random int and one random
+ * double, no matter how many entries there are. Tables are immutable and safe to share
+ * between threads.
+ */
+public final class AliasTable<T> {
+
+    private final List<T> entries;
+    private final double[] probability;
+    private final int[] alias;
+    private final double totalWeight;
+
+    private AliasTable(List<T> entries, double[] probability, int[] alias, double totalWeight) {
+        this.entries = entries;
+        this.probability = probability;
+        this.alias = alias;
+        this.totalWeight = totalWeight;
+    }
+
+    /**
+     * Builds a table over {@code entries}. Negative weights count as 0; if every weight is 0
+     * the entries are picked uniformly.
+     */
+    public static <T> AliasTable<T> of(List<T> entries, ToDoubleFunction<? super T> weight) {
+        int size = entries.size();
+        double[] weights = new double[size];
+        double total = 0.0;
+        for (int i = 0; i < size; i++) {
+            weights[i] = Math.max(0.0, weight.applyAsDouble(entries.get(i)));
+            total += weights[i];
+        }
+
+        double[] probability = new double[size];
+        int[] alias = new int[size];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+
+        // Scale so the average weight is 1; entries below 1 borrow the rest from an entry above
+        double[] scaled = new double[size];
+        for (int i = 0; i < size; i++) {
+            scaled[i] = total > 0.0 ? weights[i] * size / total : 1.0;
+            (scaled[i] < 1.0 ? small : large).push(i);
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = scaled[less];
+            alias[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1.0;
+            (scaled[more] < 1.0 ? small : large).push(more);
+        }
+        // Whatever is left is 1 up to rounding error
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1.0;
+        }
+
+        return new AliasTable<>(Collections.unmodifiableList(entries), probability, alias, total);
+    }
+
+    /**
+     * Picks an entry, or returns null if the table is empty.
+     */
+    public T sample(Random random) {
+        if (entries.isEmpty()) {
+            return null;
+        }
+        int column = random.nextInt(probability.length);
+        return random.nextDouble() < probability[column] ? entries.get(column) : entries.get(alias[column]);
+    }
+
+    public List<T> getEntries() {
+        return entries;
+    }
+
+    public double getTotalWeight() {
+        return totalWeight;
+    }
+
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+}
@@ -2,6 +2,8 @@ package com.server.profiles.skills.skills.fishing.loot;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -37,27 +39,28 @@ public class Fish {
      */
     public static Fish createFish(FishingType fishingType, double accuracy, double treasureBonus, 
                                  int perfectCatches, FishingBait bait) {
-        // Determine fish type based on bait or fishing environment
-        FishType fishType;
-        if (bait != null && !bait.getAttractedFish().isEmpty()) {
-            // If bait is used, get a random fish from the attracted list
-            fishType = bait.getRandomAttractedFish();
-        } else {
-            // No bait or empty list, use environment-based selection
-            fishType = FishType.getRandomFish(fishingType);
-        }
+        return createFish(fishingType, accuracy, treasureBonus, perfectCatches, bait, ThreadLocalRandom.current());
+    }
+    
+    /**
+     * Create a fish, rolling with the given random source (e.g. a seeded one for simulations)
+     */
+    public static Fish createFish(FishingType fishingType, double accuracy, double treasureBonus, 
+                                 int perfectCatches, FishingBait bait, Random random) {
+        // Bait replaces the environment's fish table with its attracted fish
+        FishType fishType = FishingLootTables.rollFish(fishingType, bait, random);
         
         // Determine rarity based on treasure bonus
-        FishRarity rarity = FishRarity.getRandomRarity(treasureBonus);
+        FishRarity rarity = FishRarity.getRandomRarity(treasureBonus, random);
         
         // Determine quality based on accuracy, perfect catches, and bait bonus
         double qualityBoost = bait != null ? bait.getQualityBoost() : 0.0;
-        FishQuality quality = FishQuality.fromAccuracy(accuracy, perfectCatches, qualityBoost);
+        FishQuality quality = FishQuality.fromAccuracy(accuracy, perfectCatches, qualityBoost, random);
         
         // Calculate size (affected by quality and rarity)
         double baseSize = fishType.getBaseSize();
         double sizeVariation = baseSize * 0.3; // ±30% variation
-        double size = baseSize + (Math.random() * sizeVariation * 2 - sizeVariation);
+        double size = baseSize + (random.nextDouble() * sizeVariation * 2 - sizeVariation);
         
         // Apply quality bonus to size
         size *= (1.0 + (quality.getValueMultiplier() - 1.0) * 0.5);
@@ -67,7 +70,7 @@ public class Fish {
         
         // Check if trophy (very large fish with perfect catches)
         boolean isTrophy = perfectCatches >= 3 && quality == FishQuality.PERFECT && 
-                          size > baseSize * 1.5 && Math.random() < 0.1;
+                          size > baseSize * 1.5 && random.nextDouble() < 0.1;
         
         return new Fish(fishType, rarity, quality, size, isTrophy);
     }
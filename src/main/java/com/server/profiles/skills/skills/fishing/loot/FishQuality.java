@@ -1,5 +1,8 @@
 package com.server.profiles.skills.skills.fishing.loot;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Quality grades for fish based on minigame performance
  */
@@ -65,6 +68,14 @@ public enum FishQuality {
      * @param qualityBoost Quality boost from bait (0-100 percentage points)
      */
     public static FishQuality fromAccuracy(double accuracy, int perfectCatches, double qualityBoost) {
+        return fromAccuracy(accuracy, perfectCatches, qualityBoost, ThreadLocalRandom.current());
+    }
+    
+    /**
+     * Get quality based on fishing accuracy, perfect catches, and bait quality bonus, rolling
+     * with the given random source
+     */
+    public static FishQuality fromAccuracy(double accuracy, int perfectCatches, double qualityBoost, Random random) {
         // Apply bait quality boost to accuracy
         double adjustedAccuracy = Math.min(100.0, accuracy + qualityBoost);
         
@@ -72,7 +83,7 @@ public enum FishQuality {
         double perfectBonus = perfectCatches * 2.0;
         
         // Generate random roll (0-100)
-        double roll = Math.random() * 100.0;
+        double roll = random.nextDouble() * 100.0;
         
         // Subtract perfect bonus from roll (lower roll = better quality)
         roll = Math.max(0, roll - perfectBonus);
@@ -1,5 +1,8 @@
 package com.server.profiles.skills.skills.fishing.loot;
 
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * Rarity tiers for fish loot
  */
@@ -47,7 +50,14 @@ public enum FishRarity {
      * Get a random rarity based on drop chances and treasure bonus
      */
     public static FishRarity getRandomRarity(double treasureBonus) {
-        double roll = Math.random() * 100.0;
+        return getRandomRarity(treasureBonus, ThreadLocalRandom.current());
+    }
+    
+    /**
+     * Get a random rarity based on drop chances and treasure bonus, rolling with the given random source
+     */
+    public static FishRarity getRandomRarity(double treasureBonus, Random random) {
+        double roll = random.nextDouble() * 100.0;
         double cumulativeChance = 0.0;
         
         // Start from highest rarity (treasure bonus improves chances)
@@ -1,6 +1,5 @@
 package com.server.profiles.skills.skills.fishing.loot;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.bukkit.Material;
@@ -73,33 +72,13 @@ public enum FishType {
      * Get a random fish type for the given fishing environment
      */
     public static FishType getRandomFish(FishingType fishingType) {
-        List<FishType> validFish = new ArrayList<>();
-        
-        for (FishType fish : values()) {
-            if (fish.getFishingType() == fishingType) {
-                validFish.add(fish);
-            }
-        }
-        
-        if (validFish.isEmpty()) {
-            return COD; // Fallback
-        }
-        
-        return validFish.get((int) (Math.random() * validFish.size()));
+        return FishingLootTables.rollFish(fishingType, null);
     }
     
     /**
      * Get all fish for a specific fishing type
      */
     public static List<FishType> getFishForType(FishingType fishingType) {
-        List<FishType> result = new ArrayList<>();
-        
-        for (FishType fish : values()) {
-            if (fish.getFishingType() == fishingType) {
-                result.add(fish);
-            }
-        }
-        
-        return result;
+        return FishingLootTables.getFish(fishingType);
     }
 }
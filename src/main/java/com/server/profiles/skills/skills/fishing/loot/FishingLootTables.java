@@ -0,0 +1,173 @@
+package com.server.profiles.skills.skills.fishing.loot;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+
+import com.server.profiles.skills.skills.fishing.baits.FishingBait;
+import com.server.profiles.skills.skills.fishing.loot.FishingTreasure.TreasureType;
+import com.server.profiles.skills.skills.fishing.types.FishingType;
+
+/**
+ * Fish, mob and treasure tables of every fishing environment, compiled once into
+ * {@link AliasTable}s so a catch never scans or filters the loot enums.
+ *
+ * Player stats only change the few chances in front of the tables (whether a mob or treasure
+ * shows up, and which treasure tier is rolled), so the tables themselves never need rebuilding.
+ *
+ * Every roll has an overload taking a {@link Random}; pass a seeded one for reproducible
+ * drop-rate simulations. The other overloads use {@link ThreadLocalRandom}.
+ */
+public final class FishingLootTables {
+
+    private static final Map<FishingType, AliasTable<FishType>> FISH = new EnumMap<>(FishingType.class);
+    private static final Map<FishingType, AliasTable<FishingMob>> MOBS = new EnumMap<>(FishingType.class);
+    private static final Map<FishingType, Map<TreasureType, AliasTable<FishingTreasure>>> TREASURES =
+        new EnumMap<>(FishingType.class);
+
+    static {
+        for (FishingType fishingType : FishingType.values()) {
+            List<FishType> fish = new ArrayList<>();
+            for (FishType fishType : FishType.values()) {
+                if (fishType.getFishingType() == fishingType) {
+                    fish.add(fishType);
+                }
+            }
+            FISH.put(fishingType, AliasTable.of(fish, fishType -> 1.0));
+
+            List<FishingMob> mobs = new ArrayList<>();
+            for (FishingMob mob : FishingMob.values()) {
+                if (mob.getFishingType() == fishingType) {
+                    mobs.add(mob);
+                }
+            }
+            MOBS.put(fishingType, AliasTable.of(mobs, FishingMob::getBaseChance));
+
+            Map<TreasureType, AliasTable<FishingTreasure>> tiers = new EnumMap<>(TreasureType.class);
+            for (TreasureType treasureType : TreasureType.values()) {
+                List<FishingTreasure> treasures = new ArrayList<>();
+                for (FishingTreasure treasure : FishingTreasure.values()) {
+                    if (treasure.getType() == treasureType
+                            && (treasure.getRequiredEnvironment() == null || treasure.getRequiredEnvironment() == fishingType)) {
+                        treasures.add(treasure);
+                    }
+                }
+                tiers.put(treasureType, AliasTable.of(treasures, FishingTreasure::getBaseChance));
+            }
+            TREASURES.put(fishingType, tiers);
+        }
+    }
+
+    private FishingLootTables() {
+    }
+
+    // ==================== Tables ====================
+
+    public static List<FishType> getFish(FishingType fishingType) {
+        return FISH.get(fishingType).getEntries();
+    }
+
+    public static List<FishingMob> getMobs(FishingType fishingType) {
+        return MOBS.get(fishingType).getEntries();
+    }
+
+    public static List<FishingTreasure> getTreasures(FishingType fishingType, TreasureType treasureType) {
+        return TREASURES.get(fishingType).get(treasureType).getEntries();
+    }
+
+    // ==================== Rolls ====================
+
+    public static FishType rollFish(FishingType fishingType, FishingBait bait) {
+        return rollFish(fishingType, bait, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Rolls the fish species. A bait with attracted fish replaces the environment's table.
+     */
+    public static FishType rollFish(FishingType fishingType, FishingBait bait, Random random) {
+        if (bait != null && !bait.getAttractedFish().isEmpty()) {
+            List<FishType> attracted = bait.getAttractedFish();
+            return attracted.get(random.nextInt(attracted.size()));
+        }
+        FishType fishType = FISH.get(fishingType).sample(random);
+        return fishType != null ? fishType : FishType.COD;
+    }
+
+    public static FishingMob rollMob(FishingType fishingType, double luckBonus, double seaMonsterAffinity) {
+        return rollMob(fishingType, luckBonus, seaMonsterAffinity, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Rolls whether a mob is hooked and which one.
+     *
+     * @return The mob, or null if none is hooked
+     */
+    public static FishingMob rollMob(FishingType fishingType, double luckBonus, double seaMonsterAffinity, Random random) {
+        AliasTable<FishingMob> mobs = MOBS.get(fishingType);
+        if (mobs.isEmpty() || random.nextDouble() > getMobChance(luckBonus, seaMonsterAffinity)) {
+            return null;
+        }
+        return mobs.sample(random);
+    }
+
+    public static FishingTreasure rollTreasure(FishingType fishingType, double treasureBonus, double treasureSense) {
+        return rollTreasure(fishingType, treasureBonus, treasureSense, ThreadLocalRandom.current());
+    }
+
+    /**
+     * Rolls whether treasure is found, its tier and the item.
+     *
+     * @return The treasure, or null if none is found or the environment has nothing of the rolled tier
+     */
+    public static FishingTreasure rollTreasure(FishingType fishingType, double treasureBonus, double treasureSense,
+                                               Random random) {
+        if (random.nextDouble() > getTreasureChance(treasureBonus, treasureSense)) {
+            return null;
+        }
+        TreasureType tier = rollTreasureType(treasureBonus, random.nextDouble());
+        return TREASURES.get(fishingType).get(tier).sample(random);
+    }
+
+    // ==================== Modifiers ====================
+
+    /**
+     * Chance that a catch is a mob: 8% base, halved at a luck bonus of 1.0, doubled at 100% sea monster affinity
+     */
+    public static double getMobChance(double luckBonus, double seaMonsterAffinity) {
+        return 0.08 * (1.0 - (luckBonus * 0.5)) * (1.0 + (seaMonsterAffinity / 100.0));
+    }
+
+    /**
+     * Chance that a catch is treasure or junk: 17% base, doubled at a treasure bonus of 1.0 and
+     * again at 100% treasure sense
+     */
+    public static double getTreasureChance(double treasureBonus, double treasureSense) {
+        return (0.17 + (treasureBonus * 0.17)) * (1.0 + (treasureSense / 100.0));
+    }
+
+    /**
+     * Picks the treasure tier for a roll in [0, 1). A higher treasure bonus shifts the odds from
+     * junk towards the better tiers.
+     */
+    static TreasureType rollTreasureType(double treasureBonus, double roll) {
+        double epicChance = 0.05 + (treasureBonus * 0.10); // 5-15% of treasures
+        double rareChance = 0.15 + (treasureBonus * 0.15); // 15-30% of treasures
+        double uncommonChance = 0.25 + (treasureBonus * 0.10); // 25-35% of treasures
+        double commonChance = 0.30 - (treasureBonus * 0.10); // 30-20% of treasures
+        // Junk gets the rest: 25-0% of treasures
+
+        if (roll < epicChance) {
+            return TreasureType.EPIC;
+        } else if (roll < epicChance + rareChance) {
+            return TreasureType.RARE;
+        } else if (roll < epicChance + rareChance + uncommonChance) {
+            return TreasureType.UNCOMMON;
+        } else if (roll < epicChance + rareChance + uncommonChance + commonChance) {
+            return TreasureType.COMMON;
+        }
+        return TreasureType.JUNK;
+    }
+}
@@ -1,8 +1,6 @@
 package com.server.profiles.skills.skills.fishing.loot;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Random;
 
 import org.bukkit.entity.EntityType;
 
@@ -39,7 +37,6 @@ public enum FishingMob {
     private final double baseChance;
     private final FishingType fishingType;
     private final String displayName;
-    private static final Random random = new Random();
     
     FishingMob(EntityType entityType, double baseChance, FishingType fishingType, String displayName) {
         this.entityType = entityType;
@@ -68,13 +65,7 @@ public enum FishingMob {
      * Get all mobs that can spawn in a specific fishing type
      */
     public static List<FishingMob> getMobsForType(FishingType fishingType) {
-        List<FishingMob> mobs = new ArrayList<>();
-        for (FishingMob mob : values()) {
-            if (mob.getFishingType() == fishingType) {
-                mobs.add(mob);
-            }
-        }
-        return mobs;
+        return FishingLootTables.getMobs(fishingType);
     }
     
     /**
@@ -85,39 +76,6 @@ public enum FishingMob {
      * @return A FishingMob if one should spawn, null otherwise
      */
     public static FishingMob trySpawnMob(FishingType fishingType, double luckBonus, double seaMonsterAffinity) {
-        List<FishingMob> possibleMobs = getMobsForType(fishingType);
-        if (possibleMobs.isEmpty()) {
-            return null;
-        }
-        
-        // Base chance for mob: 8% (can be reduced by luck, increased by sea monster affinity)
-        // luckBonus of 0.0 = 8%, luckBonus of 1.0 = 4% (halved with high luck)
-        // seaMonsterAffinity of 100% = 2x mob chance (multiplicative bonus)
-        double baseMobChance = 0.08 * (1.0 - (luckBonus * 0.5)) * (1.0 + (seaMonsterAffinity / 100.0));
-        
-        // First check if mob should spawn at all
-        if (random.nextDouble() > baseMobChance) {
-            return null; // No mob spawns
-        }
-        
-        // Mob spawns! Now select which one based on weighted chances
-        double totalWeight = 0.0;
-        for (FishingMob mob : possibleMobs) {
-            totalWeight += mob.getBaseChance();
-        }
-        
-        double selectRoll = random.nextDouble() * totalWeight;
-        double cumulativeWeight = 0.0;
-        
-        for (FishingMob mob : possibleMobs) {
-            cumulativeWeight += mob.getBaseChance();
-            
-            if (selectRoll <= cumulativeWeight) {
-                return mob;
-            }
-        }
-        
-        // Fallback to first mob if somehow nothing was selected
-        return possibleMobs.get(0);
+        return FishingLootTables.rollMob(fishingType, luckBonus, seaMonsterAffinity);
     }
 }
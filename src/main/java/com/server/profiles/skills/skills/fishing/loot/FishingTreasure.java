@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.bukkit.Material;
 import org.bukkit.enchantments.Enchantment;
@@ -59,7 +60,6 @@ public enum FishingTreasure {
     private final String displayName;
     private final List<String> lore;
     private final FishingType requiredEnvironment; // null = any environment
-    private static final Random random = new Random();
     
     FishingTreasure(Material material, TreasureType type, double baseChance, String displayName, List<String> lore) {
         this(material, type, baseChance, displayName, lore, null);
@@ -102,16 +102,7 @@ public enum FishingTreasure {
      * Get all treasures available in a specific environment
      */
     public static List<FishingTreasure> getTreasuresForType(FishingType fishingType, TreasureType treasureType) {
-        List<FishingTreasure> treasures = new ArrayList<>();
-        for (FishingTreasure treasure : values()) {
-            if (treasure.getType() == treasureType) {
-                // Check if treasure is environment-specific
-                if (treasure.getRequiredEnvironment() == null || treasure.getRequiredEnvironment() == fishingType) {
-                    treasures.add(treasure);
-                }
-            }
-        }
-        return treasures;
+        return FishingLootTables.getTreasures(fishingType, treasureType);
     }
     
     /**
@@ -122,66 +113,7 @@ public enum FishingTreasure {
      * @return A FishingTreasure if one should be given, null otherwise
      */
     public static FishingTreasure tryGetTreasure(FishingType fishingType, double treasureBonus, double treasureSense) {
-        // Base chance for treasure: 17% (can be modified by treasure bonus and treasure sense)
-        // treasureBonus of 0.0 = 17%, treasureBonus of 1.0 = 34% (doubled)
-        // treasureSense of 100% = 2x treasure chance (multiplicative bonus)
-        double baseTreasureChance = (0.17 + (treasureBonus * 0.17)) * (1.0 + (treasureSense / 100.0));
-        
-        // First check if treasure should spawn at all
-        if (random.nextDouble() > baseTreasureChance) {
-            return null; // No treasure this time
-        }
-        
-        // Treasure spawns! Now determine which treasure type based on treasure bonus
-        // Higher treasure bonus = better chance for rare items
-        TreasureType rolledType;
-        double typeRoll = random.nextDouble();
-        
-        // Adjust rarity chances based on treasure bonus
-        // These are percentages WITHIN the treasure pool
-        double epicChance = 0.05 + (treasureBonus * 0.10); // 5-15% of treasures
-        double rareChance = 0.15 + (treasureBonus * 0.15); // 15-30% of treasures
-        double uncommonChance = 0.25 + (treasureBonus * 0.10); // 25-35% of treasures
-        double commonChance = 0.30 - (treasureBonus * 0.10); // 30-20% of treasures
-        double junkChance = 0.25 - (treasureBonus * 0.25); // 25-0% of treasures (decreases with luck)
-        
-        if (typeRoll < epicChance) {
-            rolledType = TreasureType.EPIC;
-        } else if (typeRoll < epicChance + rareChance) {
-            rolledType = TreasureType.RARE;
-        } else if (typeRoll < epicChance + rareChance + uncommonChance) {
-            rolledType = TreasureType.UNCOMMON;
-        } else if (typeRoll < epicChance + rareChance + uncommonChance + commonChance) {
-            rolledType = TreasureType.COMMON;
-        } else {
-            rolledType = TreasureType.JUNK;
-        }
-        
-        // Get all treasures of this type for the environment
-        List<FishingTreasure> possibleTreasures = getTreasuresForType(fishingType, rolledType);
-        if (possibleTreasures.isEmpty()) {
-            return null;
-        }
-        
-        // Calculate total weight
-        double totalWeight = 0.0;
-        for (FishingTreasure treasure : possibleTreasures) {
-            totalWeight += treasure.getBaseChance();
-        }
-        
-        // Select treasure based on weighted chance
-        double selectRoll = random.nextDouble() * totalWeight;
-        double cumulativeWeight = 0.0;
-        
-        for (FishingTreasure treasure : possibleTreasures) {
-            cumulativeWeight += treasure.getBaseChance();
-            if (selectRoll <= cumulativeWeight) {
-                return treasure;
-            }
-        }
-        
-        // Fallback
-        return possibleTreasures.get(0);
+        return FishingLootTables.rollTreasure(fishingType, treasureBonus, treasureSense);
     }
     
     /**
@@ -189,6 +121,7 @@ public enum FishingTreasure {
      */
     public ItemStack toItemStack() {
         ItemStack item = new ItemStack(material);
+        Random random = ThreadLocalRandom.current();
         ItemMeta meta = item.getItemMeta();
         
         if (meta != null) {
@@ -4,12 +4,12 @@ import org.bukkit.boss.BarColor;
 import org.bukkit.boss.BarStyle;
 import org.bukkit.boss.BossBar;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
-import com.server.Main;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 import com.server.profiles.skills.core.SkillRegistry;
+import com.server.profiles.skills.minigames.MinigameRuntime;
+import com.server.profiles.skills.minigames.MinigameSession;
 import com.server.profiles.skills.skills.fishing.subskills.RodFishingSubskill;
 import com.server.profiles.skills.skills.fishing.types.FishingType;
 import com.server.profiles.stats.PlayerStats;
@@ -17,7 +17,7 @@ import com.server.profiles.stats.PlayerStats;
 /**
  * Handles the timing-based fishing minigame mechanics
  */
-public class FishingMinigame {
+public class FishingMinigame implements MinigameSession {
     private final FishingSession session;
     private final Player player;
     private final RodFishingSubskill rodFishingSubskill;
@@ -42,7 +42,6 @@ public class FishingMinigame {
     private static final long INACTIVITY_TIMEOUT = 10000L; // 10 seconds in milliseconds
     
     // Timing constants
-    private static final long TICK_INTERVAL = 1L; // Run every tick (50ms)
     private static final double MIN_SPEED_MULTIPLIER = 0.7; // 70% of base speed
     private static final double MAX_SPEED_MULTIPLIER = 1.5; // 150% of base speed
     private static final double MIN_ZONE_MULTIPLIER = 0.4; // 40% of base catch zone (harder)
@@ -180,45 +179,54 @@ public class FishingMinigame {
         // Start first round
         startNewRound();
         
-        // Start indicator movement task
-        BukkitRunnable task = new BukkitRunnable() {
-            @Override
-            public void run() {
-                if (!session.isActive()) {
-                    cancel();
-                    return;
-                }
-                
-                // Check if player is still holding the same fishing rod
-                org.bukkit.inventory.ItemStack currentItem = player.getInventory().getItemInMainHand();
-                if (!isSameFishingRod(currentItem, originalFishingRod)) {
-                    player.sendMessage("§c§lCANCELLED! §7You stopped holding your fishing rod!");
-                    session.cancel();
-                    cancel();
-                    return;
-                }
-                
-                // Check for inactivity timeout
-                long currentTime = System.currentTimeMillis();
-                long timeSinceRoundStart = currentTime - roundStartTime;
-                
-                if (timeSinceRoundStart > INACTIVITY_TIMEOUT) {
-                    // Player has been inactive for too long
-                    player.sendMessage("§c§lTIMEOUT! §7You took too long to react. The fish got away!");
-                    session.fail();
-                    cancel();
-                    return;
-                }
-                
-                // Update boss bar color based on time remaining
-                updateBossBarColor(timeSinceRoundStart);
-                
-                updateIndicator();
-                updateDisplay();
-            }
-        };
+        // Indicator movement is driven by the shared minigame runtime
+        MinigameRuntime.getInstance().register(this);
+    }
+    
+    @Override
+    public String getMinigameType() {
+        return "fishing";
+    }
+    
+    @Override
+    public Player getPlayer() {
+        return player;
+    }
+    
+    /**
+     * Advance the indicator by one tick
+     */
+    @Override
+    public boolean tick() {
+        if (!session.isActive()) {
+            return false;
+        }
+        
+        // Check if player is still holding the same fishing rod
+        org.bukkit.inventory.ItemStack currentItem = player.getInventory().getItemInMainHand();
+        if (!isSameFishingRod(currentItem, originalFishingRod)) {
+            player.sendMessage("§c§lCANCELLED! §7You stopped holding your fishing rod!");
+            session.cancel();
+            return false;
+        }
+        
+        // Check for inactivity timeout
+        long currentTime = System.currentTimeMillis();
+        long timeSinceRoundStart = currentTime - roundStartTime;
+        
+        if (timeSinceRoundStart > INACTIVITY_TIMEOUT) {
+            // Player has been inactive for too long
+            player.sendMessage("§c§lTIMEOUT! §7You took too long to react. The fish got away!");
+            session.fail();
+            return false;
+        }
+        
+        // Update boss bar color based on time remaining
+        updateBossBarColor(timeSinceRoundStart);
         
-        session.setMinigameTask(task.runTaskTimer(Main.getInstance(), 0L, TICK_INTERVAL));
+        updateIndicator();
+        updateDisplay();
+        return true;
     }
     
     /**
@@ -306,7 +314,7 @@ public class FishingMinigame {
         
         // Only show title for the first round
         if (currentRound == 1) {
-            player.sendTitle("§b§lRound " + currentRound + "/" + requiredRounds, "§7Click when the spike hits the green zone!", 5, 30, 5);
+            MinigameRuntime.getInstance().getHud(player).title("§b§lRound " + currentRound + "/" + requiredRounds, "§7Click when the spike hits the green zone!", 5, 30, 5);
         }
         
         // Update boss bar title with current round number
@@ -502,7 +510,7 @@ public class FishingMinigame {
             }
         }
         
-        player.sendActionBar(actionBar.toString());
+        MinigameRuntime.getInstance().getHud(player).actionBar(actionBar.toString());
     }
     
     /**
@@ -557,22 +565,22 @@ public class FishingMinigame {
                 // Show final completion message with quality
                 if (isPerfect) {
                     session.incrementPerfectCatches();
-                    player.sendTitle("§a§l✦ PERFECT ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 10);
+                    MinigameRuntime.getInstance().getHud(player).title("§a§l✦ PERFECT ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 10);
                 } else if (isGood) {
-                    player.sendTitle("§6§l✦ GOOD ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 10);
+                    MinigameRuntime.getInstance().getHud(player).title("§6§l✦ GOOD ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 10);
                 } else {
-                    player.sendTitle("§e§l✦ NICE ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 10);
+                    MinigameRuntime.getInstance().getHud(player).title("§e§l✦ NICE ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 10);
                 }
                 session.complete();
             } else {
                 // Show completion message for this round with quality
                 if (isPerfect) {
                     session.incrementPerfectCatches();
-                    player.sendTitle("§a§l✦ PERFECT ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 5);
+                    MinigameRuntime.getInstance().getHud(player).title("§a§l✦ PERFECT ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 5);
                 } else if (isGood) {
-                    player.sendTitle("§6§l✦ GOOD ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 5);
+                    MinigameRuntime.getInstance().getHud(player).title("§6§l✦ GOOD ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 5);
                 } else {
-                    player.sendTitle("§e§l✦ NICE ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 5);
+                    MinigameRuntime.getInstance().getHud(player).title("§e§l✦ NICE ✦", "§e§lRound " + currentRound + "/" + requiredRounds + " Complete!", 5, 30, 5);
                 }
                 
                 // Start next round immediately (action bar updates right away)
@@ -583,7 +591,7 @@ public class FishingMinigame {
             // Miss
             missedCatchesThisRound++;
             int remainingMisses = maxMissesPerRound - missedCatchesThisRound;
-            player.sendTitle("§c§lMISS!", "§7" + remainingMisses + " " + (remainingMisses == 1 ? "miss" : "misses") + " left this round", 5, 15, 5);
+            MinigameRuntime.getInstance().getHud(player).title("§c§lMISS!", "§7" + remainingMisses + " " + (remainingMisses == 1 ? "miss" : "misses") + " left this round", 5, 15, 5);
             
             if (missedCatchesThisRound >= maxMissesPerRound) {
                 // Too many misses this round - fish escapes
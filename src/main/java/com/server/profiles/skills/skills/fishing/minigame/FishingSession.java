@@ -3,8 +3,8 @@ package com.server.profiles.skills.skills.fishing.minigame;
 import java.util.UUID;
 
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitTask;
 
+import com.server.profiles.skills.minigames.MinigameRuntime;
 import com.server.profiles.skills.skills.fishing.baits.FishingBait;
 import com.server.profiles.skills.skills.fishing.types.FishingType;
 
@@ -18,7 +18,6 @@ public class FishingSession {
     private final FishingMinigame minigame;
     private FishingBait bait; // The bait used for this session
     
-    private BukkitTask minigameTask;
     private boolean active;
     private final long startTime;
     
@@ -54,7 +53,7 @@ public class FishingSession {
      * Handle player attempting to catch (right-click during minigame)
      */
     public void attemptCatch() {
-        if (!active || minigameTask == null) {
+        if (!active || !MinigameRuntime.getInstance().isRegistered(minigame)) {
             return;
         }
         minigame.attemptCatch();
@@ -109,10 +108,7 @@ public class FishingSession {
      * Cleanup session resources
      */
     private void cleanup() {
-        if (minigameTask != null) {
-            minigameTask.cancel();
-            minigameTask = null;
-        }
+        MinigameRuntime.getInstance().unregister(minigame);
         minigame.cleanup();
     }
     
@@ -134,14 +130,6 @@ public class FishingSession {
         return minigame;
     }
     
-    public BukkitTask getMinigameTask() {
-        return minigameTask;
-    }
-    
-    public void setMinigameTask(BukkitTask minigameTask) {
-        this.minigameTask = minigameTask;
-    }
-    
     public boolean isActive() {
         return active;
     }
@@ -553,41 +553,17 @@ public class GemCarvingSubskill extends AbstractSkill {
             // Reset tracking map first - very important
             miningFortuneMap.put(player.getUniqueId(), 0.0);
             
-            try {
-                // Use reflection to directly access and modify the field values
-                java.lang.reflect.Field defaultField = PlayerStats.class.getDeclaredField("defaultMiningFortune");
-                defaultField.setAccessible(true);
-                double currentDefault = (double) defaultField.get(stats);
-                defaultField.set(stats, currentDefault - fortuneToRemove);
-                
-                java.lang.reflect.Field currentField = PlayerStats.class.getDeclaredField("miningFortune");
-                currentField.setAccessible(true);
-                double current = (double) currentField.get(stats);
-                currentField.set(stats, current - fortuneToRemove);
-                
-                // Verify the change
-                double newDefaultFortune = stats.getDefaultMiningFortune();
-                double newCurrentFortune = stats.getMiningFortune();
-                
-                Main.getInstance().getLogger().info("[GemCarvingReset] After modification: default=" + 
-                    newDefaultFortune + ", current=" + newCurrentFortune);
-                    
-                // Inform the player
-                player.sendMessage(ChatColor.GRAY + "Mining Fortune bonus of " + 
-                    ChatColor.RED + String.format("%.1f", fortuneToRemove) + 
-                    ChatColor.GRAY + " has been removed due to skill tree reset.");
-                
-                Main.getInstance().getLogger().info("[GemCarvingReset] Final mining fortune values: default=" + 
-                    stats.getDefaultMiningFortune() + ", current=" + stats.getMiningFortune());
-            } catch (Exception e) {
-                Main.getInstance().getLogger().severe("[GemCarvingReset] Error using reflection: " + e.getMessage());
-                e.printStackTrace();
-                
-                // Fallback to removeExactMiningFortune method
-                stats.addMiningFortune(-fortuneToRemove);
-                Main.getInstance().getLogger().info("[GemCarvingReset] Used fallback method, final values: default=" + 
-                    stats.getDefaultMiningFortune() + ", current=" + stats.getMiningFortune());
-            }
+            // Skill tree bonuses live in their own stat layer, so removing exactly this
+            // amount leaves equipment and skill level bonuses untouched
+            stats.addMiningFortune(-fortuneToRemove);
+            
+            // Inform the player
+            player.sendMessage(ChatColor.GRAY + "Mining Fortune bonus of " + 
+                ChatColor.RED + String.format("%.1f", fortuneToRemove) + 
+                ChatColor.GRAY + " has been removed due to skill tree reset.");
+            
+            Main.getInstance().getLogger().info("[GemCarvingReset] Final mining fortune values: default=" + 
+                stats.getDefaultMiningFortune() + ", current=" + stats.getMiningFortune());
         } else {
             Main.getInstance().getLogger().info("[GemCarvingReset] No gem_mining_fortune node found in oldNodeLevels for " + player.getName());
         }
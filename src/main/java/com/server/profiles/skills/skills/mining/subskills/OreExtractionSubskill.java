@@ -655,42 +655,17 @@ public class OreExtractionSubskill extends AbstractSkill {
             Main.getInstance().getLogger().info("[OreExtractionReset] Current mining fortune: default=" + oldDefaultFortune + 
                 ", current=" + oldCurrentFortune + ", removing " + fortuneToRemove);
             
-            try {
-                // Use reflection to directly access and modify the field values
-                // This ensures we remove exactly what we need to without relying on addMiningFortune which might have issues
-                java.lang.reflect.Field defaultField = PlayerStats.class.getDeclaredField("defaultMiningFortune");
-                defaultField.setAccessible(true);
-                double currentDefault = (double) defaultField.get(stats);
-                defaultField.set(stats, currentDefault - fortuneToRemove);
-                
-                java.lang.reflect.Field currentField = PlayerStats.class.getDeclaredField("miningFortune");
-                currentField.setAccessible(true);
-                double current = (double) currentField.get(stats);
-                currentField.set(stats, current - fortuneToRemove);
-                
-                // Verify the change
-                double newDefaultFortune = stats.getDefaultMiningFortune();
-                double newCurrentFortune = stats.getMiningFortune();
-                
-                Main.getInstance().getLogger().info("[OreExtractionReset] After modification: default=" + 
-                    newDefaultFortune + ", current=" + newCurrentFortune);
-                    
-                // Inform the player
-                player.sendMessage(ChatColor.GRAY + "Mining Fortune bonus of " + 
-                    ChatColor.RED + String.format("%.1f", fortuneToRemove) + 
-                    ChatColor.GRAY + " has been removed due to skill tree reset.");
-                
-                Main.getInstance().getLogger().info("[OreExtractionReset] Final mining fortune values: default=" + 
-                    stats.getDefaultMiningFortune() + ", current=" + stats.getMiningFortune());
-            } catch (Exception e) {
-                Main.getInstance().getLogger().severe("[OreExtractionReset] Error using reflection: " + e.getMessage());
-                e.printStackTrace();
-                
-                // Fallback to direct method
-                stats.increaseDefaultMiningFortune(-fortuneToRemove);
-                Main.getInstance().getLogger().info("[OreExtractionReset] Used fallback method, final values: default=" + 
-                    stats.getDefaultMiningFortune() + ", current=" + stats.getMiningFortune());
-            }
+            // Skill tree bonuses live in their own stat layer, so removing exactly this
+            // amount leaves equipment and skill level bonuses untouched
+            stats.increaseDefaultMiningFortune(-fortuneToRemove);
+            
+            // Inform the player
+            player.sendMessage(ChatColor.GRAY + "Mining Fortune bonus of " + 
+                ChatColor.RED + String.format("%.1f", fortuneToRemove) + 
+                ChatColor.GRAY + " has been removed due to skill tree reset.");
+            
+            Main.getInstance().getLogger().info("[OreExtractionReset] Final mining fortune values: default=" + 
+                stats.getDefaultMiningFortune() + ", current=" + stats.getMiningFortune());
         } else {
             Main.getInstance().getLogger().info("[OreExtractionReset] No mining_fortune node found in oldNodeLevels for " + player.getName());
         }
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
 import com.server.Main;
@@ -644,4 +645,60 @@ public class PlayerSkillTreeData {
             unlockedNodeLevels.get(skillId).remove(nodeId);
         }
     }
+
+    /**
+     * Write node levels and token counts to a section
+     */
+    public void writeTo(ConfigurationSection section) {
+        writeNested(section.createSection("nodes"), unlockedNodeLevels);
+        writeNested(section.createSection("special-nodes"), permanentSpecialNodeLevels);
+        writeNested(section.createSection("tiered-tokens"), tieredSkillTokens);
+        ConfigurationSection tokens = section.createSection("tokens");
+        for (Map.Entry<String, Integer> entry : skillTokens.entrySet()) {
+            tokens.set(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Replace node levels and token counts with the ones written by {@link #writeTo}
+     */
+    public void readFrom(ConfigurationSection section) {
+        readNested(section.getConfigurationSection("nodes"), unlockedNodeLevels);
+        readNested(section.getConfigurationSection("special-nodes"), permanentSpecialNodeLevels);
+        readNested(section.getConfigurationSection("tiered-tokens"), tieredSkillTokens);
+        skillTokens.clear();
+        ConfigurationSection tokens = section.getConfigurationSection("tokens");
+        if (tokens != null) {
+            for (String skillId : tokens.getKeys(false)) {
+                skillTokens.put(skillId, tokens.getInt(skillId));
+            }
+        }
+    }
+
+    private static void writeNested(ConfigurationSection section, Map<String, Map<String, Integer>> source) {
+        for (Map.Entry<String, Map<String, Integer>> skill : source.entrySet()) {
+            ConfigurationSection skillSection = section.createSection(skill.getKey());
+            for (Map.Entry<String, Integer> entry : skill.getValue().entrySet()) {
+                skillSection.set(entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    private static void readNested(ConfigurationSection section, Map<String, Map<String, Integer>> target) {
+        target.clear();
+        if (section == null) {
+            return;
+        }
+        for (String skillId : section.getKeys(false)) {
+            ConfigurationSection skillSection = section.getConfigurationSection(skillId);
+            if (skillSection == null) {
+                continue;
+            }
+            Map<String, Integer> values = new HashMap<>();
+            for (String key : skillSection.getKeys(false)) {
+                values.put(key, skillSection.getInt(key));
+            }
+            target.put(skillId, values);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+package com.server.profiles.stats;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
+import org.bukkit.Bukkit;
+import org.bukkit.attribute.Attribute;
+import org.bukkit.attribute.AttributeInstance;
+import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.entity.Player;
+
+import com.server.Main;
+import com.server.debug.DebugManager.DebugSystem;
+import com.server.profiling.ProfilerSection;
+import com.server.profiling.TickProfiler;
+
+/**
+ * Writes stat-driven attribute values to players, skipping writes that would change nothing.
+ *
+ * Every attribute write sends an update packet to the player and everyone tracking them, so
+ * the last value pushed per (player, attribute) is remembered and only real changes are
+ * written. Queued writes are batched and applied once at the start of the next tick; each
+ * attribute's bonus lives in a single modifier with a fixed UUID that is swapped in place.
+ *
+ * If anything else changes an attribute (respawn, other plugins, profile loading), its value
+ * no longer matches the one observed after our last write and the next write re-syncs it.
+ */
+final class AttributeSync {
+
+    private final Main plugin;
+    private final ProfilerSection flushProfile = TickProfiler.getInstance().section("stats.attribute-sync");
+
+    private final Map<UUID, Map<Attribute, Target>> pushed = new HashMap<>();
+    private final Map<UUID, Map<Attribute, Target>> pending = new HashMap<>();
+    private boolean flushScheduled;
+
+    AttributeSync(Main plugin) {
+        this.plugin = plugin;
+    }
+
+    /**
+     * Queues an attribute write for the next tick. Later writes to the same attribute in the
+     * same tick replace earlier ones.
+     *
+     * @param modifierId Fixed UUID of the bonus modifier, or null if the attribute only has a base value
+     * @param exclusive Whether no other modifiers may stay on the attribute
+     */
+    void queue(Player player, Attribute attribute, double base, UUID modifierId, String modifierName, double bonus,
+            boolean exclusive) {
+        Target target = new Target(base, modifierId, modifierName, bonus, exclusive);
+        UUID playerId = player.getUniqueId();
+
+        Map<Attribute, Target> playerPending = pending.get(playerId);
+        if (playerPending == null) {
+            if (isInSync(player, attribute, target)) {
+                return;
+            }
+            playerPending = new EnumMap<>(Attribute.class);
+            pending.put(playerId, playerPending);
+        }
+        playerPending.put(attribute, target);
+
+        if (!flushScheduled) {
+            flushScheduled = true;
+            Bukkit.getScheduler().runTask(plugin, this::flush);
+        }
+    }
+
+    /**
+     * Writes an attribute immediately, for callers that read the resulting value right away.
+     */
+    void applyNow(Player player, Attribute attribute, double base, UUID modifierId, String modifierName, double bonus,
+            boolean exclusive) {
+        Map<Attribute, Target> playerPending = pending.get(player.getUniqueId());
+        if (playerPending != null) {
+            playerPending.remove(attribute);
+        }
+        Target target = new Target(base, modifierId, modifierName, bonus, exclusive);
+        if (!isInSync(player, attribute, target)) {
+            write(player, attribute, target);
+        }
+    }
+
+    /**
+     * Forgets what was pushed to a player, so the next write to each attribute is applied in full.
+     */
+    void invalidate(Player player) {
+        pushed.remove(player.getUniqueId());
+        pending.remove(player.getUniqueId());
+    }
+
+    private boolean isInSync(Player player, Attribute attribute, Target target) {
+        Map<Attribute, Target> playerPushed = pushed.get(player.getUniqueId());
+        Target last = playerPushed != null ? playerPushed.get(attribute) : null;
+        if (last == null || !last.sameValues(target)) {
+            return false;
+        }
+        AttributeInstance instance = player.getAttribute(attribute);
+        return instance == null || instance.getValue() == last.observedValue;
+    }
+
+    private void flush() {
+        flushScheduled = false;
+        flushProfile.run(() -> {
+            for (Iterator<Map.Entry<UUID, Map<Attribute, Target>>> it = pending.entrySet().iterator(); it.hasNext(); ) {
+                Map.Entry<UUID, Map<Attribute, Target>> entry = it.next();
+                it.remove();
+                Player player = Bukkit.getPlayer(entry.getKey());
+                if (player == null || !player.isOnline()) {
+                    pushed.remove(entry.getKey());
+                    continue;
+                }
+                for (Map.Entry<Attribute, Target> write : entry.getValue().entrySet()) {
+                    try {
+                        if (!isInSync(player, write.getKey(), write.getValue())) {
+                            write(player, write.getKey(), write.getValue());
+                        }
+                    } catch (Exception e) {
+                        plugin.debugLog(DebugSystem.STATS, "Error applying " + write.getKey() + " to "
+                            + player.getName() + ": " + e.getMessage());
+                    }
+                }
+            }
+        });
+    }
+
+    private void write(Player player, Attribute attribute, Target target) {
+        AttributeInstance instance = player.getAttribute(attribute);
+        if (instance == null) {
+            return;
+        }
+        Map<Attribute, Target> playerPushed = pushed.computeIfAbsent(player.getUniqueId(), id -> new EnumMap<>(Attribute.class));
+        Target last = playerPushed.get(attribute);
+
+        if (instance.getBaseValue() != target.base) {
+            instance.setBaseValue(target.base);
+        }
+
+        if (target.modifierId != null) {
+            boolean resync = last == null || instance.getValue() != last.observedValue;
+            if (resync || last.bonus != target.bonus) {
+                // On a resync also clear modifiers left by login fixes and older versions
+                for (AttributeModifier mod : new HashSet<>(instance.getModifiers())) {
+                    if (mod.getUniqueId().equals(target.modifierId)
+                            || (resync && (target.exclusive || mod.getName().startsWith("mmo.")))) {
+                        instance.removeModifier(mod);
+                    }
+                }
+                addModifier(instance, target);
+            }
+        }
+
+        target.observedValue = instance.getValue();
+        playerPushed.put(attribute, target);
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void addModifier(AttributeInstance instance, Target target) {
+        if (target.bonus != 0) {
+            instance.addModifier(new AttributeModifier(target.modifierId, target.modifierName,
+                target.bonus, AttributeModifier.Operation.ADD_NUMBER));
+        }
+    }
+
+    private static final class Target {
+        private final double base;
+        private final UUID modifierId;
+        private final String modifierName;
+        private final double bonus;
+        private final boolean exclusive;
+        private double observedValue;
+
+        private Target(double base, UUID modifierId, String modifierName, double bonus, boolean exclusive) {
+            this.base = base;
+            this.modifierId = modifierId;
+            this.modifierName = modifierName;
+            this.bonus = bonus;
+            this.exclusive = exclusive;
+        }
+
+        private boolean sameValues(Target other) {
+            return base == other.base && bonus == other.bonus;
+        }
+    }
+}
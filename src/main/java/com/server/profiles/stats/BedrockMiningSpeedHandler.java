@@ -1,9 +1,13 @@
 package com.server.profiles.stats;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.bukkit.Bukkit;
 import org.bukkit.GameMode;
 import org.bukkit.Material;
 import org.bukkit.block.Block;
@@ -16,7 +20,7 @@ import org.bukkit.event.block.BlockDamageAbortEvent;
 import org.bukkit.event.block.BlockDamageEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.scheduler.BukkitTask;
 
 import com.comphenix.protocol.PacketType;
 import com.comphenix.protocol.ProtocolLibrary;
@@ -46,22 +50,31 @@ import com.server.util.BedrockPlayerUtil;
  * 3. Sending block damage packets to show proper breaking animation
  * 4. Breaking the block after the calculated time
  * 5. Matching the break time to what a Java player would experience with the same mining speed attribute
+ * 
+ * All active mining operations advance from a single tick task, which only runs while someone
+ * is mining. Crack animation packets are only sent when the destroy stage changes.
  */
 public class BedrockMiningSpeedHandler implements Listener {
     
     private final Main plugin;
     
-    // Track active mining operations for Bedrock players
+    // Track active mining operations for Bedrock players (main thread only)
     private final Map<UUID, MiningOperation> activeMining = new HashMap<>();
+    private final List<MiningOperation> tickBuffer = new ArrayList<>();
+    private BukkitTask tickTask;
     
     // Track recently broken blocks to prevent immediate restart
     private final Map<UUID, Long> recentBreaks = new HashMap<>();
     private static final long BREAK_COOLDOWN_MS = 10; // 10ms cooldown (just 1 tick) to prevent double-processing
     
     // Track last arm animation packet for hold-to-break detection
-    private final Map<UUID, Long> lastArmSwing = new HashMap<>();
+    // Written from the packet thread, so only players with an entry (i.e. mining) are updated there
+    private final Map<UUID, Long> lastArmSwing = new ConcurrentHashMap<>();
     private static final long ARM_SWING_TIMEOUT_MS = 200; // 200ms = 4 ticks (if no swing, player stopped holding)
     
+    // Players further away than this don't receive crack animations
+    private static final double CRACK_VIEW_DISTANCE = 64.0;
+    
     public BedrockMiningSpeedHandler(Main plugin) {
         this.plugin = plugin;
         
@@ -76,11 +89,8 @@ public class BedrockMiningSpeedHandler implements Listener {
                     Player player = event.getPlayer();
                     
                     // Only track for Bedrock players who are actively mining
-                    if (BedrockPlayerUtil.isBedrockPlayer(player) && activeMining.containsKey(player.getUniqueId())) {
-                        lastArmSwing.put(player.getUniqueId(), System.currentTimeMillis());
-                        
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - ARM_ANIMATION packet received");
+                    if (BedrockPlayerUtil.isBedrockPlayer(player)) {
+                        lastArmSwing.computeIfPresent(player.getUniqueId(), (uuid, last) -> System.currentTimeMillis());
                     }
                 }
             }
@@ -93,7 +103,7 @@ public class BedrockMiningSpeedHandler implements Listener {
      */
     private void sendBlockCrackPacket(Player player, Block block, int destroyStage, int entityId) {
         try {
-            DebugManager.getInstance().debug(DebugSystem.MINING, 
+            DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                 ">>> PACKET SEND START - Player: " + player.getName() + " | EntityID: " + entityId + 
                 " | Block: " + block.getX() + "," + block.getY() + "," + block.getZ() + 
                 " | DestroyStage: " + destroyStage);
@@ -115,25 +125,31 @@ public class BedrockMiningSpeedHandler implements Listener {
             
             // Also send to nearby players
             int nearbyCount = 0;
-            for (org.bukkit.entity.Entity entity : block.getWorld().getNearbyEntities(block.getLocation(), 64, 64, 64)) {
-                if (entity instanceof Player) {
-                    Player nearbyPlayer = (Player) entity;
-                    if (!nearbyPlayer.equals(player)) {
-                        try {
-                            ProtocolLibrary.getProtocolManager().sendServerPacket(nearbyPlayer, packet);
-                            nearbyCount++;
-                        } catch (Exception ignored) {}
-                    }
+            double centerX = block.getX() + 0.5, centerY = block.getY() + 0.5, centerZ = block.getZ() + 0.5;
+            for (Player nearbyPlayer : block.getWorld().getPlayers()) {
+                if (nearbyPlayer.equals(player)) {
+                    continue;
+                }
+                org.bukkit.Location loc = nearbyPlayer.getLocation();
+                if (Math.abs(loc.getX() - centerX) > CRACK_VIEW_DISTANCE
+                        || Math.abs(loc.getY() - centerY) > CRACK_VIEW_DISTANCE
+                        || Math.abs(loc.getZ() - centerZ) > CRACK_VIEW_DISTANCE) {
+                    continue;
                 }
+                try {
+                    ProtocolLibrary.getProtocolManager().sendServerPacket(nearbyPlayer, packet);
+                    nearbyCount++;
+                } catch (Exception ignored) {}
             }
             
-            DebugManager.getInstance().debug(DebugSystem.MINING, 
+            int recipients = nearbyCount + 1;
+            DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                 "<<< PACKET SENT - EntityID: " + entityId + " | Block: " + 
                 block.getX() + "," + block.getY() + "," + block.getZ() + 
-                " | DestroyStage: " + destroyStage + " | Sent to " + (nearbyCount + 1) + " players");
+                " | DestroyStage: " + destroyStage + " | Sent to " + recipients + " players");
             
         } catch (Exception e) {
-            DebugManager.getInstance().debug(DebugSystem.MINING, 
+            DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                 "!!! PACKET FAILED - EntityID: " + entityId + " | Error: " + e.getMessage());
         }
     }
@@ -174,7 +190,7 @@ public class BedrockMiningSpeedHandler implements Listener {
                     // Send to chat and action bar (action bar for Bedrock players)
                     com.server.util.BedrockPlayerUtil.sendMessage(player, chatMessage, actionBarMessage);
                     
-                    DebugManager.getInstance().debug(DebugSystem.MINING, 
+                    DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                         "Bedrock player " + player.getName() + " tried to mine locked ore: " + blockType);
                     return;
                 }
@@ -199,7 +215,7 @@ public class BedrockMiningSpeedHandler implements Listener {
                     player.sendMessage(org.bukkit.ChatColor.YELLOW + "Check your Harvesting skill tree to unlock this crop.");
                     com.server.util.BedrockPlayerUtil.sendActionBar(player, actionBarMessage);
                     
-                    DebugManager.getInstance().debug(DebugSystem.MINING, 
+                    DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                         "Bedrock player " + player.getName() + " tried to harvest locked crop: " + blockType);
                     return;
                 }
@@ -211,7 +227,7 @@ public class BedrockMiningSpeedHandler implements Listener {
         if (lastBreak != null) {
             long timeSinceBreak = System.currentTimeMillis() - lastBreak;
             if (timeSinceBreak < BREAK_COOLDOWN_MS) {
-                DebugManager.getInstance().debug(DebugSystem.MINING, 
+                DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                     "Bedrock player " + player.getName() + " - In break cooldown, ignoring event (" + timeSinceBreak + "ms)");
                 return;
             }
@@ -223,7 +239,7 @@ public class BedrockMiningSpeedHandler implements Listener {
         MiningOperation existing = activeMining.get(playerUuid);
         if (existing != null && existing.isSameBlock(block)) {
             // Already mining this block, don't restart
-            DebugManager.getInstance().debug(DebugSystem.MINING, 
+            DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                 "Bedrock player " + player.getName() + " already mining this block - ignoring duplicate event");
             return;
         }
@@ -235,7 +251,7 @@ public class BedrockMiningSpeedHandler implements Listener {
         int breakTimeTicks = calculateBreakTime(block.getType(), player, miningSpeed);
         
         // Debug message
-        DebugManager.getInstance().debug(DebugSystem.MINING, 
+        DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
             "Bedrock player " + player.getName() + " started mining " + block.getType() + 
             " | Speed: " + String.format("%.2f", miningSpeed) + 
             " | Break Time: " + breakTimeTicks + " ticks");
@@ -250,6 +266,9 @@ public class BedrockMiningSpeedHandler implements Listener {
         MiningOperation operation = new MiningOperation(player, block, breakTimeTicks);
         activeMining.put(playerUuid, operation);
         operation.start();
+        if (tickTask == null) {
+            tickTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tickMining, 1L, 1L);
+        }
     }
     
     /**
@@ -273,7 +292,7 @@ public class BedrockMiningSpeedHandler implements Listener {
         // ALWAYS cancel for Bedrock players in survival - we handle breaking internally
         event.setCancelled(true);
         
-        DebugManager.getInstance().debug(DebugSystem.MINING, 
+        DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
             "Bedrock player " + player.getName() + " - Cancelled vanilla break event (handled by custom system)");
     }
     
@@ -312,6 +331,26 @@ public class BedrockMiningSpeedHandler implements Listener {
         lastArmSwing.remove(playerUuid);
     }
     
+    /**
+     * Advance every active mining operation by one tick
+     */
+    private void tickMining() {
+        if (activeMining.isEmpty()) {
+            tickTask.cancel();
+            tickTask = null;
+            return;
+        }
+        
+        // Operations are cancelled (and new ones started) while ticking, so iterate a copy
+        tickBuffer.addAll(activeMining.values());
+        for (MiningOperation operation : tickBuffer) {
+            if (!operation.isCancelled() && !operation.isCompleted()) {
+                operation.tick();
+            }
+        }
+        tickBuffer.clear();
+    }
+    
     /**
      * Get the player's mining speed stat
      */
@@ -605,7 +644,7 @@ public class BedrockMiningSpeedHandler implements Listener {
                 
             // Default for other blocks - log warning
             default:
-                DebugManager.getInstance().debug(DebugSystem.MINING, 
+                DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                     "Bedrock player " + player.getName() + " - Unknown block type: " + blockType + " - using default 20 ticks");
                 return 20;
         }
@@ -620,9 +659,8 @@ public class BedrockMiningSpeedHandler implements Listener {
         private final Block block;
         private final int totalBreakTimeTicks;
         private final int entityId;
-        private BukkitRunnable animationTask;
-        private BukkitRunnable breakTask;
-        private BukkitRunnable monitorTask;
+        private int animationTicksPerStage;
+        private int ticksElapsed = 0;
         private int currentDamage = 0;
         private boolean completed = false;
         private boolean cancelled = false;
@@ -635,7 +673,7 @@ public class BedrockMiningSpeedHandler implements Listener {
             // Use unique entity ID for this operation (player ID + block location hash)
             this.entityId = player.getEntityId() + block.getLocation().hashCode();
             
-            DebugManager.getInstance().debug(DebugSystem.MINING, 
+            DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                 "Created MiningOperation - Player EntityID: " + player.getEntityId() + 
                 " | Animation EntityID: " + entityId);
         }
@@ -653,226 +691,145 @@ public class BedrockMiningSpeedHandler implements Listener {
         }
         
         public void start() {
-            DebugManager.getInstance().debug(DebugSystem.MINING, 
+            DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                 "Bedrock player " + player.getName() + " - Mining START - Total: " + totalBreakTimeTicks + " ticks (" + 
                 (totalBreakTimeTicks * 50) + "ms)");
             
             // Calculate ticks per damage stage for animation
             // Animation timing is independent of actual break time for testing
             // TESTING: Slow down animation 5x to diagnose if Geyser/client is the issue
-            final int baseTicksPerStage = Math.max(1, totalBreakTimeTicks / MAX_DAMAGE);
-            final int animationTicksPerStage = baseTicksPerStage * 5; // 5x slower animation
-            
-            // Animation completion (for visual effect only)
-            final int animationCompletionTicks = animationTicksPerStage * MAX_DAMAGE;
+            int baseTicksPerStage = Math.max(1, totalBreakTimeTicks / MAX_DAMAGE);
+            animationTicksPerStage = baseTicksPerStage * 5; // 5x slower animation
             
-            DebugManager.getInstance().debug(DebugSystem.MINING, 
+            DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                 "Bedrock player " + player.getName() + 
                 " | Block breaks at: " + totalBreakTimeTicks + " ticks (" + (totalBreakTimeTicks * 50) + "ms)" +
                 " | Animation: " + animationTicksPerStage + " ticks (" + (animationTicksPerStage * 50) + "ms) per stage" +
-                " | Animation completes: " + animationCompletionTicks + " ticks" +
+                " | Animation completes: " + (animationTicksPerStage * MAX_DAMAGE) + " ticks" +
                 " | TESTING: Animation slowed 5x independently of break time");
+        }
+        
+        /**
+         * Advance this operation by one tick: check the player is still mining, update the
+         * crack animation and break the block once the break time is reached
+         */
+        public void tick() {
+            if (!isStillMining()) {
+                cancelMining(player.getUniqueId());
+                return;
+            }
             
-            // Start a monitoring task that checks EVERY TICK if player is still breaking
-            monitorTask = new BukkitRunnable() {
-                @Override
-                public void run() {
-                    // Stop if already cancelled
-                    if (cancelled) {
-                        cancel();
-                        return;
-                    }
-                    
-                    // Check if player stopped mining
-                    if (!player.isOnline()) {
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - Player offline - cancelling");
-                        cancelMining(player.getUniqueId());
-                        return;
-                    }
-                    
-                    // Check if player is still holding the break button by checking arm swing packets
-                    Long lastSwing = lastArmSwing.get(player.getUniqueId());
-                    if (lastSwing == null) {
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - No arm swing tracked - cancelling");
-                        cancelMining(player.getUniqueId());
-                        return;
-                    }
-                    
-                    long timeSinceLastSwing = System.currentTimeMillis() - lastSwing;
-                    if (timeSinceLastSwing > ARM_SWING_TIMEOUT_MS) {
-                        // Player hasn't swung in too long - they stopped holding the button
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - Stopped holding break button (" + 
-                            timeSinceLastSwing + "ms since last arm swing) - cancelling");
-                        cancelMining(player.getUniqueId());
-                        return;
-                    }
-                    
-                    // Check if player is still targeting the block (secondary check)
-                    Block targetBlock = player.getTargetBlockExact(6);
-                    if (targetBlock == null || !targetBlock.getLocation().equals(block.getLocation())) {
-                        // Player looked away from the target block - cancel mining
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - No longer targeting block - cancelling");
-                        cancelMining(player.getUniqueId());
-                        return;
-                    }
-                    
-                    // Check if block changed
-                    if (block.getType() == Material.AIR) {
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - Block is air - cancelling");
-                        cancelMining(player.getUniqueId());
-                    }
-                }
-            };
+            ticksElapsed++;
             
-            // Monitor every tick (1L delay, 1L period)
-            monitorTask.runTaskTimer(plugin, 1L, 1L);
+            // Only send a crack packet when the destroy stage changes
+            int damage = Math.min(MAX_DAMAGE, ticksElapsed / animationTicksPerStage);
+            if (damage > currentDamage) {
+                currentDamage = damage;
+                // currentDamage goes from 1-10, destroy stages are 0-9
+                sendBlockCrackPacket(player, block, currentDamage - 1, entityId);
+            }
             
-            // Start animation task that updates block crack animation at proper intervals
-            animationTask = new BukkitRunnable() {
-                private int ticksElapsed = 0;
-                
-                @Override
-                public void run() {
-                    // Stop if operation was cancelled
-                    if (cancelled || completed) {
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - Animation task stopping (cancelled=" + cancelled + ", completed=" + completed + ")");
-                        cancel();
-                        return;
-                    }
-                    
-                    ticksElapsed += animationTicksPerStage;
-                    
-                    // Increment damage stage (1 to 10)
-                    currentDamage++;
-                    
-                    // Cap at MAX_DAMAGE
-                    if (currentDamage > MAX_DAMAGE) {
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - Animation exceeded max, stopping");
-                        cancel();
-                        return;
-                    }
-                    
-                    // Calculate destroy stage (0-9 for Minecraft protocol)
-                    // currentDamage goes from 1-10, so we map it to 0-9
-                    int destroyStage = currentDamage - 1;
-                    
-                    DebugManager.getInstance().debug(DebugSystem.MINING, 
-                        "Bedrock player " + player.getName() + " - BEFORE SEND: Stage " + currentDamage + "/" + MAX_DAMAGE + 
-                        " | Destroy Stage: " + destroyStage + " | EntityID: " + entityId);
-                    
-                    // Send block crack packet
-                    sendBlockCrackPacket(player, block, destroyStage, entityId);
-                    
-                    // Calculate expected vs actual timing
-                    int expectedTick = animationTicksPerStage * currentDamage;
-                    float progress = ((float)currentDamage / MAX_DAMAGE) * 100f;
-                    
-                    DebugManager.getInstance().debug(DebugSystem.MINING, 
-                        "Bedrock player " + player.getName() + " - AFTER SEND: Stage " + currentDamage + "/" + MAX_DAMAGE + " (" + 
-                        String.format("%.0f", progress) + "%) | Destroy Stage: " + destroyStage + 
-                        " | Expected Tick: " + expectedTick + " | Ticks Elapsed: " + ticksElapsed);
-                    
-                    // Stop after stage 10 (let the break task handle the actual breaking)
-                    if (currentDamage >= MAX_DAMAGE) {
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - Animation COMPLETE at tick " + ticksElapsed);
-                        cancel();
-                    }
-                }
-            };
+            // Break the block based on actual mining speed (NOT animation completion)
+            // Animation is for visual feedback only, actual break time is determined by mining speed stat
+            if (ticksElapsed >= totalBreakTimeTicks) {
+                breakBlock();
+            }
+        }
+        
+        /**
+         * Check if the player is still holding the break button on this block
+         */
+        private boolean isStillMining() {
+            if (!player.isOnline()) {
+                DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
+                    "Bedrock player " + player.getName() + " - Player offline - cancelling");
+                return false;
+            }
             
-            // Start animation with the slowed down timing
-            animationTask.runTaskTimer(plugin, animationTicksPerStage, animationTicksPerStage);
+            // Check if player is still holding the break button by checking arm swing packets
+            Long lastSwing = lastArmSwing.get(player.getUniqueId());
+            if (lastSwing == null) {
+                DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
+                    "Bedrock player " + player.getName() + " - No arm swing tracked - cancelling");
+                return false;
+            }
             
-            // Schedule the actual block break
-            breakTask = new BukkitRunnable() {
-                @Override
-                public void run() {
-                    DebugManager.getInstance().debug(DebugSystem.MINING, 
-                        "Bedrock player " + player.getName() + " - Break task executing after " + totalBreakTimeTicks + " ticks (mining speed based)");
-                    
-                    // Check if block is still the same
-                    if (block.getType() == Material.AIR) {
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - Block already broken");
-                        return;
-                    }
-                    
-                    // Check if player is still online and in range
-                    if (!player.isOnline()) {
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - Player offline during break");
-                        return;
-                    }
-                    
-                    // Check distance with null safety
-                    org.bukkit.Location playerLoc = player.getLocation();
-                    if (playerLoc != null && playerLoc.distance(block.getLocation()) > 6) {
-                        DebugManager.getInstance().debug(DebugSystem.MINING, 
-                            "Bedrock player " + player.getName() + " - Player too far during break");
-                        return;
-                    }
-                    
-                    // Mark as completed before breaking
-                    completed = true;
-                    
-                    // Cancel the monitor task first
-                    if (monitorTask != null) {
-                        monitorTask.cancel();
-                    }
-                    
-                    // Remove from active mining map
-                    activeMining.remove(player.getUniqueId());
-                    
-                    // Remove block damage animation
-                    sendBlockCrackPacket(player, block, 255, entityId);
-                    
-                    DebugManager.getInstance().debug(DebugSystem.MINING, 
-                        "Bedrock player " + player.getName() + " - Breaking block now!");
-                    
-                    // Get player profile for fortune calculation
-                    Integer activeSlot = ProfileManager.getInstance().getActiveProfile(player.getUniqueId());
-                    if (activeSlot != null) {
-                        PlayerProfile profile = ProfileManager.getInstance().getProfiles(player.getUniqueId())[activeSlot];
-                        if (profile != null) {
-                            Material blockType = block.getType();
-                            
-                            // Handle ores with mining fortune
-                            if (isOre(blockType)) {
-                                handleOreBreak(player, block, profile);
-                            }
-                            // Handle crops with farming fortune
-                            else if (isCrop(blockType)) {
-                                handleCropBreak(player, block, profile);
-                            }
-                            // Handle regular blocks (just break normally)
-                            else {
-                                block.breakNaturally(player.getInventory().getItemInMainHand());
-                            }
-                        } else {
-                            // Fallback if no profile
-                            block.breakNaturally(player.getInventory().getItemInMainHand());
-                        }
-                    } else {
-                        // Fallback if no profile
-                        block.breakNaturally(player.getInventory().getItemInMainHand());
-                    }
-                    
-                    // Set break cooldown to prevent immediate restart
-                    recentBreaks.put(player.getUniqueId(), System.currentTimeMillis());
+            long timeSinceLastSwing = System.currentTimeMillis() - lastSwing;
+            if (timeSinceLastSwing > ARM_SWING_TIMEOUT_MS) {
+                // Player hasn't swung in too long - they stopped holding the button
+                DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
+                    "Bedrock player " + player.getName() + " - Stopped holding break button (" + 
+                    timeSinceLastSwing + "ms since last arm swing) - cancelling");
+                return false;
+            }
+            
+            // Check if player is still targeting the block (secondary check)
+            Block targetBlock = player.getTargetBlockExact(6);
+            if (targetBlock == null || !targetBlock.getLocation().equals(block.getLocation())) {
+                DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
+                    "Bedrock player " + player.getName() + " - No longer targeting block - cancelling");
+                return false;
+            }
+            
+            // Check if block changed
+            if (block.getType() == Material.AIR) {
+                DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
+                    "Bedrock player " + player.getName() + " - Block is air - cancelling");
+                return false;
+            }
+            
+            return true;
+        }
+        
+        private void breakBlock() {
+            DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
+                "Bedrock player " + player.getName() + " - Breaking after " + totalBreakTimeTicks + " ticks (mining speed based)");
+            
+            // Check distance with null safety
+            org.bukkit.Location playerLoc = player.getLocation();
+            if (playerLoc != null && playerLoc.distance(block.getLocation()) > 6) {
+                DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
+                    "Bedrock player " + player.getName() + " - Player too far during break");
+                cancelMining(player.getUniqueId());
+                return;
+            }
+            
+            // Mark as completed before breaking
+            completed = true;
+            
+            // Remove from active mining
+            activeMining.remove(player.getUniqueId());
+            lastArmSwing.remove(player.getUniqueId());
+            
+            // Remove block damage animation
+            sendBlockCrackPacket(player, block, 255, entityId);
+            
+            // Get player profile for fortune calculation
+            Integer activeSlot = ProfileManager.getInstance().getActiveProfile(player.getUniqueId());
+            PlayerProfile profile = activeSlot != null
+                ? ProfileManager.getInstance().getProfiles(player.getUniqueId())[activeSlot] : null;
+            if (profile != null) {
+                Material blockType = block.getType();
+                
+                // Handle ores with mining fortune
+                if (isOre(blockType)) {
+                    handleOreBreak(player, block, profile);
+                }
+                // Handle crops with farming fortune
+                else if (isCrop(blockType)) {
+                    handleCropBreak(player, block, profile);
                 }
-            };
+                // Handle regular blocks (just break normally)
+                else {
+                    block.breakNaturally(player.getInventory().getItemInMainHand());
+                }
+            } else {
+                // Fallback if no profile
+                block.breakNaturally(player.getInventory().getItemInMainHand());
+            }
             
-            // Break the block based on actual mining speed (NOT animation completion)
-            // Animation is for visual feedback only, actual break time is determined by mining speed stat
-            breakTask.runTaskLater(plugin, totalBreakTimeTicks);
+            // Set break cooldown to prevent immediate restart
+            recentBreaks.put(player.getUniqueId(), System.currentTimeMillis());
         }
         
         public void cancel() {
@@ -882,21 +839,11 @@ public class BedrockMiningSpeedHandler implements Listener {
             
             cancelled = true;
             
-            DebugManager.getInstance().debug(DebugSystem.MINING, 
+            DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
                 "Bedrock player " + player.getName() + " - Mining operation cancelled");
             
-            if (monitorTask != null) {
-                monitorTask.cancel();
-            }
-            if (animationTask != null) {
-                animationTask.cancel();
-            }
-            if (breakTask != null) {
-                breakTask.cancel();
-            }
-            
-            // Remove block damage animation
-            if (player.isOnline()) {
+            // Remove block damage animation (only if any stage was shown)
+            if (player.isOnline() && currentDamage > 0) {
                 sendBlockCrackPacket(player, block, 255, entityId);
             }
         }
@@ -912,7 +859,7 @@ public class BedrockMiningSpeedHandler implements Listener {
         double miningFortune = profile.getStats().getMiningFortune();
         int fortuneMultiplier = calculateFortuneMultiplier(miningFortune);
         
-        DebugManager.getInstance().debug(DebugSystem.MINING, 
+        DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
             "Bedrock player " + player.getName() + " breaking ore " + blockType + 
             " with Mining Fortune multiplier: " + fortuneMultiplier);
         
@@ -957,7 +904,7 @@ public class BedrockMiningSpeedHandler implements Listener {
         double farmingFortune = profile.getStats().getFarmingFortune();
         int fortuneMultiplier = calculateFortuneMultiplier(farmingFortune);
         
-        DebugManager.getInstance().debug(DebugSystem.MINING, 
+        DebugManager.getInstance().debug(DebugSystem.MINING, player, () ->
             "Bedrock player " + player.getName() + " breaking crop " + blockType + 
             " with Farming Fortune multiplier: " + fortuneMultiplier);
         
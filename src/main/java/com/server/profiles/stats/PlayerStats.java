@@ -1,52 +1,34 @@
 package com.server.profiles.stats;
 
-import java.util.HashSet;
-import java.util.Set;
-import java.util.UUID;
-
 import org.bukkit.attribute.Attribute;
 import org.bukkit.attribute.AttributeInstance;
-import org.bukkit.attribute.AttributeModifier;
+import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.entity.Player;
 
+import com.server.Main;
+
+/**
+ * A profile's stats.
+ *
+ * Every {@link StatType} is the sum of one value per {@link StatLayer}, clamped to the stat's
+ * range. Each source (skills, skill tree, equipment scans, buffs) writes only its own layer, so
+ * sources can update in any order without undoing each other. Totals are recomputed lazily,
+ * only for stats whose layers changed since the last read.
+ */
 public class PlayerStats {
-    // Combat Stats
-    private int health;
-    private int armor;
-    private int magicResist;
-    private int physicalDamage;
-    private int magicDamage;
-    private int mana;
-    private int totalMana;
-    private double speed;
-    private double criticalDamage;
-    private double criticalChance;
-    private double burstDamage;
-    private double burstChance;
-    private int cooldownReduction;
-    private double lifeSteal;
-    private int rangedDamage;
-    private double attackSpeed;
-    private double omnivamp;
-    private double healthRegen;
-    
-    // Fortune Stats
-    private double miningFortune;
-    private double farmingFortune;
-    private double lootingFortune;
-    private double fishingFortune;
-    
-    // Fishing Stats
-    private int lurePotency;
-    private double fishingResilience;
-    private double fishingFocus;
-    private double fishingPrecision;
-    private double seaMonsterAffinity;
-    private double treasureSense;
-    
+    private static final StatType[] STAT_TYPES = StatType.values();
+    private static final StatLayer[] STAT_LAYERS = StatLayer.values();
+
+    // One dirty bit per stat, so StatType must stay under 64 constants
+    private static final long ALL_STATS = (1L << STAT_TYPES.length) - 1;
+
+    // Layered Stats - layers[layer][stat]
+    private final double[][] layers = new double[STAT_LAYERS.length][STAT_TYPES.length];
+    private final double[] totals = new double[STAT_TYPES.length];
+    private long dirtyStats = ALL_STATS;
+
     // Resource Stats
-    private int manaRegen;
-    private int luck;
+    private int mana;
     
     // Elemental Affinity System
     private ElementalAffinity elementalAffinity; // Legacy - kept for backwards compatibility
@@ -59,45 +41,6 @@ public class PlayerStats {
     private float exhaustion;
     private int expLevel;
     private float expProgress;
-    private double attackRange;
-    private double buildRange;
-    private double size;
-    private double miningSpeed;
-
-    // Default Values
-    private int defaultHealth = 100;
-    private int defaultArmor = 0;
-    private int defaultMR = 0;
-    private int defaultPhysicalDamage = 5;
-    private int defaultMagicDamage = 5;
-    private int defaultMana = 100;
-    private double defaultSpeed = 0.1;
-    private double defaultCritDmg = 1.5;
-    private double defaultCritChance = 0.00;
-    private double defaultBurstDmg = 2.0;
-    private double defaultBurstChance = 0.01;
-    private double defaultCDR = 0;
-    private double defaultLifeSteal = 0;
-    private int defaultRangedDamage = 5;
-    private double defaultAttackSpeed = 0.5; // 0.5 attacks per second
-    private double defaultOmnivamp = 0;
-    private double defaultHealthRegen = 0.3;
-    private int defaultManaRegen = 1;
-    private int defaultLuck = 0;
-    private double defaultMiningFortune = 1.00;
-    private double defaultFarmingFortune = 0.0;  // 0 = 1x drops (no bonus), 100 = 2x drops
-    private double defaultLootingFortune = 1.00;
-    private double defaultFishingFortune = 0.0;  // 0 = 1x drops (no bonus), 100 = 2x drops
-    private int defaultLurePotency = 0;
-    private double defaultFishingResilience = 0.0;
-    private double defaultFishingFocus = 0.0;
-    private double defaultFishingPrecision = 0.0;
-    private double defaultSeaMonsterAffinity = 0.0;
-    private double defaultTreasureSense = 0.0;
-    private double defaultAttackRange = 3.0;
-    private double defaultBuildRange = 5.0;
-    private double defaultSize = 1.0;
-    private double defaultMiningSpeed = 0.5;
 
     // Default Values for Minecraft Stats
     private double defaultCurrentHealth = 100.0; // 10 hearts
@@ -110,138 +53,204 @@ public class PlayerStats {
     public PlayerStats() {
         this.elementalAffinity = new ElementalAffinity(); // Legacy
         this.categorizedAffinity = new com.server.enchantments.elements.CategorizedAffinity(); // New system
+        double[] base = layers[StatLayer.BASE.ordinal()];
+        for (StatType type : STAT_TYPES) {
+            base[type.ordinal()] = type.getDefaultValue();
+        }
         resetToDefaults();
     }
 
+    /**
+     * Clears the equipment, enchantment and buff layers and refills the resource stats.
+     * Base, skill and skill tree bonuses are kept.
+     */
     public void resetToDefaults() {
-        this.health = defaultHealth;
-        this.armor = defaultArmor;
-        this.magicResist = defaultMR;
-        this.physicalDamage = defaultPhysicalDamage;
-        this.magicDamage = defaultMagicDamage;
-        this.mana = defaultMana;
-        this.totalMana = defaultMana;
-        this.speed = defaultSpeed;
-        this.criticalDamage = defaultCritDmg;
-        this.criticalChance = defaultCritChance;
-        this.burstDamage = defaultBurstDmg;
-        this.burstChance = defaultBurstChance;
-        this.cooldownReduction = (int)defaultCDR;
-        this.lifeSteal = defaultLifeSteal;
-        this.rangedDamage = defaultRangedDamage;
-        this.attackSpeed = defaultAttackSpeed;
-        this.omnivamp = defaultOmnivamp;
-        this.healthRegen = defaultHealthRegen;
-        this.manaRegen = defaultManaRegen;
-        this.luck = defaultLuck;
-        this.miningFortune = defaultMiningFortune;
-        this.farmingFortune = defaultFarmingFortune;
-        this.lootingFortune = defaultLootingFortune;
-        this.fishingFortune = defaultFishingFortune;
-        this.lurePotency = defaultLurePotency;
-        this.fishingResilience = defaultFishingResilience;
-        this.fishingFocus = defaultFishingFocus;
-        this.fishingPrecision = defaultFishingPrecision;
-        this.seaMonsterAffinity = defaultSeaMonsterAffinity;
-        this.treasureSense = defaultTreasureSense;
+        clearLayer(StatLayer.EQUIPMENT);
+        clearLayer(StatLayer.ENCHANT);
+        clearLayer(StatLayer.BUFF);
+        this.mana = getTotalMana();
         this.currentHealth = defaultCurrentHealth;
         this.foodLevel = defaultFoodLevel;
         this.saturation = defaultSaturation;
         this.exhaustion = defaultExhaustion;
         this.expLevel = defaultExpLevel;
         this.expProgress = defaultExpProgress;
-        this.attackRange = defaultAttackRange;
-        this.size = defaultSize;
-        this.miningSpeed = defaultMiningSpeed;
-        this.buildRange = defaultBuildRange;
+    }
+
+    // ==================== Layers ====================
+
+    /**
+     * Gets the total of a stat: the sum of all its layers, clamped to the stat's range.
+     */
+    public double get(StatType type) {
+        int index = type.ordinal();
+        long bit = 1L << index;
+        if ((dirtyStats & bit) != 0) {
+            double total = 0;
+            for (double[] layer : layers) {
+                total += layer[index];
+            }
+            totals[index] = type.clamp(total);
+            dirtyStats &= ~bit;
+        }
+        return totals[index];
+    }
+
+    public double getLayer(StatLayer layer, StatType type) {
+        return layers[layer.ordinal()][type.ordinal()];
+    }
+
+    public void setLayer(StatLayer layer, StatType type, double value) {
+        double[] values = layers[layer.ordinal()];
+        int index = type.ordinal();
+        if (values[index] == value) {
+            return;
+        }
+        values[index] = value;
+        dirtyStats |= 1L << index;
+    }
+
+    public void addToLayer(StatLayer layer, StatType type, double amount) {
+        setLayer(layer, type, getLayer(layer, type) + amount);
+    }
+
+    /**
+     * Replaces a whole layer. Only stats whose value differs are marked for recomputation.
+     *
+     * @param values One value per stat, indexed by {@link StatType#ordinal()}
+     */
+    public void setLayer(StatLayer layer, double[] values) {
+        for (StatType type : STAT_TYPES) {
+            setLayer(layer, type, values[type.ordinal()]);
+        }
+    }
+
+    public void clearLayer(StatLayer layer) {
+        setLayer(layer, new double[STAT_TYPES.length]);
+    }
+
+    /**
+     * Creates an empty layer array for {@link #setLayer(StatLayer, double[])}.
+     */
+    public static double[] newLayer() {
+        return new double[STAT_TYPES.length];
+    }
+
+    /**
+     * Gets a stat without equipment, enchantments or buffs: the base, skill and skill tree
+     * layers, unclamped.
+     */
+    public double getDefault(StatType type) {
+        int index = type.ordinal();
+        return layers[StatLayer.BASE.ordinal()][index]
+            + layers[StatLayer.SKILL.ordinal()][index]
+            + layers[StatLayer.SKILL_TREE.ordinal()][index];
+    }
+
+    /**
+     * Sets a stat's total by adjusting its {@link StatLayer#BUFF} layer. This backs the
+     * plain setters; code that owns a source of stats should write its own layer instead.
+     */
+    public void setTotal(StatType type, double value) {
+        double buff = getLayer(StatLayer.BUFF, type);
+        double others = 0;
+        for (double[] layer : layers) {
+            others += layer[type.ordinal()];
+        }
+        setLayer(StatLayer.BUFF, type, value - (others - buff));
+    }
+
+    private int getInt(StatType type) {
+        return (int) Math.round(get(type));
     }
 
     // Getters and Setters for all stats
-    public int getHealth() { return health; }
-    public void setHealth(int health) { this.health = Math.max(0, health); }
+    public int getHealth() { return getInt(StatType.HEALTH); }
+    public void setHealth(int health) { setTotal(StatType.HEALTH, health); }
     
-    public int getArmor() { return armor; }
-    public void setArmor(int armor) { this.armor = armor; }
+    public int getArmor() { return getInt(StatType.ARMOR); }
+    public void setArmor(int armor) { setTotal(StatType.ARMOR, armor); }
     
-    public int getMagicResist() { return magicResist; }
-    public void setMagicResist(int magicResist) { this.magicResist = magicResist; }
+    public int getMagicResist() { return getInt(StatType.MAGIC_RESIST); }
+    public void setMagicResist(int magicResist) { setTotal(StatType.MAGIC_RESIST, magicResist); }
     
-    public int getPhysicalDamage() { return physicalDamage; }
-    public void setPhysicalDamage(int physicalDamage) { this.physicalDamage = Math.max(0, physicalDamage); }    
-    public int getMagicDamage() { return magicDamage; }
-    public void setMagicDamage(int magicDamage) { this.magicDamage = Math.max(0, magicDamage); }
+    public int getPhysicalDamage() { return getInt(StatType.PHYSICAL_DAMAGE); }
+    public void setPhysicalDamage(int physicalDamage) { setTotal(StatType.PHYSICAL_DAMAGE, physicalDamage); }
+    
+    public int getMagicDamage() { return getInt(StatType.MAGIC_DAMAGE); }
+    public void setMagicDamage(int magicDamage) { setTotal(StatType.MAGIC_DAMAGE, magicDamage); }
     
     public int getMana() { return mana; }
     public void setMana(int mana) { this.mana = Math.max(0, mana); }
     
-    public double getSpeed() { return speed; }
-    public void setSpeed(double speed) { this.speed = Math.max(0.1, speed); }
+    public double getSpeed() { return get(StatType.SPEED); }
+    public void setSpeed(double speed) { setTotal(StatType.SPEED, speed); }
     
-    public double getCriticalDamage() { return criticalDamage; }
-    public void setCriticalDamage(double criticalDamage) { this.criticalDamage = Math.max(1.0, criticalDamage); }
+    public double getCriticalDamage() { return get(StatType.CRITICAL_DAMAGE); }
+    public void setCriticalDamage(double criticalDamage) { setTotal(StatType.CRITICAL_DAMAGE, criticalDamage); }
     
-    public double getCriticalChance() { return criticalChance; }
-    public void setCriticalChance(double criticalChance) { this.criticalChance = Math.min(1.0, Math.max(0, criticalChance)); }
+    public double getCriticalChance() { return get(StatType.CRITICAL_CHANCE); }
+    public void setCriticalChance(double criticalChance) { setTotal(StatType.CRITICAL_CHANCE, criticalChance); }
 
-    public double getBurstDamage() { return burstDamage; }
-    public void setBurstDamage(double burstDamage) { this.burstDamage = Math.max(1.0, burstDamage); }
+    public double getBurstDamage() { return get(StatType.BURST_DAMAGE); }
+    public void setBurstDamage(double burstDamage) { setTotal(StatType.BURST_DAMAGE, burstDamage); }
     
-    public double getBurstChance() { return burstChance; }
-    public void setBurstChance(double burstChance) { this.burstChance = Math.min(1.0, Math.max(0, burstChance)); }
+    public double getBurstChance() { return get(StatType.BURST_CHANCE); }
+    public void setBurstChance(double burstChance) { setTotal(StatType.BURST_CHANCE, burstChance); }
     
-    public int getCooldownReduction() { return cooldownReduction; }
-    public void setCooldownReduction(int cooldownReduction) { this.cooldownReduction = Math.min(100, Math.max(0, cooldownReduction)); }
+    public int getCooldownReduction() { return getInt(StatType.COOLDOWN_REDUCTION); }
+    public void setCooldownReduction(int cooldownReduction) { setTotal(StatType.COOLDOWN_REDUCTION, cooldownReduction); }
     
-    public double getLifeSteal() { return lifeSteal; }
-    public void setLifeSteal(double lifeSteal) { this.lifeSteal = Math.max(0, lifeSteal); }
+    public double getLifeSteal() { return get(StatType.LIFE_STEAL); }
+    public void setLifeSteal(double lifeSteal) { setTotal(StatType.LIFE_STEAL, lifeSteal); }
     
-    public int getRangedDamage() { return rangedDamage; }
-    public void setRangedDamage(int rangedDamage) { this.rangedDamage = Math.max(0, rangedDamage); }
+    public int getRangedDamage() { return getInt(StatType.RANGED_DAMAGE); }
+    public void setRangedDamage(int rangedDamage) { setTotal(StatType.RANGED_DAMAGE, rangedDamage); }
     
-    public double getAttackSpeed() { return attackSpeed; }
-    public void setAttackSpeed(double attackSpeed) { this.attackSpeed = Math.max(0.1, attackSpeed); }
+    public double getAttackSpeed() { return get(StatType.ATTACK_SPEED); }
+    public void setAttackSpeed(double attackSpeed) { setTotal(StatType.ATTACK_SPEED, attackSpeed); }
     
-    public double getOmnivamp() { return omnivamp; }
-    public void setOmnivamp(double omnivamp) { this.omnivamp = Math.max(0, omnivamp); }
+    public double getOmnivamp() { return get(StatType.OMNIVAMP); }
+    public void setOmnivamp(double omnivamp) { setTotal(StatType.OMNIVAMP, omnivamp); }
 
     // Fortune Stats
-    public double getMiningFortune() { return miningFortune; }
-    public void setMiningFortune(double miningFortune) { this.miningFortune = Math.max(0, miningFortune); }
+    public double getMiningFortune() { return get(StatType.MINING_FORTUNE); }
+    public void setMiningFortune(double miningFortune) { setTotal(StatType.MINING_FORTUNE, miningFortune); }
     
-    public double getFarmingFortune() { return farmingFortune; }
-    public void setFarmingFortune(double farmingFortune) { this.farmingFortune = Math.max(0, farmingFortune); }
+    public double getFarmingFortune() { return get(StatType.FARMING_FORTUNE); }
+    public void setFarmingFortune(double farmingFortune) { setTotal(StatType.FARMING_FORTUNE, farmingFortune); }
     
-    public double getLootingFortune() { return lootingFortune; }
-    public void setLootingFortune(double lootingFortune) { this.lootingFortune = Math.max(0, lootingFortune); }
+    public double getLootingFortune() { return get(StatType.LOOTING_FORTUNE); }
+    public void setLootingFortune(double lootingFortune) { setTotal(StatType.LOOTING_FORTUNE, lootingFortune); }
     
-    public double getFishingFortune() { return fishingFortune; }
-    public void setFishingFortune(double fishingFortune) { this.fishingFortune = Math.max(0, fishingFortune); }
+    public double getFishingFortune() { return get(StatType.FISHING_FORTUNE); }
+    public void setFishingFortune(double fishingFortune) { setTotal(StatType.FISHING_FORTUNE, fishingFortune); }
     
     // Fishing Stats
-    public int getLurePotency() { return lurePotency; }
-    public void setLurePotency(int lurePotency) { this.lurePotency = Math.max(0, lurePotency); }
+    public int getLurePotency() { return getInt(StatType.LURE_POTENCY); }
+    public void setLurePotency(int lurePotency) { setTotal(StatType.LURE_POTENCY, lurePotency); }
     
-    public double getFishingResilience() { return fishingResilience; }
-    public void setFishingResilience(double fishingResilience) { this.fishingResilience = Math.max(0, fishingResilience); }
+    public double getFishingResilience() { return get(StatType.FISHING_RESILIENCE); }
+    public void setFishingResilience(double fishingResilience) { setTotal(StatType.FISHING_RESILIENCE, fishingResilience); }
     
-    public double getFishingFocus() { return fishingFocus; }
-    public void setFishingFocus(double fishingFocus) { this.fishingFocus = Math.max(0, fishingFocus); }
+    public double getFishingFocus() { return get(StatType.FISHING_FOCUS); }
+    public void setFishingFocus(double fishingFocus) { setTotal(StatType.FISHING_FOCUS, fishingFocus); }
     
-    public double getFishingPrecision() { return fishingPrecision; }
-    public void setFishingPrecision(double fishingPrecision) { this.fishingPrecision = Math.max(0, Math.min(100, fishingPrecision)); }
+    public double getFishingPrecision() { return get(StatType.FISHING_PRECISION); }
+    public void setFishingPrecision(double fishingPrecision) { setTotal(StatType.FISHING_PRECISION, fishingPrecision); }
 
-    public double getSeaMonsterAffinity() { return seaMonsterAffinity; }
-    public void setSeaMonsterAffinity(double seaMonsterAffinity) { this.seaMonsterAffinity = Math.max(0, seaMonsterAffinity); }
+    public double getSeaMonsterAffinity() { return get(StatType.SEA_MONSTER_AFFINITY); }
+    public void setSeaMonsterAffinity(double seaMonsterAffinity) { setTotal(StatType.SEA_MONSTER_AFFINITY, seaMonsterAffinity); }
 
-    public double getTreasureSense() { return treasureSense; }
-    public void setTreasureSense(double treasureSense) { this.treasureSense = Math.max(0, treasureSense); }
+    public double getTreasureSense() { return get(StatType.TREASURE_SENSE); }
+    public void setTreasureSense(double treasureSense) { setTotal(StatType.TREASURE_SENSE, treasureSense); }
 
     // Resource Stats
-    public int getManaRegen() { return manaRegen; }
-    public void setManaRegen(int manaRegen) { this.manaRegen = Math.max(0, manaRegen); }
+    public int getManaRegen() { return getInt(StatType.MANA_REGEN); }
+    public void setManaRegen(int manaRegen) { setTotal(StatType.MANA_REGEN, manaRegen); }
     
-    public int getLuck() { return luck; }
-    public void setLuck(int luck) { this.luck = luck; }
+    public int getLuck() { return getInt(StatType.LUCK); }
+    public void setLuck(int luck) { setTotal(StatType.LUCK, luck); }
     
     // Elemental Affinity
     public ElementalAffinity getElementalAffinity() { return elementalAffinity; }
@@ -251,16 +260,16 @@ public class PlayerStats {
     public com.server.enchantments.elements.CategorizedAffinity getCategorizedAffinity() { return categorizedAffinity; }
     public void setCategorizedAffinity(com.server.enchantments.elements.CategorizedAffinity affinity) { this.categorizedAffinity = affinity; }
     
-    public int getTotalMana() { return totalMana; }
+    public int getTotalMana() { return getInt(StatType.MANA); }
     public void setTotalMana(int totalMana) { 
-        this.totalMana = Math.max(0, totalMana);
-        this.mana = Math.min(this.mana, this.totalMana); // Ensure current mana doesn't exceed new total
+        setTotal(StatType.MANA, totalMana);
+        this.mana = Math.min(this.mana, getTotalMana()); // Ensure current mana doesn't exceed new total
     }
 
     // Minecraft stat getters and setters
     public double getCurrentHealth() { return currentHealth; }
     public void setCurrentHealth(double currentHealth) { 
-        this.currentHealth = Math.min(health, Math.max(0, currentHealth));
+        this.currentHealth = Math.min(getHealth(), Math.max(0, currentHealth));
     }
     
     public int getFoodLevel() { return foodLevel; }
@@ -288,138 +297,134 @@ public class PlayerStats {
         this.expProgress = Math.min(1.0f, Math.max(0.0f, expProgress));
     }
     
-    public double getAttackRange() { return attackRange; }
-    public void setAttackRange(double attackRange) { this.attackRange = Math.max(3.0, attackRange); }
+    public double getAttackRange() { return get(StatType.ATTACK_RANGE); }
+    public void setAttackRange(double attackRange) { setTotal(StatType.ATTACK_RANGE, attackRange); }
 
-    public double getSize() { return size; }
-    public void setSize(double size) { 
-        // Clamp size between Minecraft's allowed range
-        this.size = Math.min(16.0, Math.max(0.0625, size)); 
-    }
+    public double getSize() { return get(StatType.SIZE); }
+    public void setSize(double size) { setTotal(StatType.SIZE, size); }
 
-    public double getMiningSpeed() { return miningSpeed; }
-    public void setMiningSpeed(double miningSpeed) { this.miningSpeed = Math.max(0.1, miningSpeed); }
+    public double getMiningSpeed() { return get(StatType.MINING_SPEED); }
+    public void setMiningSpeed(double miningSpeed) { setTotal(StatType.MINING_SPEED, miningSpeed); }
 
 
     // Add getter and setter for healthRegen
-    public double getHealthRegen() { return healthRegen; }
-    public void setHealthRegen(double healthRegen) { this.healthRegen = Math.max(0, healthRegen); }
+    public double getHealthRegen() { return get(StatType.HEALTH_REGEN); }
+    public void setHealthRegen(double healthRegen) { setTotal(StatType.HEALTH_REGEN, healthRegen); }
 
-    public double getBuildRange() { return buildRange; }
-    public void setBuildRange(double buildRange) { this.buildRange = Math.max(4.5, buildRange); }    
+    public double getBuildRange() { return get(StatType.BUILD_RANGE); }
+    public void setBuildRange(double buildRange) { setTotal(StatType.BUILD_RANGE, buildRange); }    
 
     public int getDefaultHealth() {
-        return defaultHealth;
+        return (int) getDefault(StatType.HEALTH);
     }
 
     public int getDefaultArmor() {
-        return defaultArmor;
+        return (int) getDefault(StatType.ARMOR);
     }
 
     public int getDefaultMagicResist() {
-        return defaultMR;
+        return (int) getDefault(StatType.MAGIC_RESIST);
     }
 
     public int getDefaultPhysicalDamage() {
-        return defaultPhysicalDamage;
+        return (int) getDefault(StatType.PHYSICAL_DAMAGE);
     }    
 
     public int getDefaultMagicDamage() {
-        return defaultMagicDamage;
+        return (int) getDefault(StatType.MAGIC_DAMAGE);
     }
 
     public int getDefaultMana() {
-        return defaultMana;
+        return (int) getDefault(StatType.MANA);
     }   
 
     public double getDefaultSpeed() {
-        return defaultSpeed;
+        return getDefault(StatType.SPEED);
     }
 
     public double getDefaultCriticalDamage() {
-        return defaultCritDmg;
+        return getDefault(StatType.CRITICAL_DAMAGE);
     }
 
     public double getDefaultCriticalChance() {
-        return defaultCritChance;
+        return getDefault(StatType.CRITICAL_CHANCE);
     }
 
     public double getDefaultBurstDamage() {
-        return defaultBurstDmg;
+        return getDefault(StatType.BURST_DAMAGE);
     }
 
     public double getDefaultBurstChance() {
-        return defaultBurstChance;
+        return getDefault(StatType.BURST_CHANCE);
     }
 
     public int getDefaultCooldownReduction() {
-        return (int)defaultCDR;
+        return (int) getDefault(StatType.COOLDOWN_REDUCTION);
     }
 
     public double getDefaultLifeSteal() {
-        return defaultLifeSteal;
+        return getDefault(StatType.LIFE_STEAL);
     }
 
     public int getDefaultRangedDamage() {
-        return defaultRangedDamage;
+        return (int) getDefault(StatType.RANGED_DAMAGE);
     }
 
     public double getDefaultAttackSpeed() {
-        return defaultAttackSpeed;
+        return getDefault(StatType.ATTACK_SPEED);
     }   
 
     public double getDefaultOmnivamp() {
-        return defaultOmnivamp;
+        return getDefault(StatType.OMNIVAMP);
     }
 
     public int getDefaultManaRegen() {
-        return defaultManaRegen;
+        return (int) getDefault(StatType.MANA_REGEN);
     }
 
     public int getDefaultLuck() {
-        return defaultLuck;
+        return (int) getDefault(StatType.LUCK);
     }
 
     public double getDefaultMiningFortune() {
-        return defaultMiningFortune;
+        return getDefault(StatType.MINING_FORTUNE);
     }
 
     public double getDefaultFarmingFortune() {
-        return defaultFarmingFortune;
+        return getDefault(StatType.FARMING_FORTUNE);
     }
 
     public double getDefaultLootingFortune() {
-        return defaultLootingFortune;
+        return getDefault(StatType.LOOTING_FORTUNE);
     }
 
     public double getDefaultFishingFortune() {
-        return defaultFishingFortune;
+        return getDefault(StatType.FISHING_FORTUNE);
     }
     
     public int getDefaultLurePotency() {
-        return defaultLurePotency;
+        return (int) getDefault(StatType.LURE_POTENCY);
     }
     
     public double getDefaultFishingResilience() {
-        return defaultFishingResilience;
+        return getDefault(StatType.FISHING_RESILIENCE);
     }
     
     public double getDefaultFishingFocus() {
-        return defaultFishingFocus;
+        return getDefault(StatType.FISHING_FOCUS);
     }
     
     public double getDefaultFishingPrecision() {
-        return defaultFishingPrecision;
+        return getDefault(StatType.FISHING_PRECISION);
     }
     
     public double getDefaultSeaMonsterAffinity() {
-        return defaultSeaMonsterAffinity;
+        return getDefault(StatType.SEA_MONSTER_AFFINITY);
     }
     
     public double getDefaultTreasureSense() {
-        return defaultTreasureSense;
+        return getDefault(StatType.TREASURE_SENSE);
     }
-    
     /**
      * Calculate fishing wait time (bite delay) based on lure potency
      * Uses logarithmic scaling: higher lure potency = shorter wait time
@@ -441,6 +446,7 @@ public class PlayerStats {
         int minWaitTicks = 20; // 1 second minimum (changed from 5 seconds)
         
         // Calculate max wait time based on lure potency
+        int lurePotency = getLurePotency();
         double maxWaitSeconds;
         if (lurePotency <= 0) {
             maxWaitSeconds = 100.0; // Default max
@@ -464,15 +470,15 @@ public class PlayerStats {
     }
 
     public double getDefaultAttackRange() {
-        return defaultAttackRange;
+        return getDefault(StatType.ATTACK_RANGE);
     }
 
     public double getDefaultSize() {
-        return defaultSize;
+        return getDefault(StatType.SIZE);
     }
 
     public double getDefaultMiningSpeed() {
-        return defaultMiningSpeed;
+        return getDefault(StatType.MINING_SPEED);
     }
 
     // Default Minecraft stats getters
@@ -501,11 +507,11 @@ public class PlayerStats {
     }
 
     public double getDefaultHealthRegen() {
-            return defaultHealthRegen;
+        return getDefault(StatType.HEALTH_REGEN);
     }
     
     public double getDefaultBuildRange() {
-        return defaultBuildRange;
+        return getDefault(StatType.BUILD_RANGE);
     }
 
     /**
@@ -514,16 +520,16 @@ public class PlayerStats {
      * @return The calculated damage
      */
     public double calculatePhysicalDamage(boolean forceCritical) {
-        double damage = physicalDamage;
+        double damage = getPhysicalDamage();
         
         // Apply critical damage if forced or random chance
-        if (forceCritical || Math.random() < criticalChance) {
-            damage *= criticalDamage;
+        if (forceCritical || Math.random() < getCriticalChance()) {
+            damage *= getCriticalDamage();
         }
         
         // Apply burst damage
-        if (Math.random() < burstChance) {
-            damage *= burstDamage;
+        if (Math.random() < getBurstChance()) {
+            damage *= getBurstDamage();
         }
         
         return damage;
@@ -543,16 +549,16 @@ public class PlayerStats {
      * @return The calculated damage
      */
     public double calculateMagicDamage(boolean forceCritical) {
-        double damage = magicDamage;
+        double damage = getMagicDamage();
         
         // Apply critical damage if forced or random chance
-        if (forceCritical || Math.random() < criticalChance) {
-            damage *= criticalDamage;
+        if (forceCritical || Math.random() < getCriticalChance()) {
+            damage *= getCriticalDamage();
         }
         
         // Apply burst damage
-        if (Math.random() < burstChance) {
-            damage *= burstDamage;
+        if (Math.random() < getBurstChance()) {
+            damage *= getBurstDamage();
         }
         
         return damage;
@@ -571,7 +577,7 @@ public class PlayerStats {
      * @return True if the attack should be critical
      */
     public boolean rollCriticalHit() {
-        return Math.random() < criticalChance;
+        return Math.random() < getCriticalChance();
     }
 
     /**
@@ -579,106 +585,23 @@ public class PlayerStats {
      * @return The critical damage multiplier
      */
     public double getCriticalMultiplier() {
-        return criticalDamage;
+        return getCriticalDamage();
     }
 
-        // Apply stats to player's minecraft attributes
+    /**
+     * Applies these stats to the player's Minecraft attributes. Attributes go through the
+     * stat scanner's attribute sync, so only values that changed are written.
+     */
     public void applyToPlayer(Player player) {
-        // Health (set max health based on the health stat)
-        AttributeInstance maxHealth = player.getAttribute(Attribute.GENERIC_MAX_HEALTH);
-        if (maxHealth != null) {
-            // Remove all existing modifiers
-            Set<AttributeModifier> healthModifiers = new HashSet<>(maxHealth.getModifiers());
-            for (AttributeModifier mod : healthModifiers) {
-                maxHealth.removeModifier(mod);
-            }
-            
-            // Set base value to vanilla default (20.0)
-            maxHealth.setBaseValue(20.0);
-            
-            // Add our custom modifier for the health stat value
-            // This allows health to be properly adjusted when armor is equipped/unequipped
-            double healthBonus = health - 20.0;
-            if (healthBonus != 0) {
-                AttributeModifier healthMod = new AttributeModifier(
-                    UUID.randomUUID(),
-                    "mmo.max_health",
-                    healthBonus,
-                    AttributeModifier.Operation.ADD_NUMBER
-                );
-                maxHealth.addModifier(healthMod);
-            }
+        StatScanManager scanManager = Main.getInstance().getStatScanManager();
+        if (scanManager != null) {
+            scanManager.applyAttributesToPlayer(player, this);
         }
 
         // Attack Damage
         AttributeInstance attackDamage = player.getAttribute(Attribute.GENERIC_ATTACK_DAMAGE);
-        if (attackDamage != null) {
-            attackDamage.setBaseValue(physicalDamage);
-        }
-
-        // Movement Speed
-        AttributeInstance movementSpeed = player.getAttribute(Attribute.GENERIC_MOVEMENT_SPEED);
-        if (movementSpeed != null) {
-            movementSpeed.setBaseValue(speed);
-        }
-
-        // Attack Speed - handled separately with proper attribute modifiers
-
-        // Apply Scale attribute (added in 1.20.5)
-        try {
-            AttributeInstance scaleAttr = player.getAttribute(Attribute.GENERIC_SCALE);
-            if (scaleAttr != null) {
-                // Remove any existing modifiers
-                Set<AttributeModifier> scaleModifiers = new HashSet<>(scaleAttr.getModifiers());
-                for (AttributeModifier mod : scaleModifiers) {
-                    scaleAttr.removeModifier(mod);
-                }
-                
-                // Set base value to default (1.0)
-                scaleAttr.setBaseValue(1.0);
-                
-                // Add our custom modifier for the size value
-                double sizeBonus = size - 1.0;
-                if (sizeBonus != 0) {
-                    AttributeModifier sizeMod = new AttributeModifier(
-                        UUID.randomUUID(),
-                        "mmo.size",
-                        sizeBonus,
-                        AttributeModifier.Operation.ADD_NUMBER
-                    );
-                    scaleAttr.addModifier(sizeMod);
-                }
-            }
-        } catch (Exception e) {
-            // Scale attribute might not be available in older versions
-        }
-
-        try {
-            AttributeInstance miningSpeedAttr = player.getAttribute(Attribute.PLAYER_BLOCK_BREAK_SPEED);
-            if (miningSpeedAttr != null) {
-                // Remove any existing modifiers
-                Set<AttributeModifier> miningSpeedModifiers = new HashSet<>(miningSpeedAttr.getModifiers());
-                for (AttributeModifier mod : miningSpeedModifiers) {
-                    miningSpeedAttr.removeModifier(mod);
-                }
-                
-                // Set base value to default (1.0)
-                miningSpeedAttr.setBaseValue(1.0);
-                
-                // Add our custom modifier for the mining speed value
-                double miningSpeedBonus = miningSpeed - 1.0;
-                if (miningSpeedBonus != 0) {
-                    AttributeModifier miningSpeedMod = new AttributeModifier(
-                        UUID.randomUUID(),
-                        "mmo.mining_speed",
-                        miningSpeedBonus,
-                        AttributeModifier.Operation.ADD_NUMBER
-                    );
-                    miningSpeedAttr.addModifier(miningSpeedMod);
-                }
-            }
-        } catch (Exception e) {
-            // Mining speed attribute might not be available in older versions
+        if (attackDamage != null && attackDamage.getBaseValue() != getPhysicalDamage()) {
+            attackDamage.setBaseValue(getPhysicalDamage());
         }
 
         // Apply additional Minecraft stats
@@ -691,42 +614,9 @@ public class PlayerStats {
 
     // Update stats from player's minecraft attributes
     public void updateFromPlayer(Player player) {
-        // Existing attribute updates
+        // Layered stats are derived from skills and equipment, so only the
+        // Minecraft-owned values are read back
         this.currentHealth = player.getHealth();
-
-        AttributeInstance attackDamage = player.getAttribute(Attribute.GENERIC_ATTACK_DAMAGE);
-        if (attackDamage != null) {
-            this.physicalDamage = defaultPhysicalDamage; // Store base value instead of current
-        }
-
-        AttributeInstance movementSpeed = player.getAttribute(Attribute.GENERIC_MOVEMENT_SPEED);
-        if (movementSpeed != null) {
-            this.speed = movementSpeed.getBaseValue();
-        }
-
-        AttributeInstance attackSpeedAttr = player.getAttribute(Attribute.GENERIC_ATTACK_SPEED);
-        if (attackSpeedAttr != null) {
-            this.attackSpeed = attackSpeedAttr.getBaseValue();
-        }
-
-        try {
-            AttributeInstance scaleAttr = player.getAttribute(Attribute.GENERIC_SCALE);
-            if (scaleAttr != null) {
-                this.size = scaleAttr.getBaseValue();
-            }
-        } catch (Exception e) {
-            // Scale attribute might not be available in older versions
-        }
-
-        try {
-            AttributeInstance miningSpeedAttr = player.getAttribute(Attribute.PLAYER_BLOCK_BREAK_SPEED);
-            if (miningSpeedAttr != null) {
-                this.miningSpeed = miningSpeedAttr.getBaseValue();
-            }
-        } catch (Exception e) {
-            // Mining speed attribute might not be available in older versions
-        }
-
         this.foodLevel = player.getFoodLevel();
         this.saturation = player.getSaturation();
         this.exhaustion = player.getExhaustion();
@@ -753,22 +643,22 @@ public class PlayerStats {
 
     // Update this method to accept a temporary mana cap
     public void regenerateMana() {
-        setMana(Math.min(mana + manaRegen, totalMana));
+        setMana(Math.min(mana + getManaRegen(), getTotalMana()));
     }
 
     // Add this method to set mana with a temporary cap
     public void setManaWithTemporaryCap(int mana, int tempBonus) {
-        this.mana = Math.min(Math.max(0, mana), totalMana + tempBonus);
+        this.mana = Math.min(Math.max(0, mana), getTotalMana() + tempBonus);
     }
 
     // Add this method to set mana with consideration for the total mana cap
     public void setManaWithCap(int mana) {
-        this.mana = Math.min(totalMana, Math.max(0, mana));
+        this.mana = Math.min(getTotalMana(), Math.max(0, mana));
     }
 
     // Add this method to get effective total mana with a bonus
     public int getEffectiveTotalMana(int tempBonus) {
-        return totalMana + tempBonus;
+        return getTotalMana() + tempBonus;
     }
 
     /**
@@ -776,6 +666,7 @@ public class PlayerStats {
      * @return Percentage of physical damage reduced (0-100)
      */
     public double getPhysicalDamageReduction() {
+        int armor = getArmor();
         return (armor * 100.0) / (100.0 + armor);
     }
 
@@ -784,13 +675,15 @@ public class PlayerStats {
      * @return Percentage of magic damage reduced (0-100)
      */
     public double getMagicDamageReduction() {
+        int magicResist = getMagicResist();
         return (magicResist * 100.0) / (100.0 + magicResist);
     }
 
 
     public void regenerateHealth() {
+        int health = getHealth();
         if (currentHealth < health) {
-            setCurrentHealth(Math.min(currentHealth + healthRegen, health));
+            setCurrentHealth(Math.min(currentHealth + getHealthRegen(), health));
         }
     }
     
@@ -798,7 +691,7 @@ public class PlayerStats {
     public void applyHealthRegeneration(Player player) {
         if (player.getHealth() < player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue()) {
             double newHealth = Math.min(
-                player.getHealth() + healthRegen,
+                player.getHealth() + getHealthRegen(),
                 player.getAttribute(Attribute.GENERIC_MAX_HEALTH).getValue()
             );
             player.setHealth(newHealth);
@@ -818,32 +711,26 @@ public class PlayerStats {
         player.setExp(expProgress);
     }
 
+    // ==================== Skill Tree Bonuses ====================
+
     public void increaseDefaultMiningFortune(double amount) {
-        this.defaultMiningFortune += amount;
-        // Also update the current mining fortune value to reflect the new default
-        this.miningFortune += amount;
+        addToLayer(StatLayer.SKILL_TREE, StatType.MINING_FORTUNE, amount);
     }
 
     public void increaseDefaultMiningSpeed(double amount) {
-        this.defaultMiningSpeed += amount;
-        // Also update the current mining speed value to reflect the new default
-        this.miningSpeed += amount;
+        addToLayer(StatLayer.SKILL_TREE, StatType.MINING_SPEED, amount);
     }
 
     /**
      * Add farming fortune from skill tree nodes
-     * This will properly update both the default value and current value
      * @param amount The amount of farming fortune to add
      */
     public void increaseDefaultFarmingFortune(double amount) {
-        this.defaultFarmingFortune += amount;
-        // Also update the current farming fortune value to reflect the new default
-        this.farmingFortune += amount;
+        addToLayer(StatLayer.SKILL_TREE, StatType.FARMING_FORTUNE, amount);
     }
 
     /**
      * Add farming speed from skill tree nodes
-     * This will properly update both the default value and current value
      * @param amount The amount of farming speed to add
      */
     public void increaseDefaultFarmingSpeed(double amount) {
@@ -861,28 +748,68 @@ public class PlayerStats {
 
     /**
      * Add mining fortune from skill tree nodes
-     * This will properly update both the default value and current value
      * @param amount The amount of mining fortune to add
      */
     public void addMiningFortune(double amount) {
-        // Update both the current and default values
-        this.miningFortune += amount;
+        addToLayer(StatLayer.SKILL_TREE, StatType.MINING_FORTUNE, amount);
     }
 
     /**
      * Increase the default armor by a specific amount
-     * This method ensures both default and current values are updated properly
      */
     public void increaseDefaultArmor(int amount) {
-        this.defaultArmor += amount;
-        this.armor += amount;
-        
-        // Ensure values don't go below 0 (minimum armor)
-        if (this.defaultArmor < 0) {
-            this.defaultArmor = 0;
-        }
-        if (this.armor < 0) {
-            this.armor = 0;
+        addToLayer(StatLayer.SKILL_TREE, StatType.ARMOR, amount);
+    }
+
+    // ==================== Persistence ====================
+
+    // Layers that are part of a profile; equipment, enchantment and buff layers are rebuilt by scans
+    private static final StatLayer[] SAVED_LAYERS = { StatLayer.BASE, StatLayer.SKILL, StatLayer.SKILL_TREE };
+
+    /**
+     * Writes the saved layers and the resource and Minecraft values. Stats are keyed by name so
+     * saved profiles survive changes to the order of {@link StatType}.
+     */
+    public void writeTo(ConfigurationSection section) {
+        for (StatLayer layer : SAVED_LAYERS) {
+            double[] values = layers[layer.ordinal()];
+            String prefix = "layers." + layer.name().toLowerCase() + ".";
+            for (StatType type : STAT_TYPES) {
+                if (values[type.ordinal()] != 0 || layer == StatLayer.BASE) {
+                    section.set(prefix + type.name(), values[type.ordinal()]);
+                }
+            }
         }
+        section.set("mana", mana);
+        section.set("current-health", currentHealth);
+        section.set("food-level", foodLevel);
+        section.set("saturation", saturation);
+        section.set("exhaustion", exhaustion);
+        section.set("exp-level", expLevel);
+        section.set("exp-progress", expProgress);
     }
-}
\ No newline at end of file
+
+    /**
+     * Replaces the saved layers and values with ones written by {@link #writeTo}. Stats missing
+     * from the section keep their default.
+     */
+    public void readFrom(ConfigurationSection section) {
+        for (StatLayer layer : SAVED_LAYERS) {
+            String prefix = "layers." + layer.name().toLowerCase() + ".";
+            double[] values = newLayer();
+            for (StatType type : STAT_TYPES) {
+                values[type.ordinal()] = section.getDouble(prefix + type.name(),
+                    layer == StatLayer.BASE ? type.getDefaultValue() : 0);
+            }
+            setLayer(layer, values);
+        }
+        // Assigned directly: equipment bonuses aren't applied yet, so the setters would clamp too low
+        this.mana = section.getInt("mana", mana);
+        this.currentHealth = section.getDouble("current-health", currentHealth);
+        this.foodLevel = section.getInt("food-level", foodLevel);
+        this.saturation = (float) section.getDouble("saturation", saturation);
+        this.exhaustion = (float) section.getDouble("exhaustion", exhaustion);
+        this.expLevel = section.getInt("exp-level", expLevel);
+        this.expProgress = (float) section.getDouble("exp-progress", expProgress);
+    }
+}
@@ -0,0 +1,20 @@
+package com.server.profiles.stats;
+
+/**
+ * Sources that contribute to a stat. A stat's total is the sum of its value in every layer,
+ * so each source only ever writes its own layer and never needs to undo another's.
+ */
+public enum StatLayer {
+    /** Profile defaults, changed only by admins */
+    BASE,
+    /** Skill level-up bonuses */
+    SKILL,
+    /** Skill tree node bonuses */
+    SKILL_TREE,
+    /** Stats from equipped items, rewritten on every equipment scan */
+    EQUIPMENT,
+    /** Stats from enchantments on equipped items */
+    ENCHANT,
+    /** Temporary buffs from abilities */
+    BUFF
+}
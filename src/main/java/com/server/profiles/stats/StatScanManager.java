@@ -6,8 +6,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.bukkit.ChatColor;
 import org.bukkit.Material;
@@ -24,6 +22,7 @@ import org.bukkit.scheduler.BukkitTask;
 
 import com.server.Main;
 import com.server.debug.DebugManager.DebugSystem;
+import com.server.items.ItemStatData;
 import com.server.profiles.PlayerProfile;
 import com.server.profiles.ProfileManager;
 
@@ -34,6 +33,7 @@ public class StatScanManager {
     private final Main plugin;
     private final Map<UUID, BukkitTask> playerScanTasks = new HashMap<>();
     private Map<UUID, ItemStatBonuses> lastHeldItemBonuses = new HashMap<>();
+    private final AttributeSync attributeSync;
     private static final int SCAN_INTERVAL = 5; // Update every 5 ticks (1/4 second)
     
     // Attribute modifier name constants for proper tracking and removal
@@ -44,6 +44,8 @@ public class StatScanManager {
     private static final String MMO_MOVEMENT_SPEED_MODIFIER = "mmo.movementspeed";
     private static final String MMO_MINING_SPEED_MODIFIER = "mmo.mining_speed";
     private static final String MMO_BUILD_RANGE_MODIFIER = "mmo.build_range";
+    private static final String MMO_STEP_HEIGHT_MODIFIER = "mmo.step_height";
+    private static final String MMO_JUMP_STRENGTH_MODIFIER = "mmo.jump_strength";
     
     // Fixed UUIDs for each modifier type - ensures proper removal
     private static final UUID MMO_HEALTH_UUID = UUID.fromString("10000000-0000-0000-0000-000000000001");
@@ -60,6 +62,7 @@ public class StatScanManager {
      */
     public StatScanManager(Main plugin) {
         this.plugin = plugin;
+        this.attributeSync = new AttributeSync(plugin);
     }
     
     /**
@@ -67,6 +70,7 @@ public class StatScanManager {
      */
     public void startScanning(Player player) {
         stopScanning(player); // Stop any existing scanning first
+        attributeSync.invalidate(player); // Login and profile loading rewrite attributes
         
         // Store the current item in hand to detect when it changes
         final ItemStack[] lastItem = new ItemStack[1];
@@ -226,6 +230,7 @@ public class StatScanManager {
      * Stop scanning a player's stats 
      */
     public void stopScanning(Player player) {
+        attributeSync.invalidate(player);
         BukkitTask task = playerScanTasks.remove(player.getUniqueId());
         if (task != null) {
             task.cancel();
@@ -234,8 +239,8 @@ public class StatScanManager {
             lastHeldItemBonuses.remove(player.getUniqueId());
             player.removeMetadata("last_known_armor", plugin); // Clean up armor metadata
             
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"Stopped stat scanning for " + player.getName());
+            if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                plugin.debugLog(DebugSystem.STATS, player, "Stopped stat scanning for " + player.getName());
             }
         }
     }
@@ -254,13 +259,15 @@ public class StatScanManager {
                     // Ensure current health is saved before resetting attributes
                     profile.getStats().setCurrentHealth(player.getHealth());
                     
-                    if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                        plugin.debugLog(DebugSystem.STATS, "Saved " + player.getName() + "'s health (" + player.getHealth() + 
+                    if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                        plugin.debugLog(DebugSystem.STATS, player, "Saved " + player.getName() + "'s health (" + player.getHealth() + 
                                     ") before attribute reset");
                     }
                 }
             }
             
+            attributeSync.invalidate(player);
+            
             // Reset attributes but DO NOT modify health at all
             // Only reset modifiers so vanilla doesn't override values
             AttributeInstance healthAttribute = player.getAttribute(Attribute.GENERIC_MAX_HEALTH);
@@ -302,7 +309,7 @@ public class StatScanManager {
                 AttributeInstance stepHeightAttribute = player.getAttribute(Attribute.GENERIC_STEP_HEIGHT);
                 if (stepHeightAttribute != null) {
                     for (AttributeModifier mod : new HashSet<>(stepHeightAttribute.getModifiers())) {
-                        if (mod.getName().equals("mmo.step_height")) {
+                        if (mod.getName().equals(MMO_STEP_HEIGHT_MODIFIER)) {
                             stepHeightAttribute.removeModifier(mod);
                         }
                     }
@@ -317,7 +324,7 @@ public class StatScanManager {
                 AttributeInstance jumpStrengthAttribute = player.getAttribute(Attribute.GENERIC_JUMP_STRENGTH);
                 if (jumpStrengthAttribute != null) {
                     for (AttributeModifier mod : new HashSet<>(jumpStrengthAttribute.getModifiers())) {
-                        if (mod.getName().equals("mmo.jump_strength")) {
+                        if (mod.getName().equals(MMO_JUMP_STRENGTH_MODIFIER)) {
                             jumpStrengthAttribute.removeModifier(mod);
                         }
                     }
@@ -369,10 +376,6 @@ public class StatScanManager {
             // Get the stats object to update
             PlayerStats stats = profile.getStats();
             
-            // IMPORTANT: Reset stats to base values BEFORE scanning equipment
-            // This ensures we don't double-apply stats
-            resetStatsToBase(stats);
-            
             // Create a container for all item bonuses
             ItemStatBonuses bonuses = scanAllEquipment(player);
             
@@ -405,34 +408,34 @@ public class StatScanManager {
         PlayerInventory inventory = player.getInventory();
         
         // Process armor pieces first
-        if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-            plugin.debugLog(DebugSystem.STATS,"Scanning equipment for " + player.getName() + ":");
+        if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+            plugin.debugLog(DebugSystem.STATS, player, "Scanning equipment for " + player.getName() + ":");
         }
 
         // Process main hand item ONLY if it's a weapon, not if it's armor or something else that double-processes
         ItemStack mainHandItem = inventory.getItemInMainHand();
-        if (mainHandItem != null && mainHandItem.getType() != Material.AIR && 
-            mainHandItem.hasItemMeta() && mainHandItem.getItemMeta().hasLore()) {
+        if (mainHandItem != null && mainHandItem.getType() != Material.AIR && mainHandItem.hasItemMeta()) {
             
             // Skip if it's armor - armors are processed separately
             if (!isArmorItem(mainHandItem)) {
+                ItemStatData.Stats mainHandStats = ItemStatData.getStatsIfPresent(mainHandItem);
                 // Only process if it's an identifiable weapon or has weapon stats
                 // This prevents double counting
-                if (isWeaponItem(mainHandItem)) {
+                if (isWeaponItem(mainHandItem, mainHandStats)) {
                     String itemName = mainHandItem.hasItemMeta() && mainHandItem.getItemMeta().hasDisplayName() ? 
                                 mainHandItem.getItemMeta().getDisplayName() : mainHandItem.getType().toString();
                     
-                    if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                        plugin.debugLog(DebugSystem.STATS,"  Processing main hand: " + itemName);
+                    if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                        plugin.debugLog(DebugSystem.STATS, player, "  Processing main hand: " + itemName);
                     }
                     
-                    extractStatsFromItem(mainHandItem, bonuses);
-                } else if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                    plugin.debugLog(DebugSystem.STATS,"  Skipping non-weapon item in main hand: " + 
+                    addItemStats(mainHandItem, mainHandStats, bonuses);
+                } else if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                    plugin.debugLog(DebugSystem.STATS, player, "  Skipping non-weapon item in main hand: " + 
                                         mainHandItem.getType().toString());
                 }
-            } else if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"  Skipping armor item in main hand: " + 
+            } else if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                plugin.debugLog(DebugSystem.STATS, player, "  Skipping armor item in main hand: " + 
                                     mainHandItem.getType().toString());
             }
         }
@@ -444,45 +447,45 @@ public class StatScanManager {
         ItemStack boots = inventory.getBoots();
         
         // Process armor pieces
-        if (helmet != null && helmet.hasItemMeta() && helmet.getItemMeta().hasLore()) {
+        if (helmet != null && helmet.hasItemMeta()) {
             String itemName = helmet.hasItemMeta() && helmet.getItemMeta().hasDisplayName() ? 
                             helmet.getItemMeta().getDisplayName() : helmet.getType().toString();
             
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"  Processing helmet: " + itemName);
+            if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                plugin.debugLog(DebugSystem.STATS, player, "  Processing helmet: " + itemName);
             }
             
             extractStatsFromItem(helmet, bonuses);
         }
         
-        if (chestplate != null && chestplate.hasItemMeta() && chestplate.getItemMeta().hasLore()) {
+        if (chestplate != null && chestplate.hasItemMeta()) {
             String itemName = chestplate.hasItemMeta() && chestplate.getItemMeta().hasDisplayName() ? 
                             chestplate.getItemMeta().getDisplayName() : chestplate.getType().toString();
             
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"  Processing chestplate: " + itemName);
+            if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                plugin.debugLog(DebugSystem.STATS, player, "  Processing chestplate: " + itemName);
             }
             
             extractStatsFromItem(chestplate, bonuses);
         }
         
-        if (leggings != null && leggings.hasItemMeta() && leggings.getItemMeta().hasLore()) {
+        if (leggings != null && leggings.hasItemMeta()) {
             String itemName = leggings.hasItemMeta() && leggings.getItemMeta().hasDisplayName() ? 
                             leggings.getItemMeta().getDisplayName() : leggings.getType().toString();
             
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"  Processing leggings: " + itemName);
+            if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                plugin.debugLog(DebugSystem.STATS, player, "  Processing leggings: " + itemName);
             }
             
             extractStatsFromItem(leggings, bonuses);
         }
         
-        if (boots != null && boots.hasItemMeta() && boots.getItemMeta().hasLore()) {
+        if (boots != null && boots.hasItemMeta()) {
             String itemName = boots.hasItemMeta() && boots.getItemMeta().hasDisplayName() ? 
                             boots.getItemMeta().getDisplayName() : boots.getType().toString();
             
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"  Processing boots: " + itemName);
+            if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                plugin.debugLog(DebugSystem.STATS, player, "  Processing boots: " + itemName);
             }
             
             extractStatsFromItem(boots, bonuses);
@@ -528,7 +531,7 @@ public class StatScanManager {
     /**
      * Determine if an item is a weapon that shouldn't be processed twice
      */
-    private boolean isWeaponItem(ItemStack item) {
+    private boolean isWeaponItem(ItemStack item, ItemStatData.Stats stats) {
         if (item == null) return false;
         
         // If it's a recognized weapon by material type
@@ -547,138 +550,24 @@ public class StatScanManager {
             isCustomWeapon = (modelData >= 210000 && modelData < 300000);
         }
         
-        // If it contains weapon stat patterns in the lore
-        boolean hasWeaponStats = false;
-        if (item.hasItemMeta() && item.getItemMeta().hasLore()) {
-            for (String loreLine : item.getItemMeta().getLore()) {
-                String cleanLine = stripColorCodes(loreLine);
-                if (cleanLine.contains("Physical Damage:") || 
-                    cleanLine.contains("Critical Damage:") ||
-                    cleanLine.contains("Attack Speed:") ||
-                    cleanLine.contains("Life Steal:") ||
-                    cleanLine.contains("Lifesteal:")) {
-                    hasWeaponStats = true;
-                    break;
-                }
-            }
-        }
+        // If it carries weapon stats
+        boolean hasWeaponStats = stats != null && (stats.physicalDamage != 0 || stats.critDamage != 0
+            || stats.attackSpeed != 0 || stats.lifeSteal != 0);
         
         // It's a weapon if it fits any of these criteria
         return isVanillaWeapon || isCustomWeapon || hasWeaponStats;
     }
 
     /**
-     * Extract base integer stat value from a line - FIXED: Handle integer format after enchanting
-     */
-    private int extractBaseIntStat(String loreLine, String statName) {
-        if (!loreLine.contains(statName)) {
-            return 0;
-        }
-        
-        // Find the stat name in the line
-        int statIndex = loreLine.indexOf(statName);
-        if (statIndex == -1) {
-            return 0;
-        }
-        
-        // Get everything after the stat name
-        String afterStat = loreLine.substring(statIndex + statName.length()).trim();
-        
-        // CRITICAL FIX: Look for the TOTAL value (first number), NOT the bracketed bonus
-        // Pattern: "Health: +15 (5)" - we want 15, not 5
-        // ENHANCED: Handle both integer and decimal total values
-        Pattern totalPattern = Pattern.compile("\\+(\\d+(?:\\.\\d+)?)");
-        Matcher matcher = totalPattern.matcher(afterStat);
-        
-        if (matcher.find()) {
-            try {
-                String valueStr = matcher.group(1);
-                // FIXED: Parse as double first, then convert to int to handle decimal totals
-                double totalValue = Double.parseDouble(valueStr);
-                int result = (int) totalValue; // Truncate to integer
-                
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, 
-                        "STAT SCAN: " + statName + " extracted TOTAL value " + result + " (from " + valueStr + ") from: " + loreLine);
-                }
-                
-                return result;
-            } catch (NumberFormatException e) {
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, 
-                        "STAT SCAN: Failed to parse " + statName + " from: " + loreLine);
-                }
-            }
-        } else {
-            if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                plugin.debugLog(DebugSystem.ENCHANTING, 
-                    "STAT SCAN: No value found for " + statName + " in: " + loreLine);
-            }
-        }
-        
-        return 0;
-    }
-
-    /**
-     * Extract base double stat value from a line - FIXED: Handle both integer and decimal totals
-     */
-    private double extractBaseDoubleStat(String loreLine, String statName) {
-        if (!loreLine.contains(statName)) {
-            return 0.0;
-        }
-        
-        // Find the stat name in the line
-        int statIndex = loreLine.indexOf(statName);
-        if (statIndex == -1) {
-            return 0.0;
-        }
-        
-        // Get everything after the stat name
-        String afterStat = loreLine.substring(statIndex + statName.length()).trim();
-        
-        // CRITICAL FIX: Look for the TOTAL value (first number), NOT the bracketed bonus
-        // Pattern: "Mining Speed: +0.4 (0.2)" - we want 0.4, not 0.2
-        // Pattern: "Mining Fortune: +5 (0.5)" - we want 5, not 0.5
-        Pattern totalPattern = Pattern.compile("\\+(\\d+(?:\\.\\d+)?)");
-        Matcher matcher = totalPattern.matcher(afterStat);
-        
-        if (matcher.find()) {
-            try {
-                String valueStr = matcher.group(1);
-                double totalValue = Double.parseDouble(valueStr);
-                
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, 
-                        "STAT SCAN: " + statName + " extracted TOTAL value " + totalValue + " from: " + loreLine);
-                }
-                
-                return totalValue;
-            } catch (NumberFormatException e) {
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, 
-                        "STAT SCAN: Failed to parse " + statName + " from: " + loreLine);
-                }
-            }
-        } else {
-            if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                plugin.debugLog(DebugSystem.ENCHANTING, 
-                    "STAT SCAN: No value found for " + statName + " in: " + loreLine);
-            }
-        }
-        
-        return 0.0;
-    }
-
-    /**
-     * Enhanced extractStatsFromItem method - NOW READS FROM NBT DATA INSTEAD OF LORE
+     * Add an item's stats to the bonuses. Stats are read from NBT only; legacy items that kept
+     * their stats in lore are converted once by LegacyItemMigration
      */
     private void extractStatsFromItem(ItemStack item, ItemStatBonuses bonuses) {
-        if (item == null || !item.hasItemMeta()) return;
-        
-        // NEW APPROACH: Read stats from NBT data (persistent, reliable)
-        if (com.server.items.ItemStatData.hasStats(item)) {
-            com.server.items.ItemStatData.Stats stats = com.server.items.ItemStatData.getStats(item);
-            
+        addItemStats(item, ItemStatData.getStatsIfPresent(item), bonuses);
+    }
+    
+    private void addItemStats(ItemStack item, ItemStatData.Stats stats, ItemStatBonuses bonuses) {
+        if (stats != null) {
             // Add all stats from NBT data
             bonuses.health += stats.health;
             bonuses.armor += stats.armor;
@@ -716,378 +605,34 @@ public class StatScanManager {
                     " PhysDmg: +" + stats.physicalDamage + " MagicDmg: +" + stats.magicDamage +
                     " Mana: +" + stats.mana);
             }
-            
-            // NBT data found - skip lore parsing
-            return;
-        }
-        
-        // FALLBACK: If no NBT data, use old lore parsing (for legacy items)
-        // Only process if item has lore
-        if (!item.getItemMeta().hasLore()) {
-            return;
-        }
-        
-        if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-            plugin.debugLog(DebugSystem.ENCHANTING, 
-                "STAT SCAN (LORE FALLBACK): No NBT data found for " + item.getType().name() + 
-                ", falling back to lore parsing for legacy items");
-        }
-        
-        // Extract stats from any item with lore that contains stat information
-        for (String loreLine : item.getItemMeta().getLore()) {
-            // Strip color codes for regex matching
-            String cleanLine = stripColorCodes(loreLine);
-            
-            // CRITICAL FIX: Don't skip bracketed lines - read the total value from them
-            boolean hasBrackets = cleanLine.contains("(") && cleanLine.contains(")");
-            
-            if (hasBrackets && plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                plugin.debugLog(DebugSystem.ENCHANTING, 
-                    "STAT SCAN: Processing enchanted stat line: " + cleanLine);
-            }
-            
-            // SPECIAL CASE: Always process Health Regen lines regardless of enchantment-only status
-            if (cleanLine.contains("Health Regen:")) {
-                double healthRegenBonus = extractBaseDoubleStat(cleanLine, "Health Regen:");
-                if (healthRegenBonus > 0) {
-                    bonuses.healthRegen += healthRegenBonus;
-                    if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                        plugin.debugLog(DebugSystem.ENCHANTING, 
-                            "STAT SCAN: FORCED Health Regen processing: " + healthRegenBonus + " (total: " + bonuses.healthRegen + ")");
-                    }
-                }
-                continue; // Skip the normal enchantment-only check for Health Regen
-            }
-            
-            // CRITICAL FIX: Process critical stats from items (store as decimals for PlayerStats)
-            if (cleanLine.contains("Critical Chance:")) {
-                double critChanceBonus = extractBaseDoubleStat(cleanLine, "Critical Chance:");
-                if (critChanceBonus > 0) {
-                    // StatScanManager stores as decimals for PlayerStats (15 becomes 0.15)
-                    bonuses.critChance += (critChanceBonus / 100.0);
-                    if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                        plugin.debugLog(DebugSystem.ENCHANTING, 
-                            "STAT SCAN: Added critical chance: " + critChanceBonus + "% (" + (critChanceBonus / 100.0) + " decimal) (total: " + bonuses.critChance + ")");
-                    }
-                }
-                continue;
-            }
-
-            if (cleanLine.contains("Critical Damage:")) {
-                double critDamageBonus = extractBaseDoubleStat(cleanLine, "Critical Damage:");
-                if (critDamageBonus > 0) {
-                    // StatScanManager stores as decimals for PlayerStats (30 becomes 0.30)
-                    bonuses.critDamage += (critDamageBonus / 100.0);
-                    if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                        plugin.debugLog(DebugSystem.ENCHANTING, 
-                            "STAT SCAN: Added critical damage: " + critDamageBonus + "% (" + (critDamageBonus / 100.0) + " decimal) (total: " + bonuses.critDamage + ")");
-                    }
-                }
-                continue;
-            }
-            
-            // Skip lines that are clearly enchantment-only stats (where base value would be 0)
-            if (isEnchantmentOnlyStatLine(cleanLine)) {
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, 
-                        "STAT SCAN: SKIPPING enchantment-only stat: " + cleanLine);
-                }
-                continue;
-            }
-            
-            // Process each stat type - ALL use consistent extraction methods
-            int healthBonus = extractBaseIntStat(cleanLine, "Health:");
-            if (healthBonus > 0) {
-                bonuses.health += healthBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added health: " + healthBonus + " (total: " + bonuses.health + ")");
-                }
-            }
-            
-            int armorBonus = extractBaseIntStat(cleanLine, "Armor:");
-            if (armorBonus > 0) {
-                bonuses.armor += armorBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added armor: " + armorBonus + " (total: " + bonuses.armor + ")");
-                }
-            }
-            
-            int mrBonus = extractBaseIntStat(cleanLine, "Magic Resist:");
-            if (mrBonus > 0) {
-                bonuses.magicResist += mrBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added magic resist: " + mrBonus + " (total: " + bonuses.magicResist + ")");
-                }
-            }
-            
-            int pdBonus = extractBaseIntStat(cleanLine, "Physical Damage:");
-            if (pdBonus > 0) {
-                bonuses.physicalDamage += pdBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added physical damage: " + pdBonus + " (total: " + bonuses.physicalDamage + ")");
-                }
-            }
-
-            int rdBonus = extractBaseIntStat(cleanLine, "Ranged Damage:");
-            if (rdBonus > 0) {
-                bonuses.rangedDamage += rdBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added ranged damage: " + rdBonus + " (total: " + bonuses.rangedDamage + ")");
-                }
-            }
-            
-            int mdBonus = extractBaseIntStat(cleanLine, "Magic Damage:");
-            if (mdBonus > 0) {
-                bonuses.magicDamage += mdBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added magic damage: " + mdBonus + " (total: " + bonuses.magicDamage + ")");
-                }
-            }
-            
-            int manaBonus = extractBaseIntStat(cleanLine, "Mana:");
-            if (manaBonus > 0) {
-                bonuses.mana += manaBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added mana: " + manaBonus + " (total: " + bonuses.mana + ")");
-                }
-            }
-            
-            // CRITICAL FIX: Process double stats from enchanted lines
-            double miningSpeedBonus = extractBaseDoubleStat(cleanLine, "Mining Speed:");
-            if (miningSpeedBonus > 0) {
-                bonuses.miningSpeed += miningSpeedBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added mining speed: " + miningSpeedBonus + " (total: " + bonuses.miningSpeed + ")");
-                }
-            }
-            
-            // CRITICAL FIX: Process Mining Fortune from enchanted lines
-            double miningFortuneBonus = extractBaseDoubleStat(cleanLine, "Mining Fortune:");
-            if (miningFortuneBonus > 0) {
-                bonuses.miningFortune += miningFortuneBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added mining fortune: " + miningFortuneBonus + " (total: " + bonuses.miningFortune + ")");
-                }
-            }
-            
-            // Process Fishing Fortune from enchanted lines
-            double fishingFortuneBonus = extractBaseDoubleStat(cleanLine, "Fishing Fortune:");
-            if (fishingFortuneBonus > 0) {
-                bonuses.fishingFortune += fishingFortuneBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added fishing fortune: " + fishingFortuneBonus + " (total: " + bonuses.fishingFortune + ")");
-                }
-            }
-            
-            // Process Lure Potency from enchanted lines
-            int lurePotencyBonus = extractBaseIntStat(cleanLine, "Lure Potency:");
-            if (lurePotencyBonus == 0) {
-                lurePotencyBonus = extractBaseIntStat(cleanLine, "Fishing Potency:");
-            }
-            if (lurePotencyBonus > 0) {
-                bonuses.lurePotency += lurePotencyBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added lure potency: " + lurePotencyBonus + " (total: " + bonuses.lurePotency + ")");
-                }
-            }
-            
-            // Process Fishing Resilience from enchanted lines
-            double fishingResilienceBonus = extractBaseDoubleStat(cleanLine, "Fishing Resilience:");
-            if (fishingResilienceBonus > 0) {
-                bonuses.fishingResilience += fishingResilienceBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added fishing resilience: " + fishingResilienceBonus + " (total: " + bonuses.fishingResilience + ")");
-                }
-            }
-            
-            // Process Fishing Focus from enchanted lines
-            double fishingFocusBonus = extractBaseDoubleStat(cleanLine, "Fishing Focus:");
-            if (fishingFocusBonus > 0) {
-                bonuses.fishingFocus += fishingFocusBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added fishing focus: " + fishingFocusBonus + " (total: " + bonuses.fishingFocus + ")");
-                }
-            }
-            
-            // Process Fishing Precision from enchanted lines
-            double fishingPrecisionBonus = extractBaseDoubleStat(cleanLine, "Fishing Precision:");
-            if (fishingPrecisionBonus > 0) {
-                bonuses.fishingPrecision += fishingPrecisionBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added fishing precision: " + fishingPrecisionBonus + " (total: " + bonuses.fishingPrecision + ")");
-                }
-            }
-            
-            // Process Sea Monster Affinity from enchanted lines
-            double seaMonsterAffinityBonus = extractBaseDoubleStat(cleanLine, "Sea Monster Affinity:");
-            if (seaMonsterAffinityBonus > 0) {
-                bonuses.seaMonsterAffinity += seaMonsterAffinityBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added sea monster affinity: " + seaMonsterAffinityBonus + " (total: " + bonuses.seaMonsterAffinity + ")");
-                }
-            }
-            
-            // Process Treasure Sense from enchanted lines
-            double treasureSenseBonus = extractBaseDoubleStat(cleanLine, "Treasure Sense:");
-            if (treasureSenseBonus > 0) {
-                bonuses.treasureSense += treasureSenseBonus;
-                if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                    plugin.debugLog(DebugSystem.ENCHANTING, "STAT SCAN: Added treasure sense: " + treasureSenseBonus + " (total: " + bonuses.treasureSense + ")");
-                }
-            }
-            
-            // Process other stats...
-            bonuses.cooldownReduction += extractBaseIntStat(cleanLine, "Cooldown Reduction:");
-            
-            bonuses.attackSpeed += extractBaseDoubleStat(cleanLine, "Attack Speed:");
-            bonuses.attackRange += extractBaseDoubleStat(cleanLine, "Attack Range:");
-            bonuses.size += extractBaseDoubleStat(cleanLine, "Size:");
-            bonuses.lifeSteal += extractBaseDoubleStat(cleanLine, "Life Steal:");
-            bonuses.omnivamp += extractBaseDoubleStat(cleanLine, "Omnivamp:");
-            bonuses.buildRange += extractBaseDoubleStat(cleanLine, "Build Range:");
-        }
-        
-        if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-            plugin.debugLog(DebugSystem.ENCHANTING, 
-                "STAT SCAN: Final bonuses - Health:" + bonuses.health + 
-                " Armor:" + bonuses.armor + " PhysDmg:" + bonuses.physicalDamage + 
-                " MagicDmg:" + bonuses.magicDamage + " Mana:" + bonuses.mana + 
-                " MiningSpeed:" + bonuses.miningSpeed + " MiningFortune:" + bonuses.miningFortune +
-                " HealthRegen:" + bonuses.healthRegen +
-                " CritChance:" + bonuses.critChance + " CritDamage:" + bonuses.critDamage); // Added critical stats to debug output
         }
     }
-
-    /**
-     * Check if a stat line is an enchantment-only stat - FIXED: Proper Health Regen handling
-     */
-    private boolean isEnchantmentOnlyStatLine(String cleanLine) {
-        // For lines with brackets, check if they would have a base value of 0
-        if (cleanLine.contains("(") && cleanLine.contains(")")) {
-            String beforeBrackets = cleanLine.substring(0, cleanLine.indexOf("(")).trim();
-            String inBrackets = cleanLine.substring(cleanLine.indexOf("(") + 1, cleanLine.indexOf(")")).trim();
-            
-            // Find stat name
-            String[] statPrefixes = {
-                "Health:", "Armor:", "Magic Resist:", "Physical Damage:", "Magic Damage:",
-                "Mana:", "Critical Chance:", "Critical Damage:", "Mining Fortune:", 
-                "Mining Speed:", "Farming Fortune:", "Looting Fortune:", "Fishing Fortune:",
-                "Build Range:", "Cooldown Reduction:", "Health Regen:", "Speed:", "Luck:"
-            };
-            
-            String statName = null;
-            for (String prefix : statPrefixes) {
-                if (cleanLine.contains(prefix)) {
-                    statName = prefix;
-                    break;
-                }
-            }
-            
-            if (statName != null) {
-                try {
-                    // Extract total and bonus values
-                    String totalValueStr = beforeBrackets.substring(beforeBrackets.indexOf(statName) + statName.length()).trim();
-                    totalValueStr = totalValueStr.replace("+", "").trim();
-                    
-                    String bonusValueStr = inBrackets.replace("+", "").replace("-", "").trim();
-                    
-                    // Parse as double to handle both integer and decimal values
-                    double totalValue = Double.parseDouble(totalValueStr);
-                    double bonusValue = Double.parseDouble(bonusValueStr);
-                    
-                    // CRITICAL FIX: Health Regen should NEVER be considered enchantment-only
-                    // Health Regen always has a base value (even if it's 0), so it should always be processed
-                    if (statName.equals("Health Regen:")) {
-                        if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                            plugin.debugLog(DebugSystem.ENCHANTING, 
-                                "ENCHANTMENT-ONLY CHECK: " + statName + " is NEVER enchantment-only - always process");
-                        }
-                        return false; // Always process Health Regen stats
-                    }
-                    
-                    // Check if total equals bonus (meaning base value is 0)
-                    boolean isEnchantmentOnly = Math.abs(totalValue - bonusValue) < 0.001; // Use small epsilon for floating point comparison
-                    
-                    if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                        plugin.debugLog(DebugSystem.ENCHANTING, 
-                            "ENCHANTMENT-ONLY CHECK: " + statName + " total=" + totalValue + " bonus=" + bonusValue + " -> " + isEnchantmentOnly);
-                    }
-                    
-                    return isEnchantmentOnly;
-                } catch (NumberFormatException e) {
-                    if (plugin.isDebugEnabled(DebugSystem.ENCHANTING)) {
-                        plugin.debugLog(DebugSystem.ENCHANTING, 
-                            "ENCHANTMENT-ONLY CHECK: Parse error for " + cleanLine + ", assuming not enchantment-only");
-                    }
-                    return false;
-                }
-            }
-        }
-        
-        // Lines without brackets are never enchantment-only
-        return false;
-    }
         
     /**
      * Apply the extracted bonuses to player stats
+     * Replaces the equipment layer, so only stats whose bonus changed are recalculated
+     * and skill bonuses are never touched
      */
     private void applyBonusesToStats(PlayerStats stats, ItemStatBonuses bonuses) {
         // Store current health and mana to preserve them
         double currentHealth = stats.getCurrentHealth();
         int currentMana = stats.getMana();
-        
-        // Reset to defaults first
-        stats.resetToDefaults();
-        
-        // Apply bonuses
-        stats.setHealth(stats.getDefaultHealth() + bonuses.health);
-        stats.setArmor(stats.getDefaultArmor() + bonuses.armor);
-        stats.setMagicResist(stats.getDefaultMagicResist() + bonuses.magicResist);
-        stats.setPhysicalDamage(stats.getDefaultPhysicalDamage() + bonuses.physicalDamage);
-        stats.setRangedDamage(stats.getDefaultRangedDamage() + bonuses.rangedDamage);
-        stats.setMagicDamage(stats.getDefaultMagicDamage() + bonuses.magicDamage);
-        stats.setTotalMana(stats.getDefaultMana() + bonuses.mana);
-        
-        // CRITICAL FIX: Apply health regen bonus with enhanced debugging
         double oldHealthRegen = stats.getHealthRegen();
-        double newHealthRegen = stats.getDefaultHealthRegen() + bonuses.healthRegen;
-        stats.setHealthRegen(newHealthRegen);
+        
+        stats.setLayer(StatLayer.EQUIPMENT, bonuses.toLayer());
         
         if (plugin.isDebugEnabled(DebugSystem.STATS)) {
             plugin.debugLog(DebugSystem.STATS, 
                 "HEALTH REGEN APPLICATION: default=" + stats.getDefaultHealthRegen() + 
-                " + bonus=" + bonuses.healthRegen + " = " + newHealthRegen + 
+                " + bonus=" + bonuses.healthRegen + " = " + stats.getHealthRegen() + 
                 " (was " + oldHealthRegen + ")");
         }
         
-        stats.setCooldownReduction(stats.getDefaultCooldownReduction() + bonuses.cooldownReduction);
-        stats.setAttackSpeed(stats.getDefaultAttackSpeed() + bonuses.attackSpeed);
-        stats.setAttackRange(stats.getDefaultAttackRange() + bonuses.attackRange);
-        stats.setSize(stats.getDefaultSize() + bonuses.size);
-        stats.setLifeSteal(stats.getDefaultLifeSteal() + bonuses.lifeSteal);
-        stats.setCriticalChance(stats.getDefaultCriticalChance() + bonuses.critChance);
-        stats.setCriticalDamage(stats.getDefaultCriticalDamage() + bonuses.critDamage);
-        stats.setOmnivamp(stats.getDefaultOmnivamp() + bonuses.omnivamp);
-        
         // Keep current health as is, just cap it if needed
         stats.setCurrentHealth(Math.min(currentHealth, stats.getHealth()));
         
         // Keep current mana as is, just cap it if needed
         stats.setMana(Math.min(currentMana, stats.getTotalMana()));
-
-        // Mining stats
-        stats.setMiningFortune(stats.getDefaultMiningFortune() + bonuses.miningFortune);
-        stats.setMiningSpeed(stats.getDefaultMiningSpeed() + bonuses.miningSpeed);
-        stats.setBuildRange(stats.getDefaultBuildRange() + bonuses.buildRange);
-        
-        // Fishing stats
-        stats.setFishingFortune(stats.getDefaultFishingFortune() + bonuses.fishingFortune);
-        stats.setLurePotency(stats.getDefaultLurePotency() + bonuses.lurePotency);
-        stats.setFishingResilience(stats.getDefaultFishingResilience() + bonuses.fishingResilience);
-        stats.setFishingFocus(stats.getDefaultFishingFocus() + bonuses.fishingFocus);
-        stats.setFishingPrecision(stats.getDefaultFishingPrecision() + bonuses.fishingPrecision);
-        stats.setSeaMonsterAffinity(stats.getDefaultSeaMonsterAffinity() + bonuses.seaMonsterAffinity);
-        stats.setTreasureSense(stats.getDefaultTreasureSense() + bonuses.treasureSense);
         
         if (plugin.isDebugEnabled(DebugSystem.STATS)) {
             plugin.debugLog(DebugSystem.STATS,
@@ -1100,53 +645,12 @@ public class StatScanManager {
                 " | FishingPrecision: " + stats.getFishingPrecision() + " (+" + bonuses.fishingPrecision + ")");
         }
     }
-        
-    /**
-     * Reset stats to base values
-     */
-    private void resetStatsToBase(PlayerStats stats) {
-        // Store current health value directly (no percentage calculation)
-        double currentHealth = stats.getCurrentHealth();
-        
-        // Store mana directly too
-        int currentMana = stats.getMana();
-        
-        // Reset ALL equipment-related stats to defaults
-        stats.setHealth(stats.getDefaultHealth());
-        stats.setArmor(stats.getDefaultArmor());
-        stats.setMagicResist(stats.getDefaultMagicResist());
-        stats.setPhysicalDamage(stats.getDefaultPhysicalDamage());
-        stats.setMagicDamage(stats.getDefaultMagicDamage());
-        stats.setRangedDamage(stats.getDefaultRangedDamage());
-        stats.setTotalMana(stats.getDefaultMana());
-        stats.setCooldownReduction(stats.getDefaultCooldownReduction());
-        
-        // CRITICAL: Reset health regen to default before applying equipment bonuses
-        stats.setHealthRegen(stats.getDefaultHealthRegen());
-        
-        stats.setAttackSpeed(stats.getDefaultAttackSpeed());
-        stats.setAttackRange(stats.getDefaultAttackRange());
-        stats.setSize(stats.getDefaultSize());
-        stats.setLifeSteal(stats.getDefaultLifeSteal());
-        stats.setOmnivamp(stats.getDefaultOmnivamp());
-        stats.setCriticalChance(stats.getDefaultCriticalChance());
-        stats.setCriticalDamage(stats.getDefaultCriticalDamage());
-        
-        // Maintain current health as is, just cap at max health if needed
-        stats.setCurrentHealth(Math.min(currentHealth, stats.getHealth()));
-        
-        // Maintain current mana as is, just cap at max mana if needed
-        stats.setMana(Math.min(currentMana, stats.getTotalMana()));
-
-        stats.setMiningSpeed(stats.getDefaultMiningSpeed());
-        stats.setMiningFortune(stats.getDefaultMiningFortune());
-        stats.setBuildRange(stats.getDefaultBuildRange());
-    }
 
     /**
-     * Apply stats to player's Minecraft attributes
+     * Apply stats to player's Minecraft attributes. Max health is written immediately; the
+     * other attributes are queued and written next tick, and only if their values changed.
      */
-    private void applyAttributesToPlayer(Player player, PlayerStats stats) {
+    void applyAttributesToPlayer(Player player, PlayerStats stats) {
         try {
             // Apply health
             applyHealthAttribute(player, stats);
@@ -1170,8 +674,7 @@ public class StatScanManager {
             applyBuildRangeAttribute(player, stats);
             
             // Ensure health display is always 10 hearts
-            player.setHealthScaled(true);
-            player.setHealthScale(20.0);
+            applyHealthScale(player);
         } catch (Exception e) {
             plugin.debugLog(DebugSystem.STATS,"Error applying attributes to player: " + e.getMessage());
             if (plugin.isDebugEnabled(DebugSystem.STATS)) {
@@ -1193,33 +696,17 @@ public class StatScanManager {
                 // Store if this is likely a vanilla reset situation (health exactly 20)
                 boolean isVanillaReset = Math.abs(currentHealth - 20.0) < 0.1;
                 
-                if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                    plugin.debugLog(DebugSystem.STATS,"Health check for " + player.getName() + ": current=" + currentHealth + 
+                if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                    plugin.debugLog(DebugSystem.STATS, player, "Health check for " + player.getName() + ": current=" + currentHealth + 
                                 ", stored=" + stats.getCurrentHealth() + 
                                 ", vanilla reset=" + isVanillaReset);
                 }
                 
-                // Remove existing modifiers
-                for (AttributeModifier mod : new HashSet<>(maxHealth.getModifiers())) {
-                    maxHealth.removeModifier(mod);
-                }
-                
-                // Set base value to vanilla default (20.0)
-                maxHealth.setBaseValue(20.0);
-                
-                // Apply bonus health if needed
+                // Base stays at the vanilla default (20.0), the health stat is added on top.
+                // Written immediately since the new maximum is needed below
                 int totalHealth = stats.getHealth();
-                double healthBonus = totalHealth - 20.0;
-                
-                if (healthBonus != 0) {
-                    AttributeModifier healthMod = new AttributeModifier(
-                        MMO_HEALTH_UUID,
-                        MMO_HEALTH_MODIFIER,
-                        healthBonus,
-                        AttributeModifier.Operation.ADD_NUMBER
-                    );
-                    maxHealth.addModifier(healthMod);
-                }
+                attributeSync.applyNow(player, Attribute.GENERIC_MAX_HEALTH, 20.0,
+                    MMO_HEALTH_UUID, MMO_HEALTH_MODIFIER, totalHealth - 20.0, true);
                 
                 double newMaxHealth = maxHealth.getValue();
                 
@@ -1237,8 +724,8 @@ public class StatScanManager {
                     player.setHealth(healthToSet);
                     stats.setCurrentHealth(healthToSet);
                     
-                    if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                        plugin.debugLog(DebugSystem.STATS,"Set respawned player " + player.getName() + "'s health to " + 
+                    if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                        plugin.debugLog(DebugSystem.STATS, player, "Set respawned player " + player.getName() + "'s health to " + 
                                     healthToSet + "/" + newMaxHealth);
                     }
                 }
@@ -1248,8 +735,8 @@ public class StatScanManager {
                     double healthToSet = Math.min(stats.getCurrentHealth(), newMaxHealth);
                     player.setHealth(healthToSet);
                     
-                    if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                        plugin.debugLog(DebugSystem.STATS,"Restored " + player.getName() + "'s health from vanilla reset: " + 
+                    if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                        plugin.debugLog(DebugSystem.STATS, player, "Restored " + player.getName() + "'s health from vanilla reset: " + 
                                     currentHealth + " -> " + healthToSet + "/" + newMaxHealth);
                     }
                 }
@@ -1259,8 +746,8 @@ public class StatScanManager {
                     player.setHealth(newMaxHealth);
                     stats.setCurrentHealth(newMaxHealth);
                     
-                    if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                        plugin.debugLog(DebugSystem.STATS,"Capped " + player.getName() + "'s health from " + 
+                    if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                        plugin.debugLog(DebugSystem.STATS, player, "Capped " + player.getName() + "'s health from " + 
                                     currentHealth + " to " + newMaxHealth);
                     }
                 }
@@ -1269,55 +756,43 @@ public class StatScanManager {
                     // Update the stored value but don't change player's current health
                     stats.setCurrentHealth(currentHealth);
                     
-                    if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                        plugin.debugLog(DebugSystem.STATS,"Preserved " + player.getName() + "'s current health at " + 
+                    if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                        plugin.debugLog(DebugSystem.STATS, player, "Preserved " + player.getName() + "'s current health at " + 
                                     currentHealth + "/" + newMaxHealth);
                     }
                 }
                 
                 // Always set health display scale for consistent UI
-                player.setHealthScaled(true);
-                player.setHealthScale(20.0);
+                applyHealthScale(player);
             }
         } catch (Exception e) {
             plugin.debugLog(DebugSystem.STATS,"Error applying health attribute: " + e.getMessage());
         }
     }
+    
+    /**
+     * Show health as 10 hearts. Changing the scale resends the player's health, so only
+     * write it when it differs.
+     */
+    private void applyHealthScale(Player player) {
+        if (!player.isHealthScaled() || player.getHealthScale() != 20.0) {
+            player.setHealthScaled(true);
+            player.setHealthScale(20.0);
+        }
+    }
         
     /**
      * Apply attack speed attribute
      */
     private void applyAttackSpeedAttribute(Player player, PlayerStats stats) {
-        try {
-            AttributeInstance attackSpeed = player.getAttribute(Attribute.GENERIC_ATTACK_SPEED);
-            if (attackSpeed != null) {
-                // Remove existing modifiers
-                removeModifiersByName(attackSpeed, MMO_ATTACK_SPEED_MODIFIER);
-                
-                // Set base to new default value (0.5 instead of vanilla 4.0)
-                attackSpeed.setBaseValue(0.5);
-                
-                // Apply bonus attack speed if needed
-                double totalAttackSpeed = stats.getAttackSpeed();
-                double attackSpeedBonus = totalAttackSpeed - 0.5; // Adjusted from 1.0
-                
-                if (attackSpeedBonus != 0) {
-                    AttributeModifier attackSpeedMod = new AttributeModifier(
-                        MMO_ATTACK_SPEED_UUID,
-                        MMO_ATTACK_SPEED_MODIFIER,
-                        attackSpeedBonus,
-                        AttributeModifier.Operation.ADD_NUMBER
-                    );
-                    attackSpeed.addModifier(attackSpeedMod);
-                }
-                
-                if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                    plugin.debugLog(DebugSystem.STATS,"Applied attack speed attribute to " + player.getName() + 
-                                ": " + totalAttackSpeed + " (Final: " + attackSpeed.getValue() + ")");
-                }
-            }
-        } catch (Exception e) {
-            plugin.debugLog(DebugSystem.STATS,"Error applying attack speed attribute: " + e.getMessage());
+        // Base is our default (0.5 instead of vanilla 4.0), weapon modifiers stay on top
+        double totalAttackSpeed = stats.getAttackSpeed();
+        attributeSync.queue(player, Attribute.GENERIC_ATTACK_SPEED, 0.5,
+            MMO_ATTACK_SPEED_UUID, MMO_ATTACK_SPEED_MODIFIER, totalAttackSpeed - 0.5, false);
+        
+        if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+            plugin.debugLog(DebugSystem.STATS, player, "Applied attack speed attribute to " + player.getName() + 
+                        ": " + totalAttackSpeed);
         }
     }
     
@@ -1325,22 +800,12 @@ public class StatScanManager {
      * Apply movement speed attribute
      */
     private void applyMovementSpeedAttribute(Player player, PlayerStats stats) {
-        try {
-            AttributeInstance movementSpeed = player.getAttribute(Attribute.GENERIC_MOVEMENT_SPEED);
-            if (movementSpeed != null) {
-                // Remove existing modifiers
-                removeModifiersByName(movementSpeed, MMO_MOVEMENT_SPEED_MODIFIER);
-                
-                // Just set base value directly for movement speed
-                movementSpeed.setBaseValue(stats.getSpeed());
-                
-                if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                    plugin.debugLog(DebugSystem.STATS,"Applied movement speed attribute to " + player.getName() + 
-                                    ": " + stats.getSpeed());
-                }
-            }
-        } catch (Exception e) {
-            plugin.debugLog(DebugSystem.STATS,"Error applying movement speed attribute: " + e.getMessage());
+        // Just set base value directly for movement speed
+        attributeSync.queue(player, Attribute.GENERIC_MOVEMENT_SPEED, stats.getSpeed(), null, null, 0, false);
+        
+        if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+            plugin.debugLog(DebugSystem.STATS, player, "Applied movement speed attribute to " + player.getName() + 
+                            ": " + stats.getSpeed());
         }
     }
     
@@ -1348,126 +813,28 @@ public class StatScanManager {
      * Apply size attribute and related effects (step height and jump strength)
      */
     private void applySizeAttribute(Player player, PlayerStats stats) {
-        try {
-            // 1. Update the GENERIC_SCALE attribute
-            AttributeInstance scaleAttribute = player.getAttribute(Attribute.GENERIC_SCALE);
-            if (scaleAttribute != null) {
-                // Remove ALL existing modifiers to ensure clean slate
-                for (AttributeModifier mod : new HashSet<>(scaleAttribute.getModifiers())) {
-                    scaleAttribute.removeModifier(mod);
-                }
-                
-                // Set base value to 1.0 (normal size)
-                scaleAttribute.setBaseValue(1.0);
-                
-                // Apply bonus size if needed
-                double totalSize = stats.getSize();
-                double sizeBonus = totalSize - 1.0;
-                
-                if (sizeBonus != 0) {
-                    AttributeModifier sizeMod = new AttributeModifier(
-                        MMO_SIZE_UUID,
-                        MMO_SIZE_MODIFIER,
-                        sizeBonus,
-                        AttributeModifier.Operation.ADD_NUMBER
-                    );
-                    scaleAttribute.addModifier(sizeMod);
-                }
-                
-                if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                    plugin.debugLog(DebugSystem.STATS, "Applied size attribute to " + player.getName() + 
-                                    ": " + totalSize + " (Final: " + scaleAttribute.getValue() + ")");
-                }
-                
-                // 2. Update GENERIC_STEP_HEIGHT attribute based on size (0.6 * size)
-                try {
-                    AttributeInstance stepHeightAttribute = player.getAttribute(Attribute.GENERIC_STEP_HEIGHT);
-                    if (stepHeightAttribute != null) {
-                        // Remove ALL existing modifiers
-                        for (AttributeModifier mod : new HashSet<>(stepHeightAttribute.getModifiers())) {
-                            stepHeightAttribute.removeModifier(mod);
-                        }
-                        
-                        // Set base value to 0.6 (default step height)
-                        stepHeightAttribute.setBaseValue(0.6);
-                        
-                        // Calculate new step height (default step height is 0.6)
-                        // Formula: stepHeight = 0.6 * size
-                        double baseStepHeight = 0.6;
-                        double newStepHeight = baseStepHeight * totalSize;
-                        double stepHeightBonus = newStepHeight - baseStepHeight;
-                        
-                        // Apply step height modifier
-                        if (stepHeightBonus != 0) {
-                            AttributeModifier stepHeightMod = new AttributeModifier(
-                                MMO_STEP_HEIGHT_UUID,
-                                "mmo.step_height",
-                                stepHeightBonus,
-                                AttributeModifier.Operation.ADD_NUMBER
-                            );
-                            stepHeightAttribute.addModifier(stepHeightMod);
-                        }
-                        
-                        if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                            plugin.debugLog(DebugSystem.STATS, "Applied step height attribute to " + player.getName() + 
-                                            ": " + newStepHeight + " (base: " + baseStepHeight + 
-                                            ", size: " + totalSize + ")");
-                        }
-                    }
-                } catch (Exception e) {
-                    // Step height attribute might not be available
-                    if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                        plugin.debugLog(DebugSystem.STATS, "Step height attribute not supported: " + e.getMessage());
-                    }
-                }
-                
-                // 3. Update GENERIC_JUMP_STRENGTH attribute based on size (0.42 * sqrt(size))
-                try {
-                    AttributeInstance jumpStrengthAttribute = player.getAttribute(Attribute.GENERIC_JUMP_STRENGTH);
-                    if (jumpStrengthAttribute != null) {
-                        // Remove ALL existing modifiers
-                        for (AttributeModifier mod : new HashSet<>(jumpStrengthAttribute.getModifiers())) {
-                            jumpStrengthAttribute.removeModifier(mod);
-                        }
-                        
-                        // Set base value to 0.42 (default jump strength)
-                        jumpStrengthAttribute.setBaseValue(0.42);
-                        
-                        // Calculate new jump strength (default is 0.42)
-                        // Formula: jumpStrength = 0.42 * sqrt(size)
-                        double baseJumpStrength = 0.42;
-                        double newJumpStrength = baseJumpStrength * Math.sqrt(totalSize);
-                        double jumpStrengthBonus = newJumpStrength - baseJumpStrength;
-                        
-                        // Apply jump strength modifier
-                        if (jumpStrengthBonus != 0) {
-                            AttributeModifier jumpStrengthMod = new AttributeModifier(
-                                MMO_JUMP_STRENGTH_UUID,
-                                "mmo.jump_strength",
-                                jumpStrengthBonus,
-                                AttributeModifier.Operation.ADD_NUMBER
-                            );
-                            jumpStrengthAttribute.addModifier(jumpStrengthMod);
-                        }
-                        
-                        if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                            plugin.debugLog(DebugSystem.STATS, "Applied jump strength attribute to " + player.getName() + 
-                                            ": " + newJumpStrength + " (base: " + baseJumpStrength + 
-                                            ", size: " + totalSize + ", sqrt(size): " + Math.sqrt(totalSize) + ")");
-                        }
-                    }
-                } catch (Exception e) {
-                    // Jump strength attribute might not be available
-                    if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                        plugin.debugLog(DebugSystem.STATS, "Jump strength attribute not supported: " + e.getMessage());
-                    }
-                }
-            }
-        } catch (Exception e) {
-            // Scale attribute might not be available in older versions
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS, "Error applying size attribute: " + e.getMessage());
-            }
+        double totalSize = stats.getSize();
+        
+        // 1. GENERIC_SCALE, base 1.0 (normal size)
+        attributeSync.queue(player, Attribute.GENERIC_SCALE, 1.0,
+            MMO_SIZE_UUID, MMO_SIZE_MODIFIER, totalSize - 1.0, true);
+        
+        // 2. GENERIC_STEP_HEIGHT scales with size: stepHeight = 0.6 * size
+        double baseStepHeight = 0.6;
+        double newStepHeight = baseStepHeight * totalSize;
+        attributeSync.queue(player, Attribute.GENERIC_STEP_HEIGHT, baseStepHeight,
+            MMO_STEP_HEIGHT_UUID, MMO_STEP_HEIGHT_MODIFIER, newStepHeight - baseStepHeight, true);
+        
+        // 3. GENERIC_JUMP_STRENGTH scales with sqrt(size): jumpStrength = 0.42 * sqrt(size)
+        double baseJumpStrength = 0.42;
+        double newJumpStrength = baseJumpStrength * Math.sqrt(totalSize);
+        attributeSync.queue(player, Attribute.GENERIC_JUMP_STRENGTH, baseJumpStrength,
+            MMO_JUMP_STRENGTH_UUID, MMO_JUMP_STRENGTH_MODIFIER, newJumpStrength - baseJumpStrength, true);
+        
+        if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+            plugin.debugLog(DebugSystem.STATS, player, "Applied size attribute to " + player.getName() + 
+                            ": " + totalSize + " (step height: " + newStepHeight + 
+                            ", jump strength: " + newJumpStrength + ")");
         }
     }
     
@@ -1475,41 +842,14 @@ public class StatScanManager {
      * Apply attack range attribute
      */
     private void applyAttackRangeAttribute(Player player, PlayerStats stats) {
-        try {
-            AttributeInstance rangeAttribute = player.getAttribute(Attribute.PLAYER_ENTITY_INTERACTION_RANGE);
-            if (rangeAttribute != null) {
-                // Remove ALL existing modifiers
-                for (AttributeModifier mod : new HashSet<>(rangeAttribute.getModifiers())) {
-                    rangeAttribute.removeModifier(mod);
-                }
-                
-                // Set base value to 3.0 (default attack range)
-                rangeAttribute.setBaseValue(3.0);
-                
-                // Apply bonus range if needed
-                double totalRange = stats.getAttackRange();
-                double rangeBonus = totalRange - 3.0;
-                
-                if (rangeBonus != 0) {
-                    AttributeModifier rangeMod = new AttributeModifier(
-                        MMO_ATTACK_RANGE_UUID,
-                        MMO_ATTACK_RANGE_MODIFIER,
-                        rangeBonus,
-                        AttributeModifier.Operation.ADD_NUMBER
-                    );
-                    rangeAttribute.addModifier(rangeMod);
-                }
-                
-                if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                    plugin.debugLog(DebugSystem.STATS,"Applied attack range attribute to " + player.getName() + 
-                                    ": " + totalRange + " (Final: " + rangeAttribute.getValue() + ")");
-                }
-            }
-        } catch (Exception e) {
-            // Range attribute might not be available in older versions
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"Attack range attribute not supported: " + e.getMessage());
-            }
+        // Base is the default attack range (3.0)
+        double totalRange = stats.getAttackRange();
+        attributeSync.queue(player, Attribute.PLAYER_ENTITY_INTERACTION_RANGE, 3.0,
+            MMO_ATTACK_RANGE_UUID, MMO_ATTACK_RANGE_MODIFIER, totalRange - 3.0, true);
+        
+        if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+            plugin.debugLog(DebugSystem.STATS, player, "Applied attack range attribute to " + player.getName() + 
+                            ": " + totalRange);
         }
     }
 
@@ -1517,41 +857,14 @@ public class StatScanManager {
      * Apply build range attribute
      */
     private void applyBuildRangeAttribute(Player player, PlayerStats stats) {
-        try {
-            AttributeInstance buildRangeAttribute = player.getAttribute(Attribute.PLAYER_BLOCK_INTERACTION_RANGE);
-            if (buildRangeAttribute != null) {
-                // Remove ALL existing modifiers
-                for (AttributeModifier mod : new HashSet<>(buildRangeAttribute.getModifiers())) {
-                    buildRangeAttribute.removeModifier(mod);
-                }
-                
-                // Set base value to 5.0 (default build range)
-                buildRangeAttribute.setBaseValue(5.0);
-                
-                // Apply bonus range if needed
-                double totalBuildRange = stats.getBuildRange();
-                double buildRangeBonus = totalBuildRange - 5.0; // Default is 5.0
-                
-                if (buildRangeBonus != 0) {
-                    AttributeModifier buildRangeMod = new AttributeModifier(
-                        MMO_BUILD_RANGE_UUID,
-                        MMO_BUILD_RANGE_MODIFIER,
-                        buildRangeBonus,
-                        AttributeModifier.Operation.ADD_NUMBER
-                    );
-                    buildRangeAttribute.addModifier(buildRangeMod);
-                }
-                
-                if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                    plugin.debugLog(DebugSystem.STATS, "Applied build range attribute to " + player.getName() + 
-                                    ": " + totalBuildRange + " (Final: " + buildRangeAttribute.getValue() + ")");
-                }
-            }
-        } catch (Exception e) {
-            // Build range attribute might not be available in older versions
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS, "Build range attribute not supported: " + e.getMessage());
-            }
+        // Base is the default build range (5.0)
+        double totalBuildRange = stats.getBuildRange();
+        attributeSync.queue(player, Attribute.PLAYER_BLOCK_INTERACTION_RANGE, 5.0,
+            MMO_BUILD_RANGE_UUID, MMO_BUILD_RANGE_MODIFIER, totalBuildRange - 5.0, true);
+        
+        if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+            plugin.debugLog(DebugSystem.STATS, player, "Applied build range attribute to " + player.getName() + 
+                            ": " + totalBuildRange);
         }
     }
 
@@ -1559,49 +872,14 @@ public class StatScanManager {
      * Apply mining speed attribute
      */
     private void applyMiningSpeedAttribute(Player player, PlayerStats stats) {
-        try {
-            AttributeInstance miningSpeedAttr = player.getAttribute(Attribute.PLAYER_BLOCK_BREAK_SPEED);
-            if (miningSpeedAttr != null) {
-                // Debug the current state before modification
-                if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                    plugin.debugLog(DebugSystem.STATS,"Mining speed attribute before update for " + player.getName() + 
-                                ": base=" + miningSpeedAttr.getBaseValue() + 
-                                ", total=" + miningSpeedAttr.getValue());
-                }
-                
-                // Remove ALL existing modifiers
-                for (AttributeModifier mod : new HashSet<>(miningSpeedAttr.getModifiers())) {
-                    miningSpeedAttr.removeModifier(mod);
-                }
-                
-                // Set base value to 0.5 (default mining speed)
-                miningSpeedAttr.setBaseValue(0.5);
-                
-                // Apply bonus mining speed if needed
-                double totalMiningSpeed = stats.getMiningSpeed();
-                double miningSpeedBonus = totalMiningSpeed - 0.5; // Adjust based on default
-                
-                if (miningSpeedBonus > 0) {
-                    AttributeModifier miningSpeedMod = new AttributeModifier(
-                        MMO_MINING_SPEED_UUID,
-                        MMO_MINING_SPEED_MODIFIER,
-                        miningSpeedBonus,
-                        AttributeModifier.Operation.ADD_NUMBER
-                    );
-                    miningSpeedAttr.addModifier(miningSpeedMod);
-                }
-                
-                if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                    plugin.debugLog(DebugSystem.STATS,"Applied mining speed attribute to " + player.getName() + 
-                                ": " + totalMiningSpeed + " (Final: " + miningSpeedAttr.getValue() + ")");
-                }
-            }
-        } catch (Exception e) {
-            // Mining speed attribute might not be available in older versions
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"Error applying mining speed attribute: " + e.getMessage());
-                e.printStackTrace();
-            }
+        // Base is the default mining speed (0.5); only bonuses are added, never penalties
+        double totalMiningSpeed = stats.getMiningSpeed();
+        attributeSync.queue(player, Attribute.PLAYER_BLOCK_BREAK_SPEED, 0.5,
+            MMO_MINING_SPEED_UUID, MMO_MINING_SPEED_MODIFIER, Math.max(0.0, totalMiningSpeed - 0.5), true);
+        
+        if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+            plugin.debugLog(DebugSystem.STATS, player, "Applied mining speed attribute to " + player.getName() + 
+                        ": " + totalMiningSpeed);
         }
     }
     
@@ -1637,13 +915,6 @@ public class StatScanManager {
     }
     
     
-    /**
-     * Helper method to strip color codes for better regex matching
-     */
-    private String stripColorCodes(String input) {
-        return input.replaceAll("§[0-9a-fk-or]", "");
-    }
-
     /**
      * Scan all equipped items and calculate elemental affinity from enchantments
      */
@@ -1922,6 +1193,40 @@ public class StatScanManager {
         double fishingPrecision = 0;
         double seaMonsterAffinity = 0;
         double treasureSense = 0;
+        
+        /**
+         * Gets these bonuses as a stat layer
+         */
+        double[] toLayer() {
+            double[] layer = PlayerStats.newLayer();
+            layer[StatType.HEALTH.ordinal()] = health;
+            layer[StatType.ARMOR.ordinal()] = armor;
+            layer[StatType.MAGIC_RESIST.ordinal()] = magicResist;
+            layer[StatType.PHYSICAL_DAMAGE.ordinal()] = physicalDamage;
+            layer[StatType.RANGED_DAMAGE.ordinal()] = rangedDamage;
+            layer[StatType.MAGIC_DAMAGE.ordinal()] = magicDamage;
+            layer[StatType.MANA.ordinal()] = mana;
+            layer[StatType.COOLDOWN_REDUCTION.ordinal()] = cooldownReduction;
+            layer[StatType.HEALTH_REGEN.ordinal()] = healthRegen;
+            layer[StatType.ATTACK_SPEED.ordinal()] = attackSpeed;
+            layer[StatType.ATTACK_RANGE.ordinal()] = attackRange;
+            layer[StatType.SIZE.ordinal()] = size;
+            layer[StatType.LIFE_STEAL.ordinal()] = lifeSteal;
+            layer[StatType.CRITICAL_CHANCE.ordinal()] = critChance;
+            layer[StatType.CRITICAL_DAMAGE.ordinal()] = critDamage;
+            layer[StatType.OMNIVAMP.ordinal()] = omnivamp;
+            layer[StatType.MINING_FORTUNE.ordinal()] = miningFortune;
+            layer[StatType.MINING_SPEED.ordinal()] = miningSpeed;
+            layer[StatType.BUILD_RANGE.ordinal()] = buildRange;
+            layer[StatType.LURE_POTENCY.ordinal()] = lurePotency;
+            layer[StatType.FISHING_FORTUNE.ordinal()] = fishingFortune;
+            layer[StatType.FISHING_RESILIENCE.ordinal()] = fishingResilience;
+            layer[StatType.FISHING_FOCUS.ordinal()] = fishingFocus;
+            layer[StatType.FISHING_PRECISION.ordinal()] = fishingPrecision;
+            layer[StatType.SEA_MONSTER_AFFINITY.ordinal()] = seaMonsterAffinity;
+            layer[StatType.TREASURE_SENSE.ordinal()] = treasureSense;
+            return layer;
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.server.profiles.stats;
+
+/**
+ * Layered player stats, with their base value and the range their total is clamped to.
+ * The ordinal is the stat's index into {@link PlayerStats} layers.
+ */
+public enum StatType {
+    // Combat Stats
+    HEALTH(100),
+    ARMOR(0, -Double.MAX_VALUE, Double.MAX_VALUE),
+    MAGIC_RESIST(0, -Double.MAX_VALUE, Double.MAX_VALUE),
+    PHYSICAL_DAMAGE(5),
+    MAGIC_DAMAGE(5),
+    MANA(100), // Total (max) mana; current mana is not layered
+    SPEED(0.1, 0.1, Double.MAX_VALUE),
+    CRITICAL_DAMAGE(1.5, 1.0, Double.MAX_VALUE),
+    CRITICAL_CHANCE(0.0, 0.0, 1.0),
+    BURST_DAMAGE(2.0, 1.0, Double.MAX_VALUE),
+    BURST_CHANCE(0.01, 0.0, 1.0),
+    COOLDOWN_REDUCTION(0, 0, 100),
+    LIFE_STEAL(0),
+    RANGED_DAMAGE(5),
+    ATTACK_SPEED(0.5, 0.1, Double.MAX_VALUE), // Attacks per second
+    OMNIVAMP(0),
+    HEALTH_REGEN(0.3),
+
+    // Fortune Stats
+    MINING_FORTUNE(1.0),
+    FARMING_FORTUNE(0.0), // 0 = 1x drops (no bonus), 100 = 2x drops
+    LOOTING_FORTUNE(1.0),
+    FISHING_FORTUNE(0.0), // 0 = 1x drops (no bonus), 100 = 2x drops
+
+    // Fishing Stats
+    LURE_POTENCY(0),
+    FISHING_RESILIENCE(0),
+    FISHING_FOCUS(0),
+    FISHING_PRECISION(0, 0, 100),
+    SEA_MONSTER_AFFINITY(0),
+    TREASURE_SENSE(0),
+
+    // Resource Stats
+    MANA_REGEN(1),
+    LUCK(0, -Double.MAX_VALUE, Double.MAX_VALUE),
+
+    // Size and Range
+    ATTACK_RANGE(3.0, 3.0, Double.MAX_VALUE),
+    BUILD_RANGE(5.0, 4.5, Double.MAX_VALUE),
+    SIZE(1.0, 0.0625, 16.0), // Minecraft's allowed scale range
+    MINING_SPEED(0.5, 0.1, Double.MAX_VALUE);
+
+    private final double defaultValue;
+    private final double min;
+    private final double max;
+
+    StatType(double defaultValue) {
+        this(defaultValue, 0, Double.MAX_VALUE);
+    }
+
+    StatType(double defaultValue, double min, double max) {
+        this.defaultValue = defaultValue;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Gets the value of this stat's {@link StatLayer#BASE} layer for a new profile.
+     */
+    public double getDefaultValue() {
+        return defaultValue;
+    }
+
+    public double clamp(double value) {
+        return Math.min(max, Math.max(min, value));
+    }
+}
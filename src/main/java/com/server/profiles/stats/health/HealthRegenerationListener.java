@@ -37,8 +37,8 @@ public class HealthRegenerationListener implements Listener {
         if (event.getRegainReason() == RegainReason.SATIATED) {
             event.setCancelled(true);
             
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"Cancelled vanilla health regeneration for " + player.getName() + 
+            if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                plugin.debugLog(DebugSystem.STATS, player, "Cancelled vanilla health regeneration for " + player.getName() + 
                                    " (amount: " + event.getAmount() + ")");
             }
         }
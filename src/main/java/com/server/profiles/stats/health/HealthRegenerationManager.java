@@ -86,8 +86,8 @@ public class HealthRegenerationManager {
             // Also remove healing accumulator
             healingAccumulator.remove(playerId);
             
-            if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                plugin.debugLog(DebugSystem.STATS,"Stopped health regeneration tracking for " + player.getName());
+            if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                plugin.debugLog(DebugSystem.STATS, player, "Stopped health regeneration tracking for " + player.getName());
             }
         }
     }
@@ -123,8 +123,8 @@ public class HealthRegenerationManager {
                     // Keep the fractional part in the accumulator
                     accumulator -= healthToApply;
                     
-                    if (plugin.isDebugEnabled(DebugSystem.STATS)) {
-                        plugin.debugLog(DebugSystem.STATS,"Applied health regeneration to " + player.getName() + 
+                    if (plugin.isDebugEnabled(DebugSystem.STATS, player)) {
+                        plugin.debugLog(DebugSystem.STATS, player, "Applied health regeneration to " + player.getName() + 
                                             ": +" + healthToApply + " (" + currentHealth + " -> " + newHealth + ")" +
                                             ", remaining accumulator: " + accumulator);
                     }
@@ -0,0 +1,112 @@
+package com.server.profiling;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Writes a snapshot of profiler sections as a CSV table and a JSON document.
+ */
+class ProfilerReport {
+
+    private final List<ProfilerSection> sections;
+    private final long windowStart;
+    private final long windowEnd;
+
+    ProfilerReport(List<ProfilerSection> sections, long windowStart, long windowEnd) {
+        this.sections = sections;
+        this.windowStart = windowStart;
+        this.windowEnd = windowEnd;
+    }
+
+    /**
+     * Writes {@code perf-<time>.csv} and {@code perf-<time>.json} into a directory.
+     *
+     * @return The CSV file
+     */
+    File write(File directory) throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Could not create " + directory);
+        }
+        String baseName = "perf-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(windowEnd));
+        File csvFile = new File(directory, baseName + ".csv");
+        writeCsv(csvFile);
+        writeJson(new File(directory, baseName + ".json"));
+        return csvFile;
+    }
+
+    private void writeCsv(File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            out.println("section,thread,calls,total_ms,mean_us,p50_us,p99_us,max_us,ms_per_tick,alloc_bytes_per_call");
+            for (ProfilerSection section : sections) {
+                out.println(String.format(Locale.ROOT, "%s,%s,%d,%.3f,%.2f,%.2f,%.2f,%.2f,%s,%.0f",
+                    section.getName(),
+                    section.isBackground() ? "background" : "main",
+                    section.getCalls(),
+                    section.getTotalNanos() / 1_000_000.0,
+                    section.getMeanNanos() / 1_000.0,
+                    section.getPercentileNanos(0.50) / 1_000.0,
+                    section.getPercentileNanos(0.99) / 1_000.0,
+                    section.getMaxNanos() / 1_000.0,
+                    // Background work doesn't take tick time, so it gets no per-tick figure
+                    section.isBackground() ? "" : String.format(Locale.ROOT, "%.4f", getMillisPerTick(section)),
+                    section.getAllocatedBytesPerCall()));
+            }
+        }
+    }
+
+    private void writeJson(File file) throws IOException {
+        try (PrintWriter out = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            out.println("{");
+            out.println("  \"windowStart\": " + windowStart + ",");
+            out.println("  \"windowEnd\": " + windowEnd + ",");
+            out.println("  \"sections\": [");
+            for (int i = 0; i < sections.size(); i++) {
+                ProfilerSection section = sections.get(i);
+                out.print(String.format(Locale.ROOT,
+                    "    {\"name\": \"%s\", \"background\": %b, \"calls\": %d, \"totalNanos\": %d, \"maxNanos\": %d, "
+                        + "\"p50Nanos\": %d, \"p99Nanos\": %d, \"allocatedBytes\": %d, \"histogram\": %s}",
+                    escape(section.getName()),
+                    section.isBackground(),
+                    section.getCalls(),
+                    section.getTotalNanos(),
+                    section.getMaxNanos(),
+                    section.getPercentileNanos(0.50),
+                    section.getPercentileNanos(0.99),
+                    section.getAllocatedBytes(),
+                    toJsonArray(section.getHistogram())));
+                out.println(i < sections.size() - 1 ? "," : "");
+            }
+            out.println("  ]");
+            out.println("}");
+        }
+    }
+
+    /**
+     * Average main-thread time per server tick (50 ms) over the window.
+     */
+    private double getMillisPerTick(ProfilerSection section) {
+        double ticks = Math.max(1.0, (windowEnd - windowStart) / 50.0);
+        return section.getTotalNanos() / 1_000_000.0 / ticks;
+    }
+
+    private static String toJsonArray(long[] values) {
+        StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(values[i]);
+        }
+        return builder.append(']').toString();
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+}
@@ -0,0 +1,180 @@
+package com.server.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Call count, latency histogram and allocation estimate of one profiled subsystem.
+ *
+ * Latencies go into power-of-two nanosecond buckets (bucket i holds calls that took
+ * 2^i to 2^(i+1) ns), so percentiles are accurate to a factor of two. Sections may be
+ * recorded from any thread. While the profiler is off, {@link #run} only checks a flag.
+ */
+public final class ProfilerSection {
+
+    static final int BUCKETS = 40;
+
+    private final TickProfiler profiler;
+    private final String name;
+    private final boolean background;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAdder allocatedBytes = new LongAdder();
+    private final LongAdder measuredCalls = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS);
+
+    ProfilerSection(TickProfiler profiler, String name, boolean background) {
+        this.profiler = profiler;
+        this.name = name;
+        this.background = background;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Whether this section times work off the main thread, which doesn't take tick time
+     */
+    public boolean isBackground() {
+        return background;
+    }
+
+    // ==================== Recording ====================
+
+    /**
+     * Runs a task, timing it if the profiler is on.
+     */
+    public void run(Runnable task) {
+        if (!profiler.isEnabled()) {
+            task.run();
+            return;
+        }
+        long startBytes = profiler.currentAllocatedBytes();
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } finally {
+            stop(start, startBytes);
+        }
+    }
+
+    /**
+     * Wraps a task so every run of it is timed.
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> run(task);
+    }
+
+    void stop(long start, long startBytes) {
+        long nanos = System.nanoTime() - start;
+        long bytes = startBytes >= 0 ? profiler.currentAllocatedBytes() - startBytes : -1;
+        record(nanos, bytes);
+    }
+
+    /**
+     * Records one call.
+     *
+     * @param bytes Bytes allocated by the call, or a negative value if unknown
+     */
+    void record(long nanos, long bytes) {
+        calls.increment();
+        totalNanos.add(nanos);
+        histogram.incrementAndGet(bucket(nanos));
+        maxNanos.accumulateAndGet(nanos, Math::max);
+        if (bytes >= 0) {
+            allocatedBytes.add(bytes);
+            measuredCalls.increment();
+        }
+    }
+
+    void reset() {
+        calls.reset();
+        totalNanos.reset();
+        allocatedBytes.reset();
+        measuredCalls.reset();
+        maxNanos.set(0);
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram.set(i, 0);
+        }
+    }
+
+    private static int bucket(long nanos) {
+        int bucket = 63 - Long.numberOfLeadingZeros(Math.max(1L, nanos));
+        return Math.min(bucket, BUCKETS - 1);
+    }
+
+    // ==================== Stats ====================
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getMeanNanos() {
+        long count = getCalls();
+        return count > 0 ? (double) getTotalNanos() / count : 0.0;
+    }
+
+    /**
+     * Gets the upper bound of the histogram bucket holding the given percentile (0.0 to 1.0).
+     */
+    public long getPercentileNanos(double percentile) {
+        long[] buckets = getHistogram();
+        long count = 0;
+        for (long bucketCount : buckets) {
+            count += bucketCount;
+        }
+        if (count == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(count * percentile);
+        long seen = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            seen += buckets[i];
+            if (seen >= Math.max(1, target)) {
+                return 1L << (i + 1);
+            }
+        }
+        return 1L << BUCKETS;
+    }
+
+    /**
+     * Gets the bytes allocated by all measured calls, or -1 if allocation could not be measured.
+     */
+    public long getAllocatedBytes() {
+        return measuredCalls.sum() > 0 ? allocatedBytes.sum() : -1;
+    }
+
+    /**
+     * Gets the average bytes allocated per call, or -1 if allocation could not be measured.
+     * Other threads allocating at the same time are not counted, so this is an estimate only
+     * for code that runs on one thread.
+     */
+    public double getAllocatedBytesPerCall() {
+        long measured = measuredCalls.sum();
+        return measured > 0 ? (double) allocatedBytes.sum() / measured : -1.0;
+    }
+
+    /**
+     * Gets a copy of the latency histogram.
+     */
+    public long[] getHistogram() {
+        long[] copy = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = histogram.get(i);
+        }
+        return copy;
+    }
+}
@@ -0,0 +1,293 @@
+package com.server.profiling;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+import org.bukkit.Bukkit;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitTask;
+
+import com.server.Main;
+
+/**
+ * Built-in per-subsystem profiler.
+ *
+ * Listeners registered through {@link #registerEvents}, tasks run through a
+ * {@link ProfilerSection} and executors wrapped by {@link #executor} record call counts,
+ * latency histograms and allocation estimates per section. The profiler is off by default;
+ * while off, every instrumented call costs a single volatile read.
+ *
+ * While on, a report is written to {@code perf/} as CSV and JSON every
+ * {@code profiler.dump-interval-minutes} minutes.
+ */
+public class TickProfiler {
+
+    private static TickProfiler instance;
+
+    private final Main plugin;
+    private final Map<String, ProfilerSection> sections = new ConcurrentHashMap<>();
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final File reportDirectory;
+
+    private volatile boolean enabled;
+    private volatile long windowStart = System.currentTimeMillis();
+    private BukkitTask dumpTask;
+
+    private TickProfiler(Main plugin) {
+        this.plugin = plugin;
+        this.allocationBean = findAllocationBean();
+        this.reportDirectory = new File(plugin.getDataFolder(), "perf");
+    }
+
+    public static void initialize(Main plugin) {
+        if (instance == null) {
+            instance = new TickProfiler(plugin);
+            instance.setEnabled(plugin.getConfig().getBoolean("profiler.enabled", false));
+
+            long intervalTicks = plugin.getConfig().getLong("profiler.dump-interval-minutes", 15) * 60L * 20L;
+            if (intervalTicks > 0) {
+                instance.dumpTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin,
+                    instance::periodicDump, intervalTicks, intervalTicks);
+            }
+        }
+    }
+
+    public static TickProfiler getInstance() {
+        if (instance == null) {
+            throw new IllegalStateException("TickProfiler has not been initialized!");
+        }
+        return instance;
+    }
+
+    // ==================== State ====================
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns recording on or off. Turning it on clears the stats and starts a new
+     * measurement window.
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled && !this.enabled) {
+            reset();
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Clears all recorded stats and starts a new measurement window.
+     */
+    public void reset() {
+        for (ProfilerSection section : sections.values()) {
+            section.reset();
+        }
+        windowStart = System.currentTimeMillis();
+    }
+
+    /**
+     * Gets when the current measurement window started (epoch millis).
+     */
+    public long getWindowStart() {
+        return windowStart;
+    }
+
+    public boolean isAllocationTracked() {
+        return allocationBean != null;
+    }
+
+    // ==================== Sections ====================
+
+    /**
+     * Gets (creating on first use) the section with the given name, for work on the main
+     * thread. Callers should resolve sections once and keep them in a field.
+     */
+    public ProfilerSection section(String name) {
+        return sections.computeIfAbsent(name, n -> new ProfilerSection(this, n, false));
+    }
+
+    /**
+     * Gets (creating on first use) a section for work off the main thread. Its time is
+     * reported on its own rather than as time per tick.
+     */
+    public ProfilerSection backgroundSection(String name) {
+        return sections.computeIfAbsent(name, n -> new ProfilerSection(this, n, true));
+    }
+
+    /**
+     * Gets all sections that recorded at least one call, most total time first.
+     */
+    public List<ProfilerSection> getSections() {
+        List<ProfilerSection> result = new ArrayList<>();
+        for (ProfilerSection section : sections.values()) {
+            if (section.getCalls() > 0) {
+                result.add(section);
+            }
+        }
+        result.sort((a, b) -> Long.compare(b.getTotalNanos(), a.getTotalNanos()));
+        return result;
+    }
+
+    /**
+     * Wraps an executor so every task records its run time in a section and its time
+     * waiting in the queue in {@code <name>.queue}.
+     */
+    public Executor executor(String name, Executor delegate) {
+        ProfilerSection runSection = backgroundSection(name);
+        ProfilerSection queueSection = backgroundSection(name + ".queue");
+        return task -> {
+            if (!enabled) {
+                delegate.execute(task);
+                return;
+            }
+            long submitted = System.nanoTime();
+            delegate.execute(() -> {
+                queueSection.record(System.nanoTime() - submitted, -1);
+                runSection.run(task);
+            });
+        };
+    }
+
+    /**
+     * Gets the bytes allocated so far by the current thread, or -1 if unsupported.
+     */
+    long currentAllocatedBytes() {
+        return allocationBean != null ? allocationBean.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    private static com.sun.management.ThreadMXBean findAllocationBean() {
+        try {
+            java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean sunBean = (com.sun.management.ThreadMXBean) bean;
+                if (sunBean.isThreadAllocatedMemorySupported()) {
+                    sunBean.setThreadAllocatedMemoryEnabled(true);
+                    return sunBean;
+                }
+            }
+        } catch (UnsupportedOperationException | LinkageError e) {
+            // Not a HotSpot-compatible JVM; allocation is simply not reported
+        }
+        return null;
+    }
+
+    // ==================== Listeners ====================
+
+    /**
+     * Registers the event handlers of a listener like {@link PluginManager#registerEvents},
+     * with each handler timed in its own section ({@code event.<Listener>.<method>}).
+     */
+    public void registerEvents(Listener listener, Plugin owner) {
+        PluginManager pluginManager = owner.getServer().getPluginManager();
+        String listenerName = getListenerName(listener.getClass());
+
+        Set<Method> methods = new LinkedHashSet<>(Arrays.asList(listener.getClass().getMethods()));
+        methods.addAll(Arrays.asList(listener.getClass().getDeclaredMethods()));
+        for (Method method : methods) {
+            EventHandler handler = method.getAnnotation(EventHandler.class);
+            if (handler == null || method.isBridge() || method.isSynthetic()) {
+                continue;
+            }
+            if (method.getParameterCount() != 1 || !Event.class.isAssignableFrom(method.getParameterTypes()[0])) {
+                plugin.getLogger().severe(listenerName + "." + method.getName()
+                    + " has an invalid @EventHandler signature, skipping it");
+                continue;
+            }
+
+            Class<? extends Event> eventClass = method.getParameterTypes()[0].asSubclass(Event.class);
+            method.setAccessible(true);
+            ProfilerSection section = section("event." + listenerName + "." + method.getName());
+            EventExecutor executor = new TimedEventExecutor(eventClass, EventExecutor.create(method, eventClass), section);
+            pluginManager.registerEvent(eventClass, listener, handler.priority(), executor, owner, handler.ignoreCancelled());
+        }
+    }
+
+    private static String getListenerName(Class<?> type) {
+        String name = type.getSimpleName();
+        if (name.isEmpty()) {
+            // Anonymous listener, e.g. Outer$1
+            name = type.getName().substring(type.getName().lastIndexOf('.') + 1);
+        }
+        return name;
+    }
+
+    private class TimedEventExecutor implements EventExecutor {
+        private final Class<? extends Event> eventClass;
+        private final EventExecutor delegate;
+        private final ProfilerSection section;
+
+        private TimedEventExecutor(Class<? extends Event> eventClass, EventExecutor delegate, ProfilerSection section) {
+            this.eventClass = eventClass;
+            this.delegate = delegate;
+            this.section = section;
+        }
+
+        @Override
+        public void execute(Listener listener, Event event) throws EventException {
+            if (!enabled) {
+                delegate.execute(listener, event);
+                return;
+            }
+            // Handlers also receive subclasses of events sharing a handler list; those never run
+            if (!eventClass.isInstance(event)) {
+                return;
+            }
+            long startBytes = currentAllocatedBytes();
+            long start = System.nanoTime();
+            try {
+                delegate.execute(listener, event);
+            } finally {
+                section.stop(start, startBytes);
+            }
+        }
+    }
+
+    // ==================== Reports ====================
+
+    /**
+     * Writes the current stats to {@code perf/} as CSV and JSON. Does file I/O, so call it
+     * off the main thread.
+     *
+     * @return The CSV file written
+     */
+    public File dump() throws IOException {
+        return new ProfilerReport(getSections(), windowStart, System.currentTimeMillis()).write(reportDirectory);
+    }
+
+    private void periodicDump() {
+        if (!enabled || getSections().isEmpty()) {
+            return;
+        }
+        try {
+            File file = dump();
+            plugin.getLogger().info("[Profiler] Wrote " + file.getName());
+        } catch (IOException e) {
+            plugin.getLogger().warning("[Profiler] Failed to write report: " + e.getMessage());
+        }
+    }
+
+    public void shutdown() {
+        if (dumpTask != null) {
+            dumpTask.cancel();
+            dumpTask = null;
+        }
+        enabled = false;
+    }
+}
@@ -0,0 +1,24 @@
+package com.server.simulation;
+
+import java.util.Random;
+
+/**
+ * One kind of random roll the {@link DropSimulator} can repeat, e.g. a fishing catch with
+ * fixed player stats. Implementations call the real roll code and must be stateless, since
+ * the simulator rolls from several threads at once.
+ */
+public interface DropScenario {
+
+    /**
+     * Human readable description, including the parameters the scenario was built with
+     */
+    String getName();
+
+    /**
+     * Performs one roll.
+     *
+     * @param random The random source to roll with; never shared between threads
+     * @return A key identifying the outcome, used to group the distribution
+     */
+    String roll(Random random);
+}
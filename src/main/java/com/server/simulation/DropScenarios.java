@@ -0,0 +1,93 @@
+package com.server.simulation;
+
+import java.util.Random;
+
+import com.server.enchantments.data.EnchantmentQuality;
+import com.server.enchantments.elements.FragmentTier;
+import com.server.profiles.skills.skills.fishing.loot.Fish;
+import com.server.profiles.skills.skills.fishing.loot.FishQuality;
+import com.server.profiles.skills.skills.fishing.loot.FishingLootTables;
+import com.server.profiles.skills.skills.fishing.loot.FishingMob;
+import com.server.profiles.skills.skills.fishing.loot.FishingTreasure;
+import com.server.profiles.skills.skills.fishing.types.FishingType;
+
+/**
+ * The built-in {@link DropScenario}s. Each one goes through the same roll methods the game uses.
+ */
+public final class DropScenarios {
+
+    private DropScenarios() {
+    }
+
+    /**
+     * A full fishing catch, in the same order as the fishing listener: mob, then treasure or
+     * junk, then a fish.
+     *
+     * @param luckBonus Luck stat / 100
+     * @param treasureBonus Rod fishing treasure chance / 100
+     * @param treasureSense Treasure sense stat (%)
+     * @param seaMonsterAffinity Sea monster affinity stat (%)
+     * @param accuracy Minigame accuracy (0-100), used for the fish quality roll
+     */
+    public static DropScenario fishing(final FishingType fishingType, final double luckBonus, final double treasureBonus,
+                                       final double treasureSense, final double seaMonsterAffinity, final double accuracy) {
+        return new DropScenario() {
+            @Override
+            public String getName() {
+                return String.format("Fishing (%s, luck %.2f, treasure %.2f, sense %.0f%%, affinity %.0f%%, accuracy %.0f%%)",
+                    fishingType.name(), luckBonus, treasureBonus, treasureSense, seaMonsterAffinity, accuracy);
+            }
+
+            @Override
+            public String roll(Random random) {
+                FishingMob mob = FishingLootTables.rollMob(fishingType, luckBonus, seaMonsterAffinity, random);
+                if (mob != null) {
+                    return "mob " + mob.name();
+                }
+                FishingTreasure treasure = FishingLootTables.rollTreasure(fishingType, treasureBonus, treasureSense, random);
+                if (treasure != null) {
+                    return "treasure " + treasure.getType().name() + " " + treasure.name();
+                }
+                Fish fish = Fish.createFish(fishingType, accuracy, treasureBonus, 0, null, random);
+                return "fish " + fish.getRarity().name();
+            }
+        };
+    }
+
+    /**
+     * The quality roll of a caught fish.
+     */
+    public static DropScenario fishQuality(final double accuracy, final int perfectCatches, final double qualityBoost) {
+        return new DropScenario() {
+            @Override
+            public String getName() {
+                return String.format("Fish quality (accuracy %.0f%%, %d perfect, boost %.0f%%)",
+                    accuracy, perfectCatches, qualityBoost);
+            }
+
+            @Override
+            public String roll(Random random) {
+                FishQuality quality = FishQuality.fromAccuracy(accuracy, perfectCatches, qualityBoost, random);
+                return quality.name();
+            }
+        };
+    }
+
+    /**
+     * The quality roll of an enchantment made with fragments of the given tier.
+     */
+    public static DropScenario enchantQuality(final FragmentTier tier) {
+        final int[] weights = tier.getQualityWeights();
+        return new DropScenario() {
+            @Override
+            public String getName() {
+                return "Enchantment quality (" + tier.name() + " fragments)";
+            }
+
+            @Override
+            public String roll(Random random) {
+                return EnchantmentQuality.rollQuality(weights, random).name();
+            }
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.server.simulation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.LongStream;
+
+/**
+ * Runs a {@link DropScenario} many times in parallel and collects the outcome distribution.
+ *
+ * Rolls are split into fixed-size batches, each with its own {@link Random} seeded from the
+ * run seed and the batch index. The same seed and roll count therefore always produce the
+ * same distribution, however many threads take part. Runs block the calling thread and use
+ * their own fork/join pool, so never start one on the main server thread.
+ */
+public final class DropSimulator {
+
+    private static final int BATCH_SIZE = 1 << 16;
+    // Spreads consecutive batch indexes over the seed space (golden ratio increment)
+    private static final long SEED_STRIDE = 0x9E3779B97F4A7C15L;
+
+    private DropSimulator() {
+    }
+
+    /**
+     * Runs a scenario on all but one of the available processors.
+     */
+    public static SimulationResult run(DropScenario scenario, long rolls, long seed) {
+        return run(scenario, rolls, seed, Math.max(1, Runtime.getRuntime().availableProcessors() - 1));
+    }
+
+    public static SimulationResult run(DropScenario scenario, long rolls, long seed, int parallelism) {
+        if (rolls <= 0) {
+            throw new IllegalArgumentException("Roll count must be positive: " + rolls);
+        }
+        long batches = (rolls + BATCH_SIZE - 1) / BATCH_SIZE;
+
+        ForkJoinPool pool = new ForkJoinPool(Math.max(1, parallelism));
+        long start = System.nanoTime();
+        Map<String, long[]> counts;
+        try {
+            counts = pool.submit(() -> LongStream.range(0, batches)
+                    .parallel()
+                    .mapToObj(batch -> runBatch(scenario, batch, Math.min(BATCH_SIZE, rolls - batch * BATCH_SIZE), seed))
+                    .reduce(DropSimulator::merge)
+                    .orElseGet(HashMap::new))
+                .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Simulation interrupted", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed: " + e.getCause(), e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        Map<String, Long> outcomes = new HashMap<>();
+        for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+            outcomes.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return new SimulationResult(scenario.getName(), rolls, seed, elapsedNanos, outcomes);
+    }
+
+    private static Map<String, long[]> runBatch(DropScenario scenario, long batch, long rolls, long seed) {
+        Random random = new Random(seed + batch * SEED_STRIDE);
+        Map<String, long[]> counts = new HashMap<>();
+        for (long i = 0; i < rolls; i++) {
+            counts.computeIfAbsent(scenario.roll(random), key -> new long[1])[0]++;
+        }
+        return counts;
+    }
+
+    private static Map<String, long[]> merge(Map<String, long[]> into, Map<String, long[]> from) {
+        for (Map.Entry<String, long[]> entry : from.entrySet()) {
+            into.computeIfAbsent(entry.getKey(), key -> new long[1])[0] += entry.getValue()[0];
+        }
+        return into;
+    }
+}
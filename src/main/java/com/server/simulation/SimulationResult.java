@@ -0,0 +1,74 @@
+package com.server.simulation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Outcome distribution and throughput of one {@link DropSimulator} run.
+ */
+public class SimulationResult {
+
+    private final String scenario;
+    private final long rolls;
+    private final long seed;
+    private final long elapsedNanos;
+    private final Map<String, Long> outcomes;
+
+    SimulationResult(String scenario, long rolls, long seed, long elapsedNanos, Map<String, Long> outcomes) {
+        this.scenario = scenario;
+        this.rolls = rolls;
+        this.seed = seed;
+        this.elapsedNanos = elapsedNanos;
+        this.outcomes = Collections.unmodifiableMap(outcomes);
+    }
+
+    public String getScenario() {
+        return scenario;
+    }
+
+    public long getRolls() {
+        return rolls;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getRollsPerSecond() {
+        return elapsedNanos > 0 ? rolls * 1_000_000_000.0 / elapsedNanos : 0.0;
+    }
+
+    /**
+     * Gets how often each outcome was rolled, by outcome key.
+     */
+    public Map<String, Long> getOutcomes() {
+        return outcomes;
+    }
+
+    public long getCount(String outcome) {
+        Long count = outcomes.get(outcome);
+        return count != null ? count : 0L;
+    }
+
+    /**
+     * Gets the share of all rolls (0.0 to 1.0) that produced an outcome.
+     */
+    public double getShare(String outcome) {
+        return (double) getCount(outcome) / rolls;
+    }
+
+    /**
+     * Gets the outcome keys, most frequent first.
+     */
+    public List<String> getOutcomesByFrequency() {
+        List<String> keys = new ArrayList<>(outcomes.keySet());
+        keys.sort((a, b) -> Long.compare(outcomes.get(b), outcomes.get(a)));
+        return keys;
+    }
+}
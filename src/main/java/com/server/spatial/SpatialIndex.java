@@ -0,0 +1,474 @@
+package com.server.spatial;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Entity;
+import org.bukkit.entity.LivingEntity;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+import org.bukkit.util.Vector;
+
+import com.server.Main;
+
+/**
+ * Per-tick spatial index of living entities for area-of-effect queries.
+ *
+ * Only the chunks a query touches are snapshotted: the first query to reach a chunk in a
+ * tick copies the living entities in it (bounding box included), and every later query in
+ * the same tick reuses that copy. Chunks nobody queries are never scanned. Queries write
+ * into a caller supplied list, which is cleared first, so hot paths can keep one buffer per
+ * cast instead of allocating a new list per lookup.
+ *
+ * Distances are measured to an entity's bounding box, so large mobs are hit at their edge
+ * rather than at their feet. Entities that died earlier in the tick are skipped. An entity
+ * that crosses a chunk border between two snapshots in the same tick is kept where it was
+ * first seen, so no query reports it twice.
+ *
+ * The index must only be used from the main server thread.
+ */
+public class SpatialIndex implements Listener {
+
+    private static SpatialIndex instance;
+
+    private final Map<UUID, WorldIndex> worlds = new HashMap<>();
+
+    // Scratch space for k-nearest queries
+    private double[] knnDistances = new double[16];
+    private LivingEntity[] knnEntities = new LivingEntity[16];
+
+    private SpatialIndex() {
+    }
+
+    public static void initialize(Main plugin) {
+        if (instance == null) {
+            instance = new SpatialIndex();
+            plugin.getServer().getPluginManager().registerEvents(instance, plugin);
+        }
+    }
+
+    public static SpatialIndex getInstance() {
+        if (instance == null) {
+            throw new IllegalStateException("SpatialIndex has not been initialized!");
+        }
+        return instance;
+    }
+
+    // ==================== Queries ====================
+
+    /**
+     * Collects living entities whose bounding box is within {@code radius} of {@code center}.
+     */
+    public List<LivingEntity> querySphere(Location center, double radius,
+                                          Predicate<? super LivingEntity> filter, List<LivingEntity> out) {
+        out.clear();
+        WorldIndex index = indexFor(center.getWorld());
+        double cx = center.getX(), cy = center.getY(), cz = center.getZ();
+        double radiusSquared = radius * radius;
+
+        index.forCandidates(cx, cz, radius, radius, i -> {
+            if (index.distanceSquared(i, cx, cy, cz) <= radiusSquared) {
+                accept(index.entities[i], filter, out);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Collects living entities whose bounding box overlaps the axis-aligned box around
+     * {@code center} with the given half extents (same semantics as getNearbyEntities).
+     */
+    public List<LivingEntity> queryBox(Location center, double halfX, double halfY, double halfZ,
+                                       Predicate<? super LivingEntity> filter, List<LivingEntity> out) {
+        out.clear();
+        WorldIndex index = indexFor(center.getWorld());
+        double minX = center.getX() - halfX, maxX = center.getX() + halfX;
+        double minY = center.getY() - halfY, maxY = center.getY() + halfY;
+        double minZ = center.getZ() - halfZ, maxZ = center.getZ() + halfZ;
+
+        index.forCandidates(center.getX(), center.getZ(), halfX, halfZ, i -> {
+            if (index.maxX[i] >= minX && index.minX[i] <= maxX
+                    && index.maxY[i] >= minY && index.minY[i] <= maxY
+                    && index.maxZ[i] >= minZ && index.minZ[i] <= maxZ) {
+                accept(index.entities[i], filter, out);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Collects living entities whose center lies inside a cone.
+     *
+     * @param apex Tip of the cone
+     * @param direction Axis of the cone (does not need to be normalized)
+     * @param range Length of the cone
+     * @param halfAngle Half of the opening angle, in radians
+     */
+    public List<LivingEntity> queryCone(Location apex, Vector direction, double range, double halfAngle,
+                                        Predicate<? super LivingEntity> filter, List<LivingEntity> out) {
+        out.clear();
+        WorldIndex index = indexFor(apex.getWorld());
+        double ax = apex.getX(), ay = apex.getY(), az = apex.getZ();
+        double length = direction.length();
+        if (length == 0) {
+            return out;
+        }
+        double dx = direction.getX() / length, dy = direction.getY() / length, dz = direction.getZ() / length;
+        double cosHalfAngle = Math.cos(halfAngle);
+        double rangeSquared = range * range;
+
+        index.forCandidates(ax, az, range, range, i -> {
+            double ex = index.centerX(i) - ax;
+            double ey = index.centerY(i) - ay;
+            double ez = index.centerZ(i) - az;
+            double distanceSquared = ex * ex + ey * ey + ez * ez;
+            if (distanceSquared > rangeSquared) {
+                return;
+            }
+            double along = ex * dx + ey * dy + ez * dz;
+            if (distanceSquared == 0 || along >= cosHalfAngle * Math.sqrt(distanceSquared)) {
+                accept(index.entities[i], filter, out);
+            }
+        });
+        return out;
+    }
+
+    /**
+     * Collects living entities touched by a sphere of {@code radius} swept from {@code start}
+     * along {@code direction} for {@code length} blocks, ordered by distance along the ray.
+     */
+    public List<LivingEntity> querySweep(Location start, Vector direction, double length, double radius,
+                                         Predicate<? super LivingEntity> filter, List<LivingEntity> out) {
+        out.clear();
+        WorldIndex index = indexFor(start.getWorld());
+        double norm = direction.length();
+        if (norm == 0) {
+            return out;
+        }
+        double dx = direction.getX() / norm, dy = direction.getY() / norm, dz = direction.getZ() / norm;
+        double sx = start.getX(), sy = start.getY(), sz = start.getZ();
+        double ex = sx + dx * length, ez = sz + dz * length;
+
+        double midX = (sx + ex) / 2, midZ = (sz + ez) / 2;
+        double halfX = Math.abs(ex - sx) / 2 + radius;
+        double halfZ = Math.abs(ez - sz) / 2 + radius;
+
+        int[] hitCount = {0};
+        index.forCandidates(midX, midZ, halfX, halfZ, i -> {
+            // Closest point on the segment to the entity's center, then test against the box
+            double t = (index.centerX(i) - sx) * dx + (index.centerY(i) - sy) * dy + (index.centerZ(i) - sz) * dz;
+            t = Math.max(0, Math.min(length, t));
+            double px = sx + dx * t, py = sy + dy * t, pz = sz + dz * t;
+            if (index.distanceSquared(i, px, py, pz) <= radius * radius) {
+                index.sortKey[i] = t;
+                index.scratch[hitCount[0]++] = i;
+            }
+        });
+
+        // Read after the visit: snapshotting chunks can grow the arrays
+        int[] hits = index.scratch;
+        sortByKey(index, hits, hitCount[0]);
+        for (int n = 0; n < hitCount[0]; n++) {
+            accept(index.entities[hits[n]], filter, out);
+        }
+        return out;
+    }
+
+    /**
+     * Collects up to {@code k} living entities nearest to {@code center} within {@code range}
+     * that pass the filter, closest first.
+     */
+    public List<LivingEntity> queryNearest(Location center, double range, int k,
+                                           Predicate<? super LivingEntity> filter, List<LivingEntity> out) {
+        out.clear();
+        if (k <= 0) {
+            return out;
+        }
+        WorldIndex index = indexFor(center.getWorld());
+        double cx = center.getX(), cy = center.getY(), cz = center.getZ();
+        double rangeSquared = range * range;
+
+        if (knnDistances.length < k) {
+            knnDistances = new double[k];
+            knnEntities = new LivingEntity[k];
+        }
+        double[] distances = knnDistances;
+        LivingEntity[] best = knnEntities;
+        int[] size = {0};
+
+        index.forCandidates(cx, cz, range, range, i -> {
+            double distance = index.distanceSquared(i, cx, cy, cz);
+            if (distance > rangeSquared || (size[0] == k && distance >= distances[k - 1])) {
+                return;
+            }
+            LivingEntity entity = index.entities[i];
+            if (!entity.isValid() || (filter != null && !filter.test(entity))) {
+                return;
+            }
+            // Insertion into the sorted top-k arrays
+            int pos = size[0] < k ? size[0]++ : k - 1;
+            while (pos > 0 && distances[pos - 1] > distance) {
+                distances[pos] = distances[pos - 1];
+                best[pos] = best[pos - 1];
+                pos--;
+            }
+            distances[pos] = distance;
+            best[pos] = entity;
+        });
+
+        for (int n = 0; n < size[0]; n++) {
+            out.add(best[n]);
+            best[n] = null;
+        }
+        return out;
+    }
+
+    /**
+     * Finds the single nearest living entity within range that passes the filter.
+     */
+    public LivingEntity findNearest(Location center, double range, Predicate<? super LivingEntity> filter) {
+        WorldIndex index = indexFor(center.getWorld());
+        double cx = center.getX(), cy = center.getY(), cz = center.getZ();
+        double[] bestDistance = {range * range};
+        LivingEntity[] best = {null};
+
+        index.forCandidates(cx, cz, range, range, i -> {
+            double distance = index.distanceSquared(i, cx, cy, cz);
+            if (distance > bestDistance[0]) {
+                return;
+            }
+            LivingEntity entity = index.entities[i];
+            if (entity.isValid() && (filter == null || filter.test(entity))) {
+                best[0] = entity;
+                bestDistance[0] = distance;
+            }
+        });
+        return best[0];
+    }
+
+    private static void accept(LivingEntity entity, Predicate<? super LivingEntity> filter, List<LivingEntity> out) {
+        if (entity.isValid() && (filter == null || filter.test(entity))) {
+            out.add(entity);
+        }
+    }
+
+    private static void sortByKey(WorldIndex index, int[] items, int count) {
+        for (int a = 1; a < count; a++) {
+            int item = items[a];
+            double key = index.sortKey[item];
+            int b = a - 1;
+            while (b >= 0 && index.sortKey[items[b]] > key) {
+                items[b + 1] = items[b];
+                b--;
+            }
+            items[b + 1] = item;
+        }
+    }
+
+    // ==================== Index Maintenance ====================
+
+    private WorldIndex indexFor(World world) {
+        WorldIndex index = worlds.computeIfAbsent(world.getUID(), id -> new WorldIndex(world));
+        index.beginTick(Bukkit.getCurrentTick());
+        return index;
+    }
+
+    @EventHandler
+    public void onChunkUnload(ChunkUnloadEvent event) {
+        WorldIndex index = worlds.get(event.getWorld().getUID());
+        if (index != null) {
+            index.chunks.remove(WorldIndex.chunkKey(event.getChunk().getX(), event.getChunk().getZ()));
+        }
+    }
+
+    @EventHandler
+    public void onWorldUnload(WorldUnloadEvent event) {
+        worlds.remove(event.getWorld().getUID());
+    }
+
+    /**
+     * Number of entities snapshotted in a world this tick (for diagnostics).
+     */
+    public int getIndexedCount(World world) {
+        WorldIndex index = worlds.get(world.getUID());
+        return index != null && index.tick == Bukkit.getCurrentTick() ? index.size : 0;
+    }
+
+    // ==================== World Snapshot ====================
+
+    private interface CandidateVisitor {
+        void visit(int index);
+    }
+
+    /**
+     * Where one chunk's entities sit in its world's snapshot arrays.
+     */
+    private static final class ChunkSlice {
+        private int builtAt = Integer.MIN_VALUE;
+        private int start;
+        private int count;
+    }
+
+    /**
+     * Flat snapshot of the chunks of one world queried this tick. Each chunk's living entities
+     * are appended the first time a query reaches it, and the arrays are reused every tick.
+     */
+    private static final class WorldIndex {
+        // Half width assumed for entities until a wider one has been seen in this world
+        private static final double DEFAULT_HALF_WIDTH = 2.0;
+
+        private final World world;
+        private final Map<Long, ChunkSlice> chunks = new HashMap<>();
+        // Entities already in this tick's snapshot
+        private final Map<LivingEntity, Boolean> snapshotted = new IdentityHashMap<>();
+        private final Location scratchLocation;
+
+        private int tick = Integer.MIN_VALUE;
+        private int size;
+
+        private LivingEntity[] entities = new LivingEntity[64];
+        private double[] minX = new double[64], minY = new double[64], minZ = new double[64];
+        private double[] maxX = new double[64], maxY = new double[64], maxZ = new double[64];
+        private double[] sortKey = new double[64];
+        private int[] scratch = new int[64];
+
+        // Widest entity seen in this world, used to widen chunk searches for big mobs
+        private double maxHalfWidth = DEFAULT_HALF_WIDTH;
+
+        private WorldIndex(World world) {
+            this.world = world;
+            this.scratchLocation = new Location(world, 0, 0, 0);
+        }
+
+        private void beginTick(int currentTick) {
+            if (tick != currentTick) {
+                Arrays.fill(entities, 0, size, null); // Drop references to entities from last tick
+                snapshotted.clear();
+                size = 0;
+                tick = currentTick;
+            }
+        }
+
+        /**
+         * Snapshots a chunk's living entities unless that already happened this tick.
+         * Unloaded chunks are left out.
+         */
+        private void snapshotChunk(int chunkX, int chunkZ) {
+            long key = chunkKey(chunkX, chunkZ);
+            ChunkSlice slice = chunks.get(key);
+            if ((slice != null && slice.builtAt == tick) || !world.isChunkLoaded(chunkX, chunkZ)) {
+                return;
+            }
+            if (slice == null) {
+                slice = new ChunkSlice();
+                chunks.put(key, slice);
+            }
+
+            Entity[] contents = world.getChunkAt(chunkX, chunkZ).getEntities();
+            ensureCapacity(size + contents.length);
+            slice.start = size;
+            for (Entity entity : contents) {
+                if (!(entity instanceof LivingEntity) || snapshotted.put((LivingEntity) entity, Boolean.TRUE) != null) {
+                    continue;
+                }
+                // Entity dimensions give the same box as getBoundingBox() without allocating one
+                Location location = entity.getLocation(scratchLocation);
+                double halfWidth = entity.getWidth() / 2;
+                int i = size++;
+                entities[i] = (LivingEntity) entity;
+                minX[i] = location.getX() - halfWidth;
+                minY[i] = location.getY();
+                minZ[i] = location.getZ() - halfWidth;
+                maxX[i] = location.getX() + halfWidth;
+                maxY[i] = location.getY() + entity.getHeight();
+                maxZ[i] = location.getZ() + halfWidth;
+                maxHalfWidth = Math.max(maxHalfWidth, halfWidth);
+            }
+            slice.count = size - slice.start;
+            slice.builtAt = tick;
+        }
+
+        private void ensureCapacity(int count) {
+            if (entities.length >= count) {
+                return;
+            }
+            int capacity = Math.max(count, entities.length * 2);
+            entities = Arrays.copyOf(entities, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            minZ = Arrays.copyOf(minZ, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            maxZ = Arrays.copyOf(maxZ, capacity);
+            sortKey = new double[capacity];
+            scratch = new int[capacity];
+        }
+
+        private static long chunkKey(int chunkX, int chunkZ) {
+            return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+        }
+
+        /**
+         * Visits every entity in the chunks the given area (widened by the widest entity)
+         * reaches. Visitors still have to apply their own exact shape test.
+         */
+        private void forCandidates(double x, double z, double halfX, double halfZ,
+                                   CandidateVisitor visitor) {
+            int minChunkX = (int) Math.floor(x - halfX - maxHalfWidth) >> 4;
+            int maxChunkX = (int) Math.floor(x + halfX + maxHalfWidth) >> 4;
+            int minChunkZ = (int) Math.floor(z - halfZ - maxHalfWidth) >> 4;
+            int maxChunkZ = (int) Math.floor(z + halfZ + maxHalfWidth) >> 4;
+
+            // Snapshot everything first so the arrays don't grow under the visitor
+            for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+                for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                    snapshotChunk(cx, cz);
+                }
+            }
+
+            for (int cx = minChunkX; cx <= maxChunkX; cx++) {
+                for (int cz = minChunkZ; cz <= maxChunkZ; cz++) {
+                    ChunkSlice slice = chunks.get(chunkKey(cx, cz));
+                    if (slice == null || slice.builtAt != tick) {
+                        continue;
+                    }
+                    for (int i = slice.start, end = slice.start + slice.count; i < end; i++) {
+                        visitor.visit(i);
+                    }
+                }
+            }
+        }
+
+        private double centerX(int i) {
+            return (minX[i] + maxX[i]) * 0.5;
+        }
+
+        private double centerY(int i) {
+            return (minY[i] + maxY[i]) * 0.5;
+        }
+
+        private double centerZ(int i) {
+            return (minZ[i] + maxZ[i]) * 0.5;
+        }
+
+        /**
+         * Squared distance from a point to an entity's bounding box (0 if inside).
+         */
+        private double distanceSquared(int i, double x, double y, double z) {
+            double dx = Math.max(Math.max(minX[i] - x, 0), x - maxX[i]);
+            double dy = Math.max(Math.max(minY[i] - y, 0), y - maxY[i]);
+            double dz = Math.max(Math.max(minZ[i] - z, 0), z - maxZ[i]);
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+}
@@ -32,4 +32,9 @@ public class NamespacedKeyUtils {
     public static NamespacedKey getCrystalTiltZKey(Plugin plugin) {
         return new NamespacedKey(plugin, "crystal_tiltz");
     }
+
+    // Item keys
+    public static NamespacedKey getEnhancementVersionKey(Plugin plugin) {
+        return new NamespacedKey(plugin, "enhancement_version");
+    }
 }
\ No newline at end of file
@@ -0,0 +1,228 @@
+package com.server.economy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.UUID;
+import java.util.logging.Logger;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Ledger replay after the crashes it has to survive: a record cut off at the end of the log,
+ * a transfer with only some of its records written, and a damaged record mid-log.
+ */
+public class CurrencyLedgerTest {
+
+    private static final int RECORD_SIZE = 64;
+    private static final Logger LOGGER = Logger.getLogger("CurrencyLedgerTest");
+
+    @Rule
+    public TemporaryFolder temp = new TemporaryFolder();
+
+    @Test
+    public void replaysCommittedChanges() throws IOException {
+        File folder = temp.newFolder("ledger");
+        UUID id = UUID.randomUUID();
+
+        CurrencyLedger ledger = open(folder);
+        TestAccount account = new TestAccount(id);
+        ledger.deposit(account, Currency.UNITS, 100, TransactionReason.REWARD);
+        assertTrue(ledger.withdraw(account, Currency.UNITS, 40, TransactionReason.PURCHASE));
+        ledger.shutdown();
+
+        assertEquals(60, recovered(folder, id).getBalance(Currency.UNITS));
+    }
+
+    @Test
+    public void discardsTornTail() throws IOException {
+        File folder = temp.newFolder("ledger");
+        UUID id = UUID.randomUUID();
+
+        CurrencyLedger ledger = open(folder);
+        TestAccount account = new TestAccount(id);
+        ledger.deposit(account, Currency.UNITS, 100, TransactionReason.REWARD);
+        ledger.deposit(account, Currency.UNITS, 50, TransactionReason.REWARD);
+        ledger.shutdown();
+
+        // A third record that was only partly written when the server died
+        byte[] partial = new byte[RECORD_SIZE / 2];
+        partial[0] = 1;
+        partial[7] = 3;
+        writeAt(segment(folder), 2 * RECORD_SIZE, partial);
+
+        CurrencyLedger reopened = open(folder);
+        TestAccount recovered = recover(reopened, id);
+        assertEquals(150, recovered.getBalance(Currency.UNITS));
+
+        // The log keeps going from where the good records ended
+        reopened.deposit(recovered, Currency.UNITS, 25, TransactionReason.REWARD);
+        reopened.shutdown();
+        assertEquals(175, recovered(folder, id).getBalance(Currency.UNITS));
+        assertEquals(0, sideFiles(folder, ".corrupt-"));
+    }
+
+    @Test
+    public void discardsPartialTransfer() throws IOException {
+        File folder = temp.newFolder("ledger");
+        UUID payerId = UUID.randomUUID();
+        UUID payeeId = UUID.randomUUID();
+
+        CurrencyLedger ledger = open(folder);
+        TestAccount payer = new TestAccount(payerId);
+        TestAccount payee = new TestAccount(payeeId);
+        ledger.deposit(payer, Currency.UNITS, 100, TransactionReason.REWARD);
+        assertTrue(ledger.commit(new Transfer()
+            .debit(payer, Currency.UNITS, 30)
+            .credit(payee, Currency.UNITS, 30), TransactionReason.TRANSFER));
+        ledger.shutdown();
+
+        // Lose the transfer's second record, as if the server died between the two writes
+        writeAt(segment(folder), 2 * RECORD_SIZE, new byte[RECORD_SIZE]);
+
+        CurrencyLedger reopened = open(folder);
+        assertEquals(100, recover(reopened, payerId).getBalance(Currency.UNITS));
+        assertEquals(0, recover(reopened, payeeId).getBalance(Currency.UNITS));
+        reopened.shutdown();
+    }
+
+    @Test
+    public void discardsEverythingAfterDamagedRecord() throws IOException {
+        File folder = temp.newFolder("ledger");
+        UUID id = UUID.randomUUID();
+
+        CurrencyLedger ledger = open(folder);
+        TestAccount account = new TestAccount(id);
+        ledger.deposit(account, Currency.UNITS, 100, TransactionReason.REWARD);
+        ledger.deposit(account, Currency.UNITS, 50, TransactionReason.REWARD);
+        ledger.deposit(account, Currency.UNITS, 25, TransactionReason.REWARD);
+        ledger.shutdown();
+
+        // Flip a bit in the second record's balance so its checksum no longer matches
+        File segment = segment(folder);
+        byte[] balance = readAt(segment, RECORD_SIZE + 44, 1);
+        balance[0] ^= 0x01;
+        writeAt(segment, RECORD_SIZE + 44, balance);
+
+        CurrencyLedger reopened = open(folder);
+        TestAccount recovered = recover(reopened, id);
+        assertEquals(100, recovered.getBalance(Currency.UNITS));
+        assertEquals(1, sideFiles(folder, ".corrupt-"));
+
+        // The record after the damage is gone too, so new entries can't be mixed with it
+        reopened.deposit(recovered, Currency.UNITS, 1, TransactionReason.REWARD);
+        reopened.shutdown();
+        assertEquals(101, recovered(folder, id).getBalance(Currency.UNITS));
+    }
+
+    @Test
+    public void rejectsTransferThatOverdraws() throws IOException {
+        CurrencyLedger ledger = open(temp.newFolder("ledger"));
+        TestAccount payer = new TestAccount(UUID.randomUUID());
+        TestAccount payee = new TestAccount(UUID.randomUUID());
+        ledger.deposit(payer, Currency.UNITS, 10, TransactionReason.REWARD);
+
+        assertFalse(ledger.commit(new Transfer()
+            .debit(payer, Currency.UNITS, 20)
+            .credit(payee, Currency.UNITS, 20), TransactionReason.TRANSFER));
+        assertEquals(10, payer.getBalance(Currency.UNITS));
+        assertEquals(0, payee.getBalance(Currency.UNITS));
+        ledger.shutdown();
+    }
+
+    // ==================== Helpers ====================
+
+    private static CurrencyLedger open(File folder) {
+        CurrencyLedger ledger = new CurrencyLedger(folder, LOGGER);
+        ledger.open();
+        return ledger;
+    }
+
+    private static TestAccount recover(CurrencyLedger ledger, UUID id) {
+        TestAccount account = new TestAccount(id);
+        ledger.recover(account);
+        return account;
+    }
+
+    private static TestAccount recovered(File folder, UUID id) {
+        CurrencyLedger ledger = open(folder);
+        TestAccount account = recover(ledger, id);
+        ledger.shutdown();
+        return account;
+    }
+
+    private static File segment(File folder) {
+        File[] logs = folder.listFiles((dir, name) -> name.endsWith(".log"));
+        assertNotNull(logs);
+        assertEquals(1, logs.length);
+        return logs[0];
+    }
+
+    private static int sideFiles(File folder, String marker) {
+        File[] files = folder.listFiles((dir, name) -> name.contains(marker));
+        return files == null ? 0 : files.length;
+    }
+
+    private static void writeAt(File file, long position, byte[] data) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(position);
+            raf.write(data);
+        }
+    }
+
+    private static byte[] readAt(File file, long position, int length) throws IOException {
+        byte[] data = new byte[length];
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            raf.seek(position);
+            raf.readFully(data);
+        }
+        return data;
+    }
+
+    private static final class TestAccount implements LedgerAccount {
+        private final UUID id;
+        private final int[] balances = new int[Currency.values().length];
+        private long sequence;
+
+        TestAccount(UUID id) {
+            this.id = id;
+        }
+
+        @Override
+        public UUID getLedgerId() {
+            return id;
+        }
+
+        @Override
+        public int getLedgerSlot() {
+            return -1;
+        }
+
+        @Override
+        public int getBalance(Currency currency) {
+            return balances[currency.ordinal()];
+        }
+
+        @Override
+        public void applyBalance(Currency currency, int balance) {
+            balances[currency.ordinal()] = balance;
+        }
+
+        @Override
+        public long getLedgerSequence() {
+            return sequence;
+        }
+
+        @Override
+        public void setLedgerSequence(long sequence) {
+            this.sequence = sequence;
+        }
+    }
+}